@@ -0,0 +1,209 @@
+package bench;
+
+import metrics.BugLabeller;
+import metrics.FeatureExtractor;
+import org.eclipse.jgit.internal.storage.dfs.DfsRepositoryDescription;
+import org.eclipse.jgit.internal.storage.dfs.InMemoryRepository;
+import org.eclipse.jgit.lib.*;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Fixture dei benchmark: sorgenti Java versionati in src/jmh/resources/fixtures,
+ * storie di commit in memoria e dataset generati di taglia configurabile.
+ * Tutto è deterministico (seed fisso), così i run sono confrontabili.
+ */
+public final class Fixtures {
+
+    /** Nomi dei sorgenti fixture: small, large, pathological. */
+    public static final String[] SOURCES = { "small", "large", "pathological" };
+
+    private Fixtures() { }
+
+    /** Contenuto del sorgente fixture ("small" → fixtures/Small.java). */
+    public static String source(String name) {
+        String file = "fixtures/" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + ".java";
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(file)) {
+            if (in == null) throw new IllegalArgumentException("Fixture non trovata: " + file);
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Copia il sorgente fixture in dir/src/main/java/fixtures e ne restituisce il path. */
+    public static Path writeSource(Path dir, String name) throws IOException {
+        String src = source(name);
+        String cls = src.substring(src.indexOf("public class ") + 13).split("\\s")[0];
+        Path p = dir.resolve("src/main/java/fixtures/" + cls + ".java");
+        Files.createDirectories(p.getParent());
+        Files.writeString(p, src);
+        return p;
+    }
+
+    /**
+     * Variante del sorgente in cui una riga ogni {@code every} del corpo dei metodi
+     * è modificata: simula un commit che tocca molti metodi.
+     */
+    public static String mutate(String src, int every, int seed) {
+        String[] lines = src.split("\n", -1);
+        StringBuilder sb = new StringBuilder(src.length() + 64);
+        for (int i = 0; i < lines.length; i++) {
+            String l = lines[i];
+            if (i % every == seed % every && l.startsWith("        ") && l.trim().endsWith(";")) {
+                l = l + " // rev " + seed;
+            }
+            sb.append(l);
+            if (i < lines.length - 1) sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Storia in memoria. */
+    public static final class History {
+        public final Repository repo;
+        public final List<RevCommit> commits;      // dal più recente, tutti con genitore
+
+        History(Repository repo, List<RevCommit> commits) {
+            this.repo = repo;
+            this.commits = commits;
+        }
+    }
+
+    /**
+     * Repository in memoria con {@code count} commit lineari: ogni commit modifica
+     * alcuni metodi di uno dei sorgenti fixture (large e small).
+     */
+    public static History history(int count) throws IOException {
+        InMemoryRepository repo = new InMemoryRepository(new DfsRepositoryDescription("bench"));
+        Map<String, String> files = new TreeMap<>();
+        files.put("src/main/java/fixtures/Large.java", source("large"));
+        files.put("src/main/java/fixtures/Small.java", source("small"));
+        List<String> paths = new ArrayList<>(files.keySet());
+        Random rnd = new Random(42);
+
+        ObjectId parent = null;
+        try (ObjectInserter ins = repo.newObjectInserter()) {
+            for (int c = 0; c <= count; c++) {
+                if (c > 0) {
+                    String path = paths.get(rnd.nextInt(paths.size()));
+                    files.put(path, mutate(files.get(path), 40 + rnd.nextInt(40), c));
+                }
+                TreeFormatter tree = new TreeFormatter();
+                // un solo livello: i path completi non servono a BuggyMethodExtractor
+                for (var f : files.entrySet()) {
+                    ObjectId blob = ins.insert(Constants.OBJ_BLOB, f.getValue().getBytes(StandardCharsets.UTF_8));
+                    tree.append(f.getKey().substring(f.getKey().lastIndexOf('/') + 1), FileMode.REGULAR_FILE, blob);
+                }
+                CommitBuilder cb = new CommitBuilder();
+                cb.setTreeId(ins.insert(tree));
+                if (parent != null) cb.setParentId(parent);
+                PersonIdent who = new PersonIdent("bench" + (c % 5), "bench" + (c % 5) + "@example.org",
+                        new Date(1_600_000_000_000L + c * 3_600_000L), TimeZone.getTimeZone("UTC"));
+                cb.setAuthor(who);
+                cb.setCommitter(who);
+                cb.setMessage("BOOKKEEPER-" + c + " rev " + c);
+                parent = ins.insert(cb);
+            }
+            ins.flush();
+        }
+        RefUpdate ru = repo.updateRef(Constants.R_HEADS + Constants.MASTER);
+        ru.setNewObjectId(parent);
+        ru.forceUpdate();
+        repo.updateRef(Constants.HEAD).link(Constants.R_HEADS + Constants.MASTER);
+
+        List<RevCommit> commits = new ArrayList<>();
+        try (RevWalk rw = new RevWalk(repo)) {
+            rw.sort(RevSort.COMMIT_TIME_DESC);
+            rw.markStart(rw.parseCommit(parent));
+            for (RevCommit rc : rw) {
+                if (rc.getParentCount() > 0) commits.add(rc);
+            }
+        }
+        return new History(repo, commits);
+    }
+
+    /** Dataset generato. */
+    public static final class Dataset {
+        public final Map<String, Map<String, FeatureExtractor.MethodFeatures>> features;
+        public final List<String> releases;
+        public final BugLabeller labeller;
+
+        Dataset(Map<String, Map<String, FeatureExtractor.MethodFeatures>> features,
+                List<String> releases, BugLabeller labeller) {
+            this.features = features;
+            this.releases = releases;
+            this.labeller = labeller;
+        }
+
+        public int rows() {
+            return features.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    /**
+     * {@code methods} metodi presenti in {@code releases} release; tra una release e la
+     * successiva cambia circa un metodo su {@code changeEvery} (il resto produce righe
+     * duplicate a meno della Version), ~10% dei metodi è buggy in qualche release.
+     */
+    public static Dataset dataset(int methods, int releases, int changeEvery) {
+        Random rnd = new Random(7);
+        List<String> tags = new ArrayList<>();
+        for (int r = 0; r < releases; r++) tags.add("release-4." + r + ".0");
+        BugLabeller labeller = new BugLabeller(releases);
+
+        String[] keys = new String[methods];
+        FeatureExtractor.MethodFeatures[] current = new FeatureExtractor.MethodFeatures[methods];
+        for (int m = 0; m < methods; m++) {
+            keys[m] = "bookkeeper-server/src/main/java/org/apache/bookkeeper/p" + (m % 97)
+                    + "/Class" + (m / 20) + ".java#int method" + m + "(int, String)";
+            current[m] = randomFeatures(rnd);
+            if (rnd.nextInt(10) == 0) {
+                int from = rnd.nextInt(releases);
+                labeller.markBuggy(keys[m], from, from + 1 + rnd.nextInt(3));
+            }
+        }
+
+        Map<String, Map<String, FeatureExtractor.MethodFeatures>> features = new LinkedHashMap<>();
+        for (int r = 0; r < releases; r++) {
+            Map<String, FeatureExtractor.MethodFeatures> rel = new HashMap<>(methods * 2);
+            for (int m = 0; m < methods; m++) {
+                if (r > 0 && rnd.nextInt(changeEvery) == 0) current[m] = randomFeatures(rnd);
+                rel.put(keys[m], current[m]);
+            }
+            features.put(tags.get(r), rel);
+        }
+        return new Dataset(features, tags, labeller);
+    }
+
+    private static FeatureExtractor.MethodFeatures randomFeatures(Random rnd) {
+        FeatureExtractor.MethodFeatures f = new FeatureExtractor.MethodFeatures();
+        f.loc             = 1 + rnd.nextInt(200);
+        f.cyclomatic      = 1 + rnd.nextInt(20);
+        f.cognitive       = rnd.nextInt(40);
+        f.parameterCount  = rnd.nextInt(6);
+        f.nestingDepth    = rnd.nextInt(6);
+        f.returnCount     = rnd.nextInt(5);
+        f.tryCount        = rnd.nextInt(3);
+        f.catchCount      = rnd.nextInt(4);
+        f.smellsDensity   = rnd.nextInt(5);
+        f.manyCatches     = f.catchCount > 2 ? 1 : 0;
+        f.assignmentCount = rnd.nextInt(30);
+        f.invocationCount = rnd.nextInt(50);
+        f.methodHistories = rnd.nextInt(20);
+        f.churn           = rnd.nextInt(300);
+        f.authors         = 1 + rnd.nextInt(6);
+        f.method_gt_100_loc = f.loc > 100 ? 1 : 0;
+        f.codeSmells      = rnd.nextInt(8);
+        return f;
+    }
+}
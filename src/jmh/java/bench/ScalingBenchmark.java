@@ -0,0 +1,192 @@
+package bench;
+
+import fetcher.BookkeeperFetcher;
+import fetcher.model.JiraTicket;
+import fetcher.model.JiraVersion;
+import org.eclipse.jgit.api.Git;
+import pipeline.DatasetPipeline;
+import pipeline.GitTreeSource;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Benchmark end-to-end della pipeline su repository sintetici di taglia crescente.
+ *
+ * Per ogni combinazione dei parametri genera un repository ({@link SyntheticRepo}) e lancia
+ * la pipeline in una JVM figlia, così picco di RSS e di heap sono del singolo punto.
+ * Riporta tempo totale, picchi di memoria e durata di ogni stage, a video e in scaling.csv.
+ *
+ * <pre>
+ * mvn -Pjmh compile exec:exec -Djmh.main=bench.ScalingBenchmark \
+ *     -Djmh.args="--commits 250,500,1000 --files 50 --methods 10 --tags 6 --bugfix 0.2"
+ * </pre>
+ * Ogni parametro accetta una lista separata da virgole; --out (default target/scaling)
+ * e --xmx (heap della JVM figlia, default 2g).
+ */
+public final class ScalingBenchmark {
+
+    private static final String RESULT = "SCALING-RESULT ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--run")) {
+            runPoint(Paths.get(args[1]));
+            return;
+        }
+
+        Map<String, String> opt = new HashMap<>(Map.of(
+                "commits", "250,500,1000", "files", "50", "methods", "10",
+                "tags", "6", "bugfix", "0.2", "authors", "8",
+                "out", "target/scaling", "xmx", "2g"));
+        for (int i = 0; i + 1 < args.length; i += 2) opt.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        Path out = Paths.get(opt.get("out"));
+        Files.createDirectories(out);
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        List<String> stageNames = new ArrayList<>();
+        for (String commits : opt.get("commits").split(","))
+        for (String files : opt.get("files").split(","))
+        for (String methods : opt.get("methods").split(","))
+        for (String tags : opt.get("tags").split(","))
+        for (String bugfix : opt.get("bugfix").split(",")) {
+            SyntheticRepo gen = new SyntheticRepo();
+            gen.commits        = Integer.parseInt(commits.trim());
+            gen.files          = Integer.parseInt(files.trim());
+            gen.methodsPerFile = Integer.parseInt(methods.trim());
+            gen.tags           = Integer.parseInt(tags.trim());
+            gen.bugFixRatio    = Double.parseDouble(bugfix.trim());
+            gen.authors        = Integer.parseInt(opt.get("authors"));
+
+            String name = "c" + gen.commits + "-f" + gen.files + "-m" + gen.methodsPerFile
+                    + "-t" + gen.tags + "-b" + gen.bugFixRatio;
+            Path dir = out.resolve(name);
+            if (Files.exists(dir)) deleteRecursively(dir);
+            System.out.println("→ Genero " + name);
+            gen.generate(dir);
+
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("commits", commits.trim());
+            row.put("files", files.trim());
+            row.put("methods", methods.trim());
+            row.put("tags", tags.trim());
+            row.put("bugfix", bugfix.trim());
+            row.putAll(runChild(dir, opt.get("xmx")));
+            for (String k : row.keySet()) {
+                if (k.startsWith("stage.") && !stageNames.contains(k)) stageNames.add(k);
+            }
+            System.out.println("   ✓ " + row);
+            rows.add(row);
+        }
+
+        // tabella: parametri, tempo, memoria, stage
+        List<String> cols = new ArrayList<>(List.of("commits", "files", "methods", "tags", "bugfix",
+                "wallMs", "peakRssKb", "peakHeapKb"));
+        cols.addAll(stageNames);
+        StringBuilder csv = new StringBuilder(String.join(",", cols)).append('\n');
+        for (Map<String, String> r : rows) {
+            StringJoiner j = new StringJoiner(",");
+            for (String c : cols) j.add(r.getOrDefault(c, ""));
+            csv.append(j).append('\n');
+        }
+        Path report = out.resolve("scaling.csv");
+        Files.writeString(report, csv);
+        System.out.print(csv);
+        System.out.println("✓ Risultati in " + report);
+    }
+
+    /** Lancia la pipeline su dir in una JVM figlia e ne legge la riga di risultato. */
+    private static Map<String, String> runChild(Path dir, String xmx) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        ProcessBuilder pb = new ProcessBuilder(java, "-Xmx" + xmx,
+                "-cp", System.getProperty("java.class.path"),
+                ScalingBenchmark.class.getName(), "--run", dir.toString());
+        pb.redirectErrorStream(true);
+        pb.redirectOutput(ProcessBuilder.Redirect.PIPE);
+        Process p = pb.start();
+
+        Map<String, String> result = new LinkedHashMap<>();
+        Path log = dir.resolve("pipeline.log");
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8));
+             var w = Files.newBufferedWriter(log)) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                w.write(line);
+                w.newLine();
+                if (!line.startsWith(RESULT)) continue;
+                for (String kv : line.substring(RESULT.length()).split(" ")) {
+                    int eq = kv.indexOf('=');
+                    if (eq > 0) result.put(kv.substring(0, eq), kv.substring(eq + 1));
+                }
+            }
+        }
+        int exit = p.waitFor();
+        if (exit != 0 || result.isEmpty()) {
+            throw new IOException("Pipeline fallita su " + dir + " (exit " + exit + "), vedi " + log);
+        }
+        return result;
+    }
+
+    /** JVM figlia: pipeline completa sul repository sintetico, senza rete. */
+    private static void runPoint(Path dir) throws Exception {
+        BookkeeperFetcher io = new BookkeeperFetcher();
+        List<JiraTicket> tickets = io.readTicketsFromFile(dir.resolve("tickets.json").toString());
+        List<JiraVersion> versions = io.readVersionsFromFile(dir.resolve("versions.json").toString());
+        File repoDir = dir.resolve("repo").toFile();
+
+        long t0 = System.nanoTime();
+        DatasetPipeline pipeline = new DatasetPipeline("synthetic", dir.resolve("out"),
+                Runtime.getRuntime().availableProcessors());
+        try (Git git = Git.open(repoDir)) {
+            List<String> tags = new ArrayList<>();
+            git.tagList().call().forEach(ref -> tags.add(ref.getName().substring("refs/tags/".length())));
+            pipeline.run(git, repoDir, tickets, versions, tags, new GitTreeSource(git.getRepository()));
+        }
+        long wall = System.nanoTime() - t0;
+
+        StringBuilder sb = new StringBuilder(RESULT);
+        sb.append("wallMs=").append(wall / 1_000_000);
+        sb.append(" peakRssKb=").append(peakRssKb());
+        sb.append(" peakHeapKb=").append(peakHeapBytes() / 1024);
+        for (var e : pipeline.stageNanos().entrySet()) {
+            sb.append(" stage.").append(e.getKey()).append("Ms=").append(e.getValue() / 1_000_000);
+        }
+        System.out.println(sb);
+    }
+
+    /** Picco di RSS del processo (VmHWM, solo Linux); -1 se non disponibile. */
+    private static long peakRssKb() {
+        try {
+            for (String l : Files.readAllLines(Paths.get("/proc/self/status"))) {
+                if (l.startsWith("VmHWM:")) return Long.parseLong(l.replaceAll("\\D+", ""));
+            }
+        } catch (IOException | NumberFormatException ignored) {
+            // non Linux
+        }
+        return -1;
+    }
+
+    /** Somma dei picchi dei pool di heap (upper bound del picco complessivo). */
+    private static long peakHeapBytes() {
+        long sum = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) sum += pool.getPeakUsage().getUsed();
+        }
+        return sum;
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (var s = Files.walk(dir)) {
+            s.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package bench;
+
+import fetcher.BookkeeperFetcher;
+import fetcher.model.JiraTicket;
+import fetcher.model.JiraVersion;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+/**
+ * Generatore di repository Git sintetici per i benchmark end-to-end.
+ *
+ * Crea con JGit un repository con una storia lineare di classi Java (path sotto
+ * src/main/java, come nei progetti reali), tag di release a intervalli regolari e
+ * commit di bug-fix con chiavi "PROJECT-N" nel messaggio; accanto al repository
+ * scrive tickets.json e versions.json nel formato di {@link BookkeeperFetcher}.
+ * Gli oggetti sono scritti direttamente (DirCache in memoria), senza toccare la
+ * working tree fino all'ultimo commit. Stesso seed → stesso repository.
+ */
+public final class SyntheticRepo {
+
+    public int commits = 500;
+    public int files = 50;
+    public int methodsPerFile = 10;
+    public int tags = 10;
+    public double bugFixRatio = 0.2;
+    public int authors = 8;
+    public String projectKey = "PROJ";
+    public long seed = 1;
+
+    private static final long START = 1_400_000_000L;    // secondi
+    private static final long STEP  = 6 * 3600;
+
+    /** Una classe: per ogni metodo le righe del corpo. */
+    private static final class Source {
+        final String pkg, name;
+        final List<List<String>> bodies = new ArrayList<>();
+
+        Source(String pkg, String name) {
+            this.pkg  = pkg;
+            this.name = name;
+        }
+
+        String path() {
+            return "src/main/java/" + pkg.replace('.', '/') + "/" + name + ".java";
+        }
+
+        byte[] render() {
+            StringBuilder sb = new StringBuilder(4096);
+            sb.append("package ").append(pkg).append(";\n\n");
+            sb.append("public class ").append(name).append(" {\n");
+            for (int m = 0; m < bodies.size(); m++) {
+                sb.append("\n    public int m").append(m).append("(int a, String s) {\n");
+                for (String l : bodies.get(m)) sb.append("        ").append(l).append('\n');
+                sb.append("        return a;\n    }\n");
+            }
+            sb.append("}\n");
+            return sb.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /** Risultato: repository e file JIRA sintetici. */
+    public static final class Generated {
+        public final Path repoDir, ticketsFile, versionsFile;
+        public final List<String> tags;
+
+        Generated(Path repoDir, Path ticketsFile, Path versionsFile, List<String> tags) {
+            this.repoDir = repoDir;
+            this.ticketsFile = ticketsFile;
+            this.versionsFile = versionsFile;
+            this.tags = tags;
+        }
+    }
+
+    /** Genera in {@code dir}: dir/repo (repository), dir/tickets.json, dir/versions.json. */
+    public Generated generate(Path dir) throws Exception {
+        Random rnd = new Random(seed);
+        Path repoDir = dir.resolve("repo");
+        Files.createDirectories(repoDir);
+
+        List<Source> sources = new ArrayList<>();
+        for (int f = 0; f < files; f++) {
+            Source s = new Source("org.example.p" + (f % 10), "C" + f);
+            for (int m = 0; m < methodsPerFile; m++) s.bodies.add(randomBody(rnd, 3 + rnd.nextInt(8)));
+            sources.add(s);
+        }
+
+        List<String> tagNames = new ArrayList<>();
+        List<JiraVersion> versions = new ArrayList<>();
+        List<JiraTicket> tickets = new ArrayList<>();
+        int every = Math.max(1, commits / Math.max(1, tags));
+
+        try (Git git = Git.init().setDirectory(repoDir.toFile()).setInitialBranch("master").call()) {
+            Repository repo = git.getRepository();
+            DirCache index = DirCache.newInCore();
+            ObjectId parent = null;
+            try (ObjectInserter ins = repo.newObjectInserter()) {
+                for (int c = 0; c < commits; c++) {
+                    // primo commit: tutti i file; poi 1..3 file con 1..3 metodi modificati
+                    List<Source> touched = new ArrayList<>();
+                    if (c == 0) {
+                        touched.addAll(sources);
+                    } else {
+                        int n = 1 + rnd.nextInt(3);
+                        for (int k = 0; k < n; k++) {
+                            Source s = sources.get(rnd.nextInt(sources.size()));
+                            mutate(s, rnd, c);
+                            if (!touched.contains(s)) touched.add(s);
+                        }
+                    }
+                    DirCacheEditor ed = index.editor();
+                    for (Source s : touched) {
+                        ObjectId blob = ins.insert(Constants.OBJ_BLOB, s.render());
+                        ed.add(new DirCacheEditor.PathEdit(s.path()) {
+                            @Override public void apply(DirCacheEntry ent) {
+                                ent.setFileMode(FileMode.REGULAR_FILE);
+                                ent.setObjectId(blob);
+                            }
+                        });
+                    }
+                    ed.finish();
+
+                    long when = START + c * STEP;
+                    int author = rnd.nextInt(Math.max(1, authors));
+                    PersonIdent who = new PersonIdent("dev" + author, "dev" + author + "@example.org",
+                            Date.from(Instant.ofEpochSecond(when)), TimeZone.getTimeZone("UTC"));
+
+                    String message = "Change " + c;
+                    if (c > 0 && rnd.nextDouble() < bugFixRatio) {
+                        JiraTicket t = bugTicket(tickets.size() + 1, when, versions, rnd);
+                        tickets.add(t);
+                        message = t.getKey() + ": fix " + t.getSummary();
+                    } else if (c > 0 && rnd.nextInt(4) == 0) {
+                        JiraTicket t = ticket(tickets.size() + 1, "Improvement", when);
+                        tickets.add(t);
+                        message = t.getKey() + ": " + t.getSummary();
+                    }
+
+                    CommitBuilder cb = new CommitBuilder();
+                    cb.setTreeId(index.writeTree(ins));
+                    if (parent != null) cb.setParentId(parent);
+                    cb.setAuthor(who);
+                    cb.setCommitter(who);
+                    cb.setMessage(message);
+                    parent = ins.insert(cb);
+
+                    if ((c + 1) % every == 0 && tagNames.size() < tags) {
+                        String v = "1." + tagNames.size() + ".0";
+                        String tag = "release-" + v;
+                        RefUpdate tu = repo.updateRef(Constants.R_TAGS + tag);
+                        tu.setNewObjectId(parent);
+                        tu.forceUpdate();
+                        tagNames.add(tag);
+                        versions.add(new JiraVersion(v, date(when)));
+                    }
+                }
+                ins.flush();
+            }
+            RefUpdate ru = repo.updateRef(Constants.R_HEADS + "master");
+            ru.setNewObjectId(parent);
+            ru.forceUpdate();
+            git.reset().setMode(ResetCommand.ResetType.HARD).call();
+        }
+
+        Path ticketsFile  = dir.resolve("tickets.json");
+        Path versionsFile = dir.resolve("versions.json");
+        BookkeeperFetcher io = new BookkeeperFetcher();
+        io.writeTicketsToJsonFile(tickets, ticketsFile.toString());
+        io.writeVersionsToJsonFile(versions, versionsFile.toString());
+        return new Generated(repoDir, ticketsFile, versionsFile, tagNames);
+    }
+
+    private static List<String> randomBody(Random rnd, int lines) {
+        List<String> body = new ArrayList<>();
+        for (int i = 0; i < lines; i++) body.add(randomLine(rnd, i));
+        return body;
+    }
+
+    private static String randomLine(Random rnd, int i) {
+        switch (rnd.nextInt(4)) {
+            case 0:  return "a += s.length() * " + rnd.nextInt(100) + ";";
+            case 1:  return "if (a > " + rnd.nextInt(1000) + ") { a -= " + i + "; }";
+            case 2:  return "for (int i" + i + " = 0; i" + i + " < 3; i" + i + "++) { a ^= i" + i + "; }";
+            default: return "a = Math.max(a, " + rnd.nextInt(50) + ");";
+        }
+    }
+
+    /** Modifica 1..3 metodi: aggiunge, toglie o cambia righe; ogni tanto aggiunge un metodo. */
+    private void mutate(Source s, Random rnd, int c) {
+        if (rnd.nextInt(20) == 0) {
+            s.bodies.add(randomBody(rnd, 2 + rnd.nextInt(4)));
+            return;
+        }
+        int n = 1 + rnd.nextInt(3);
+        for (int k = 0; k < n; k++) {
+            List<String> b = s.bodies.get(rnd.nextInt(s.bodies.size()));
+            double op = rnd.nextDouble();
+            if (op < 0.5 || b.size() < 2) b.add(rnd.nextInt(b.size() + 1), randomLine(rnd, c));
+            else if (op < 0.75) b.remove(rnd.nextInt(b.size()));
+            else b.set(rnd.nextInt(b.size()), randomLine(rnd, c));
+        }
+    }
+
+    private JiraTicket ticket(int n, String type, long when) {
+        JiraTicket t = new JiraTicket();
+        t.setKey(projectKey + "-" + n);
+        t.setSummary("synthetic issue " + n);
+        t.setIssueType(type);
+        t.setStatus("Closed");
+        t.setResolution("Fixed");
+        t.setCreationDate(date(when - 10 * STEP));
+        t.setResolutionDate(date(when));
+        return t;
+    }
+
+    /** Ticket di bug; metà dei ticket ha una affected version fra quelle già rilasciate. */
+    private JiraTicket bugTicket(int n, long when, List<JiraVersion> released, Random rnd) {
+        JiraTicket t = ticket(n, "Bug", when);
+        if (!released.isEmpty() && rnd.nextBoolean()) {
+            t.setAffectedVersions(new ArrayList<>(List.of(released.get(rnd.nextInt(released.size())))));
+        }
+        return t;
+    }
+
+    private static LocalDate date(long epochSecond) {
+        return Instant.ofEpochSecond(epochSecond).atZone(ZoneOffset.UTC).toLocalDate();
+    }
+}
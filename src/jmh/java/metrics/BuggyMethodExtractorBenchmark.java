@@ -0,0 +1,44 @@
+package metrics;
+
+import bench.Fixtures;
+import org.eclipse.jgit.internal.storage.dfs.DfsRepositoryDescription;
+import org.eclipse.jgit.internal.storage.dfs.InMemoryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Confronto dei metodi fra due versioni di un file. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuggyMethodExtractorBenchmark {
+
+    @Param({ "small", "large", "pathological" })
+    public String source;
+
+    private String before, after;
+    private InMemoryRepository repo;
+    private BuggyMethodExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        before    = Fixtures.source(source);
+        after     = Fixtures.mutate(before, 25, 1);
+        repo      = new InMemoryRepository(new DfsRepositoryDescription("bench"));   // il confronto non lo legge
+        extractor = new BuggyMethodExtractor(repo);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        repo.close();
+    }
+
+    @Benchmark
+    public List<String> changedInSource() {
+        return extractor.changedInSource(before, after);
+    }
+}
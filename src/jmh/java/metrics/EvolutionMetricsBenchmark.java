@@ -0,0 +1,39 @@
+package metrics;
+
+import bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Metriche evolutive (history, churn, autori per metodo) su una storia in memoria. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvolutionMetricsBenchmark {
+
+    @Param({ "50" })
+    public int commits;
+
+    @Param({ "1" })
+    public int threads;
+
+    private Fixtures.History history;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        history = Fixtures.history(commits);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        history.repo.close();
+    }
+
+    @Benchmark
+    public EvolutionMetrics.Result compute() throws Exception {
+        return new EvolutionMetrics(history.repo, threads).compute();
+    }
+}
@@ -0,0 +1,49 @@
+package metrics;
+
+import bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/** Estrazione delle feature da un singolo file (JavaParser + PMD). */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeatureExtractorBenchmark {
+
+    @Param({ "small", "large", "pathological" })
+    public String source;
+
+    private Path root;
+    private File file;
+    private FeatureExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        root      = Files.createTempDirectory("bench-fx");
+        file      = Fixtures.writeSource(root, source).toFile();
+        extractor = new FeatureExtractor(root);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> s = Files.walk(root)) {
+            s.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Map<String, FeatureExtractor.MethodFeatures> extractFromFile() throws Exception {
+        return extractor.extractFromFile(file);
+    }
+}
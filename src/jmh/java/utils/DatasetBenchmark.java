@@ -0,0 +1,63 @@
+package utils;
+
+import bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/** Scrittura del CSV grezzo e rimozione dei duplicati su dataset generati. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DatasetBenchmark {
+
+    /** Metodi per release (righe = methods × releases). */
+    @Param({ "10000", "100000" })
+    public int methods;
+
+    @Param({ "15" })
+    public int releases;
+
+    /** Un metodo su changeEvery cambia fra due release consecutive. */
+    @Param({ "10" })
+    public int changeEvery;
+
+    private Fixtures.Dataset dataset;
+    private Path dir, rawCsv, outCsv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataset = Fixtures.dataset(methods, releases, changeEvery);
+        dir     = Files.createTempDirectory("bench-ds");
+        rawCsv  = dir.resolve("raw.csv");
+        outCsv  = dir.resolve("final.csv");
+        new CsvGenerator().generateCsv(dataset.features, dataset.releases, dataset.labeller, rawCsv.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(rawCsv);
+        Files.deleteIfExists(outCsv);
+        Files.deleteIfExists(dir.resolve("gen.csv"));
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public long generateCsv() throws Exception {
+        Path out = dir.resolve("gen.csv");
+        new CsvGenerator().generateCsv(dataset.features, dataset.releases, dataset.labeller, out.toString());
+        return Files.size(out);
+    }
+
+    @Benchmark
+    public long removeDuplicateRows() throws IOException {
+        CsvPreprocessor.removeDuplicateRows(rawCsv, outCsv);
+        return Files.size(outCsv);
+    }
+}
@@ -0,0 +1,2615 @@
+package fixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Fixture grande: molti metodi di dimensione media. */
+public class Large {
+
+    private final Map<String, Integer> counters = new HashMap<>();
+    private final List<String> log = new ArrayList<>();
+
+    public int process0(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":0:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":0:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":0:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":0:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":0:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":0:" + i5);
+            }
+        }
+        for (int i6 = 0; i6 < limit; i6++) {
+            if (i6 % 8 == 0) {
+                total += counters.getOrDefault(key + i6, 6);
+            } else {
+                log.add(key + ":0:" + i6);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process1(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 1/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 1/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 1/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 1/3: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process2(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process3(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process3");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process3");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process3");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process3");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process3");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process4(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":4:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":4:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":4:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":4:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":4:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":4:" + i5);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process5(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/5: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(6));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 5/6: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process6(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        switch (limit % 9) {
+            case 0: total += 6; break;
+            case 1: total -= 6; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process7(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process7");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process7");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process7");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process7");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process8(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":8:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":8:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":8:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":8:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":8:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":8:" + i5);
+            }
+        }
+        for (int i6 = 0; i6 < limit; i6++) {
+            if (i6 % 8 == 0) {
+                total += counters.getOrDefault(key + i6, 6);
+            } else {
+                log.add(key + ":8:" + i6);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process9(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/5: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(6));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 9/6: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process10(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process11(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process11");
+        }
+        while (total < limit * 7) {
+            total += key.length() + 6;
+            if (total > 7000) throw new IOException("overflow in process11");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process12(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":12:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":12:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":12:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":12:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":12:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":12:" + i5);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process13(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 13/5: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process14(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process15(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process15");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process15");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process15");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process16(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":16:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":16:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":16:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":16:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":16:" + i4);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process17(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 17/5: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process18(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process19(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process19");
+        }
+        while (total < limit * 7) {
+            total += key.length() + 6;
+            if (total > 7000) throw new IOException("overflow in process19");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process20(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":20:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":20:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":20:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":20:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":20:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":20:" + i5);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process21(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 21/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 21/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 21/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process22(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        switch (limit % 9) {
+            case 0: total += 6; break;
+            case 1: total -= 6; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process23(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process23");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process23");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process23");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process23");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process23");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process23");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process24(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":24:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":24:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":24:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":24:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":24:" + i4);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process25(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 25/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 25/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 25/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 25/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 25/4: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process26(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        switch (limit % 9) {
+            case 0: total += 6; break;
+            case 1: total -= 6; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process27(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process27");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process27");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process27");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process27");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process28(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":28:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":28:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":28:" + i2);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process29(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 29/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 29/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 29/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process30(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process31(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process31");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process31");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process31");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process31");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process31");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process32(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":32:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":32:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":32:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":32:" + i3);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process33(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 33/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 33/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 33/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process34(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process35(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process35");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process35");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process35");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process36(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":36:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":36:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":36:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":36:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":36:" + i4);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process37(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 37/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 37/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 37/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 37/3: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process38(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        switch (limit % 9) {
+            case 0: total += 6; break;
+            case 1: total -= 6; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process39(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process39");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process39");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process39");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process39");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process39");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process40(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":40:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":40:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":40:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":40:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":40:" + i4);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process41(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 41/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 41/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 41/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process42(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process43(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process43");
+        }
+        while (total < limit * 7) {
+            total += key.length() + 6;
+            if (total > 7000) throw new IOException("overflow in process43");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process44(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":44:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":44:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":44:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":44:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":44:" + i4);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process45(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/5: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(6));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 45/6: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process46(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process47(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process47");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process47");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process47");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process47");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process47");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process47");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process48(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":48:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":48:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":48:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":48:" + i3);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process49(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 49/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 49/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 49/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process50(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process51(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process51");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process51");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process51");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process51");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process51");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process52(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":52:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":52:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":52:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":52:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":52:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":52:" + i5);
+            }
+        }
+        for (int i6 = 0; i6 < limit; i6++) {
+            if (i6 % 8 == 0) {
+                total += counters.getOrDefault(key + i6, 6);
+            } else {
+                log.add(key + ":52:" + i6);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process53(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 53/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 53/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 53/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process54(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process55(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process55");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process55");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process55");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process55");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process56(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":56:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":56:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":56:" + i2);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process57(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 57/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 57/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 57/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process58(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process59(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process59");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process59");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process59");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process60(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":60:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":60:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":60:" + i2);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process61(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 61/5: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process62(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process63(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process63");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process63");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process63");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process63");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process63");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process64(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":64:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":64:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":64:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":64:" + i3);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process65(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 65/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 65/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 65/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 65/3: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process66(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process67(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process67");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process67");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process67");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process67");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process67");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process67");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process68(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":68:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":68:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":68:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":68:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":68:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":68:" + i5);
+            }
+        }
+        for (int i6 = 0; i6 < limit; i6++) {
+            if (i6 % 8 == 0) {
+                total += counters.getOrDefault(key + i6, 6);
+            } else {
+                log.add(key + ":68:" + i6);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process69(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 69/5: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process70(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process71(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process71");
+        }
+        while (total < limit * 7) {
+            total += key.length() + 6;
+            if (total > 7000) throw new IOException("overflow in process71");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process72(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":72:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":72:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":72:" + i2);
+            }
+        }
+        for (int i3 = 0; i3 < limit; i3++) {
+            if (i3 % 5 == 0) {
+                total += counters.getOrDefault(key + i3, 3);
+            } else {
+                log.add(key + ":72:" + i3);
+            }
+        }
+        for (int i4 = 0; i4 < limit; i4++) {
+            if (i4 % 6 == 0) {
+                total += counters.getOrDefault(key + i4, 4);
+            } else {
+                log.add(key + ":72:" + i4);
+            }
+        }
+        for (int i5 = 0; i5 < limit; i5++) {
+            if (i5 % 7 == 0) {
+                total += counters.getOrDefault(key + i5, 5);
+            } else {
+                log.add(key + ":72:" + i5);
+            }
+        }
+        for (int i6 = 0; i6 < limit; i6++) {
+            if (i6 % 8 == 0) {
+                total += counters.getOrDefault(key + i6, 6);
+            } else {
+                log.add(key + ":72:" + i6);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process73(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/2: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(3));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/3: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(4));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/4: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(5));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 73/5: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process74(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process75(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process75");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process75");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process75");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process75");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process75");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process75");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process76(String key, int limit) throws IOException {
+        int total = 0;
+        for (int i0 = 0; i0 < limit; i0++) {
+            if (i0 % 2 == 0) {
+                total += counters.getOrDefault(key + i0, 0);
+            } else {
+                log.add(key + ":76:" + i0);
+            }
+        }
+        for (int i1 = 0; i1 < limit; i1++) {
+            if (i1 % 3 == 0) {
+                total += counters.getOrDefault(key + i1, 1);
+            } else {
+                log.add(key + ":76:" + i1);
+            }
+        }
+        for (int i2 = 0; i2 < limit; i2++) {
+            if (i2 % 4 == 0) {
+                total += counters.getOrDefault(key + i2, 2);
+            } else {
+                log.add(key + ":76:" + i2);
+            }
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process77(String key, int limit) throws IOException {
+        int total = 0;
+        try {
+            total += Integer.parseInt(key.substring(0));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 77/0: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(1));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 77/1: " + key);
+        }
+        try {
+            total += Integer.parseInt(key.substring(2));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            log.add("bad key 77/2: " + key);
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process78(String key, int limit) throws IOException {
+        int total = 0;
+        switch (limit % 3) {
+            case 0: total += 0; break;
+            case 1: total -= 0; break;
+            default: total *= 2;
+        }
+        switch (limit % 4) {
+            case 0: total += 1; break;
+            case 1: total -= 1; break;
+            default: total *= 2;
+        }
+        switch (limit % 5) {
+            case 0: total += 2; break;
+            case 1: total -= 2; break;
+            default: total *= 2;
+        }
+        switch (limit % 6) {
+            case 0: total += 3; break;
+            case 1: total -= 3; break;
+            default: total *= 2;
+        }
+        switch (limit % 7) {
+            case 0: total += 4; break;
+            case 1: total -= 4; break;
+            default: total *= 2;
+        }
+        switch (limit % 8) {
+            case 0: total += 5; break;
+            case 1: total -= 5; break;
+            default: total *= 2;
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+    public int process79(String key, int limit) throws IOException {
+        int total = 0;
+        while (total < limit * 1) {
+            total += key.length() + 0;
+            if (total > 1000) throw new IOException("overflow in process79");
+        }
+        while (total < limit * 2) {
+            total += key.length() + 1;
+            if (total > 2000) throw new IOException("overflow in process79");
+        }
+        while (total < limit * 3) {
+            total += key.length() + 2;
+            if (total > 3000) throw new IOException("overflow in process79");
+        }
+        while (total < limit * 4) {
+            total += key.length() + 3;
+            if (total > 4000) throw new IOException("overflow in process79");
+        }
+        while (total < limit * 5) {
+            total += key.length() + 4;
+            if (total > 5000) throw new IOException("overflow in process79");
+        }
+        while (total < limit * 6) {
+            total += key.length() + 5;
+            if (total > 6000) throw new IOException("overflow in process79");
+        }
+        counters.put(key, total);
+        return total;
+    }
+
+}
@@ -0,0 +1,3844 @@
+package fixtures;
+
+/** Fixture patologica: annidamento profondo, metodo lunghissimo, molti catch. */
+public class Pathological {
+
+    public int deepNesting(int x) {
+        if (x > 0) {
+            if (x > 1) {
+                if (x > 2) {
+                    if (x > 3) {
+                        if (x > 4) {
+                            if (x > 5) {
+                                if (x > 6) {
+                                    if (x > 7) {
+                                        if (x > 8) {
+                                            if (x > 9) {
+                                                if (x > 10) {
+                                                    if (x > 11) {
+                                                        if (x > 12) {
+                                                            if (x > 13) {
+                                                                if (x > 14) {
+                                                                    if (x > 15) {
+                                                                        if (x > 16) {
+                                                                            if (x > 17) {
+                                                                                if (x > 18) {
+                                                                                    if (x > 19) {
+                                                                                        if (x > 20) {
+                                                                                            if (x > 21) {
+                                                                                                if (x > 22) {
+                                                                                                    if (x > 23) {
+                                                                                                        if (x > 24) {
+                                                                                                            if (x > 25) {
+                                                                                                                if (x > 26) {
+                                                                                                                    if (x > 27) {
+                                                                                                                        if (x > 28) {
+                                                                                                                            if (x > 29) {
+                                                                                                                                if (x > 30) {
+                                                                                                                                    if (x > 31) {
+                                                                                                                                        if (x > 32) {
+                                                                                                                                            if (x > 33) {
+                                                                                                                                                if (x > 34) {
+                                                                                                                                                    if (x > 35) {
+                                                                                                                                                        if (x > 36) {
+                                                                                                                                                            if (x > 37) {
+                                                                                                                                                                if (x > 38) {
+                                                                                                                                                                    if (x > 39) {
+                                                                                                                                                                        x++;
+                                                                                                                                                                    }
+                                                                                                                                                                }
+                                                                                                                                                            }
+                                                                                                                                                        }
+                                                                                                                                                    }
+                                                                                                                                                }
+                                                                                                                                            }
+                                                                                                                                        }
+                                                                                                                                    }
+                                                                                                                                }
+                                                                                                                            }
+                                                                                                                        }
+                                                                                                                    }
+                                                                                                                }
+                                                                                                            }
+                                                                                                        }
+                                                                                                    }
+                                                                                                }
+                                                                                            }
+                                                                                        }
+                                                                                    }
+                                                                                }
+                                                                            }
+                                                                        }
+                                                                    }
+                                                                }
+                                                            }
+                                                        }
+                                                    }
+                                                }
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return x;
+    }
+
+    public long hugeMethod(long a) {
+        a = a * 31 + 0 ^ (a >>> 1);
+        a = a * 31 + 1 ^ (a >>> 2);
+        a = a * 31 + 2 ^ (a >>> 3);
+        a = a * 31 + 3 ^ (a >>> 4);
+        a = a * 31 + 4 ^ (a >>> 5);
+        a = a * 31 + 5 ^ (a >>> 6);
+        a = a * 31 + 6 ^ (a >>> 7);
+        a = a * 31 + 7 ^ (a >>> 8);
+        a = a * 31 + 8 ^ (a >>> 9);
+        a = a * 31 + 9 ^ (a >>> 10);
+        a = a * 31 + 10 ^ (a >>> 11);
+        a = a * 31 + 11 ^ (a >>> 12);
+        a = a * 31 + 12 ^ (a >>> 13);
+        a = a * 31 + 13 ^ (a >>> 14);
+        a = a * 31 + 14 ^ (a >>> 15);
+        a = a * 31 + 15 ^ (a >>> 16);
+        a = a * 31 + 16 ^ (a >>> 17);
+        a = a * 31 + 17 ^ (a >>> 18);
+        a = a * 31 + 18 ^ (a >>> 19);
+        a = a * 31 + 19 ^ (a >>> 20);
+        a = a * 31 + 20 ^ (a >>> 21);
+        a = a * 31 + 21 ^ (a >>> 22);
+        a = a * 31 + 22 ^ (a >>> 23);
+        a = a * 31 + 23 ^ (a >>> 24);
+        a = a * 31 + 24 ^ (a >>> 25);
+        a = a * 31 + 25 ^ (a >>> 26);
+        a = a * 31 + 26 ^ (a >>> 27);
+        a = a * 31 + 27 ^ (a >>> 28);
+        a = a * 31 + 28 ^ (a >>> 29);
+        a = a * 31 + 29 ^ (a >>> 30);
+        a = a * 31 + 30 ^ (a >>> 31);
+        a = a * 31 + 31 ^ (a >>> 32);
+        a = a * 31 + 32 ^ (a >>> 33);
+        a = a * 31 + 33 ^ (a >>> 34);
+        a = a * 31 + 34 ^ (a >>> 35);
+        a = a * 31 + 35 ^ (a >>> 36);
+        a = a * 31 + 36 ^ (a >>> 37);
+        a = a * 31 + 37 ^ (a >>> 38);
+        a = a * 31 + 38 ^ (a >>> 39);
+        a = a * 31 + 39 ^ (a >>> 40);
+        a = a * 31 + 40 ^ (a >>> 41);
+        a = a * 31 + 41 ^ (a >>> 42);
+        a = a * 31 + 42 ^ (a >>> 43);
+        a = a * 31 + 43 ^ (a >>> 44);
+        a = a * 31 + 44 ^ (a >>> 45);
+        a = a * 31 + 45 ^ (a >>> 46);
+        a = a * 31 + 46 ^ (a >>> 47);
+        a = a * 31 + 47 ^ (a >>> 48);
+        a = a * 31 + 48 ^ (a >>> 49);
+        a = a * 31 + 49 ^ (a >>> 50);
+        a = a * 31 + 50 ^ (a >>> 51);
+        a = a * 31 + 51 ^ (a >>> 52);
+        a = a * 31 + 52 ^ (a >>> 53);
+        a = a * 31 + 53 ^ (a >>> 54);
+        a = a * 31 + 54 ^ (a >>> 55);
+        a = a * 31 + 55 ^ (a >>> 56);
+        a = a * 31 + 56 ^ (a >>> 57);
+        a = a * 31 + 57 ^ (a >>> 58);
+        a = a * 31 + 58 ^ (a >>> 59);
+        a = a * 31 + 59 ^ (a >>> 60);
+        a = a * 31 + 60 ^ (a >>> 61);
+        a = a * 31 + 61 ^ (a >>> 62);
+        a = a * 31 + 62 ^ (a >>> 63);
+        a = a * 31 + 63 ^ (a >>> 1);
+        a = a * 31 + 64 ^ (a >>> 2);
+        a = a * 31 + 65 ^ (a >>> 3);
+        a = a * 31 + 66 ^ (a >>> 4);
+        a = a * 31 + 67 ^ (a >>> 5);
+        a = a * 31 + 68 ^ (a >>> 6);
+        a = a * 31 + 69 ^ (a >>> 7);
+        a = a * 31 + 70 ^ (a >>> 8);
+        a = a * 31 + 71 ^ (a >>> 9);
+        a = a * 31 + 72 ^ (a >>> 10);
+        a = a * 31 + 73 ^ (a >>> 11);
+        a = a * 31 + 74 ^ (a >>> 12);
+        a = a * 31 + 75 ^ (a >>> 13);
+        a = a * 31 + 76 ^ (a >>> 14);
+        a = a * 31 + 77 ^ (a >>> 15);
+        a = a * 31 + 78 ^ (a >>> 16);
+        a = a * 31 + 79 ^ (a >>> 17);
+        a = a * 31 + 80 ^ (a >>> 18);
+        a = a * 31 + 81 ^ (a >>> 19);
+        a = a * 31 + 82 ^ (a >>> 20);
+        a = a * 31 + 83 ^ (a >>> 21);
+        a = a * 31 + 84 ^ (a >>> 22);
+        a = a * 31 + 85 ^ (a >>> 23);
+        a = a * 31 + 86 ^ (a >>> 24);
+        a = a * 31 + 87 ^ (a >>> 25);
+        a = a * 31 + 88 ^ (a >>> 26);
+        a = a * 31 + 89 ^ (a >>> 27);
+        a = a * 31 + 90 ^ (a >>> 28);
+        a = a * 31 + 91 ^ (a >>> 29);
+        a = a * 31 + 92 ^ (a >>> 30);
+        a = a * 31 + 93 ^ (a >>> 31);
+        a = a * 31 + 94 ^ (a >>> 32);
+        a = a * 31 + 95 ^ (a >>> 33);
+        a = a * 31 + 96 ^ (a >>> 34);
+        a = a * 31 + 97 ^ (a >>> 35);
+        a = a * 31 + 98 ^ (a >>> 36);
+        a = a * 31 + 99 ^ (a >>> 37);
+        a = a * 31 + 100 ^ (a >>> 38);
+        a = a * 31 + 101 ^ (a >>> 39);
+        a = a * 31 + 102 ^ (a >>> 40);
+        a = a * 31 + 103 ^ (a >>> 41);
+        a = a * 31 + 104 ^ (a >>> 42);
+        a = a * 31 + 105 ^ (a >>> 43);
+        a = a * 31 + 106 ^ (a >>> 44);
+        a = a * 31 + 107 ^ (a >>> 45);
+        a = a * 31 + 108 ^ (a >>> 46);
+        a = a * 31 + 109 ^ (a >>> 47);
+        a = a * 31 + 110 ^ (a >>> 48);
+        a = a * 31 + 111 ^ (a >>> 49);
+        a = a * 31 + 112 ^ (a >>> 50);
+        a = a * 31 + 113 ^ (a >>> 51);
+        a = a * 31 + 114 ^ (a >>> 52);
+        a = a * 31 + 115 ^ (a >>> 53);
+        a = a * 31 + 116 ^ (a >>> 54);
+        a = a * 31 + 117 ^ (a >>> 55);
+        a = a * 31 + 118 ^ (a >>> 56);
+        a = a * 31 + 119 ^ (a >>> 57);
+        a = a * 31 + 120 ^ (a >>> 58);
+        a = a * 31 + 121 ^ (a >>> 59);
+        a = a * 31 + 122 ^ (a >>> 60);
+        a = a * 31 + 123 ^ (a >>> 61);
+        a = a * 31 + 124 ^ (a >>> 62);
+        a = a * 31 + 125 ^ (a >>> 63);
+        a = a * 31 + 126 ^ (a >>> 1);
+        a = a * 31 + 127 ^ (a >>> 2);
+        a = a * 31 + 128 ^ (a >>> 3);
+        a = a * 31 + 129 ^ (a >>> 4);
+        a = a * 31 + 130 ^ (a >>> 5);
+        a = a * 31 + 131 ^ (a >>> 6);
+        a = a * 31 + 132 ^ (a >>> 7);
+        a = a * 31 + 133 ^ (a >>> 8);
+        a = a * 31 + 134 ^ (a >>> 9);
+        a = a * 31 + 135 ^ (a >>> 10);
+        a = a * 31 + 136 ^ (a >>> 11);
+        a = a * 31 + 137 ^ (a >>> 12);
+        a = a * 31 + 138 ^ (a >>> 13);
+        a = a * 31 + 139 ^ (a >>> 14);
+        a = a * 31 + 140 ^ (a >>> 15);
+        a = a * 31 + 141 ^ (a >>> 16);
+        a = a * 31 + 142 ^ (a >>> 17);
+        a = a * 31 + 143 ^ (a >>> 18);
+        a = a * 31 + 144 ^ (a >>> 19);
+        a = a * 31 + 145 ^ (a >>> 20);
+        a = a * 31 + 146 ^ (a >>> 21);
+        a = a * 31 + 147 ^ (a >>> 22);
+        a = a * 31 + 148 ^ (a >>> 23);
+        a = a * 31 + 149 ^ (a >>> 24);
+        a = a * 31 + 150 ^ (a >>> 25);
+        a = a * 31 + 151 ^ (a >>> 26);
+        a = a * 31 + 152 ^ (a >>> 27);
+        a = a * 31 + 153 ^ (a >>> 28);
+        a = a * 31 + 154 ^ (a >>> 29);
+        a = a * 31 + 155 ^ (a >>> 30);
+        a = a * 31 + 156 ^ (a >>> 31);
+        a = a * 31 + 157 ^ (a >>> 32);
+        a = a * 31 + 158 ^ (a >>> 33);
+        a = a * 31 + 159 ^ (a >>> 34);
+        a = a * 31 + 160 ^ (a >>> 35);
+        a = a * 31 + 161 ^ (a >>> 36);
+        a = a * 31 + 162 ^ (a >>> 37);
+        a = a * 31 + 163 ^ (a >>> 38);
+        a = a * 31 + 164 ^ (a >>> 39);
+        a = a * 31 + 165 ^ (a >>> 40);
+        a = a * 31 + 166 ^ (a >>> 41);
+        a = a * 31 + 167 ^ (a >>> 42);
+        a = a * 31 + 168 ^ (a >>> 43);
+        a = a * 31 + 169 ^ (a >>> 44);
+        a = a * 31 + 170 ^ (a >>> 45);
+        a = a * 31 + 171 ^ (a >>> 46);
+        a = a * 31 + 172 ^ (a >>> 47);
+        a = a * 31 + 173 ^ (a >>> 48);
+        a = a * 31 + 174 ^ (a >>> 49);
+        a = a * 31 + 175 ^ (a >>> 50);
+        a = a * 31 + 176 ^ (a >>> 51);
+        a = a * 31 + 177 ^ (a >>> 52);
+        a = a * 31 + 178 ^ (a >>> 53);
+        a = a * 31 + 179 ^ (a >>> 54);
+        a = a * 31 + 180 ^ (a >>> 55);
+        a = a * 31 + 181 ^ (a >>> 56);
+        a = a * 31 + 182 ^ (a >>> 57);
+        a = a * 31 + 183 ^ (a >>> 58);
+        a = a * 31 + 184 ^ (a >>> 59);
+        a = a * 31 + 185 ^ (a >>> 60);
+        a = a * 31 + 186 ^ (a >>> 61);
+        a = a * 31 + 187 ^ (a >>> 62);
+        a = a * 31 + 188 ^ (a >>> 63);
+        a = a * 31 + 189 ^ (a >>> 1);
+        a = a * 31 + 190 ^ (a >>> 2);
+        a = a * 31 + 191 ^ (a >>> 3);
+        a = a * 31 + 192 ^ (a >>> 4);
+        a = a * 31 + 193 ^ (a >>> 5);
+        a = a * 31 + 194 ^ (a >>> 6);
+        a = a * 31 + 195 ^ (a >>> 7);
+        a = a * 31 + 196 ^ (a >>> 8);
+        a = a * 31 + 197 ^ (a >>> 9);
+        a = a * 31 + 198 ^ (a >>> 10);
+        a = a * 31 + 199 ^ (a >>> 11);
+        a = a * 31 + 200 ^ (a >>> 12);
+        a = a * 31 + 201 ^ (a >>> 13);
+        a = a * 31 + 202 ^ (a >>> 14);
+        a = a * 31 + 203 ^ (a >>> 15);
+        a = a * 31 + 204 ^ (a >>> 16);
+        a = a * 31 + 205 ^ (a >>> 17);
+        a = a * 31 + 206 ^ (a >>> 18);
+        a = a * 31 + 207 ^ (a >>> 19);
+        a = a * 31 + 208 ^ (a >>> 20);
+        a = a * 31 + 209 ^ (a >>> 21);
+        a = a * 31 + 210 ^ (a >>> 22);
+        a = a * 31 + 211 ^ (a >>> 23);
+        a = a * 31 + 212 ^ (a >>> 24);
+        a = a * 31 + 213 ^ (a >>> 25);
+        a = a * 31 + 214 ^ (a >>> 26);
+        a = a * 31 + 215 ^ (a >>> 27);
+        a = a * 31 + 216 ^ (a >>> 28);
+        a = a * 31 + 217 ^ (a >>> 29);
+        a = a * 31 + 218 ^ (a >>> 30);
+        a = a * 31 + 219 ^ (a >>> 31);
+        a = a * 31 + 220 ^ (a >>> 32);
+        a = a * 31 + 221 ^ (a >>> 33);
+        a = a * 31 + 222 ^ (a >>> 34);
+        a = a * 31 + 223 ^ (a >>> 35);
+        a = a * 31 + 224 ^ (a >>> 36);
+        a = a * 31 + 225 ^ (a >>> 37);
+        a = a * 31 + 226 ^ (a >>> 38);
+        a = a * 31 + 227 ^ (a >>> 39);
+        a = a * 31 + 228 ^ (a >>> 40);
+        a = a * 31 + 229 ^ (a >>> 41);
+        a = a * 31 + 230 ^ (a >>> 42);
+        a = a * 31 + 231 ^ (a >>> 43);
+        a = a * 31 + 232 ^ (a >>> 44);
+        a = a * 31 + 233 ^ (a >>> 45);
+        a = a * 31 + 234 ^ (a >>> 46);
+        a = a * 31 + 235 ^ (a >>> 47);
+        a = a * 31 + 236 ^ (a >>> 48);
+        a = a * 31 + 237 ^ (a >>> 49);
+        a = a * 31 + 238 ^ (a >>> 50);
+        a = a * 31 + 239 ^ (a >>> 51);
+        a = a * 31 + 240 ^ (a >>> 52);
+        a = a * 31 + 241 ^ (a >>> 53);
+        a = a * 31 + 242 ^ (a >>> 54);
+        a = a * 31 + 243 ^ (a >>> 55);
+        a = a * 31 + 244 ^ (a >>> 56);
+        a = a * 31 + 245 ^ (a >>> 57);
+        a = a * 31 + 246 ^ (a >>> 58);
+        a = a * 31 + 247 ^ (a >>> 59);
+        a = a * 31 + 248 ^ (a >>> 60);
+        a = a * 31 + 249 ^ (a >>> 61);
+        a = a * 31 + 250 ^ (a >>> 62);
+        a = a * 31 + 251 ^ (a >>> 63);
+        a = a * 31 + 252 ^ (a >>> 1);
+        a = a * 31 + 253 ^ (a >>> 2);
+        a = a * 31 + 254 ^ (a >>> 3);
+        a = a * 31 + 255 ^ (a >>> 4);
+        a = a * 31 + 256 ^ (a >>> 5);
+        a = a * 31 + 257 ^ (a >>> 6);
+        a = a * 31 + 258 ^ (a >>> 7);
+        a = a * 31 + 259 ^ (a >>> 8);
+        a = a * 31 + 260 ^ (a >>> 9);
+        a = a * 31 + 261 ^ (a >>> 10);
+        a = a * 31 + 262 ^ (a >>> 11);
+        a = a * 31 + 263 ^ (a >>> 12);
+        a = a * 31 + 264 ^ (a >>> 13);
+        a = a * 31 + 265 ^ (a >>> 14);
+        a = a * 31 + 266 ^ (a >>> 15);
+        a = a * 31 + 267 ^ (a >>> 16);
+        a = a * 31 + 268 ^ (a >>> 17);
+        a = a * 31 + 269 ^ (a >>> 18);
+        a = a * 31 + 270 ^ (a >>> 19);
+        a = a * 31 + 271 ^ (a >>> 20);
+        a = a * 31 + 272 ^ (a >>> 21);
+        a = a * 31 + 273 ^ (a >>> 22);
+        a = a * 31 + 274 ^ (a >>> 23);
+        a = a * 31 + 275 ^ (a >>> 24);
+        a = a * 31 + 276 ^ (a >>> 25);
+        a = a * 31 + 277 ^ (a >>> 26);
+        a = a * 31 + 278 ^ (a >>> 27);
+        a = a * 31 + 279 ^ (a >>> 28);
+        a = a * 31 + 280 ^ (a >>> 29);
+        a = a * 31 + 281 ^ (a >>> 30);
+        a = a * 31 + 282 ^ (a >>> 31);
+        a = a * 31 + 283 ^ (a >>> 32);
+        a = a * 31 + 284 ^ (a >>> 33);
+        a = a * 31 + 285 ^ (a >>> 34);
+        a = a * 31 + 286 ^ (a >>> 35);
+        a = a * 31 + 287 ^ (a >>> 36);
+        a = a * 31 + 288 ^ (a >>> 37);
+        a = a * 31 + 289 ^ (a >>> 38);
+        a = a * 31 + 290 ^ (a >>> 39);
+        a = a * 31 + 291 ^ (a >>> 40);
+        a = a * 31 + 292 ^ (a >>> 41);
+        a = a * 31 + 293 ^ (a >>> 42);
+        a = a * 31 + 294 ^ (a >>> 43);
+        a = a * 31 + 295 ^ (a >>> 44);
+        a = a * 31 + 296 ^ (a >>> 45);
+        a = a * 31 + 297 ^ (a >>> 46);
+        a = a * 31 + 298 ^ (a >>> 47);
+        a = a * 31 + 299 ^ (a >>> 48);
+        a = a * 31 + 300 ^ (a >>> 49);
+        a = a * 31 + 301 ^ (a >>> 50);
+        a = a * 31 + 302 ^ (a >>> 51);
+        a = a * 31 + 303 ^ (a >>> 52);
+        a = a * 31 + 304 ^ (a >>> 53);
+        a = a * 31 + 305 ^ (a >>> 54);
+        a = a * 31 + 306 ^ (a >>> 55);
+        a = a * 31 + 307 ^ (a >>> 56);
+        a = a * 31 + 308 ^ (a >>> 57);
+        a = a * 31 + 309 ^ (a >>> 58);
+        a = a * 31 + 310 ^ (a >>> 59);
+        a = a * 31 + 311 ^ (a >>> 60);
+        a = a * 31 + 312 ^ (a >>> 61);
+        a = a * 31 + 313 ^ (a >>> 62);
+        a = a * 31 + 314 ^ (a >>> 63);
+        a = a * 31 + 315 ^ (a >>> 1);
+        a = a * 31 + 316 ^ (a >>> 2);
+        a = a * 31 + 317 ^ (a >>> 3);
+        a = a * 31 + 318 ^ (a >>> 4);
+        a = a * 31 + 319 ^ (a >>> 5);
+        a = a * 31 + 320 ^ (a >>> 6);
+        a = a * 31 + 321 ^ (a >>> 7);
+        a = a * 31 + 322 ^ (a >>> 8);
+        a = a * 31 + 323 ^ (a >>> 9);
+        a = a * 31 + 324 ^ (a >>> 10);
+        a = a * 31 + 325 ^ (a >>> 11);
+        a = a * 31 + 326 ^ (a >>> 12);
+        a = a * 31 + 327 ^ (a >>> 13);
+        a = a * 31 + 328 ^ (a >>> 14);
+        a = a * 31 + 329 ^ (a >>> 15);
+        a = a * 31 + 330 ^ (a >>> 16);
+        a = a * 31 + 331 ^ (a >>> 17);
+        a = a * 31 + 332 ^ (a >>> 18);
+        a = a * 31 + 333 ^ (a >>> 19);
+        a = a * 31 + 334 ^ (a >>> 20);
+        a = a * 31 + 335 ^ (a >>> 21);
+        a = a * 31 + 336 ^ (a >>> 22);
+        a = a * 31 + 337 ^ (a >>> 23);
+        a = a * 31 + 338 ^ (a >>> 24);
+        a = a * 31 + 339 ^ (a >>> 25);
+        a = a * 31 + 340 ^ (a >>> 26);
+        a = a * 31 + 341 ^ (a >>> 27);
+        a = a * 31 + 342 ^ (a >>> 28);
+        a = a * 31 + 343 ^ (a >>> 29);
+        a = a * 31 + 344 ^ (a >>> 30);
+        a = a * 31 + 345 ^ (a >>> 31);
+        a = a * 31 + 346 ^ (a >>> 32);
+        a = a * 31 + 347 ^ (a >>> 33);
+        a = a * 31 + 348 ^ (a >>> 34);
+        a = a * 31 + 349 ^ (a >>> 35);
+        a = a * 31 + 350 ^ (a >>> 36);
+        a = a * 31 + 351 ^ (a >>> 37);
+        a = a * 31 + 352 ^ (a >>> 38);
+        a = a * 31 + 353 ^ (a >>> 39);
+        a = a * 31 + 354 ^ (a >>> 40);
+        a = a * 31 + 355 ^ (a >>> 41);
+        a = a * 31 + 356 ^ (a >>> 42);
+        a = a * 31 + 357 ^ (a >>> 43);
+        a = a * 31 + 358 ^ (a >>> 44);
+        a = a * 31 + 359 ^ (a >>> 45);
+        a = a * 31 + 360 ^ (a >>> 46);
+        a = a * 31 + 361 ^ (a >>> 47);
+        a = a * 31 + 362 ^ (a >>> 48);
+        a = a * 31 + 363 ^ (a >>> 49);
+        a = a * 31 + 364 ^ (a >>> 50);
+        a = a * 31 + 365 ^ (a >>> 51);
+        a = a * 31 + 366 ^ (a >>> 52);
+        a = a * 31 + 367 ^ (a >>> 53);
+        a = a * 31 + 368 ^ (a >>> 54);
+        a = a * 31 + 369 ^ (a >>> 55);
+        a = a * 31 + 370 ^ (a >>> 56);
+        a = a * 31 + 371 ^ (a >>> 57);
+        a = a * 31 + 372 ^ (a >>> 58);
+        a = a * 31 + 373 ^ (a >>> 59);
+        a = a * 31 + 374 ^ (a >>> 60);
+        a = a * 31 + 375 ^ (a >>> 61);
+        a = a * 31 + 376 ^ (a >>> 62);
+        a = a * 31 + 377 ^ (a >>> 63);
+        a = a * 31 + 378 ^ (a >>> 1);
+        a = a * 31 + 379 ^ (a >>> 2);
+        a = a * 31 + 380 ^ (a >>> 3);
+        a = a * 31 + 381 ^ (a >>> 4);
+        a = a * 31 + 382 ^ (a >>> 5);
+        a = a * 31 + 383 ^ (a >>> 6);
+        a = a * 31 + 384 ^ (a >>> 7);
+        a = a * 31 + 385 ^ (a >>> 8);
+        a = a * 31 + 386 ^ (a >>> 9);
+        a = a * 31 + 387 ^ (a >>> 10);
+        a = a * 31 + 388 ^ (a >>> 11);
+        a = a * 31 + 389 ^ (a >>> 12);
+        a = a * 31 + 390 ^ (a >>> 13);
+        a = a * 31 + 391 ^ (a >>> 14);
+        a = a * 31 + 392 ^ (a >>> 15);
+        a = a * 31 + 393 ^ (a >>> 16);
+        a = a * 31 + 394 ^ (a >>> 17);
+        a = a * 31 + 395 ^ (a >>> 18);
+        a = a * 31 + 396 ^ (a >>> 19);
+        a = a * 31 + 397 ^ (a >>> 20);
+        a = a * 31 + 398 ^ (a >>> 21);
+        a = a * 31 + 399 ^ (a >>> 22);
+        a = a * 31 + 400 ^ (a >>> 23);
+        a = a * 31 + 401 ^ (a >>> 24);
+        a = a * 31 + 402 ^ (a >>> 25);
+        a = a * 31 + 403 ^ (a >>> 26);
+        a = a * 31 + 404 ^ (a >>> 27);
+        a = a * 31 + 405 ^ (a >>> 28);
+        a = a * 31 + 406 ^ (a >>> 29);
+        a = a * 31 + 407 ^ (a >>> 30);
+        a = a * 31 + 408 ^ (a >>> 31);
+        a = a * 31 + 409 ^ (a >>> 32);
+        a = a * 31 + 410 ^ (a >>> 33);
+        a = a * 31 + 411 ^ (a >>> 34);
+        a = a * 31 + 412 ^ (a >>> 35);
+        a = a * 31 + 413 ^ (a >>> 36);
+        a = a * 31 + 414 ^ (a >>> 37);
+        a = a * 31 + 415 ^ (a >>> 38);
+        a = a * 31 + 416 ^ (a >>> 39);
+        a = a * 31 + 417 ^ (a >>> 40);
+        a = a * 31 + 418 ^ (a >>> 41);
+        a = a * 31 + 419 ^ (a >>> 42);
+        a = a * 31 + 420 ^ (a >>> 43);
+        a = a * 31 + 421 ^ (a >>> 44);
+        a = a * 31 + 422 ^ (a >>> 45);
+        a = a * 31 + 423 ^ (a >>> 46);
+        a = a * 31 + 424 ^ (a >>> 47);
+        a = a * 31 + 425 ^ (a >>> 48);
+        a = a * 31 + 426 ^ (a >>> 49);
+        a = a * 31 + 427 ^ (a >>> 50);
+        a = a * 31 + 428 ^ (a >>> 51);
+        a = a * 31 + 429 ^ (a >>> 52);
+        a = a * 31 + 430 ^ (a >>> 53);
+        a = a * 31 + 431 ^ (a >>> 54);
+        a = a * 31 + 432 ^ (a >>> 55);
+        a = a * 31 + 433 ^ (a >>> 56);
+        a = a * 31 + 434 ^ (a >>> 57);
+        a = a * 31 + 435 ^ (a >>> 58);
+        a = a * 31 + 436 ^ (a >>> 59);
+        a = a * 31 + 437 ^ (a >>> 60);
+        a = a * 31 + 438 ^ (a >>> 61);
+        a = a * 31 + 439 ^ (a >>> 62);
+        a = a * 31 + 440 ^ (a >>> 63);
+        a = a * 31 + 441 ^ (a >>> 1);
+        a = a * 31 + 442 ^ (a >>> 2);
+        a = a * 31 + 443 ^ (a >>> 3);
+        a = a * 31 + 444 ^ (a >>> 4);
+        a = a * 31 + 445 ^ (a >>> 5);
+        a = a * 31 + 446 ^ (a >>> 6);
+        a = a * 31 + 447 ^ (a >>> 7);
+        a = a * 31 + 448 ^ (a >>> 8);
+        a = a * 31 + 449 ^ (a >>> 9);
+        a = a * 31 + 450 ^ (a >>> 10);
+        a = a * 31 + 451 ^ (a >>> 11);
+        a = a * 31 + 452 ^ (a >>> 12);
+        a = a * 31 + 453 ^ (a >>> 13);
+        a = a * 31 + 454 ^ (a >>> 14);
+        a = a * 31 + 455 ^ (a >>> 15);
+        a = a * 31 + 456 ^ (a >>> 16);
+        a = a * 31 + 457 ^ (a >>> 17);
+        a = a * 31 + 458 ^ (a >>> 18);
+        a = a * 31 + 459 ^ (a >>> 19);
+        a = a * 31 + 460 ^ (a >>> 20);
+        a = a * 31 + 461 ^ (a >>> 21);
+        a = a * 31 + 462 ^ (a >>> 22);
+        a = a * 31 + 463 ^ (a >>> 23);
+        a = a * 31 + 464 ^ (a >>> 24);
+        a = a * 31 + 465 ^ (a >>> 25);
+        a = a * 31 + 466 ^ (a >>> 26);
+        a = a * 31 + 467 ^ (a >>> 27);
+        a = a * 31 + 468 ^ (a >>> 28);
+        a = a * 31 + 469 ^ (a >>> 29);
+        a = a * 31 + 470 ^ (a >>> 30);
+        a = a * 31 + 471 ^ (a >>> 31);
+        a = a * 31 + 472 ^ (a >>> 32);
+        a = a * 31 + 473 ^ (a >>> 33);
+        a = a * 31 + 474 ^ (a >>> 34);
+        a = a * 31 + 475 ^ (a >>> 35);
+        a = a * 31 + 476 ^ (a >>> 36);
+        a = a * 31 + 477 ^ (a >>> 37);
+        a = a * 31 + 478 ^ (a >>> 38);
+        a = a * 31 + 479 ^ (a >>> 39);
+        a = a * 31 + 480 ^ (a >>> 40);
+        a = a * 31 + 481 ^ (a >>> 41);
+        a = a * 31 + 482 ^ (a >>> 42);
+        a = a * 31 + 483 ^ (a >>> 43);
+        a = a * 31 + 484 ^ (a >>> 44);
+        a = a * 31 + 485 ^ (a >>> 45);
+        a = a * 31 + 486 ^ (a >>> 46);
+        a = a * 31 + 487 ^ (a >>> 47);
+        a = a * 31 + 488 ^ (a >>> 48);
+        a = a * 31 + 489 ^ (a >>> 49);
+        a = a * 31 + 490 ^ (a >>> 50);
+        a = a * 31 + 491 ^ (a >>> 51);
+        a = a * 31 + 492 ^ (a >>> 52);
+        a = a * 31 + 493 ^ (a >>> 53);
+        a = a * 31 + 494 ^ (a >>> 54);
+        a = a * 31 + 495 ^ (a >>> 55);
+        a = a * 31 + 496 ^ (a >>> 56);
+        a = a * 31 + 497 ^ (a >>> 57);
+        a = a * 31 + 498 ^ (a >>> 58);
+        a = a * 31 + 499 ^ (a >>> 59);
+        a = a * 31 + 500 ^ (a >>> 60);
+        a = a * 31 + 501 ^ (a >>> 61);
+        a = a * 31 + 502 ^ (a >>> 62);
+        a = a * 31 + 503 ^ (a >>> 63);
+        a = a * 31 + 504 ^ (a >>> 1);
+        a = a * 31 + 505 ^ (a >>> 2);
+        a = a * 31 + 506 ^ (a >>> 3);
+        a = a * 31 + 507 ^ (a >>> 4);
+        a = a * 31 + 508 ^ (a >>> 5);
+        a = a * 31 + 509 ^ (a >>> 6);
+        a = a * 31 + 510 ^ (a >>> 7);
+        a = a * 31 + 511 ^ (a >>> 8);
+        a = a * 31 + 512 ^ (a >>> 9);
+        a = a * 31 + 513 ^ (a >>> 10);
+        a = a * 31 + 514 ^ (a >>> 11);
+        a = a * 31 + 515 ^ (a >>> 12);
+        a = a * 31 + 516 ^ (a >>> 13);
+        a = a * 31 + 517 ^ (a >>> 14);
+        a = a * 31 + 518 ^ (a >>> 15);
+        a = a * 31 + 519 ^ (a >>> 16);
+        a = a * 31 + 520 ^ (a >>> 17);
+        a = a * 31 + 521 ^ (a >>> 18);
+        a = a * 31 + 522 ^ (a >>> 19);
+        a = a * 31 + 523 ^ (a >>> 20);
+        a = a * 31 + 524 ^ (a >>> 21);
+        a = a * 31 + 525 ^ (a >>> 22);
+        a = a * 31 + 526 ^ (a >>> 23);
+        a = a * 31 + 527 ^ (a >>> 24);
+        a = a * 31 + 528 ^ (a >>> 25);
+        a = a * 31 + 529 ^ (a >>> 26);
+        a = a * 31 + 530 ^ (a >>> 27);
+        a = a * 31 + 531 ^ (a >>> 28);
+        a = a * 31 + 532 ^ (a >>> 29);
+        a = a * 31 + 533 ^ (a >>> 30);
+        a = a * 31 + 534 ^ (a >>> 31);
+        a = a * 31 + 535 ^ (a >>> 32);
+        a = a * 31 + 536 ^ (a >>> 33);
+        a = a * 31 + 537 ^ (a >>> 34);
+        a = a * 31 + 538 ^ (a >>> 35);
+        a = a * 31 + 539 ^ (a >>> 36);
+        a = a * 31 + 540 ^ (a >>> 37);
+        a = a * 31 + 541 ^ (a >>> 38);
+        a = a * 31 + 542 ^ (a >>> 39);
+        a = a * 31 + 543 ^ (a >>> 40);
+        a = a * 31 + 544 ^ (a >>> 41);
+        a = a * 31 + 545 ^ (a >>> 42);
+        a = a * 31 + 546 ^ (a >>> 43);
+        a = a * 31 + 547 ^ (a >>> 44);
+        a = a * 31 + 548 ^ (a >>> 45);
+        a = a * 31 + 549 ^ (a >>> 46);
+        a = a * 31 + 550 ^ (a >>> 47);
+        a = a * 31 + 551 ^ (a >>> 48);
+        a = a * 31 + 552 ^ (a >>> 49);
+        a = a * 31 + 553 ^ (a >>> 50);
+        a = a * 31 + 554 ^ (a >>> 51);
+        a = a * 31 + 555 ^ (a >>> 52);
+        a = a * 31 + 556 ^ (a >>> 53);
+        a = a * 31 + 557 ^ (a >>> 54);
+        a = a * 31 + 558 ^ (a >>> 55);
+        a = a * 31 + 559 ^ (a >>> 56);
+        a = a * 31 + 560 ^ (a >>> 57);
+        a = a * 31 + 561 ^ (a >>> 58);
+        a = a * 31 + 562 ^ (a >>> 59);
+        a = a * 31 + 563 ^ (a >>> 60);
+        a = a * 31 + 564 ^ (a >>> 61);
+        a = a * 31 + 565 ^ (a >>> 62);
+        a = a * 31 + 566 ^ (a >>> 63);
+        a = a * 31 + 567 ^ (a >>> 1);
+        a = a * 31 + 568 ^ (a >>> 2);
+        a = a * 31 + 569 ^ (a >>> 3);
+        a = a * 31 + 570 ^ (a >>> 4);
+        a = a * 31 + 571 ^ (a >>> 5);
+        a = a * 31 + 572 ^ (a >>> 6);
+        a = a * 31 + 573 ^ (a >>> 7);
+        a = a * 31 + 574 ^ (a >>> 8);
+        a = a * 31 + 575 ^ (a >>> 9);
+        a = a * 31 + 576 ^ (a >>> 10);
+        a = a * 31 + 577 ^ (a >>> 11);
+        a = a * 31 + 578 ^ (a >>> 12);
+        a = a * 31 + 579 ^ (a >>> 13);
+        a = a * 31 + 580 ^ (a >>> 14);
+        a = a * 31 + 581 ^ (a >>> 15);
+        a = a * 31 + 582 ^ (a >>> 16);
+        a = a * 31 + 583 ^ (a >>> 17);
+        a = a * 31 + 584 ^ (a >>> 18);
+        a = a * 31 + 585 ^ (a >>> 19);
+        a = a * 31 + 586 ^ (a >>> 20);
+        a = a * 31 + 587 ^ (a >>> 21);
+        a = a * 31 + 588 ^ (a >>> 22);
+        a = a * 31 + 589 ^ (a >>> 23);
+        a = a * 31 + 590 ^ (a >>> 24);
+        a = a * 31 + 591 ^ (a >>> 25);
+        a = a * 31 + 592 ^ (a >>> 26);
+        a = a * 31 + 593 ^ (a >>> 27);
+        a = a * 31 + 594 ^ (a >>> 28);
+        a = a * 31 + 595 ^ (a >>> 29);
+        a = a * 31 + 596 ^ (a >>> 30);
+        a = a * 31 + 597 ^ (a >>> 31);
+        a = a * 31 + 598 ^ (a >>> 32);
+        a = a * 31 + 599 ^ (a >>> 33);
+        a = a * 31 + 600 ^ (a >>> 34);
+        a = a * 31 + 601 ^ (a >>> 35);
+        a = a * 31 + 602 ^ (a >>> 36);
+        a = a * 31 + 603 ^ (a >>> 37);
+        a = a * 31 + 604 ^ (a >>> 38);
+        a = a * 31 + 605 ^ (a >>> 39);
+        a = a * 31 + 606 ^ (a >>> 40);
+        a = a * 31 + 607 ^ (a >>> 41);
+        a = a * 31 + 608 ^ (a >>> 42);
+        a = a * 31 + 609 ^ (a >>> 43);
+        a = a * 31 + 610 ^ (a >>> 44);
+        a = a * 31 + 611 ^ (a >>> 45);
+        a = a * 31 + 612 ^ (a >>> 46);
+        a = a * 31 + 613 ^ (a >>> 47);
+        a = a * 31 + 614 ^ (a >>> 48);
+        a = a * 31 + 615 ^ (a >>> 49);
+        a = a * 31 + 616 ^ (a >>> 50);
+        a = a * 31 + 617 ^ (a >>> 51);
+        a = a * 31 + 618 ^ (a >>> 52);
+        a = a * 31 + 619 ^ (a >>> 53);
+        a = a * 31 + 620 ^ (a >>> 54);
+        a = a * 31 + 621 ^ (a >>> 55);
+        a = a * 31 + 622 ^ (a >>> 56);
+        a = a * 31 + 623 ^ (a >>> 57);
+        a = a * 31 + 624 ^ (a >>> 58);
+        a = a * 31 + 625 ^ (a >>> 59);
+        a = a * 31 + 626 ^ (a >>> 60);
+        a = a * 31 + 627 ^ (a >>> 61);
+        a = a * 31 + 628 ^ (a >>> 62);
+        a = a * 31 + 629 ^ (a >>> 63);
+        a = a * 31 + 630 ^ (a >>> 1);
+        a = a * 31 + 631 ^ (a >>> 2);
+        a = a * 31 + 632 ^ (a >>> 3);
+        a = a * 31 + 633 ^ (a >>> 4);
+        a = a * 31 + 634 ^ (a >>> 5);
+        a = a * 31 + 635 ^ (a >>> 6);
+        a = a * 31 + 636 ^ (a >>> 7);
+        a = a * 31 + 637 ^ (a >>> 8);
+        a = a * 31 + 638 ^ (a >>> 9);
+        a = a * 31 + 639 ^ (a >>> 10);
+        a = a * 31 + 640 ^ (a >>> 11);
+        a = a * 31 + 641 ^ (a >>> 12);
+        a = a * 31 + 642 ^ (a >>> 13);
+        a = a * 31 + 643 ^ (a >>> 14);
+        a = a * 31 + 644 ^ (a >>> 15);
+        a = a * 31 + 645 ^ (a >>> 16);
+        a = a * 31 + 646 ^ (a >>> 17);
+        a = a * 31 + 647 ^ (a >>> 18);
+        a = a * 31 + 648 ^ (a >>> 19);
+        a = a * 31 + 649 ^ (a >>> 20);
+        a = a * 31 + 650 ^ (a >>> 21);
+        a = a * 31 + 651 ^ (a >>> 22);
+        a = a * 31 + 652 ^ (a >>> 23);
+        a = a * 31 + 653 ^ (a >>> 24);
+        a = a * 31 + 654 ^ (a >>> 25);
+        a = a * 31 + 655 ^ (a >>> 26);
+        a = a * 31 + 656 ^ (a >>> 27);
+        a = a * 31 + 657 ^ (a >>> 28);
+        a = a * 31 + 658 ^ (a >>> 29);
+        a = a * 31 + 659 ^ (a >>> 30);
+        a = a * 31 + 660 ^ (a >>> 31);
+        a = a * 31 + 661 ^ (a >>> 32);
+        a = a * 31 + 662 ^ (a >>> 33);
+        a = a * 31 + 663 ^ (a >>> 34);
+        a = a * 31 + 664 ^ (a >>> 35);
+        a = a * 31 + 665 ^ (a >>> 36);
+        a = a * 31 + 666 ^ (a >>> 37);
+        a = a * 31 + 667 ^ (a >>> 38);
+        a = a * 31 + 668 ^ (a >>> 39);
+        a = a * 31 + 669 ^ (a >>> 40);
+        a = a * 31 + 670 ^ (a >>> 41);
+        a = a * 31 + 671 ^ (a >>> 42);
+        a = a * 31 + 672 ^ (a >>> 43);
+        a = a * 31 + 673 ^ (a >>> 44);
+        a = a * 31 + 674 ^ (a >>> 45);
+        a = a * 31 + 675 ^ (a >>> 46);
+        a = a * 31 + 676 ^ (a >>> 47);
+        a = a * 31 + 677 ^ (a >>> 48);
+        a = a * 31 + 678 ^ (a >>> 49);
+        a = a * 31 + 679 ^ (a >>> 50);
+        a = a * 31 + 680 ^ (a >>> 51);
+        a = a * 31 + 681 ^ (a >>> 52);
+        a = a * 31 + 682 ^ (a >>> 53);
+        a = a * 31 + 683 ^ (a >>> 54);
+        a = a * 31 + 684 ^ (a >>> 55);
+        a = a * 31 + 685 ^ (a >>> 56);
+        a = a * 31 + 686 ^ (a >>> 57);
+        a = a * 31 + 687 ^ (a >>> 58);
+        a = a * 31 + 688 ^ (a >>> 59);
+        a = a * 31 + 689 ^ (a >>> 60);
+        a = a * 31 + 690 ^ (a >>> 61);
+        a = a * 31 + 691 ^ (a >>> 62);
+        a = a * 31 + 692 ^ (a >>> 63);
+        a = a * 31 + 693 ^ (a >>> 1);
+        a = a * 31 + 694 ^ (a >>> 2);
+        a = a * 31 + 695 ^ (a >>> 3);
+        a = a * 31 + 696 ^ (a >>> 4);
+        a = a * 31 + 697 ^ (a >>> 5);
+        a = a * 31 + 698 ^ (a >>> 6);
+        a = a * 31 + 699 ^ (a >>> 7);
+        a = a * 31 + 700 ^ (a >>> 8);
+        a = a * 31 + 701 ^ (a >>> 9);
+        a = a * 31 + 702 ^ (a >>> 10);
+        a = a * 31 + 703 ^ (a >>> 11);
+        a = a * 31 + 704 ^ (a >>> 12);
+        a = a * 31 + 705 ^ (a >>> 13);
+        a = a * 31 + 706 ^ (a >>> 14);
+        a = a * 31 + 707 ^ (a >>> 15);
+        a = a * 31 + 708 ^ (a >>> 16);
+        a = a * 31 + 709 ^ (a >>> 17);
+        a = a * 31 + 710 ^ (a >>> 18);
+        a = a * 31 + 711 ^ (a >>> 19);
+        a = a * 31 + 712 ^ (a >>> 20);
+        a = a * 31 + 713 ^ (a >>> 21);
+        a = a * 31 + 714 ^ (a >>> 22);
+        a = a * 31 + 715 ^ (a >>> 23);
+        a = a * 31 + 716 ^ (a >>> 24);
+        a = a * 31 + 717 ^ (a >>> 25);
+        a = a * 31 + 718 ^ (a >>> 26);
+        a = a * 31 + 719 ^ (a >>> 27);
+        a = a * 31 + 720 ^ (a >>> 28);
+        a = a * 31 + 721 ^ (a >>> 29);
+        a = a * 31 + 722 ^ (a >>> 30);
+        a = a * 31 + 723 ^ (a >>> 31);
+        a = a * 31 + 724 ^ (a >>> 32);
+        a = a * 31 + 725 ^ (a >>> 33);
+        a = a * 31 + 726 ^ (a >>> 34);
+        a = a * 31 + 727 ^ (a >>> 35);
+        a = a * 31 + 728 ^ (a >>> 36);
+        a = a * 31 + 729 ^ (a >>> 37);
+        a = a * 31 + 730 ^ (a >>> 38);
+        a = a * 31 + 731 ^ (a >>> 39);
+        a = a * 31 + 732 ^ (a >>> 40);
+        a = a * 31 + 733 ^ (a >>> 41);
+        a = a * 31 + 734 ^ (a >>> 42);
+        a = a * 31 + 735 ^ (a >>> 43);
+        a = a * 31 + 736 ^ (a >>> 44);
+        a = a * 31 + 737 ^ (a >>> 45);
+        a = a * 31 + 738 ^ (a >>> 46);
+        a = a * 31 + 739 ^ (a >>> 47);
+        a = a * 31 + 740 ^ (a >>> 48);
+        a = a * 31 + 741 ^ (a >>> 49);
+        a = a * 31 + 742 ^ (a >>> 50);
+        a = a * 31 + 743 ^ (a >>> 51);
+        a = a * 31 + 744 ^ (a >>> 52);
+        a = a * 31 + 745 ^ (a >>> 53);
+        a = a * 31 + 746 ^ (a >>> 54);
+        a = a * 31 + 747 ^ (a >>> 55);
+        a = a * 31 + 748 ^ (a >>> 56);
+        a = a * 31 + 749 ^ (a >>> 57);
+        a = a * 31 + 750 ^ (a >>> 58);
+        a = a * 31 + 751 ^ (a >>> 59);
+        a = a * 31 + 752 ^ (a >>> 60);
+        a = a * 31 + 753 ^ (a >>> 61);
+        a = a * 31 + 754 ^ (a >>> 62);
+        a = a * 31 + 755 ^ (a >>> 63);
+        a = a * 31 + 756 ^ (a >>> 1);
+        a = a * 31 + 757 ^ (a >>> 2);
+        a = a * 31 + 758 ^ (a >>> 3);
+        a = a * 31 + 759 ^ (a >>> 4);
+        a = a * 31 + 760 ^ (a >>> 5);
+        a = a * 31 + 761 ^ (a >>> 6);
+        a = a * 31 + 762 ^ (a >>> 7);
+        a = a * 31 + 763 ^ (a >>> 8);
+        a = a * 31 + 764 ^ (a >>> 9);
+        a = a * 31 + 765 ^ (a >>> 10);
+        a = a * 31 + 766 ^ (a >>> 11);
+        a = a * 31 + 767 ^ (a >>> 12);
+        a = a * 31 + 768 ^ (a >>> 13);
+        a = a * 31 + 769 ^ (a >>> 14);
+        a = a * 31 + 770 ^ (a >>> 15);
+        a = a * 31 + 771 ^ (a >>> 16);
+        a = a * 31 + 772 ^ (a >>> 17);
+        a = a * 31 + 773 ^ (a >>> 18);
+        a = a * 31 + 774 ^ (a >>> 19);
+        a = a * 31 + 775 ^ (a >>> 20);
+        a = a * 31 + 776 ^ (a >>> 21);
+        a = a * 31 + 777 ^ (a >>> 22);
+        a = a * 31 + 778 ^ (a >>> 23);
+        a = a * 31 + 779 ^ (a >>> 24);
+        a = a * 31 + 780 ^ (a >>> 25);
+        a = a * 31 + 781 ^ (a >>> 26);
+        a = a * 31 + 782 ^ (a >>> 27);
+        a = a * 31 + 783 ^ (a >>> 28);
+        a = a * 31 + 784 ^ (a >>> 29);
+        a = a * 31 + 785 ^ (a >>> 30);
+        a = a * 31 + 786 ^ (a >>> 31);
+        a = a * 31 + 787 ^ (a >>> 32);
+        a = a * 31 + 788 ^ (a >>> 33);
+        a = a * 31 + 789 ^ (a >>> 34);
+        a = a * 31 + 790 ^ (a >>> 35);
+        a = a * 31 + 791 ^ (a >>> 36);
+        a = a * 31 + 792 ^ (a >>> 37);
+        a = a * 31 + 793 ^ (a >>> 38);
+        a = a * 31 + 794 ^ (a >>> 39);
+        a = a * 31 + 795 ^ (a >>> 40);
+        a = a * 31 + 796 ^ (a >>> 41);
+        a = a * 31 + 797 ^ (a >>> 42);
+        a = a * 31 + 798 ^ (a >>> 43);
+        a = a * 31 + 799 ^ (a >>> 44);
+        a = a * 31 + 800 ^ (a >>> 45);
+        a = a * 31 + 801 ^ (a >>> 46);
+        a = a * 31 + 802 ^ (a >>> 47);
+        a = a * 31 + 803 ^ (a >>> 48);
+        a = a * 31 + 804 ^ (a >>> 49);
+        a = a * 31 + 805 ^ (a >>> 50);
+        a = a * 31 + 806 ^ (a >>> 51);
+        a = a * 31 + 807 ^ (a >>> 52);
+        a = a * 31 + 808 ^ (a >>> 53);
+        a = a * 31 + 809 ^ (a >>> 54);
+        a = a * 31 + 810 ^ (a >>> 55);
+        a = a * 31 + 811 ^ (a >>> 56);
+        a = a * 31 + 812 ^ (a >>> 57);
+        a = a * 31 + 813 ^ (a >>> 58);
+        a = a * 31 + 814 ^ (a >>> 59);
+        a = a * 31 + 815 ^ (a >>> 60);
+        a = a * 31 + 816 ^ (a >>> 61);
+        a = a * 31 + 817 ^ (a >>> 62);
+        a = a * 31 + 818 ^ (a >>> 63);
+        a = a * 31 + 819 ^ (a >>> 1);
+        a = a * 31 + 820 ^ (a >>> 2);
+        a = a * 31 + 821 ^ (a >>> 3);
+        a = a * 31 + 822 ^ (a >>> 4);
+        a = a * 31 + 823 ^ (a >>> 5);
+        a = a * 31 + 824 ^ (a >>> 6);
+        a = a * 31 + 825 ^ (a >>> 7);
+        a = a * 31 + 826 ^ (a >>> 8);
+        a = a * 31 + 827 ^ (a >>> 9);
+        a = a * 31 + 828 ^ (a >>> 10);
+        a = a * 31 + 829 ^ (a >>> 11);
+        a = a * 31 + 830 ^ (a >>> 12);
+        a = a * 31 + 831 ^ (a >>> 13);
+        a = a * 31 + 832 ^ (a >>> 14);
+        a = a * 31 + 833 ^ (a >>> 15);
+        a = a * 31 + 834 ^ (a >>> 16);
+        a = a * 31 + 835 ^ (a >>> 17);
+        a = a * 31 + 836 ^ (a >>> 18);
+        a = a * 31 + 837 ^ (a >>> 19);
+        a = a * 31 + 838 ^ (a >>> 20);
+        a = a * 31 + 839 ^ (a >>> 21);
+        a = a * 31 + 840 ^ (a >>> 22);
+        a = a * 31 + 841 ^ (a >>> 23);
+        a = a * 31 + 842 ^ (a >>> 24);
+        a = a * 31 + 843 ^ (a >>> 25);
+        a = a * 31 + 844 ^ (a >>> 26);
+        a = a * 31 + 845 ^ (a >>> 27);
+        a = a * 31 + 846 ^ (a >>> 28);
+        a = a * 31 + 847 ^ (a >>> 29);
+        a = a * 31 + 848 ^ (a >>> 30);
+        a = a * 31 + 849 ^ (a >>> 31);
+        a = a * 31 + 850 ^ (a >>> 32);
+        a = a * 31 + 851 ^ (a >>> 33);
+        a = a * 31 + 852 ^ (a >>> 34);
+        a = a * 31 + 853 ^ (a >>> 35);
+        a = a * 31 + 854 ^ (a >>> 36);
+        a = a * 31 + 855 ^ (a >>> 37);
+        a = a * 31 + 856 ^ (a >>> 38);
+        a = a * 31 + 857 ^ (a >>> 39);
+        a = a * 31 + 858 ^ (a >>> 40);
+        a = a * 31 + 859 ^ (a >>> 41);
+        a = a * 31 + 860 ^ (a >>> 42);
+        a = a * 31 + 861 ^ (a >>> 43);
+        a = a * 31 + 862 ^ (a >>> 44);
+        a = a * 31 + 863 ^ (a >>> 45);
+        a = a * 31 + 864 ^ (a >>> 46);
+        a = a * 31 + 865 ^ (a >>> 47);
+        a = a * 31 + 866 ^ (a >>> 48);
+        a = a * 31 + 867 ^ (a >>> 49);
+        a = a * 31 + 868 ^ (a >>> 50);
+        a = a * 31 + 869 ^ (a >>> 51);
+        a = a * 31 + 870 ^ (a >>> 52);
+        a = a * 31 + 871 ^ (a >>> 53);
+        a = a * 31 + 872 ^ (a >>> 54);
+        a = a * 31 + 873 ^ (a >>> 55);
+        a = a * 31 + 874 ^ (a >>> 56);
+        a = a * 31 + 875 ^ (a >>> 57);
+        a = a * 31 + 876 ^ (a >>> 58);
+        a = a * 31 + 877 ^ (a >>> 59);
+        a = a * 31 + 878 ^ (a >>> 60);
+        a = a * 31 + 879 ^ (a >>> 61);
+        a = a * 31 + 880 ^ (a >>> 62);
+        a = a * 31 + 881 ^ (a >>> 63);
+        a = a * 31 + 882 ^ (a >>> 1);
+        a = a * 31 + 883 ^ (a >>> 2);
+        a = a * 31 + 884 ^ (a >>> 3);
+        a = a * 31 + 885 ^ (a >>> 4);
+        a = a * 31 + 886 ^ (a >>> 5);
+        a = a * 31 + 887 ^ (a >>> 6);
+        a = a * 31 + 888 ^ (a >>> 7);
+        a = a * 31 + 889 ^ (a >>> 8);
+        a = a * 31 + 890 ^ (a >>> 9);
+        a = a * 31 + 891 ^ (a >>> 10);
+        a = a * 31 + 892 ^ (a >>> 11);
+        a = a * 31 + 893 ^ (a >>> 12);
+        a = a * 31 + 894 ^ (a >>> 13);
+        a = a * 31 + 895 ^ (a >>> 14);
+        a = a * 31 + 896 ^ (a >>> 15);
+        a = a * 31 + 897 ^ (a >>> 16);
+        a = a * 31 + 898 ^ (a >>> 17);
+        a = a * 31 + 899 ^ (a >>> 18);
+        a = a * 31 + 900 ^ (a >>> 19);
+        a = a * 31 + 901 ^ (a >>> 20);
+        a = a * 31 + 902 ^ (a >>> 21);
+        a = a * 31 + 903 ^ (a >>> 22);
+        a = a * 31 + 904 ^ (a >>> 23);
+        a = a * 31 + 905 ^ (a >>> 24);
+        a = a * 31 + 906 ^ (a >>> 25);
+        a = a * 31 + 907 ^ (a >>> 26);
+        a = a * 31 + 908 ^ (a >>> 27);
+        a = a * 31 + 909 ^ (a >>> 28);
+        a = a * 31 + 910 ^ (a >>> 29);
+        a = a * 31 + 911 ^ (a >>> 30);
+        a = a * 31 + 912 ^ (a >>> 31);
+        a = a * 31 + 913 ^ (a >>> 32);
+        a = a * 31 + 914 ^ (a >>> 33);
+        a = a * 31 + 915 ^ (a >>> 34);
+        a = a * 31 + 916 ^ (a >>> 35);
+        a = a * 31 + 917 ^ (a >>> 36);
+        a = a * 31 + 918 ^ (a >>> 37);
+        a = a * 31 + 919 ^ (a >>> 38);
+        a = a * 31 + 920 ^ (a >>> 39);
+        a = a * 31 + 921 ^ (a >>> 40);
+        a = a * 31 + 922 ^ (a >>> 41);
+        a = a * 31 + 923 ^ (a >>> 42);
+        a = a * 31 + 924 ^ (a >>> 43);
+        a = a * 31 + 925 ^ (a >>> 44);
+        a = a * 31 + 926 ^ (a >>> 45);
+        a = a * 31 + 927 ^ (a >>> 46);
+        a = a * 31 + 928 ^ (a >>> 47);
+        a = a * 31 + 929 ^ (a >>> 48);
+        a = a * 31 + 930 ^ (a >>> 49);
+        a = a * 31 + 931 ^ (a >>> 50);
+        a = a * 31 + 932 ^ (a >>> 51);
+        a = a * 31 + 933 ^ (a >>> 52);
+        a = a * 31 + 934 ^ (a >>> 53);
+        a = a * 31 + 935 ^ (a >>> 54);
+        a = a * 31 + 936 ^ (a >>> 55);
+        a = a * 31 + 937 ^ (a >>> 56);
+        a = a * 31 + 938 ^ (a >>> 57);
+        a = a * 31 + 939 ^ (a >>> 58);
+        a = a * 31 + 940 ^ (a >>> 59);
+        a = a * 31 + 941 ^ (a >>> 60);
+        a = a * 31 + 942 ^ (a >>> 61);
+        a = a * 31 + 943 ^ (a >>> 62);
+        a = a * 31 + 944 ^ (a >>> 63);
+        a = a * 31 + 945 ^ (a >>> 1);
+        a = a * 31 + 946 ^ (a >>> 2);
+        a = a * 31 + 947 ^ (a >>> 3);
+        a = a * 31 + 948 ^ (a >>> 4);
+        a = a * 31 + 949 ^ (a >>> 5);
+        a = a * 31 + 950 ^ (a >>> 6);
+        a = a * 31 + 951 ^ (a >>> 7);
+        a = a * 31 + 952 ^ (a >>> 8);
+        a = a * 31 + 953 ^ (a >>> 9);
+        a = a * 31 + 954 ^ (a >>> 10);
+        a = a * 31 + 955 ^ (a >>> 11);
+        a = a * 31 + 956 ^ (a >>> 12);
+        a = a * 31 + 957 ^ (a >>> 13);
+        a = a * 31 + 958 ^ (a >>> 14);
+        a = a * 31 + 959 ^ (a >>> 15);
+        a = a * 31 + 960 ^ (a >>> 16);
+        a = a * 31 + 961 ^ (a >>> 17);
+        a = a * 31 + 962 ^ (a >>> 18);
+        a = a * 31 + 963 ^ (a >>> 19);
+        a = a * 31 + 964 ^ (a >>> 20);
+        a = a * 31 + 965 ^ (a >>> 21);
+        a = a * 31 + 966 ^ (a >>> 22);
+        a = a * 31 + 967 ^ (a >>> 23);
+        a = a * 31 + 968 ^ (a >>> 24);
+        a = a * 31 + 969 ^ (a >>> 25);
+        a = a * 31 + 970 ^ (a >>> 26);
+        a = a * 31 + 971 ^ (a >>> 27);
+        a = a * 31 + 972 ^ (a >>> 28);
+        a = a * 31 + 973 ^ (a >>> 29);
+        a = a * 31 + 974 ^ (a >>> 30);
+        a = a * 31 + 975 ^ (a >>> 31);
+        a = a * 31 + 976 ^ (a >>> 32);
+        a = a * 31 + 977 ^ (a >>> 33);
+        a = a * 31 + 978 ^ (a >>> 34);
+        a = a * 31 + 979 ^ (a >>> 35);
+        a = a * 31 + 980 ^ (a >>> 36);
+        a = a * 31 + 981 ^ (a >>> 37);
+        a = a * 31 + 982 ^ (a >>> 38);
+        a = a * 31 + 983 ^ (a >>> 39);
+        a = a * 31 + 984 ^ (a >>> 40);
+        a = a * 31 + 985 ^ (a >>> 41);
+        a = a * 31 + 986 ^ (a >>> 42);
+        a = a * 31 + 987 ^ (a >>> 43);
+        a = a * 31 + 988 ^ (a >>> 44);
+        a = a * 31 + 989 ^ (a >>> 45);
+        a = a * 31 + 990 ^ (a >>> 46);
+        a = a * 31 + 991 ^ (a >>> 47);
+        a = a * 31 + 992 ^ (a >>> 48);
+        a = a * 31 + 993 ^ (a >>> 49);
+        a = a * 31 + 994 ^ (a >>> 50);
+        a = a * 31 + 995 ^ (a >>> 51);
+        a = a * 31 + 996 ^ (a >>> 52);
+        a = a * 31 + 997 ^ (a >>> 53);
+        a = a * 31 + 998 ^ (a >>> 54);
+        a = a * 31 + 999 ^ (a >>> 55);
+        a = a * 31 + 1000 ^ (a >>> 56);
+        a = a * 31 + 1001 ^ (a >>> 57);
+        a = a * 31 + 1002 ^ (a >>> 58);
+        a = a * 31 + 1003 ^ (a >>> 59);
+        a = a * 31 + 1004 ^ (a >>> 60);
+        a = a * 31 + 1005 ^ (a >>> 61);
+        a = a * 31 + 1006 ^ (a >>> 62);
+        a = a * 31 + 1007 ^ (a >>> 63);
+        a = a * 31 + 1008 ^ (a >>> 1);
+        a = a * 31 + 1009 ^ (a >>> 2);
+        a = a * 31 + 1010 ^ (a >>> 3);
+        a = a * 31 + 1011 ^ (a >>> 4);
+        a = a * 31 + 1012 ^ (a >>> 5);
+        a = a * 31 + 1013 ^ (a >>> 6);
+        a = a * 31 + 1014 ^ (a >>> 7);
+        a = a * 31 + 1015 ^ (a >>> 8);
+        a = a * 31 + 1016 ^ (a >>> 9);
+        a = a * 31 + 1017 ^ (a >>> 10);
+        a = a * 31 + 1018 ^ (a >>> 11);
+        a = a * 31 + 1019 ^ (a >>> 12);
+        a = a * 31 + 1020 ^ (a >>> 13);
+        a = a * 31 + 1021 ^ (a >>> 14);
+        a = a * 31 + 1022 ^ (a >>> 15);
+        a = a * 31 + 1023 ^ (a >>> 16);
+        a = a * 31 + 1024 ^ (a >>> 17);
+        a = a * 31 + 1025 ^ (a >>> 18);
+        a = a * 31 + 1026 ^ (a >>> 19);
+        a = a * 31 + 1027 ^ (a >>> 20);
+        a = a * 31 + 1028 ^ (a >>> 21);
+        a = a * 31 + 1029 ^ (a >>> 22);
+        a = a * 31 + 1030 ^ (a >>> 23);
+        a = a * 31 + 1031 ^ (a >>> 24);
+        a = a * 31 + 1032 ^ (a >>> 25);
+        a = a * 31 + 1033 ^ (a >>> 26);
+        a = a * 31 + 1034 ^ (a >>> 27);
+        a = a * 31 + 1035 ^ (a >>> 28);
+        a = a * 31 + 1036 ^ (a >>> 29);
+        a = a * 31 + 1037 ^ (a >>> 30);
+        a = a * 31 + 1038 ^ (a >>> 31);
+        a = a * 31 + 1039 ^ (a >>> 32);
+        a = a * 31 + 1040 ^ (a >>> 33);
+        a = a * 31 + 1041 ^ (a >>> 34);
+        a = a * 31 + 1042 ^ (a >>> 35);
+        a = a * 31 + 1043 ^ (a >>> 36);
+        a = a * 31 + 1044 ^ (a >>> 37);
+        a = a * 31 + 1045 ^ (a >>> 38);
+        a = a * 31 + 1046 ^ (a >>> 39);
+        a = a * 31 + 1047 ^ (a >>> 40);
+        a = a * 31 + 1048 ^ (a >>> 41);
+        a = a * 31 + 1049 ^ (a >>> 42);
+        a = a * 31 + 1050 ^ (a >>> 43);
+        a = a * 31 + 1051 ^ (a >>> 44);
+        a = a * 31 + 1052 ^ (a >>> 45);
+        a = a * 31 + 1053 ^ (a >>> 46);
+        a = a * 31 + 1054 ^ (a >>> 47);
+        a = a * 31 + 1055 ^ (a >>> 48);
+        a = a * 31 + 1056 ^ (a >>> 49);
+        a = a * 31 + 1057 ^ (a >>> 50);
+        a = a * 31 + 1058 ^ (a >>> 51);
+        a = a * 31 + 1059 ^ (a >>> 52);
+        a = a * 31 + 1060 ^ (a >>> 53);
+        a = a * 31 + 1061 ^ (a >>> 54);
+        a = a * 31 + 1062 ^ (a >>> 55);
+        a = a * 31 + 1063 ^ (a >>> 56);
+        a = a * 31 + 1064 ^ (a >>> 57);
+        a = a * 31 + 1065 ^ (a >>> 58);
+        a = a * 31 + 1066 ^ (a >>> 59);
+        a = a * 31 + 1067 ^ (a >>> 60);
+        a = a * 31 + 1068 ^ (a >>> 61);
+        a = a * 31 + 1069 ^ (a >>> 62);
+        a = a * 31 + 1070 ^ (a >>> 63);
+        a = a * 31 + 1071 ^ (a >>> 1);
+        a = a * 31 + 1072 ^ (a >>> 2);
+        a = a * 31 + 1073 ^ (a >>> 3);
+        a = a * 31 + 1074 ^ (a >>> 4);
+        a = a * 31 + 1075 ^ (a >>> 5);
+        a = a * 31 + 1076 ^ (a >>> 6);
+        a = a * 31 + 1077 ^ (a >>> 7);
+        a = a * 31 + 1078 ^ (a >>> 8);
+        a = a * 31 + 1079 ^ (a >>> 9);
+        a = a * 31 + 1080 ^ (a >>> 10);
+        a = a * 31 + 1081 ^ (a >>> 11);
+        a = a * 31 + 1082 ^ (a >>> 12);
+        a = a * 31 + 1083 ^ (a >>> 13);
+        a = a * 31 + 1084 ^ (a >>> 14);
+        a = a * 31 + 1085 ^ (a >>> 15);
+        a = a * 31 + 1086 ^ (a >>> 16);
+        a = a * 31 + 1087 ^ (a >>> 17);
+        a = a * 31 + 1088 ^ (a >>> 18);
+        a = a * 31 + 1089 ^ (a >>> 19);
+        a = a * 31 + 1090 ^ (a >>> 20);
+        a = a * 31 + 1091 ^ (a >>> 21);
+        a = a * 31 + 1092 ^ (a >>> 22);
+        a = a * 31 + 1093 ^ (a >>> 23);
+        a = a * 31 + 1094 ^ (a >>> 24);
+        a = a * 31 + 1095 ^ (a >>> 25);
+        a = a * 31 + 1096 ^ (a >>> 26);
+        a = a * 31 + 1097 ^ (a >>> 27);
+        a = a * 31 + 1098 ^ (a >>> 28);
+        a = a * 31 + 1099 ^ (a >>> 29);
+        a = a * 31 + 1100 ^ (a >>> 30);
+        a = a * 31 + 1101 ^ (a >>> 31);
+        a = a * 31 + 1102 ^ (a >>> 32);
+        a = a * 31 + 1103 ^ (a >>> 33);
+        a = a * 31 + 1104 ^ (a >>> 34);
+        a = a * 31 + 1105 ^ (a >>> 35);
+        a = a * 31 + 1106 ^ (a >>> 36);
+        a = a * 31 + 1107 ^ (a >>> 37);
+        a = a * 31 + 1108 ^ (a >>> 38);
+        a = a * 31 + 1109 ^ (a >>> 39);
+        a = a * 31 + 1110 ^ (a >>> 40);
+        a = a * 31 + 1111 ^ (a >>> 41);
+        a = a * 31 + 1112 ^ (a >>> 42);
+        a = a * 31 + 1113 ^ (a >>> 43);
+        a = a * 31 + 1114 ^ (a >>> 44);
+        a = a * 31 + 1115 ^ (a >>> 45);
+        a = a * 31 + 1116 ^ (a >>> 46);
+        a = a * 31 + 1117 ^ (a >>> 47);
+        a = a * 31 + 1118 ^ (a >>> 48);
+        a = a * 31 + 1119 ^ (a >>> 49);
+        a = a * 31 + 1120 ^ (a >>> 50);
+        a = a * 31 + 1121 ^ (a >>> 51);
+        a = a * 31 + 1122 ^ (a >>> 52);
+        a = a * 31 + 1123 ^ (a >>> 53);
+        a = a * 31 + 1124 ^ (a >>> 54);
+        a = a * 31 + 1125 ^ (a >>> 55);
+        a = a * 31 + 1126 ^ (a >>> 56);
+        a = a * 31 + 1127 ^ (a >>> 57);
+        a = a * 31 + 1128 ^ (a >>> 58);
+        a = a * 31 + 1129 ^ (a >>> 59);
+        a = a * 31 + 1130 ^ (a >>> 60);
+        a = a * 31 + 1131 ^ (a >>> 61);
+        a = a * 31 + 1132 ^ (a >>> 62);
+        a = a * 31 + 1133 ^ (a >>> 63);
+        a = a * 31 + 1134 ^ (a >>> 1);
+        a = a * 31 + 1135 ^ (a >>> 2);
+        a = a * 31 + 1136 ^ (a >>> 3);
+        a = a * 31 + 1137 ^ (a >>> 4);
+        a = a * 31 + 1138 ^ (a >>> 5);
+        a = a * 31 + 1139 ^ (a >>> 6);
+        a = a * 31 + 1140 ^ (a >>> 7);
+        a = a * 31 + 1141 ^ (a >>> 8);
+        a = a * 31 + 1142 ^ (a >>> 9);
+        a = a * 31 + 1143 ^ (a >>> 10);
+        a = a * 31 + 1144 ^ (a >>> 11);
+        a = a * 31 + 1145 ^ (a >>> 12);
+        a = a * 31 + 1146 ^ (a >>> 13);
+        a = a * 31 + 1147 ^ (a >>> 14);
+        a = a * 31 + 1148 ^ (a >>> 15);
+        a = a * 31 + 1149 ^ (a >>> 16);
+        a = a * 31 + 1150 ^ (a >>> 17);
+        a = a * 31 + 1151 ^ (a >>> 18);
+        a = a * 31 + 1152 ^ (a >>> 19);
+        a = a * 31 + 1153 ^ (a >>> 20);
+        a = a * 31 + 1154 ^ (a >>> 21);
+        a = a * 31 + 1155 ^ (a >>> 22);
+        a = a * 31 + 1156 ^ (a >>> 23);
+        a = a * 31 + 1157 ^ (a >>> 24);
+        a = a * 31 + 1158 ^ (a >>> 25);
+        a = a * 31 + 1159 ^ (a >>> 26);
+        a = a * 31 + 1160 ^ (a >>> 27);
+        a = a * 31 + 1161 ^ (a >>> 28);
+        a = a * 31 + 1162 ^ (a >>> 29);
+        a = a * 31 + 1163 ^ (a >>> 30);
+        a = a * 31 + 1164 ^ (a >>> 31);
+        a = a * 31 + 1165 ^ (a >>> 32);
+        a = a * 31 + 1166 ^ (a >>> 33);
+        a = a * 31 + 1167 ^ (a >>> 34);
+        a = a * 31 + 1168 ^ (a >>> 35);
+        a = a * 31 + 1169 ^ (a >>> 36);
+        a = a * 31 + 1170 ^ (a >>> 37);
+        a = a * 31 + 1171 ^ (a >>> 38);
+        a = a * 31 + 1172 ^ (a >>> 39);
+        a = a * 31 + 1173 ^ (a >>> 40);
+        a = a * 31 + 1174 ^ (a >>> 41);
+        a = a * 31 + 1175 ^ (a >>> 42);
+        a = a * 31 + 1176 ^ (a >>> 43);
+        a = a * 31 + 1177 ^ (a >>> 44);
+        a = a * 31 + 1178 ^ (a >>> 45);
+        a = a * 31 + 1179 ^ (a >>> 46);
+        a = a * 31 + 1180 ^ (a >>> 47);
+        a = a * 31 + 1181 ^ (a >>> 48);
+        a = a * 31 + 1182 ^ (a >>> 49);
+        a = a * 31 + 1183 ^ (a >>> 50);
+        a = a * 31 + 1184 ^ (a >>> 51);
+        a = a * 31 + 1185 ^ (a >>> 52);
+        a = a * 31 + 1186 ^ (a >>> 53);
+        a = a * 31 + 1187 ^ (a >>> 54);
+        a = a * 31 + 1188 ^ (a >>> 55);
+        a = a * 31 + 1189 ^ (a >>> 56);
+        a = a * 31 + 1190 ^ (a >>> 57);
+        a = a * 31 + 1191 ^ (a >>> 58);
+        a = a * 31 + 1192 ^ (a >>> 59);
+        a = a * 31 + 1193 ^ (a >>> 60);
+        a = a * 31 + 1194 ^ (a >>> 61);
+        a = a * 31 + 1195 ^ (a >>> 62);
+        a = a * 31 + 1196 ^ (a >>> 63);
+        a = a * 31 + 1197 ^ (a >>> 1);
+        a = a * 31 + 1198 ^ (a >>> 2);
+        a = a * 31 + 1199 ^ (a >>> 3);
+        a = a * 31 + 1200 ^ (a >>> 4);
+        a = a * 31 + 1201 ^ (a >>> 5);
+        a = a * 31 + 1202 ^ (a >>> 6);
+        a = a * 31 + 1203 ^ (a >>> 7);
+        a = a * 31 + 1204 ^ (a >>> 8);
+        a = a * 31 + 1205 ^ (a >>> 9);
+        a = a * 31 + 1206 ^ (a >>> 10);
+        a = a * 31 + 1207 ^ (a >>> 11);
+        a = a * 31 + 1208 ^ (a >>> 12);
+        a = a * 31 + 1209 ^ (a >>> 13);
+        a = a * 31 + 1210 ^ (a >>> 14);
+        a = a * 31 + 1211 ^ (a >>> 15);
+        a = a * 31 + 1212 ^ (a >>> 16);
+        a = a * 31 + 1213 ^ (a >>> 17);
+        a = a * 31 + 1214 ^ (a >>> 18);
+        a = a * 31 + 1215 ^ (a >>> 19);
+        a = a * 31 + 1216 ^ (a >>> 20);
+        a = a * 31 + 1217 ^ (a >>> 21);
+        a = a * 31 + 1218 ^ (a >>> 22);
+        a = a * 31 + 1219 ^ (a >>> 23);
+        a = a * 31 + 1220 ^ (a >>> 24);
+        a = a * 31 + 1221 ^ (a >>> 25);
+        a = a * 31 + 1222 ^ (a >>> 26);
+        a = a * 31 + 1223 ^ (a >>> 27);
+        a = a * 31 + 1224 ^ (a >>> 28);
+        a = a * 31 + 1225 ^ (a >>> 29);
+        a = a * 31 + 1226 ^ (a >>> 30);
+        a = a * 31 + 1227 ^ (a >>> 31);
+        a = a * 31 + 1228 ^ (a >>> 32);
+        a = a * 31 + 1229 ^ (a >>> 33);
+        a = a * 31 + 1230 ^ (a >>> 34);
+        a = a * 31 + 1231 ^ (a >>> 35);
+        a = a * 31 + 1232 ^ (a >>> 36);
+        a = a * 31 + 1233 ^ (a >>> 37);
+        a = a * 31 + 1234 ^ (a >>> 38);
+        a = a * 31 + 1235 ^ (a >>> 39);
+        a = a * 31 + 1236 ^ (a >>> 40);
+        a = a * 31 + 1237 ^ (a >>> 41);
+        a = a * 31 + 1238 ^ (a >>> 42);
+        a = a * 31 + 1239 ^ (a >>> 43);
+        a = a * 31 + 1240 ^ (a >>> 44);
+        a = a * 31 + 1241 ^ (a >>> 45);
+        a = a * 31 + 1242 ^ (a >>> 46);
+        a = a * 31 + 1243 ^ (a >>> 47);
+        a = a * 31 + 1244 ^ (a >>> 48);
+        a = a * 31 + 1245 ^ (a >>> 49);
+        a = a * 31 + 1246 ^ (a >>> 50);
+        a = a * 31 + 1247 ^ (a >>> 51);
+        a = a * 31 + 1248 ^ (a >>> 52);
+        a = a * 31 + 1249 ^ (a >>> 53);
+        a = a * 31 + 1250 ^ (a >>> 54);
+        a = a * 31 + 1251 ^ (a >>> 55);
+        a = a * 31 + 1252 ^ (a >>> 56);
+        a = a * 31 + 1253 ^ (a >>> 57);
+        a = a * 31 + 1254 ^ (a >>> 58);
+        a = a * 31 + 1255 ^ (a >>> 59);
+        a = a * 31 + 1256 ^ (a >>> 60);
+        a = a * 31 + 1257 ^ (a >>> 61);
+        a = a * 31 + 1258 ^ (a >>> 62);
+        a = a * 31 + 1259 ^ (a >>> 63);
+        a = a * 31 + 1260 ^ (a >>> 1);
+        a = a * 31 + 1261 ^ (a >>> 2);
+        a = a * 31 + 1262 ^ (a >>> 3);
+        a = a * 31 + 1263 ^ (a >>> 4);
+        a = a * 31 + 1264 ^ (a >>> 5);
+        a = a * 31 + 1265 ^ (a >>> 6);
+        a = a * 31 + 1266 ^ (a >>> 7);
+        a = a * 31 + 1267 ^ (a >>> 8);
+        a = a * 31 + 1268 ^ (a >>> 9);
+        a = a * 31 + 1269 ^ (a >>> 10);
+        a = a * 31 + 1270 ^ (a >>> 11);
+        a = a * 31 + 1271 ^ (a >>> 12);
+        a = a * 31 + 1272 ^ (a >>> 13);
+        a = a * 31 + 1273 ^ (a >>> 14);
+        a = a * 31 + 1274 ^ (a >>> 15);
+        a = a * 31 + 1275 ^ (a >>> 16);
+        a = a * 31 + 1276 ^ (a >>> 17);
+        a = a * 31 + 1277 ^ (a >>> 18);
+        a = a * 31 + 1278 ^ (a >>> 19);
+        a = a * 31 + 1279 ^ (a >>> 20);
+        a = a * 31 + 1280 ^ (a >>> 21);
+        a = a * 31 + 1281 ^ (a >>> 22);
+        a = a * 31 + 1282 ^ (a >>> 23);
+        a = a * 31 + 1283 ^ (a >>> 24);
+        a = a * 31 + 1284 ^ (a >>> 25);
+        a = a * 31 + 1285 ^ (a >>> 26);
+        a = a * 31 + 1286 ^ (a >>> 27);
+        a = a * 31 + 1287 ^ (a >>> 28);
+        a = a * 31 + 1288 ^ (a >>> 29);
+        a = a * 31 + 1289 ^ (a >>> 30);
+        a = a * 31 + 1290 ^ (a >>> 31);
+        a = a * 31 + 1291 ^ (a >>> 32);
+        a = a * 31 + 1292 ^ (a >>> 33);
+        a = a * 31 + 1293 ^ (a >>> 34);
+        a = a * 31 + 1294 ^ (a >>> 35);
+        a = a * 31 + 1295 ^ (a >>> 36);
+        a = a * 31 + 1296 ^ (a >>> 37);
+        a = a * 31 + 1297 ^ (a >>> 38);
+        a = a * 31 + 1298 ^ (a >>> 39);
+        a = a * 31 + 1299 ^ (a >>> 40);
+        a = a * 31 + 1300 ^ (a >>> 41);
+        a = a * 31 + 1301 ^ (a >>> 42);
+        a = a * 31 + 1302 ^ (a >>> 43);
+        a = a * 31 + 1303 ^ (a >>> 44);
+        a = a * 31 + 1304 ^ (a >>> 45);
+        a = a * 31 + 1305 ^ (a >>> 46);
+        a = a * 31 + 1306 ^ (a >>> 47);
+        a = a * 31 + 1307 ^ (a >>> 48);
+        a = a * 31 + 1308 ^ (a >>> 49);
+        a = a * 31 + 1309 ^ (a >>> 50);
+        a = a * 31 + 1310 ^ (a >>> 51);
+        a = a * 31 + 1311 ^ (a >>> 52);
+        a = a * 31 + 1312 ^ (a >>> 53);
+        a = a * 31 + 1313 ^ (a >>> 54);
+        a = a * 31 + 1314 ^ (a >>> 55);
+        a = a * 31 + 1315 ^ (a >>> 56);
+        a = a * 31 + 1316 ^ (a >>> 57);
+        a = a * 31 + 1317 ^ (a >>> 58);
+        a = a * 31 + 1318 ^ (a >>> 59);
+        a = a * 31 + 1319 ^ (a >>> 60);
+        a = a * 31 + 1320 ^ (a >>> 61);
+        a = a * 31 + 1321 ^ (a >>> 62);
+        a = a * 31 + 1322 ^ (a >>> 63);
+        a = a * 31 + 1323 ^ (a >>> 1);
+        a = a * 31 + 1324 ^ (a >>> 2);
+        a = a * 31 + 1325 ^ (a >>> 3);
+        a = a * 31 + 1326 ^ (a >>> 4);
+        a = a * 31 + 1327 ^ (a >>> 5);
+        a = a * 31 + 1328 ^ (a >>> 6);
+        a = a * 31 + 1329 ^ (a >>> 7);
+        a = a * 31 + 1330 ^ (a >>> 8);
+        a = a * 31 + 1331 ^ (a >>> 9);
+        a = a * 31 + 1332 ^ (a >>> 10);
+        a = a * 31 + 1333 ^ (a >>> 11);
+        a = a * 31 + 1334 ^ (a >>> 12);
+        a = a * 31 + 1335 ^ (a >>> 13);
+        a = a * 31 + 1336 ^ (a >>> 14);
+        a = a * 31 + 1337 ^ (a >>> 15);
+        a = a * 31 + 1338 ^ (a >>> 16);
+        a = a * 31 + 1339 ^ (a >>> 17);
+        a = a * 31 + 1340 ^ (a >>> 18);
+        a = a * 31 + 1341 ^ (a >>> 19);
+        a = a * 31 + 1342 ^ (a >>> 20);
+        a = a * 31 + 1343 ^ (a >>> 21);
+        a = a * 31 + 1344 ^ (a >>> 22);
+        a = a * 31 + 1345 ^ (a >>> 23);
+        a = a * 31 + 1346 ^ (a >>> 24);
+        a = a * 31 + 1347 ^ (a >>> 25);
+        a = a * 31 + 1348 ^ (a >>> 26);
+        a = a * 31 + 1349 ^ (a >>> 27);
+        a = a * 31 + 1350 ^ (a >>> 28);
+        a = a * 31 + 1351 ^ (a >>> 29);
+        a = a * 31 + 1352 ^ (a >>> 30);
+        a = a * 31 + 1353 ^ (a >>> 31);
+        a = a * 31 + 1354 ^ (a >>> 32);
+        a = a * 31 + 1355 ^ (a >>> 33);
+        a = a * 31 + 1356 ^ (a >>> 34);
+        a = a * 31 + 1357 ^ (a >>> 35);
+        a = a * 31 + 1358 ^ (a >>> 36);
+        a = a * 31 + 1359 ^ (a >>> 37);
+        a = a * 31 + 1360 ^ (a >>> 38);
+        a = a * 31 + 1361 ^ (a >>> 39);
+        a = a * 31 + 1362 ^ (a >>> 40);
+        a = a * 31 + 1363 ^ (a >>> 41);
+        a = a * 31 + 1364 ^ (a >>> 42);
+        a = a * 31 + 1365 ^ (a >>> 43);
+        a = a * 31 + 1366 ^ (a >>> 44);
+        a = a * 31 + 1367 ^ (a >>> 45);
+        a = a * 31 + 1368 ^ (a >>> 46);
+        a = a * 31 + 1369 ^ (a >>> 47);
+        a = a * 31 + 1370 ^ (a >>> 48);
+        a = a * 31 + 1371 ^ (a >>> 49);
+        a = a * 31 + 1372 ^ (a >>> 50);
+        a = a * 31 + 1373 ^ (a >>> 51);
+        a = a * 31 + 1374 ^ (a >>> 52);
+        a = a * 31 + 1375 ^ (a >>> 53);
+        a = a * 31 + 1376 ^ (a >>> 54);
+        a = a * 31 + 1377 ^ (a >>> 55);
+        a = a * 31 + 1378 ^ (a >>> 56);
+        a = a * 31 + 1379 ^ (a >>> 57);
+        a = a * 31 + 1380 ^ (a >>> 58);
+        a = a * 31 + 1381 ^ (a >>> 59);
+        a = a * 31 + 1382 ^ (a >>> 60);
+        a = a * 31 + 1383 ^ (a >>> 61);
+        a = a * 31 + 1384 ^ (a >>> 62);
+        a = a * 31 + 1385 ^ (a >>> 63);
+        a = a * 31 + 1386 ^ (a >>> 1);
+        a = a * 31 + 1387 ^ (a >>> 2);
+        a = a * 31 + 1388 ^ (a >>> 3);
+        a = a * 31 + 1389 ^ (a >>> 4);
+        a = a * 31 + 1390 ^ (a >>> 5);
+        a = a * 31 + 1391 ^ (a >>> 6);
+        a = a * 31 + 1392 ^ (a >>> 7);
+        a = a * 31 + 1393 ^ (a >>> 8);
+        a = a * 31 + 1394 ^ (a >>> 9);
+        a = a * 31 + 1395 ^ (a >>> 10);
+        a = a * 31 + 1396 ^ (a >>> 11);
+        a = a * 31 + 1397 ^ (a >>> 12);
+        a = a * 31 + 1398 ^ (a >>> 13);
+        a = a * 31 + 1399 ^ (a >>> 14);
+        a = a * 31 + 1400 ^ (a >>> 15);
+        a = a * 31 + 1401 ^ (a >>> 16);
+        a = a * 31 + 1402 ^ (a >>> 17);
+        a = a * 31 + 1403 ^ (a >>> 18);
+        a = a * 31 + 1404 ^ (a >>> 19);
+        a = a * 31 + 1405 ^ (a >>> 20);
+        a = a * 31 + 1406 ^ (a >>> 21);
+        a = a * 31 + 1407 ^ (a >>> 22);
+        a = a * 31 + 1408 ^ (a >>> 23);
+        a = a * 31 + 1409 ^ (a >>> 24);
+        a = a * 31 + 1410 ^ (a >>> 25);
+        a = a * 31 + 1411 ^ (a >>> 26);
+        a = a * 31 + 1412 ^ (a >>> 27);
+        a = a * 31 + 1413 ^ (a >>> 28);
+        a = a * 31 + 1414 ^ (a >>> 29);
+        a = a * 31 + 1415 ^ (a >>> 30);
+        a = a * 31 + 1416 ^ (a >>> 31);
+        a = a * 31 + 1417 ^ (a >>> 32);
+        a = a * 31 + 1418 ^ (a >>> 33);
+        a = a * 31 + 1419 ^ (a >>> 34);
+        a = a * 31 + 1420 ^ (a >>> 35);
+        a = a * 31 + 1421 ^ (a >>> 36);
+        a = a * 31 + 1422 ^ (a >>> 37);
+        a = a * 31 + 1423 ^ (a >>> 38);
+        a = a * 31 + 1424 ^ (a >>> 39);
+        a = a * 31 + 1425 ^ (a >>> 40);
+        a = a * 31 + 1426 ^ (a >>> 41);
+        a = a * 31 + 1427 ^ (a >>> 42);
+        a = a * 31 + 1428 ^ (a >>> 43);
+        a = a * 31 + 1429 ^ (a >>> 44);
+        a = a * 31 + 1430 ^ (a >>> 45);
+        a = a * 31 + 1431 ^ (a >>> 46);
+        a = a * 31 + 1432 ^ (a >>> 47);
+        a = a * 31 + 1433 ^ (a >>> 48);
+        a = a * 31 + 1434 ^ (a >>> 49);
+        a = a * 31 + 1435 ^ (a >>> 50);
+        a = a * 31 + 1436 ^ (a >>> 51);
+        a = a * 31 + 1437 ^ (a >>> 52);
+        a = a * 31 + 1438 ^ (a >>> 53);
+        a = a * 31 + 1439 ^ (a >>> 54);
+        a = a * 31 + 1440 ^ (a >>> 55);
+        a = a * 31 + 1441 ^ (a >>> 56);
+        a = a * 31 + 1442 ^ (a >>> 57);
+        a = a * 31 + 1443 ^ (a >>> 58);
+        a = a * 31 + 1444 ^ (a >>> 59);
+        a = a * 31 + 1445 ^ (a >>> 60);
+        a = a * 31 + 1446 ^ (a >>> 61);
+        a = a * 31 + 1447 ^ (a >>> 62);
+        a = a * 31 + 1448 ^ (a >>> 63);
+        a = a * 31 + 1449 ^ (a >>> 1);
+        a = a * 31 + 1450 ^ (a >>> 2);
+        a = a * 31 + 1451 ^ (a >>> 3);
+        a = a * 31 + 1452 ^ (a >>> 4);
+        a = a * 31 + 1453 ^ (a >>> 5);
+        a = a * 31 + 1454 ^ (a >>> 6);
+        a = a * 31 + 1455 ^ (a >>> 7);
+        a = a * 31 + 1456 ^ (a >>> 8);
+        a = a * 31 + 1457 ^ (a >>> 9);
+        a = a * 31 + 1458 ^ (a >>> 10);
+        a = a * 31 + 1459 ^ (a >>> 11);
+        a = a * 31 + 1460 ^ (a >>> 12);
+        a = a * 31 + 1461 ^ (a >>> 13);
+        a = a * 31 + 1462 ^ (a >>> 14);
+        a = a * 31 + 1463 ^ (a >>> 15);
+        a = a * 31 + 1464 ^ (a >>> 16);
+        a = a * 31 + 1465 ^ (a >>> 17);
+        a = a * 31 + 1466 ^ (a >>> 18);
+        a = a * 31 + 1467 ^ (a >>> 19);
+        a = a * 31 + 1468 ^ (a >>> 20);
+        a = a * 31 + 1469 ^ (a >>> 21);
+        a = a * 31 + 1470 ^ (a >>> 22);
+        a = a * 31 + 1471 ^ (a >>> 23);
+        a = a * 31 + 1472 ^ (a >>> 24);
+        a = a * 31 + 1473 ^ (a >>> 25);
+        a = a * 31 + 1474 ^ (a >>> 26);
+        a = a * 31 + 1475 ^ (a >>> 27);
+        a = a * 31 + 1476 ^ (a >>> 28);
+        a = a * 31 + 1477 ^ (a >>> 29);
+        a = a * 31 + 1478 ^ (a >>> 30);
+        a = a * 31 + 1479 ^ (a >>> 31);
+        a = a * 31 + 1480 ^ (a >>> 32);
+        a = a * 31 + 1481 ^ (a >>> 33);
+        a = a * 31 + 1482 ^ (a >>> 34);
+        a = a * 31 + 1483 ^ (a >>> 35);
+        a = a * 31 + 1484 ^ (a >>> 36);
+        a = a * 31 + 1485 ^ (a >>> 37);
+        a = a * 31 + 1486 ^ (a >>> 38);
+        a = a * 31 + 1487 ^ (a >>> 39);
+        a = a * 31 + 1488 ^ (a >>> 40);
+        a = a * 31 + 1489 ^ (a >>> 41);
+        a = a * 31 + 1490 ^ (a >>> 42);
+        a = a * 31 + 1491 ^ (a >>> 43);
+        a = a * 31 + 1492 ^ (a >>> 44);
+        a = a * 31 + 1493 ^ (a >>> 45);
+        a = a * 31 + 1494 ^ (a >>> 46);
+        a = a * 31 + 1495 ^ (a >>> 47);
+        a = a * 31 + 1496 ^ (a >>> 48);
+        a = a * 31 + 1497 ^ (a >>> 49);
+        a = a * 31 + 1498 ^ (a >>> 50);
+        a = a * 31 + 1499 ^ (a >>> 51);
+        a = a * 31 + 1500 ^ (a >>> 52);
+        a = a * 31 + 1501 ^ (a >>> 53);
+        a = a * 31 + 1502 ^ (a >>> 54);
+        a = a * 31 + 1503 ^ (a >>> 55);
+        a = a * 31 + 1504 ^ (a >>> 56);
+        a = a * 31 + 1505 ^ (a >>> 57);
+        a = a * 31 + 1506 ^ (a >>> 58);
+        a = a * 31 + 1507 ^ (a >>> 59);
+        a = a * 31 + 1508 ^ (a >>> 60);
+        a = a * 31 + 1509 ^ (a >>> 61);
+        a = a * 31 + 1510 ^ (a >>> 62);
+        a = a * 31 + 1511 ^ (a >>> 63);
+        a = a * 31 + 1512 ^ (a >>> 1);
+        a = a * 31 + 1513 ^ (a >>> 2);
+        a = a * 31 + 1514 ^ (a >>> 3);
+        a = a * 31 + 1515 ^ (a >>> 4);
+        a = a * 31 + 1516 ^ (a >>> 5);
+        a = a * 31 + 1517 ^ (a >>> 6);
+        a = a * 31 + 1518 ^ (a >>> 7);
+        a = a * 31 + 1519 ^ (a >>> 8);
+        a = a * 31 + 1520 ^ (a >>> 9);
+        a = a * 31 + 1521 ^ (a >>> 10);
+        a = a * 31 + 1522 ^ (a >>> 11);
+        a = a * 31 + 1523 ^ (a >>> 12);
+        a = a * 31 + 1524 ^ (a >>> 13);
+        a = a * 31 + 1525 ^ (a >>> 14);
+        a = a * 31 + 1526 ^ (a >>> 15);
+        a = a * 31 + 1527 ^ (a >>> 16);
+        a = a * 31 + 1528 ^ (a >>> 17);
+        a = a * 31 + 1529 ^ (a >>> 18);
+        a = a * 31 + 1530 ^ (a >>> 19);
+        a = a * 31 + 1531 ^ (a >>> 20);
+        a = a * 31 + 1532 ^ (a >>> 21);
+        a = a * 31 + 1533 ^ (a >>> 22);
+        a = a * 31 + 1534 ^ (a >>> 23);
+        a = a * 31 + 1535 ^ (a >>> 24);
+        a = a * 31 + 1536 ^ (a >>> 25);
+        a = a * 31 + 1537 ^ (a >>> 26);
+        a = a * 31 + 1538 ^ (a >>> 27);
+        a = a * 31 + 1539 ^ (a >>> 28);
+        a = a * 31 + 1540 ^ (a >>> 29);
+        a = a * 31 + 1541 ^ (a >>> 30);
+        a = a * 31 + 1542 ^ (a >>> 31);
+        a = a * 31 + 1543 ^ (a >>> 32);
+        a = a * 31 + 1544 ^ (a >>> 33);
+        a = a * 31 + 1545 ^ (a >>> 34);
+        a = a * 31 + 1546 ^ (a >>> 35);
+        a = a * 31 + 1547 ^ (a >>> 36);
+        a = a * 31 + 1548 ^ (a >>> 37);
+        a = a * 31 + 1549 ^ (a >>> 38);
+        a = a * 31 + 1550 ^ (a >>> 39);
+        a = a * 31 + 1551 ^ (a >>> 40);
+        a = a * 31 + 1552 ^ (a >>> 41);
+        a = a * 31 + 1553 ^ (a >>> 42);
+        a = a * 31 + 1554 ^ (a >>> 43);
+        a = a * 31 + 1555 ^ (a >>> 44);
+        a = a * 31 + 1556 ^ (a >>> 45);
+        a = a * 31 + 1557 ^ (a >>> 46);
+        a = a * 31 + 1558 ^ (a >>> 47);
+        a = a * 31 + 1559 ^ (a >>> 48);
+        a = a * 31 + 1560 ^ (a >>> 49);
+        a = a * 31 + 1561 ^ (a >>> 50);
+        a = a * 31 + 1562 ^ (a >>> 51);
+        a = a * 31 + 1563 ^ (a >>> 52);
+        a = a * 31 + 1564 ^ (a >>> 53);
+        a = a * 31 + 1565 ^ (a >>> 54);
+        a = a * 31 + 1566 ^ (a >>> 55);
+        a = a * 31 + 1567 ^ (a >>> 56);
+        a = a * 31 + 1568 ^ (a >>> 57);
+        a = a * 31 + 1569 ^ (a >>> 58);
+        a = a * 31 + 1570 ^ (a >>> 59);
+        a = a * 31 + 1571 ^ (a >>> 60);
+        a = a * 31 + 1572 ^ (a >>> 61);
+        a = a * 31 + 1573 ^ (a >>> 62);
+        a = a * 31 + 1574 ^ (a >>> 63);
+        a = a * 31 + 1575 ^ (a >>> 1);
+        a = a * 31 + 1576 ^ (a >>> 2);
+        a = a * 31 + 1577 ^ (a >>> 3);
+        a = a * 31 + 1578 ^ (a >>> 4);
+        a = a * 31 + 1579 ^ (a >>> 5);
+        a = a * 31 + 1580 ^ (a >>> 6);
+        a = a * 31 + 1581 ^ (a >>> 7);
+        a = a * 31 + 1582 ^ (a >>> 8);
+        a = a * 31 + 1583 ^ (a >>> 9);
+        a = a * 31 + 1584 ^ (a >>> 10);
+        a = a * 31 + 1585 ^ (a >>> 11);
+        a = a * 31 + 1586 ^ (a >>> 12);
+        a = a * 31 + 1587 ^ (a >>> 13);
+        a = a * 31 + 1588 ^ (a >>> 14);
+        a = a * 31 + 1589 ^ (a >>> 15);
+        a = a * 31 + 1590 ^ (a >>> 16);
+        a = a * 31 + 1591 ^ (a >>> 17);
+        a = a * 31 + 1592 ^ (a >>> 18);
+        a = a * 31 + 1593 ^ (a >>> 19);
+        a = a * 31 + 1594 ^ (a >>> 20);
+        a = a * 31 + 1595 ^ (a >>> 21);
+        a = a * 31 + 1596 ^ (a >>> 22);
+        a = a * 31 + 1597 ^ (a >>> 23);
+        a = a * 31 + 1598 ^ (a >>> 24);
+        a = a * 31 + 1599 ^ (a >>> 25);
+        a = a * 31 + 1600 ^ (a >>> 26);
+        a = a * 31 + 1601 ^ (a >>> 27);
+        a = a * 31 + 1602 ^ (a >>> 28);
+        a = a * 31 + 1603 ^ (a >>> 29);
+        a = a * 31 + 1604 ^ (a >>> 30);
+        a = a * 31 + 1605 ^ (a >>> 31);
+        a = a * 31 + 1606 ^ (a >>> 32);
+        a = a * 31 + 1607 ^ (a >>> 33);
+        a = a * 31 + 1608 ^ (a >>> 34);
+        a = a * 31 + 1609 ^ (a >>> 35);
+        a = a * 31 + 1610 ^ (a >>> 36);
+        a = a * 31 + 1611 ^ (a >>> 37);
+        a = a * 31 + 1612 ^ (a >>> 38);
+        a = a * 31 + 1613 ^ (a >>> 39);
+        a = a * 31 + 1614 ^ (a >>> 40);
+        a = a * 31 + 1615 ^ (a >>> 41);
+        a = a * 31 + 1616 ^ (a >>> 42);
+        a = a * 31 + 1617 ^ (a >>> 43);
+        a = a * 31 + 1618 ^ (a >>> 44);
+        a = a * 31 + 1619 ^ (a >>> 45);
+        a = a * 31 + 1620 ^ (a >>> 46);
+        a = a * 31 + 1621 ^ (a >>> 47);
+        a = a * 31 + 1622 ^ (a >>> 48);
+        a = a * 31 + 1623 ^ (a >>> 49);
+        a = a * 31 + 1624 ^ (a >>> 50);
+        a = a * 31 + 1625 ^ (a >>> 51);
+        a = a * 31 + 1626 ^ (a >>> 52);
+        a = a * 31 + 1627 ^ (a >>> 53);
+        a = a * 31 + 1628 ^ (a >>> 54);
+        a = a * 31 + 1629 ^ (a >>> 55);
+        a = a * 31 + 1630 ^ (a >>> 56);
+        a = a * 31 + 1631 ^ (a >>> 57);
+        a = a * 31 + 1632 ^ (a >>> 58);
+        a = a * 31 + 1633 ^ (a >>> 59);
+        a = a * 31 + 1634 ^ (a >>> 60);
+        a = a * 31 + 1635 ^ (a >>> 61);
+        a = a * 31 + 1636 ^ (a >>> 62);
+        a = a * 31 + 1637 ^ (a >>> 63);
+        a = a * 31 + 1638 ^ (a >>> 1);
+        a = a * 31 + 1639 ^ (a >>> 2);
+        a = a * 31 + 1640 ^ (a >>> 3);
+        a = a * 31 + 1641 ^ (a >>> 4);
+        a = a * 31 + 1642 ^ (a >>> 5);
+        a = a * 31 + 1643 ^ (a >>> 6);
+        a = a * 31 + 1644 ^ (a >>> 7);
+        a = a * 31 + 1645 ^ (a >>> 8);
+        a = a * 31 + 1646 ^ (a >>> 9);
+        a = a * 31 + 1647 ^ (a >>> 10);
+        a = a * 31 + 1648 ^ (a >>> 11);
+        a = a * 31 + 1649 ^ (a >>> 12);
+        a = a * 31 + 1650 ^ (a >>> 13);
+        a = a * 31 + 1651 ^ (a >>> 14);
+        a = a * 31 + 1652 ^ (a >>> 15);
+        a = a * 31 + 1653 ^ (a >>> 16);
+        a = a * 31 + 1654 ^ (a >>> 17);
+        a = a * 31 + 1655 ^ (a >>> 18);
+        a = a * 31 + 1656 ^ (a >>> 19);
+        a = a * 31 + 1657 ^ (a >>> 20);
+        a = a * 31 + 1658 ^ (a >>> 21);
+        a = a * 31 + 1659 ^ (a >>> 22);
+        a = a * 31 + 1660 ^ (a >>> 23);
+        a = a * 31 + 1661 ^ (a >>> 24);
+        a = a * 31 + 1662 ^ (a >>> 25);
+        a = a * 31 + 1663 ^ (a >>> 26);
+        a = a * 31 + 1664 ^ (a >>> 27);
+        a = a * 31 + 1665 ^ (a >>> 28);
+        a = a * 31 + 1666 ^ (a >>> 29);
+        a = a * 31 + 1667 ^ (a >>> 30);
+        a = a * 31 + 1668 ^ (a >>> 31);
+        a = a * 31 + 1669 ^ (a >>> 32);
+        a = a * 31 + 1670 ^ (a >>> 33);
+        a = a * 31 + 1671 ^ (a >>> 34);
+        a = a * 31 + 1672 ^ (a >>> 35);
+        a = a * 31 + 1673 ^ (a >>> 36);
+        a = a * 31 + 1674 ^ (a >>> 37);
+        a = a * 31 + 1675 ^ (a >>> 38);
+        a = a * 31 + 1676 ^ (a >>> 39);
+        a = a * 31 + 1677 ^ (a >>> 40);
+        a = a * 31 + 1678 ^ (a >>> 41);
+        a = a * 31 + 1679 ^ (a >>> 42);
+        a = a * 31 + 1680 ^ (a >>> 43);
+        a = a * 31 + 1681 ^ (a >>> 44);
+        a = a * 31 + 1682 ^ (a >>> 45);
+        a = a * 31 + 1683 ^ (a >>> 46);
+        a = a * 31 + 1684 ^ (a >>> 47);
+        a = a * 31 + 1685 ^ (a >>> 48);
+        a = a * 31 + 1686 ^ (a >>> 49);
+        a = a * 31 + 1687 ^ (a >>> 50);
+        a = a * 31 + 1688 ^ (a >>> 51);
+        a = a * 31 + 1689 ^ (a >>> 52);
+        a = a * 31 + 1690 ^ (a >>> 53);
+        a = a * 31 + 1691 ^ (a >>> 54);
+        a = a * 31 + 1692 ^ (a >>> 55);
+        a = a * 31 + 1693 ^ (a >>> 56);
+        a = a * 31 + 1694 ^ (a >>> 57);
+        a = a * 31 + 1695 ^ (a >>> 58);
+        a = a * 31 + 1696 ^ (a >>> 59);
+        a = a * 31 + 1697 ^ (a >>> 60);
+        a = a * 31 + 1698 ^ (a >>> 61);
+        a = a * 31 + 1699 ^ (a >>> 62);
+        a = a * 31 + 1700 ^ (a >>> 63);
+        a = a * 31 + 1701 ^ (a >>> 1);
+        a = a * 31 + 1702 ^ (a >>> 2);
+        a = a * 31 + 1703 ^ (a >>> 3);
+        a = a * 31 + 1704 ^ (a >>> 4);
+        a = a * 31 + 1705 ^ (a >>> 5);
+        a = a * 31 + 1706 ^ (a >>> 6);
+        a = a * 31 + 1707 ^ (a >>> 7);
+        a = a * 31 + 1708 ^ (a >>> 8);
+        a = a * 31 + 1709 ^ (a >>> 9);
+        a = a * 31 + 1710 ^ (a >>> 10);
+        a = a * 31 + 1711 ^ (a >>> 11);
+        a = a * 31 + 1712 ^ (a >>> 12);
+        a = a * 31 + 1713 ^ (a >>> 13);
+        a = a * 31 + 1714 ^ (a >>> 14);
+        a = a * 31 + 1715 ^ (a >>> 15);
+        a = a * 31 + 1716 ^ (a >>> 16);
+        a = a * 31 + 1717 ^ (a >>> 17);
+        a = a * 31 + 1718 ^ (a >>> 18);
+        a = a * 31 + 1719 ^ (a >>> 19);
+        a = a * 31 + 1720 ^ (a >>> 20);
+        a = a * 31 + 1721 ^ (a >>> 21);
+        a = a * 31 + 1722 ^ (a >>> 22);
+        a = a * 31 + 1723 ^ (a >>> 23);
+        a = a * 31 + 1724 ^ (a >>> 24);
+        a = a * 31 + 1725 ^ (a >>> 25);
+        a = a * 31 + 1726 ^ (a >>> 26);
+        a = a * 31 + 1727 ^ (a >>> 27);
+        a = a * 31 + 1728 ^ (a >>> 28);
+        a = a * 31 + 1729 ^ (a >>> 29);
+        a = a * 31 + 1730 ^ (a >>> 30);
+        a = a * 31 + 1731 ^ (a >>> 31);
+        a = a * 31 + 1732 ^ (a >>> 32);
+        a = a * 31 + 1733 ^ (a >>> 33);
+        a = a * 31 + 1734 ^ (a >>> 34);
+        a = a * 31 + 1735 ^ (a >>> 35);
+        a = a * 31 + 1736 ^ (a >>> 36);
+        a = a * 31 + 1737 ^ (a >>> 37);
+        a = a * 31 + 1738 ^ (a >>> 38);
+        a = a * 31 + 1739 ^ (a >>> 39);
+        a = a * 31 + 1740 ^ (a >>> 40);
+        a = a * 31 + 1741 ^ (a >>> 41);
+        a = a * 31 + 1742 ^ (a >>> 42);
+        a = a * 31 + 1743 ^ (a >>> 43);
+        a = a * 31 + 1744 ^ (a >>> 44);
+        a = a * 31 + 1745 ^ (a >>> 45);
+        a = a * 31 + 1746 ^ (a >>> 46);
+        a = a * 31 + 1747 ^ (a >>> 47);
+        a = a * 31 + 1748 ^ (a >>> 48);
+        a = a * 31 + 1749 ^ (a >>> 49);
+        a = a * 31 + 1750 ^ (a >>> 50);
+        a = a * 31 + 1751 ^ (a >>> 51);
+        a = a * 31 + 1752 ^ (a >>> 52);
+        a = a * 31 + 1753 ^ (a >>> 53);
+        a = a * 31 + 1754 ^ (a >>> 54);
+        a = a * 31 + 1755 ^ (a >>> 55);
+        a = a * 31 + 1756 ^ (a >>> 56);
+        a = a * 31 + 1757 ^ (a >>> 57);
+        a = a * 31 + 1758 ^ (a >>> 58);
+        a = a * 31 + 1759 ^ (a >>> 59);
+        a = a * 31 + 1760 ^ (a >>> 60);
+        a = a * 31 + 1761 ^ (a >>> 61);
+        a = a * 31 + 1762 ^ (a >>> 62);
+        a = a * 31 + 1763 ^ (a >>> 63);
+        a = a * 31 + 1764 ^ (a >>> 1);
+        a = a * 31 + 1765 ^ (a >>> 2);
+        a = a * 31 + 1766 ^ (a >>> 3);
+        a = a * 31 + 1767 ^ (a >>> 4);
+        a = a * 31 + 1768 ^ (a >>> 5);
+        a = a * 31 + 1769 ^ (a >>> 6);
+        a = a * 31 + 1770 ^ (a >>> 7);
+        a = a * 31 + 1771 ^ (a >>> 8);
+        a = a * 31 + 1772 ^ (a >>> 9);
+        a = a * 31 + 1773 ^ (a >>> 10);
+        a = a * 31 + 1774 ^ (a >>> 11);
+        a = a * 31 + 1775 ^ (a >>> 12);
+        a = a * 31 + 1776 ^ (a >>> 13);
+        a = a * 31 + 1777 ^ (a >>> 14);
+        a = a * 31 + 1778 ^ (a >>> 15);
+        a = a * 31 + 1779 ^ (a >>> 16);
+        a = a * 31 + 1780 ^ (a >>> 17);
+        a = a * 31 + 1781 ^ (a >>> 18);
+        a = a * 31 + 1782 ^ (a >>> 19);
+        a = a * 31 + 1783 ^ (a >>> 20);
+        a = a * 31 + 1784 ^ (a >>> 21);
+        a = a * 31 + 1785 ^ (a >>> 22);
+        a = a * 31 + 1786 ^ (a >>> 23);
+        a = a * 31 + 1787 ^ (a >>> 24);
+        a = a * 31 + 1788 ^ (a >>> 25);
+        a = a * 31 + 1789 ^ (a >>> 26);
+        a = a * 31 + 1790 ^ (a >>> 27);
+        a = a * 31 + 1791 ^ (a >>> 28);
+        a = a * 31 + 1792 ^ (a >>> 29);
+        a = a * 31 + 1793 ^ (a >>> 30);
+        a = a * 31 + 1794 ^ (a >>> 31);
+        a = a * 31 + 1795 ^ (a >>> 32);
+        a = a * 31 + 1796 ^ (a >>> 33);
+        a = a * 31 + 1797 ^ (a >>> 34);
+        a = a * 31 + 1798 ^ (a >>> 35);
+        a = a * 31 + 1799 ^ (a >>> 36);
+        a = a * 31 + 1800 ^ (a >>> 37);
+        a = a * 31 + 1801 ^ (a >>> 38);
+        a = a * 31 + 1802 ^ (a >>> 39);
+        a = a * 31 + 1803 ^ (a >>> 40);
+        a = a * 31 + 1804 ^ (a >>> 41);
+        a = a * 31 + 1805 ^ (a >>> 42);
+        a = a * 31 + 1806 ^ (a >>> 43);
+        a = a * 31 + 1807 ^ (a >>> 44);
+        a = a * 31 + 1808 ^ (a >>> 45);
+        a = a * 31 + 1809 ^ (a >>> 46);
+        a = a * 31 + 1810 ^ (a >>> 47);
+        a = a * 31 + 1811 ^ (a >>> 48);
+        a = a * 31 + 1812 ^ (a >>> 49);
+        a = a * 31 + 1813 ^ (a >>> 50);
+        a = a * 31 + 1814 ^ (a >>> 51);
+        a = a * 31 + 1815 ^ (a >>> 52);
+        a = a * 31 + 1816 ^ (a >>> 53);
+        a = a * 31 + 1817 ^ (a >>> 54);
+        a = a * 31 + 1818 ^ (a >>> 55);
+        a = a * 31 + 1819 ^ (a >>> 56);
+        a = a * 31 + 1820 ^ (a >>> 57);
+        a = a * 31 + 1821 ^ (a >>> 58);
+        a = a * 31 + 1822 ^ (a >>> 59);
+        a = a * 31 + 1823 ^ (a >>> 60);
+        a = a * 31 + 1824 ^ (a >>> 61);
+        a = a * 31 + 1825 ^ (a >>> 62);
+        a = a * 31 + 1826 ^ (a >>> 63);
+        a = a * 31 + 1827 ^ (a >>> 1);
+        a = a * 31 + 1828 ^ (a >>> 2);
+        a = a * 31 + 1829 ^ (a >>> 3);
+        a = a * 31 + 1830 ^ (a >>> 4);
+        a = a * 31 + 1831 ^ (a >>> 5);
+        a = a * 31 + 1832 ^ (a >>> 6);
+        a = a * 31 + 1833 ^ (a >>> 7);
+        a = a * 31 + 1834 ^ (a >>> 8);
+        a = a * 31 + 1835 ^ (a >>> 9);
+        a = a * 31 + 1836 ^ (a >>> 10);
+        a = a * 31 + 1837 ^ (a >>> 11);
+        a = a * 31 + 1838 ^ (a >>> 12);
+        a = a * 31 + 1839 ^ (a >>> 13);
+        a = a * 31 + 1840 ^ (a >>> 14);
+        a = a * 31 + 1841 ^ (a >>> 15);
+        a = a * 31 + 1842 ^ (a >>> 16);
+        a = a * 31 + 1843 ^ (a >>> 17);
+        a = a * 31 + 1844 ^ (a >>> 18);
+        a = a * 31 + 1845 ^ (a >>> 19);
+        a = a * 31 + 1846 ^ (a >>> 20);
+        a = a * 31 + 1847 ^ (a >>> 21);
+        a = a * 31 + 1848 ^ (a >>> 22);
+        a = a * 31 + 1849 ^ (a >>> 23);
+        a = a * 31 + 1850 ^ (a >>> 24);
+        a = a * 31 + 1851 ^ (a >>> 25);
+        a = a * 31 + 1852 ^ (a >>> 26);
+        a = a * 31 + 1853 ^ (a >>> 27);
+        a = a * 31 + 1854 ^ (a >>> 28);
+        a = a * 31 + 1855 ^ (a >>> 29);
+        a = a * 31 + 1856 ^ (a >>> 30);
+        a = a * 31 + 1857 ^ (a >>> 31);
+        a = a * 31 + 1858 ^ (a >>> 32);
+        a = a * 31 + 1859 ^ (a >>> 33);
+        a = a * 31 + 1860 ^ (a >>> 34);
+        a = a * 31 + 1861 ^ (a >>> 35);
+        a = a * 31 + 1862 ^ (a >>> 36);
+        a = a * 31 + 1863 ^ (a >>> 37);
+        a = a * 31 + 1864 ^ (a >>> 38);
+        a = a * 31 + 1865 ^ (a >>> 39);
+        a = a * 31 + 1866 ^ (a >>> 40);
+        a = a * 31 + 1867 ^ (a >>> 41);
+        a = a * 31 + 1868 ^ (a >>> 42);
+        a = a * 31 + 1869 ^ (a >>> 43);
+        a = a * 31 + 1870 ^ (a >>> 44);
+        a = a * 31 + 1871 ^ (a >>> 45);
+        a = a * 31 + 1872 ^ (a >>> 46);
+        a = a * 31 + 1873 ^ (a >>> 47);
+        a = a * 31 + 1874 ^ (a >>> 48);
+        a = a * 31 + 1875 ^ (a >>> 49);
+        a = a * 31 + 1876 ^ (a >>> 50);
+        a = a * 31 + 1877 ^ (a >>> 51);
+        a = a * 31 + 1878 ^ (a >>> 52);
+        a = a * 31 + 1879 ^ (a >>> 53);
+        a = a * 31 + 1880 ^ (a >>> 54);
+        a = a * 31 + 1881 ^ (a >>> 55);
+        a = a * 31 + 1882 ^ (a >>> 56);
+        a = a * 31 + 1883 ^ (a >>> 57);
+        a = a * 31 + 1884 ^ (a >>> 58);
+        a = a * 31 + 1885 ^ (a >>> 59);
+        a = a * 31 + 1886 ^ (a >>> 60);
+        a = a * 31 + 1887 ^ (a >>> 61);
+        a = a * 31 + 1888 ^ (a >>> 62);
+        a = a * 31 + 1889 ^ (a >>> 63);
+        a = a * 31 + 1890 ^ (a >>> 1);
+        a = a * 31 + 1891 ^ (a >>> 2);
+        a = a * 31 + 1892 ^ (a >>> 3);
+        a = a * 31 + 1893 ^ (a >>> 4);
+        a = a * 31 + 1894 ^ (a >>> 5);
+        a = a * 31 + 1895 ^ (a >>> 6);
+        a = a * 31 + 1896 ^ (a >>> 7);
+        a = a * 31 + 1897 ^ (a >>> 8);
+        a = a * 31 + 1898 ^ (a >>> 9);
+        a = a * 31 + 1899 ^ (a >>> 10);
+        a = a * 31 + 1900 ^ (a >>> 11);
+        a = a * 31 + 1901 ^ (a >>> 12);
+        a = a * 31 + 1902 ^ (a >>> 13);
+        a = a * 31 + 1903 ^ (a >>> 14);
+        a = a * 31 + 1904 ^ (a >>> 15);
+        a = a * 31 + 1905 ^ (a >>> 16);
+        a = a * 31 + 1906 ^ (a >>> 17);
+        a = a * 31 + 1907 ^ (a >>> 18);
+        a = a * 31 + 1908 ^ (a >>> 19);
+        a = a * 31 + 1909 ^ (a >>> 20);
+        a = a * 31 + 1910 ^ (a >>> 21);
+        a = a * 31 + 1911 ^ (a >>> 22);
+        a = a * 31 + 1912 ^ (a >>> 23);
+        a = a * 31 + 1913 ^ (a >>> 24);
+        a = a * 31 + 1914 ^ (a >>> 25);
+        a = a * 31 + 1915 ^ (a >>> 26);
+        a = a * 31 + 1916 ^ (a >>> 27);
+        a = a * 31 + 1917 ^ (a >>> 28);
+        a = a * 31 + 1918 ^ (a >>> 29);
+        a = a * 31 + 1919 ^ (a >>> 30);
+        a = a * 31 + 1920 ^ (a >>> 31);
+        a = a * 31 + 1921 ^ (a >>> 32);
+        a = a * 31 + 1922 ^ (a >>> 33);
+        a = a * 31 + 1923 ^ (a >>> 34);
+        a = a * 31 + 1924 ^ (a >>> 35);
+        a = a * 31 + 1925 ^ (a >>> 36);
+        a = a * 31 + 1926 ^ (a >>> 37);
+        a = a * 31 + 1927 ^ (a >>> 38);
+        a = a * 31 + 1928 ^ (a >>> 39);
+        a = a * 31 + 1929 ^ (a >>> 40);
+        a = a * 31 + 1930 ^ (a >>> 41);
+        a = a * 31 + 1931 ^ (a >>> 42);
+        a = a * 31 + 1932 ^ (a >>> 43);
+        a = a * 31 + 1933 ^ (a >>> 44);
+        a = a * 31 + 1934 ^ (a >>> 45);
+        a = a * 31 + 1935 ^ (a >>> 46);
+        a = a * 31 + 1936 ^ (a >>> 47);
+        a = a * 31 + 1937 ^ (a >>> 48);
+        a = a * 31 + 1938 ^ (a >>> 49);
+        a = a * 31 + 1939 ^ (a >>> 50);
+        a = a * 31 + 1940 ^ (a >>> 51);
+        a = a * 31 + 1941 ^ (a >>> 52);
+        a = a * 31 + 1942 ^ (a >>> 53);
+        a = a * 31 + 1943 ^ (a >>> 54);
+        a = a * 31 + 1944 ^ (a >>> 55);
+        a = a * 31 + 1945 ^ (a >>> 56);
+        a = a * 31 + 1946 ^ (a >>> 57);
+        a = a * 31 + 1947 ^ (a >>> 58);
+        a = a * 31 + 1948 ^ (a >>> 59);
+        a = a * 31 + 1949 ^ (a >>> 60);
+        a = a * 31 + 1950 ^ (a >>> 61);
+        a = a * 31 + 1951 ^ (a >>> 62);
+        a = a * 31 + 1952 ^ (a >>> 63);
+        a = a * 31 + 1953 ^ (a >>> 1);
+        a = a * 31 + 1954 ^ (a >>> 2);
+        a = a * 31 + 1955 ^ (a >>> 3);
+        a = a * 31 + 1956 ^ (a >>> 4);
+        a = a * 31 + 1957 ^ (a >>> 5);
+        a = a * 31 + 1958 ^ (a >>> 6);
+        a = a * 31 + 1959 ^ (a >>> 7);
+        a = a * 31 + 1960 ^ (a >>> 8);
+        a = a * 31 + 1961 ^ (a >>> 9);
+        a = a * 31 + 1962 ^ (a >>> 10);
+        a = a * 31 + 1963 ^ (a >>> 11);
+        a = a * 31 + 1964 ^ (a >>> 12);
+        a = a * 31 + 1965 ^ (a >>> 13);
+        a = a * 31 + 1966 ^ (a >>> 14);
+        a = a * 31 + 1967 ^ (a >>> 15);
+        a = a * 31 + 1968 ^ (a >>> 16);
+        a = a * 31 + 1969 ^ (a >>> 17);
+        a = a * 31 + 1970 ^ (a >>> 18);
+        a = a * 31 + 1971 ^ (a >>> 19);
+        a = a * 31 + 1972 ^ (a >>> 20);
+        a = a * 31 + 1973 ^ (a >>> 21);
+        a = a * 31 + 1974 ^ (a >>> 22);
+        a = a * 31 + 1975 ^ (a >>> 23);
+        a = a * 31 + 1976 ^ (a >>> 24);
+        a = a * 31 + 1977 ^ (a >>> 25);
+        a = a * 31 + 1978 ^ (a >>> 26);
+        a = a * 31 + 1979 ^ (a >>> 27);
+        a = a * 31 + 1980 ^ (a >>> 28);
+        a = a * 31 + 1981 ^ (a >>> 29);
+        a = a * 31 + 1982 ^ (a >>> 30);
+        a = a * 31 + 1983 ^ (a >>> 31);
+        a = a * 31 + 1984 ^ (a >>> 32);
+        a = a * 31 + 1985 ^ (a >>> 33);
+        a = a * 31 + 1986 ^ (a >>> 34);
+        a = a * 31 + 1987 ^ (a >>> 35);
+        a = a * 31 + 1988 ^ (a >>> 36);
+        a = a * 31 + 1989 ^ (a >>> 37);
+        a = a * 31 + 1990 ^ (a >>> 38);
+        a = a * 31 + 1991 ^ (a >>> 39);
+        a = a * 31 + 1992 ^ (a >>> 40);
+        a = a * 31 + 1993 ^ (a >>> 41);
+        a = a * 31 + 1994 ^ (a >>> 42);
+        a = a * 31 + 1995 ^ (a >>> 43);
+        a = a * 31 + 1996 ^ (a >>> 44);
+        a = a * 31 + 1997 ^ (a >>> 45);
+        a = a * 31 + 1998 ^ (a >>> 46);
+        a = a * 31 + 1999 ^ (a >>> 47);
+        a = a * 31 + 2000 ^ (a >>> 48);
+        a = a * 31 + 2001 ^ (a >>> 49);
+        a = a * 31 + 2002 ^ (a >>> 50);
+        a = a * 31 + 2003 ^ (a >>> 51);
+        a = a * 31 + 2004 ^ (a >>> 52);
+        a = a * 31 + 2005 ^ (a >>> 53);
+        a = a * 31 + 2006 ^ (a >>> 54);
+        a = a * 31 + 2007 ^ (a >>> 55);
+        a = a * 31 + 2008 ^ (a >>> 56);
+        a = a * 31 + 2009 ^ (a >>> 57);
+        a = a * 31 + 2010 ^ (a >>> 58);
+        a = a * 31 + 2011 ^ (a >>> 59);
+        a = a * 31 + 2012 ^ (a >>> 60);
+        a = a * 31 + 2013 ^ (a >>> 61);
+        a = a * 31 + 2014 ^ (a >>> 62);
+        a = a * 31 + 2015 ^ (a >>> 63);
+        a = a * 31 + 2016 ^ (a >>> 1);
+        a = a * 31 + 2017 ^ (a >>> 2);
+        a = a * 31 + 2018 ^ (a >>> 3);
+        a = a * 31 + 2019 ^ (a >>> 4);
+        a = a * 31 + 2020 ^ (a >>> 5);
+        a = a * 31 + 2021 ^ (a >>> 6);
+        a = a * 31 + 2022 ^ (a >>> 7);
+        a = a * 31 + 2023 ^ (a >>> 8);
+        a = a * 31 + 2024 ^ (a >>> 9);
+        a = a * 31 + 2025 ^ (a >>> 10);
+        a = a * 31 + 2026 ^ (a >>> 11);
+        a = a * 31 + 2027 ^ (a >>> 12);
+        a = a * 31 + 2028 ^ (a >>> 13);
+        a = a * 31 + 2029 ^ (a >>> 14);
+        a = a * 31 + 2030 ^ (a >>> 15);
+        a = a * 31 + 2031 ^ (a >>> 16);
+        a = a * 31 + 2032 ^ (a >>> 17);
+        a = a * 31 + 2033 ^ (a >>> 18);
+        a = a * 31 + 2034 ^ (a >>> 19);
+        a = a * 31 + 2035 ^ (a >>> 20);
+        a = a * 31 + 2036 ^ (a >>> 21);
+        a = a * 31 + 2037 ^ (a >>> 22);
+        a = a * 31 + 2038 ^ (a >>> 23);
+        a = a * 31 + 2039 ^ (a >>> 24);
+        a = a * 31 + 2040 ^ (a >>> 25);
+        a = a * 31 + 2041 ^ (a >>> 26);
+        a = a * 31 + 2042 ^ (a >>> 27);
+        a = a * 31 + 2043 ^ (a >>> 28);
+        a = a * 31 + 2044 ^ (a >>> 29);
+        a = a * 31 + 2045 ^ (a >>> 30);
+        a = a * 31 + 2046 ^ (a >>> 31);
+        a = a * 31 + 2047 ^ (a >>> 32);
+        a = a * 31 + 2048 ^ (a >>> 33);
+        a = a * 31 + 2049 ^ (a >>> 34);
+        a = a * 31 + 2050 ^ (a >>> 35);
+        a = a * 31 + 2051 ^ (a >>> 36);
+        a = a * 31 + 2052 ^ (a >>> 37);
+        a = a * 31 + 2053 ^ (a >>> 38);
+        a = a * 31 + 2054 ^ (a >>> 39);
+        a = a * 31 + 2055 ^ (a >>> 40);
+        a = a * 31 + 2056 ^ (a >>> 41);
+        a = a * 31 + 2057 ^ (a >>> 42);
+        a = a * 31 + 2058 ^ (a >>> 43);
+        a = a * 31 + 2059 ^ (a >>> 44);
+        a = a * 31 + 2060 ^ (a >>> 45);
+        a = a * 31 + 2061 ^ (a >>> 46);
+        a = a * 31 + 2062 ^ (a >>> 47);
+        a = a * 31 + 2063 ^ (a >>> 48);
+        a = a * 31 + 2064 ^ (a >>> 49);
+        a = a * 31 + 2065 ^ (a >>> 50);
+        a = a * 31 + 2066 ^ (a >>> 51);
+        a = a * 31 + 2067 ^ (a >>> 52);
+        a = a * 31 + 2068 ^ (a >>> 53);
+        a = a * 31 + 2069 ^ (a >>> 54);
+        a = a * 31 + 2070 ^ (a >>> 55);
+        a = a * 31 + 2071 ^ (a >>> 56);
+        a = a * 31 + 2072 ^ (a >>> 57);
+        a = a * 31 + 2073 ^ (a >>> 58);
+        a = a * 31 + 2074 ^ (a >>> 59);
+        a = a * 31 + 2075 ^ (a >>> 60);
+        a = a * 31 + 2076 ^ (a >>> 61);
+        a = a * 31 + 2077 ^ (a >>> 62);
+        a = a * 31 + 2078 ^ (a >>> 63);
+        a = a * 31 + 2079 ^ (a >>> 1);
+        a = a * 31 + 2080 ^ (a >>> 2);
+        a = a * 31 + 2081 ^ (a >>> 3);
+        a = a * 31 + 2082 ^ (a >>> 4);
+        a = a * 31 + 2083 ^ (a >>> 5);
+        a = a * 31 + 2084 ^ (a >>> 6);
+        a = a * 31 + 2085 ^ (a >>> 7);
+        a = a * 31 + 2086 ^ (a >>> 8);
+        a = a * 31 + 2087 ^ (a >>> 9);
+        a = a * 31 + 2088 ^ (a >>> 10);
+        a = a * 31 + 2089 ^ (a >>> 11);
+        a = a * 31 + 2090 ^ (a >>> 12);
+        a = a * 31 + 2091 ^ (a >>> 13);
+        a = a * 31 + 2092 ^ (a >>> 14);
+        a = a * 31 + 2093 ^ (a >>> 15);
+        a = a * 31 + 2094 ^ (a >>> 16);
+        a = a * 31 + 2095 ^ (a >>> 17);
+        a = a * 31 + 2096 ^ (a >>> 18);
+        a = a * 31 + 2097 ^ (a >>> 19);
+        a = a * 31 + 2098 ^ (a >>> 20);
+        a = a * 31 + 2099 ^ (a >>> 21);
+        a = a * 31 + 2100 ^ (a >>> 22);
+        a = a * 31 + 2101 ^ (a >>> 23);
+        a = a * 31 + 2102 ^ (a >>> 24);
+        a = a * 31 + 2103 ^ (a >>> 25);
+        a = a * 31 + 2104 ^ (a >>> 26);
+        a = a * 31 + 2105 ^ (a >>> 27);
+        a = a * 31 + 2106 ^ (a >>> 28);
+        a = a * 31 + 2107 ^ (a >>> 29);
+        a = a * 31 + 2108 ^ (a >>> 30);
+        a = a * 31 + 2109 ^ (a >>> 31);
+        a = a * 31 + 2110 ^ (a >>> 32);
+        a = a * 31 + 2111 ^ (a >>> 33);
+        a = a * 31 + 2112 ^ (a >>> 34);
+        a = a * 31 + 2113 ^ (a >>> 35);
+        a = a * 31 + 2114 ^ (a >>> 36);
+        a = a * 31 + 2115 ^ (a >>> 37);
+        a = a * 31 + 2116 ^ (a >>> 38);
+        a = a * 31 + 2117 ^ (a >>> 39);
+        a = a * 31 + 2118 ^ (a >>> 40);
+        a = a * 31 + 2119 ^ (a >>> 41);
+        a = a * 31 + 2120 ^ (a >>> 42);
+        a = a * 31 + 2121 ^ (a >>> 43);
+        a = a * 31 + 2122 ^ (a >>> 44);
+        a = a * 31 + 2123 ^ (a >>> 45);
+        a = a * 31 + 2124 ^ (a >>> 46);
+        a = a * 31 + 2125 ^ (a >>> 47);
+        a = a * 31 + 2126 ^ (a >>> 48);
+        a = a * 31 + 2127 ^ (a >>> 49);
+        a = a * 31 + 2128 ^ (a >>> 50);
+        a = a * 31 + 2129 ^ (a >>> 51);
+        a = a * 31 + 2130 ^ (a >>> 52);
+        a = a * 31 + 2131 ^ (a >>> 53);
+        a = a * 31 + 2132 ^ (a >>> 54);
+        a = a * 31 + 2133 ^ (a >>> 55);
+        a = a * 31 + 2134 ^ (a >>> 56);
+        a = a * 31 + 2135 ^ (a >>> 57);
+        a = a * 31 + 2136 ^ (a >>> 58);
+        a = a * 31 + 2137 ^ (a >>> 59);
+        a = a * 31 + 2138 ^ (a >>> 60);
+        a = a * 31 + 2139 ^ (a >>> 61);
+        a = a * 31 + 2140 ^ (a >>> 62);
+        a = a * 31 + 2141 ^ (a >>> 63);
+        a = a * 31 + 2142 ^ (a >>> 1);
+        a = a * 31 + 2143 ^ (a >>> 2);
+        a = a * 31 + 2144 ^ (a >>> 3);
+        a = a * 31 + 2145 ^ (a >>> 4);
+        a = a * 31 + 2146 ^ (a >>> 5);
+        a = a * 31 + 2147 ^ (a >>> 6);
+        a = a * 31 + 2148 ^ (a >>> 7);
+        a = a * 31 + 2149 ^ (a >>> 8);
+        a = a * 31 + 2150 ^ (a >>> 9);
+        a = a * 31 + 2151 ^ (a >>> 10);
+        a = a * 31 + 2152 ^ (a >>> 11);
+        a = a * 31 + 2153 ^ (a >>> 12);
+        a = a * 31 + 2154 ^ (a >>> 13);
+        a = a * 31 + 2155 ^ (a >>> 14);
+        a = a * 31 + 2156 ^ (a >>> 15);
+        a = a * 31 + 2157 ^ (a >>> 16);
+        a = a * 31 + 2158 ^ (a >>> 17);
+        a = a * 31 + 2159 ^ (a >>> 18);
+        a = a * 31 + 2160 ^ (a >>> 19);
+        a = a * 31 + 2161 ^ (a >>> 20);
+        a = a * 31 + 2162 ^ (a >>> 21);
+        a = a * 31 + 2163 ^ (a >>> 22);
+        a = a * 31 + 2164 ^ (a >>> 23);
+        a = a * 31 + 2165 ^ (a >>> 24);
+        a = a * 31 + 2166 ^ (a >>> 25);
+        a = a * 31 + 2167 ^ (a >>> 26);
+        a = a * 31 + 2168 ^ (a >>> 27);
+        a = a * 31 + 2169 ^ (a >>> 28);
+        a = a * 31 + 2170 ^ (a >>> 29);
+        a = a * 31 + 2171 ^ (a >>> 30);
+        a = a * 31 + 2172 ^ (a >>> 31);
+        a = a * 31 + 2173 ^ (a >>> 32);
+        a = a * 31 + 2174 ^ (a >>> 33);
+        a = a * 31 + 2175 ^ (a >>> 34);
+        a = a * 31 + 2176 ^ (a >>> 35);
+        a = a * 31 + 2177 ^ (a >>> 36);
+        a = a * 31 + 2178 ^ (a >>> 37);
+        a = a * 31 + 2179 ^ (a >>> 38);
+        a = a * 31 + 2180 ^ (a >>> 39);
+        a = a * 31 + 2181 ^ (a >>> 40);
+        a = a * 31 + 2182 ^ (a >>> 41);
+        a = a * 31 + 2183 ^ (a >>> 42);
+        a = a * 31 + 2184 ^ (a >>> 43);
+        a = a * 31 + 2185 ^ (a >>> 44);
+        a = a * 31 + 2186 ^ (a >>> 45);
+        a = a * 31 + 2187 ^ (a >>> 46);
+        a = a * 31 + 2188 ^ (a >>> 47);
+        a = a * 31 + 2189 ^ (a >>> 48);
+        a = a * 31 + 2190 ^ (a >>> 49);
+        a = a * 31 + 2191 ^ (a >>> 50);
+        a = a * 31 + 2192 ^ (a >>> 51);
+        a = a * 31 + 2193 ^ (a >>> 52);
+        a = a * 31 + 2194 ^ (a >>> 53);
+        a = a * 31 + 2195 ^ (a >>> 54);
+        a = a * 31 + 2196 ^ (a >>> 55);
+        a = a * 31 + 2197 ^ (a >>> 56);
+        a = a * 31 + 2198 ^ (a >>> 57);
+        a = a * 31 + 2199 ^ (a >>> 58);
+        a = a * 31 + 2200 ^ (a >>> 59);
+        a = a * 31 + 2201 ^ (a >>> 60);
+        a = a * 31 + 2202 ^ (a >>> 61);
+        a = a * 31 + 2203 ^ (a >>> 62);
+        a = a * 31 + 2204 ^ (a >>> 63);
+        a = a * 31 + 2205 ^ (a >>> 1);
+        a = a * 31 + 2206 ^ (a >>> 2);
+        a = a * 31 + 2207 ^ (a >>> 3);
+        a = a * 31 + 2208 ^ (a >>> 4);
+        a = a * 31 + 2209 ^ (a >>> 5);
+        a = a * 31 + 2210 ^ (a >>> 6);
+        a = a * 31 + 2211 ^ (a >>> 7);
+        a = a * 31 + 2212 ^ (a >>> 8);
+        a = a * 31 + 2213 ^ (a >>> 9);
+        a = a * 31 + 2214 ^ (a >>> 10);
+        a = a * 31 + 2215 ^ (a >>> 11);
+        a = a * 31 + 2216 ^ (a >>> 12);
+        a = a * 31 + 2217 ^ (a >>> 13);
+        a = a * 31 + 2218 ^ (a >>> 14);
+        a = a * 31 + 2219 ^ (a >>> 15);
+        a = a * 31 + 2220 ^ (a >>> 16);
+        a = a * 31 + 2221 ^ (a >>> 17);
+        a = a * 31 + 2222 ^ (a >>> 18);
+        a = a * 31 + 2223 ^ (a >>> 19);
+        a = a * 31 + 2224 ^ (a >>> 20);
+        a = a * 31 + 2225 ^ (a >>> 21);
+        a = a * 31 + 2226 ^ (a >>> 22);
+        a = a * 31 + 2227 ^ (a >>> 23);
+        a = a * 31 + 2228 ^ (a >>> 24);
+        a = a * 31 + 2229 ^ (a >>> 25);
+        a = a * 31 + 2230 ^ (a >>> 26);
+        a = a * 31 + 2231 ^ (a >>> 27);
+        a = a * 31 + 2232 ^ (a >>> 28);
+        a = a * 31 + 2233 ^ (a >>> 29);
+        a = a * 31 + 2234 ^ (a >>> 30);
+        a = a * 31 + 2235 ^ (a >>> 31);
+        a = a * 31 + 2236 ^ (a >>> 32);
+        a = a * 31 + 2237 ^ (a >>> 33);
+        a = a * 31 + 2238 ^ (a >>> 34);
+        a = a * 31 + 2239 ^ (a >>> 35);
+        a = a * 31 + 2240 ^ (a >>> 36);
+        a = a * 31 + 2241 ^ (a >>> 37);
+        a = a * 31 + 2242 ^ (a >>> 38);
+        a = a * 31 + 2243 ^ (a >>> 39);
+        a = a * 31 + 2244 ^ (a >>> 40);
+        a = a * 31 + 2245 ^ (a >>> 41);
+        a = a * 31 + 2246 ^ (a >>> 42);
+        a = a * 31 + 2247 ^ (a >>> 43);
+        a = a * 31 + 2248 ^ (a >>> 44);
+        a = a * 31 + 2249 ^ (a >>> 45);
+        a = a * 31 + 2250 ^ (a >>> 46);
+        a = a * 31 + 2251 ^ (a >>> 47);
+        a = a * 31 + 2252 ^ (a >>> 48);
+        a = a * 31 + 2253 ^ (a >>> 49);
+        a = a * 31 + 2254 ^ (a >>> 50);
+        a = a * 31 + 2255 ^ (a >>> 51);
+        a = a * 31 + 2256 ^ (a >>> 52);
+        a = a * 31 + 2257 ^ (a >>> 53);
+        a = a * 31 + 2258 ^ (a >>> 54);
+        a = a * 31 + 2259 ^ (a >>> 55);
+        a = a * 31 + 2260 ^ (a >>> 56);
+        a = a * 31 + 2261 ^ (a >>> 57);
+        a = a * 31 + 2262 ^ (a >>> 58);
+        a = a * 31 + 2263 ^ (a >>> 59);
+        a = a * 31 + 2264 ^ (a >>> 60);
+        a = a * 31 + 2265 ^ (a >>> 61);
+        a = a * 31 + 2266 ^ (a >>> 62);
+        a = a * 31 + 2267 ^ (a >>> 63);
+        a = a * 31 + 2268 ^ (a >>> 1);
+        a = a * 31 + 2269 ^ (a >>> 2);
+        a = a * 31 + 2270 ^ (a >>> 3);
+        a = a * 31 + 2271 ^ (a >>> 4);
+        a = a * 31 + 2272 ^ (a >>> 5);
+        a = a * 31 + 2273 ^ (a >>> 6);
+        a = a * 31 + 2274 ^ (a >>> 7);
+        a = a * 31 + 2275 ^ (a >>> 8);
+        a = a * 31 + 2276 ^ (a >>> 9);
+        a = a * 31 + 2277 ^ (a >>> 10);
+        a = a * 31 + 2278 ^ (a >>> 11);
+        a = a * 31 + 2279 ^ (a >>> 12);
+        a = a * 31 + 2280 ^ (a >>> 13);
+        a = a * 31 + 2281 ^ (a >>> 14);
+        a = a * 31 + 2282 ^ (a >>> 15);
+        a = a * 31 + 2283 ^ (a >>> 16);
+        a = a * 31 + 2284 ^ (a >>> 17);
+        a = a * 31 + 2285 ^ (a >>> 18);
+        a = a * 31 + 2286 ^ (a >>> 19);
+        a = a * 31 + 2287 ^ (a >>> 20);
+        a = a * 31 + 2288 ^ (a >>> 21);
+        a = a * 31 + 2289 ^ (a >>> 22);
+        a = a * 31 + 2290 ^ (a >>> 23);
+        a = a * 31 + 2291 ^ (a >>> 24);
+        a = a * 31 + 2292 ^ (a >>> 25);
+        a = a * 31 + 2293 ^ (a >>> 26);
+        a = a * 31 + 2294 ^ (a >>> 27);
+        a = a * 31 + 2295 ^ (a >>> 28);
+        a = a * 31 + 2296 ^ (a >>> 29);
+        a = a * 31 + 2297 ^ (a >>> 30);
+        a = a * 31 + 2298 ^ (a >>> 31);
+        a = a * 31 + 2299 ^ (a >>> 32);
+        a = a * 31 + 2300 ^ (a >>> 33);
+        a = a * 31 + 2301 ^ (a >>> 34);
+        a = a * 31 + 2302 ^ (a >>> 35);
+        a = a * 31 + 2303 ^ (a >>> 36);
+        a = a * 31 + 2304 ^ (a >>> 37);
+        a = a * 31 + 2305 ^ (a >>> 38);
+        a = a * 31 + 2306 ^ (a >>> 39);
+        a = a * 31 + 2307 ^ (a >>> 40);
+        a = a * 31 + 2308 ^ (a >>> 41);
+        a = a * 31 + 2309 ^ (a >>> 42);
+        a = a * 31 + 2310 ^ (a >>> 43);
+        a = a * 31 + 2311 ^ (a >>> 44);
+        a = a * 31 + 2312 ^ (a >>> 45);
+        a = a * 31 + 2313 ^ (a >>> 46);
+        a = a * 31 + 2314 ^ (a >>> 47);
+        a = a * 31 + 2315 ^ (a >>> 48);
+        a = a * 31 + 2316 ^ (a >>> 49);
+        a = a * 31 + 2317 ^ (a >>> 50);
+        a = a * 31 + 2318 ^ (a >>> 51);
+        a = a * 31 + 2319 ^ (a >>> 52);
+        a = a * 31 + 2320 ^ (a >>> 53);
+        a = a * 31 + 2321 ^ (a >>> 54);
+        a = a * 31 + 2322 ^ (a >>> 55);
+        a = a * 31 + 2323 ^ (a >>> 56);
+        a = a * 31 + 2324 ^ (a >>> 57);
+        a = a * 31 + 2325 ^ (a >>> 58);
+        a = a * 31 + 2326 ^ (a >>> 59);
+        a = a * 31 + 2327 ^ (a >>> 60);
+        a = a * 31 + 2328 ^ (a >>> 61);
+        a = a * 31 + 2329 ^ (a >>> 62);
+        a = a * 31 + 2330 ^ (a >>> 63);
+        a = a * 31 + 2331 ^ (a >>> 1);
+        a = a * 31 + 2332 ^ (a >>> 2);
+        a = a * 31 + 2333 ^ (a >>> 3);
+        a = a * 31 + 2334 ^ (a >>> 4);
+        a = a * 31 + 2335 ^ (a >>> 5);
+        a = a * 31 + 2336 ^ (a >>> 6);
+        a = a * 31 + 2337 ^ (a >>> 7);
+        a = a * 31 + 2338 ^ (a >>> 8);
+        a = a * 31 + 2339 ^ (a >>> 9);
+        a = a * 31 + 2340 ^ (a >>> 10);
+        a = a * 31 + 2341 ^ (a >>> 11);
+        a = a * 31 + 2342 ^ (a >>> 12);
+        a = a * 31 + 2343 ^ (a >>> 13);
+        a = a * 31 + 2344 ^ (a >>> 14);
+        a = a * 31 + 2345 ^ (a >>> 15);
+        a = a * 31 + 2346 ^ (a >>> 16);
+        a = a * 31 + 2347 ^ (a >>> 17);
+        a = a * 31 + 2348 ^ (a >>> 18);
+        a = a * 31 + 2349 ^ (a >>> 19);
+        a = a * 31 + 2350 ^ (a >>> 20);
+        a = a * 31 + 2351 ^ (a >>> 21);
+        a = a * 31 + 2352 ^ (a >>> 22);
+        a = a * 31 + 2353 ^ (a >>> 23);
+        a = a * 31 + 2354 ^ (a >>> 24);
+        a = a * 31 + 2355 ^ (a >>> 25);
+        a = a * 31 + 2356 ^ (a >>> 26);
+        a = a * 31 + 2357 ^ (a >>> 27);
+        a = a * 31 + 2358 ^ (a >>> 28);
+        a = a * 31 + 2359 ^ (a >>> 29);
+        a = a * 31 + 2360 ^ (a >>> 30);
+        a = a * 31 + 2361 ^ (a >>> 31);
+        a = a * 31 + 2362 ^ (a >>> 32);
+        a = a * 31 + 2363 ^ (a >>> 33);
+        a = a * 31 + 2364 ^ (a >>> 34);
+        a = a * 31 + 2365 ^ (a >>> 35);
+        a = a * 31 + 2366 ^ (a >>> 36);
+        a = a * 31 + 2367 ^ (a >>> 37);
+        a = a * 31 + 2368 ^ (a >>> 38);
+        a = a * 31 + 2369 ^ (a >>> 39);
+        a = a * 31 + 2370 ^ (a >>> 40);
+        a = a * 31 + 2371 ^ (a >>> 41);
+        a = a * 31 + 2372 ^ (a >>> 42);
+        a = a * 31 + 2373 ^ (a >>> 43);
+        a = a * 31 + 2374 ^ (a >>> 44);
+        a = a * 31 + 2375 ^ (a >>> 45);
+        a = a * 31 + 2376 ^ (a >>> 46);
+        a = a * 31 + 2377 ^ (a >>> 47);
+        a = a * 31 + 2378 ^ (a >>> 48);
+        a = a * 31 + 2379 ^ (a >>> 49);
+        a = a * 31 + 2380 ^ (a >>> 50);
+        a = a * 31 + 2381 ^ (a >>> 51);
+        a = a * 31 + 2382 ^ (a >>> 52);
+        a = a * 31 + 2383 ^ (a >>> 53);
+        a = a * 31 + 2384 ^ (a >>> 54);
+        a = a * 31 + 2385 ^ (a >>> 55);
+        a = a * 31 + 2386 ^ (a >>> 56);
+        a = a * 31 + 2387 ^ (a >>> 57);
+        a = a * 31 + 2388 ^ (a >>> 58);
+        a = a * 31 + 2389 ^ (a >>> 59);
+        a = a * 31 + 2390 ^ (a >>> 60);
+        a = a * 31 + 2391 ^ (a >>> 61);
+        a = a * 31 + 2392 ^ (a >>> 62);
+        a = a * 31 + 2393 ^ (a >>> 63);
+        a = a * 31 + 2394 ^ (a >>> 1);
+        a = a * 31 + 2395 ^ (a >>> 2);
+        a = a * 31 + 2396 ^ (a >>> 3);
+        a = a * 31 + 2397 ^ (a >>> 4);
+        a = a * 31 + 2398 ^ (a >>> 5);
+        a = a * 31 + 2399 ^ (a >>> 6);
+        a = a * 31 + 2400 ^ (a >>> 7);
+        a = a * 31 + 2401 ^ (a >>> 8);
+        a = a * 31 + 2402 ^ (a >>> 9);
+        a = a * 31 + 2403 ^ (a >>> 10);
+        a = a * 31 + 2404 ^ (a >>> 11);
+        a = a * 31 + 2405 ^ (a >>> 12);
+        a = a * 31 + 2406 ^ (a >>> 13);
+        a = a * 31 + 2407 ^ (a >>> 14);
+        a = a * 31 + 2408 ^ (a >>> 15);
+        a = a * 31 + 2409 ^ (a >>> 16);
+        a = a * 31 + 2410 ^ (a >>> 17);
+        a = a * 31 + 2411 ^ (a >>> 18);
+        a = a * 31 + 2412 ^ (a >>> 19);
+        a = a * 31 + 2413 ^ (a >>> 20);
+        a = a * 31 + 2414 ^ (a >>> 21);
+        a = a * 31 + 2415 ^ (a >>> 22);
+        a = a * 31 + 2416 ^ (a >>> 23);
+        a = a * 31 + 2417 ^ (a >>> 24);
+        a = a * 31 + 2418 ^ (a >>> 25);
+        a = a * 31 + 2419 ^ (a >>> 26);
+        a = a * 31 + 2420 ^ (a >>> 27);
+        a = a * 31 + 2421 ^ (a >>> 28);
+        a = a * 31 + 2422 ^ (a >>> 29);
+        a = a * 31 + 2423 ^ (a >>> 30);
+        a = a * 31 + 2424 ^ (a >>> 31);
+        a = a * 31 + 2425 ^ (a >>> 32);
+        a = a * 31 + 2426 ^ (a >>> 33);
+        a = a * 31 + 2427 ^ (a >>> 34);
+        a = a * 31 + 2428 ^ (a >>> 35);
+        a = a * 31 + 2429 ^ (a >>> 36);
+        a = a * 31 + 2430 ^ (a >>> 37);
+        a = a * 31 + 2431 ^ (a >>> 38);
+        a = a * 31 + 2432 ^ (a >>> 39);
+        a = a * 31 + 2433 ^ (a >>> 40);
+        a = a * 31 + 2434 ^ (a >>> 41);
+        a = a * 31 + 2435 ^ (a >>> 42);
+        a = a * 31 + 2436 ^ (a >>> 43);
+        a = a * 31 + 2437 ^ (a >>> 44);
+        a = a * 31 + 2438 ^ (a >>> 45);
+        a = a * 31 + 2439 ^ (a >>> 46);
+        a = a * 31 + 2440 ^ (a >>> 47);
+        a = a * 31 + 2441 ^ (a >>> 48);
+        a = a * 31 + 2442 ^ (a >>> 49);
+        a = a * 31 + 2443 ^ (a >>> 50);
+        a = a * 31 + 2444 ^ (a >>> 51);
+        a = a * 31 + 2445 ^ (a >>> 52);
+        a = a * 31 + 2446 ^ (a >>> 53);
+        a = a * 31 + 2447 ^ (a >>> 54);
+        a = a * 31 + 2448 ^ (a >>> 55);
+        a = a * 31 + 2449 ^ (a >>> 56);
+        a = a * 31 + 2450 ^ (a >>> 57);
+        a = a * 31 + 2451 ^ (a >>> 58);
+        a = a * 31 + 2452 ^ (a >>> 59);
+        a = a * 31 + 2453 ^ (a >>> 60);
+        a = a * 31 + 2454 ^ (a >>> 61);
+        a = a * 31 + 2455 ^ (a >>> 62);
+        a = a * 31 + 2456 ^ (a >>> 63);
+        a = a * 31 + 2457 ^ (a >>> 1);
+        a = a * 31 + 2458 ^ (a >>> 2);
+        a = a * 31 + 2459 ^ (a >>> 3);
+        a = a * 31 + 2460 ^ (a >>> 4);
+        a = a * 31 + 2461 ^ (a >>> 5);
+        a = a * 31 + 2462 ^ (a >>> 6);
+        a = a * 31 + 2463 ^ (a >>> 7);
+        a = a * 31 + 2464 ^ (a >>> 8);
+        a = a * 31 + 2465 ^ (a >>> 9);
+        a = a * 31 + 2466 ^ (a >>> 10);
+        a = a * 31 + 2467 ^ (a >>> 11);
+        a = a * 31 + 2468 ^ (a >>> 12);
+        a = a * 31 + 2469 ^ (a >>> 13);
+        a = a * 31 + 2470 ^ (a >>> 14);
+        a = a * 31 + 2471 ^ (a >>> 15);
+        a = a * 31 + 2472 ^ (a >>> 16);
+        a = a * 31 + 2473 ^ (a >>> 17);
+        a = a * 31 + 2474 ^ (a >>> 18);
+        a = a * 31 + 2475 ^ (a >>> 19);
+        a = a * 31 + 2476 ^ (a >>> 20);
+        a = a * 31 + 2477 ^ (a >>> 21);
+        a = a * 31 + 2478 ^ (a >>> 22);
+        a = a * 31 + 2479 ^ (a >>> 23);
+        a = a * 31 + 2480 ^ (a >>> 24);
+        a = a * 31 + 2481 ^ (a >>> 25);
+        a = a * 31 + 2482 ^ (a >>> 26);
+        a = a * 31 + 2483 ^ (a >>> 27);
+        a = a * 31 + 2484 ^ (a >>> 28);
+        a = a * 31 + 2485 ^ (a >>> 29);
+        a = a * 31 + 2486 ^ (a >>> 30);
+        a = a * 31 + 2487 ^ (a >>> 31);
+        a = a * 31 + 2488 ^ (a >>> 32);
+        a = a * 31 + 2489 ^ (a >>> 33);
+        a = a * 31 + 2490 ^ (a >>> 34);
+        a = a * 31 + 2491 ^ (a >>> 35);
+        a = a * 31 + 2492 ^ (a >>> 36);
+        a = a * 31 + 2493 ^ (a >>> 37);
+        a = a * 31 + 2494 ^ (a >>> 38);
+        a = a * 31 + 2495 ^ (a >>> 39);
+        a = a * 31 + 2496 ^ (a >>> 40);
+        a = a * 31 + 2497 ^ (a >>> 41);
+        a = a * 31 + 2498 ^ (a >>> 42);
+        a = a * 31 + 2499 ^ (a >>> 43);
+        a = a * 31 + 2500 ^ (a >>> 44);
+        a = a * 31 + 2501 ^ (a >>> 45);
+        a = a * 31 + 2502 ^ (a >>> 46);
+        a = a * 31 + 2503 ^ (a >>> 47);
+        a = a * 31 + 2504 ^ (a >>> 48);
+        a = a * 31 + 2505 ^ (a >>> 49);
+        a = a * 31 + 2506 ^ (a >>> 50);
+        a = a * 31 + 2507 ^ (a >>> 51);
+        a = a * 31 + 2508 ^ (a >>> 52);
+        a = a * 31 + 2509 ^ (a >>> 53);
+        a = a * 31 + 2510 ^ (a >>> 54);
+        a = a * 31 + 2511 ^ (a >>> 55);
+        a = a * 31 + 2512 ^ (a >>> 56);
+        a = a * 31 + 2513 ^ (a >>> 57);
+        a = a * 31 + 2514 ^ (a >>> 58);
+        a = a * 31 + 2515 ^ (a >>> 59);
+        a = a * 31 + 2516 ^ (a >>> 60);
+        a = a * 31 + 2517 ^ (a >>> 61);
+        a = a * 31 + 2518 ^ (a >>> 62);
+        a = a * 31 + 2519 ^ (a >>> 63);
+        a = a * 31 + 2520 ^ (a >>> 1);
+        a = a * 31 + 2521 ^ (a >>> 2);
+        a = a * 31 + 2522 ^ (a >>> 3);
+        a = a * 31 + 2523 ^ (a >>> 4);
+        a = a * 31 + 2524 ^ (a >>> 5);
+        a = a * 31 + 2525 ^ (a >>> 6);
+        a = a * 31 + 2526 ^ (a >>> 7);
+        a = a * 31 + 2527 ^ (a >>> 8);
+        a = a * 31 + 2528 ^ (a >>> 9);
+        a = a * 31 + 2529 ^ (a >>> 10);
+        a = a * 31 + 2530 ^ (a >>> 11);
+        a = a * 31 + 2531 ^ (a >>> 12);
+        a = a * 31 + 2532 ^ (a >>> 13);
+        a = a * 31 + 2533 ^ (a >>> 14);
+        a = a * 31 + 2534 ^ (a >>> 15);
+        a = a * 31 + 2535 ^ (a >>> 16);
+        a = a * 31 + 2536 ^ (a >>> 17);
+        a = a * 31 + 2537 ^ (a >>> 18);
+        a = a * 31 + 2538 ^ (a >>> 19);
+        a = a * 31 + 2539 ^ (a >>> 20);
+        a = a * 31 + 2540 ^ (a >>> 21);
+        a = a * 31 + 2541 ^ (a >>> 22);
+        a = a * 31 + 2542 ^ (a >>> 23);
+        a = a * 31 + 2543 ^ (a >>> 24);
+        a = a * 31 + 2544 ^ (a >>> 25);
+        a = a * 31 + 2545 ^ (a >>> 26);
+        a = a * 31 + 2546 ^ (a >>> 27);
+        a = a * 31 + 2547 ^ (a >>> 28);
+        a = a * 31 + 2548 ^ (a >>> 29);
+        a = a * 31 + 2549 ^ (a >>> 30);
+        a = a * 31 + 2550 ^ (a >>> 31);
+        a = a * 31 + 2551 ^ (a >>> 32);
+        a = a * 31 + 2552 ^ (a >>> 33);
+        a = a * 31 + 2553 ^ (a >>> 34);
+        a = a * 31 + 2554 ^ (a >>> 35);
+        a = a * 31 + 2555 ^ (a >>> 36);
+        a = a * 31 + 2556 ^ (a >>> 37);
+        a = a * 31 + 2557 ^ (a >>> 38);
+        a = a * 31 + 2558 ^ (a >>> 39);
+        a = a * 31 + 2559 ^ (a >>> 40);
+        a = a * 31 + 2560 ^ (a >>> 41);
+        a = a * 31 + 2561 ^ (a >>> 42);
+        a = a * 31 + 2562 ^ (a >>> 43);
+        a = a * 31 + 2563 ^ (a >>> 44);
+        a = a * 31 + 2564 ^ (a >>> 45);
+        a = a * 31 + 2565 ^ (a >>> 46);
+        a = a * 31 + 2566 ^ (a >>> 47);
+        a = a * 31 + 2567 ^ (a >>> 48);
+        a = a * 31 + 2568 ^ (a >>> 49);
+        a = a * 31 + 2569 ^ (a >>> 50);
+        a = a * 31 + 2570 ^ (a >>> 51);
+        a = a * 31 + 2571 ^ (a >>> 52);
+        a = a * 31 + 2572 ^ (a >>> 53);
+        a = a * 31 + 2573 ^ (a >>> 54);
+        a = a * 31 + 2574 ^ (a >>> 55);
+        a = a * 31 + 2575 ^ (a >>> 56);
+        a = a * 31 + 2576 ^ (a >>> 57);
+        a = a * 31 + 2577 ^ (a >>> 58);
+        a = a * 31 + 2578 ^ (a >>> 59);
+        a = a * 31 + 2579 ^ (a >>> 60);
+        a = a * 31 + 2580 ^ (a >>> 61);
+        a = a * 31 + 2581 ^ (a >>> 62);
+        a = a * 31 + 2582 ^ (a >>> 63);
+        a = a * 31 + 2583 ^ (a >>> 1);
+        a = a * 31 + 2584 ^ (a >>> 2);
+        a = a * 31 + 2585 ^ (a >>> 3);
+        a = a * 31 + 2586 ^ (a >>> 4);
+        a = a * 31 + 2587 ^ (a >>> 5);
+        a = a * 31 + 2588 ^ (a >>> 6);
+        a = a * 31 + 2589 ^ (a >>> 7);
+        a = a * 31 + 2590 ^ (a >>> 8);
+        a = a * 31 + 2591 ^ (a >>> 9);
+        a = a * 31 + 2592 ^ (a >>> 10);
+        a = a * 31 + 2593 ^ (a >>> 11);
+        a = a * 31 + 2594 ^ (a >>> 12);
+        a = a * 31 + 2595 ^ (a >>> 13);
+        a = a * 31 + 2596 ^ (a >>> 14);
+        a = a * 31 + 2597 ^ (a >>> 15);
+        a = a * 31 + 2598 ^ (a >>> 16);
+        a = a * 31 + 2599 ^ (a >>> 17);
+        a = a * 31 + 2600 ^ (a >>> 18);
+        a = a * 31 + 2601 ^ (a >>> 19);
+        a = a * 31 + 2602 ^ (a >>> 20);
+        a = a * 31 + 2603 ^ (a >>> 21);
+        a = a * 31 + 2604 ^ (a >>> 22);
+        a = a * 31 + 2605 ^ (a >>> 23);
+        a = a * 31 + 2606 ^ (a >>> 24);
+        a = a * 31 + 2607 ^ (a >>> 25);
+        a = a * 31 + 2608 ^ (a >>> 26);
+        a = a * 31 + 2609 ^ (a >>> 27);
+        a = a * 31 + 2610 ^ (a >>> 28);
+        a = a * 31 + 2611 ^ (a >>> 29);
+        a = a * 31 + 2612 ^ (a >>> 30);
+        a = a * 31 + 2613 ^ (a >>> 31);
+        a = a * 31 + 2614 ^ (a >>> 32);
+        a = a * 31 + 2615 ^ (a >>> 33);
+        a = a * 31 + 2616 ^ (a >>> 34);
+        a = a * 31 + 2617 ^ (a >>> 35);
+        a = a * 31 + 2618 ^ (a >>> 36);
+        a = a * 31 + 2619 ^ (a >>> 37);
+        a = a * 31 + 2620 ^ (a >>> 38);
+        a = a * 31 + 2621 ^ (a >>> 39);
+        a = a * 31 + 2622 ^ (a >>> 40);
+        a = a * 31 + 2623 ^ (a >>> 41);
+        a = a * 31 + 2624 ^ (a >>> 42);
+        a = a * 31 + 2625 ^ (a >>> 43);
+        a = a * 31 + 2626 ^ (a >>> 44);
+        a = a * 31 + 2627 ^ (a >>> 45);
+        a = a * 31 + 2628 ^ (a >>> 46);
+        a = a * 31 + 2629 ^ (a >>> 47);
+        a = a * 31 + 2630 ^ (a >>> 48);
+        a = a * 31 + 2631 ^ (a >>> 49);
+        a = a * 31 + 2632 ^ (a >>> 50);
+        a = a * 31 + 2633 ^ (a >>> 51);
+        a = a * 31 + 2634 ^ (a >>> 52);
+        a = a * 31 + 2635 ^ (a >>> 53);
+        a = a * 31 + 2636 ^ (a >>> 54);
+        a = a * 31 + 2637 ^ (a >>> 55);
+        a = a * 31 + 2638 ^ (a >>> 56);
+        a = a * 31 + 2639 ^ (a >>> 57);
+        a = a * 31 + 2640 ^ (a >>> 58);
+        a = a * 31 + 2641 ^ (a >>> 59);
+        a = a * 31 + 2642 ^ (a >>> 60);
+        a = a * 31 + 2643 ^ (a >>> 61);
+        a = a * 31 + 2644 ^ (a >>> 62);
+        a = a * 31 + 2645 ^ (a >>> 63);
+        a = a * 31 + 2646 ^ (a >>> 1);
+        a = a * 31 + 2647 ^ (a >>> 2);
+        a = a * 31 + 2648 ^ (a >>> 3);
+        a = a * 31 + 2649 ^ (a >>> 4);
+        a = a * 31 + 2650 ^ (a >>> 5);
+        a = a * 31 + 2651 ^ (a >>> 6);
+        a = a * 31 + 2652 ^ (a >>> 7);
+        a = a * 31 + 2653 ^ (a >>> 8);
+        a = a * 31 + 2654 ^ (a >>> 9);
+        a = a * 31 + 2655 ^ (a >>> 10);
+        a = a * 31 + 2656 ^ (a >>> 11);
+        a = a * 31 + 2657 ^ (a >>> 12);
+        a = a * 31 + 2658 ^ (a >>> 13);
+        a = a * 31 + 2659 ^ (a >>> 14);
+        a = a * 31 + 2660 ^ (a >>> 15);
+        a = a * 31 + 2661 ^ (a >>> 16);
+        a = a * 31 + 2662 ^ (a >>> 17);
+        a = a * 31 + 2663 ^ (a >>> 18);
+        a = a * 31 + 2664 ^ (a >>> 19);
+        a = a * 31 + 2665 ^ (a >>> 20);
+        a = a * 31 + 2666 ^ (a >>> 21);
+        a = a * 31 + 2667 ^ (a >>> 22);
+        a = a * 31 + 2668 ^ (a >>> 23);
+        a = a * 31 + 2669 ^ (a >>> 24);
+        a = a * 31 + 2670 ^ (a >>> 25);
+        a = a * 31 + 2671 ^ (a >>> 26);
+        a = a * 31 + 2672 ^ (a >>> 27);
+        a = a * 31 + 2673 ^ (a >>> 28);
+        a = a * 31 + 2674 ^ (a >>> 29);
+        a = a * 31 + 2675 ^ (a >>> 30);
+        a = a * 31 + 2676 ^ (a >>> 31);
+        a = a * 31 + 2677 ^ (a >>> 32);
+        a = a * 31 + 2678 ^ (a >>> 33);
+        a = a * 31 + 2679 ^ (a >>> 34);
+        a = a * 31 + 2680 ^ (a >>> 35);
+        a = a * 31 + 2681 ^ (a >>> 36);
+        a = a * 31 + 2682 ^ (a >>> 37);
+        a = a * 31 + 2683 ^ (a >>> 38);
+        a = a * 31 + 2684 ^ (a >>> 39);
+        a = a * 31 + 2685 ^ (a >>> 40);
+        a = a * 31 + 2686 ^ (a >>> 41);
+        a = a * 31 + 2687 ^ (a >>> 42);
+        a = a * 31 + 2688 ^ (a >>> 43);
+        a = a * 31 + 2689 ^ (a >>> 44);
+        a = a * 31 + 2690 ^ (a >>> 45);
+        a = a * 31 + 2691 ^ (a >>> 46);
+        a = a * 31 + 2692 ^ (a >>> 47);
+        a = a * 31 + 2693 ^ (a >>> 48);
+        a = a * 31 + 2694 ^ (a >>> 49);
+        a = a * 31 + 2695 ^ (a >>> 50);
+        a = a * 31 + 2696 ^ (a >>> 51);
+        a = a * 31 + 2697 ^ (a >>> 52);
+        a = a * 31 + 2698 ^ (a >>> 53);
+        a = a * 31 + 2699 ^ (a >>> 54);
+        a = a * 31 + 2700 ^ (a >>> 55);
+        a = a * 31 + 2701 ^ (a >>> 56);
+        a = a * 31 + 2702 ^ (a >>> 57);
+        a = a * 31 + 2703 ^ (a >>> 58);
+        a = a * 31 + 2704 ^ (a >>> 59);
+        a = a * 31 + 2705 ^ (a >>> 60);
+        a = a * 31 + 2706 ^ (a >>> 61);
+        a = a * 31 + 2707 ^ (a >>> 62);
+        a = a * 31 + 2708 ^ (a >>> 63);
+        a = a * 31 + 2709 ^ (a >>> 1);
+        a = a * 31 + 2710 ^ (a >>> 2);
+        a = a * 31 + 2711 ^ (a >>> 3);
+        a = a * 31 + 2712 ^ (a >>> 4);
+        a = a * 31 + 2713 ^ (a >>> 5);
+        a = a * 31 + 2714 ^ (a >>> 6);
+        a = a * 31 + 2715 ^ (a >>> 7);
+        a = a * 31 + 2716 ^ (a >>> 8);
+        a = a * 31 + 2717 ^ (a >>> 9);
+        a = a * 31 + 2718 ^ (a >>> 10);
+        a = a * 31 + 2719 ^ (a >>> 11);
+        a = a * 31 + 2720 ^ (a >>> 12);
+        a = a * 31 + 2721 ^ (a >>> 13);
+        a = a * 31 + 2722 ^ (a >>> 14);
+        a = a * 31 + 2723 ^ (a >>> 15);
+        a = a * 31 + 2724 ^ (a >>> 16);
+        a = a * 31 + 2725 ^ (a >>> 17);
+        a = a * 31 + 2726 ^ (a >>> 18);
+        a = a * 31 + 2727 ^ (a >>> 19);
+        a = a * 31 + 2728 ^ (a >>> 20);
+        a = a * 31 + 2729 ^ (a >>> 21);
+        a = a * 31 + 2730 ^ (a >>> 22);
+        a = a * 31 + 2731 ^ (a >>> 23);
+        a = a * 31 + 2732 ^ (a >>> 24);
+        a = a * 31 + 2733 ^ (a >>> 25);
+        a = a * 31 + 2734 ^ (a >>> 26);
+        a = a * 31 + 2735 ^ (a >>> 27);
+        a = a * 31 + 2736 ^ (a >>> 28);
+        a = a * 31 + 2737 ^ (a >>> 29);
+        a = a * 31 + 2738 ^ (a >>> 30);
+        a = a * 31 + 2739 ^ (a >>> 31);
+        a = a * 31 + 2740 ^ (a >>> 32);
+        a = a * 31 + 2741 ^ (a >>> 33);
+        a = a * 31 + 2742 ^ (a >>> 34);
+        a = a * 31 + 2743 ^ (a >>> 35);
+        a = a * 31 + 2744 ^ (a >>> 36);
+        a = a * 31 + 2745 ^ (a >>> 37);
+        a = a * 31 + 2746 ^ (a >>> 38);
+        a = a * 31 + 2747 ^ (a >>> 39);
+        a = a * 31 + 2748 ^ (a >>> 40);
+        a = a * 31 + 2749 ^ (a >>> 41);
+        a = a * 31 + 2750 ^ (a >>> 42);
+        a = a * 31 + 2751 ^ (a >>> 43);
+        a = a * 31 + 2752 ^ (a >>> 44);
+        a = a * 31 + 2753 ^ (a >>> 45);
+        a = a * 31 + 2754 ^ (a >>> 46);
+        a = a * 31 + 2755 ^ (a >>> 47);
+        a = a * 31 + 2756 ^ (a >>> 48);
+        a = a * 31 + 2757 ^ (a >>> 49);
+        a = a * 31 + 2758 ^ (a >>> 50);
+        a = a * 31 + 2759 ^ (a >>> 51);
+        a = a * 31 + 2760 ^ (a >>> 52);
+        a = a * 31 + 2761 ^ (a >>> 53);
+        a = a * 31 + 2762 ^ (a >>> 54);
+        a = a * 31 + 2763 ^ (a >>> 55);
+        a = a * 31 + 2764 ^ (a >>> 56);
+        a = a * 31 + 2765 ^ (a >>> 57);
+        a = a * 31 + 2766 ^ (a >>> 58);
+        a = a * 31 + 2767 ^ (a >>> 59);
+        a = a * 31 + 2768 ^ (a >>> 60);
+        a = a * 31 + 2769 ^ (a >>> 61);
+        a = a * 31 + 2770 ^ (a >>> 62);
+        a = a * 31 + 2771 ^ (a >>> 63);
+        a = a * 31 + 2772 ^ (a >>> 1);
+        a = a * 31 + 2773 ^ (a >>> 2);
+        a = a * 31 + 2774 ^ (a >>> 3);
+        a = a * 31 + 2775 ^ (a >>> 4);
+        a = a * 31 + 2776 ^ (a >>> 5);
+        a = a * 31 + 2777 ^ (a >>> 6);
+        a = a * 31 + 2778 ^ (a >>> 7);
+        a = a * 31 + 2779 ^ (a >>> 8);
+        a = a * 31 + 2780 ^ (a >>> 9);
+        a = a * 31 + 2781 ^ (a >>> 10);
+        a = a * 31 + 2782 ^ (a >>> 11);
+        a = a * 31 + 2783 ^ (a >>> 12);
+        a = a * 31 + 2784 ^ (a >>> 13);
+        a = a * 31 + 2785 ^ (a >>> 14);
+        a = a * 31 + 2786 ^ (a >>> 15);
+        a = a * 31 + 2787 ^ (a >>> 16);
+        a = a * 31 + 2788 ^ (a >>> 17);
+        a = a * 31 + 2789 ^ (a >>> 18);
+        a = a * 31 + 2790 ^ (a >>> 19);
+        a = a * 31 + 2791 ^ (a >>> 20);
+        a = a * 31 + 2792 ^ (a >>> 21);
+        a = a * 31 + 2793 ^ (a >>> 22);
+        a = a * 31 + 2794 ^ (a >>> 23);
+        a = a * 31 + 2795 ^ (a >>> 24);
+        a = a * 31 + 2796 ^ (a >>> 25);
+        a = a * 31 + 2797 ^ (a >>> 26);
+        a = a * 31 + 2798 ^ (a >>> 27);
+        a = a * 31 + 2799 ^ (a >>> 28);
+        a = a * 31 + 2800 ^ (a >>> 29);
+        a = a * 31 + 2801 ^ (a >>> 30);
+        a = a * 31 + 2802 ^ (a >>> 31);
+        a = a * 31 + 2803 ^ (a >>> 32);
+        a = a * 31 + 2804 ^ (a >>> 33);
+        a = a * 31 + 2805 ^ (a >>> 34);
+        a = a * 31 + 2806 ^ (a >>> 35);
+        a = a * 31 + 2807 ^ (a >>> 36);
+        a = a * 31 + 2808 ^ (a >>> 37);
+        a = a * 31 + 2809 ^ (a >>> 38);
+        a = a * 31 + 2810 ^ (a >>> 39);
+        a = a * 31 + 2811 ^ (a >>> 40);
+        a = a * 31 + 2812 ^ (a >>> 41);
+        a = a * 31 + 2813 ^ (a >>> 42);
+        a = a * 31 + 2814 ^ (a >>> 43);
+        a = a * 31 + 2815 ^ (a >>> 44);
+        a = a * 31 + 2816 ^ (a >>> 45);
+        a = a * 31 + 2817 ^ (a >>> 46);
+        a = a * 31 + 2818 ^ (a >>> 47);
+        a = a * 31 + 2819 ^ (a >>> 48);
+        a = a * 31 + 2820 ^ (a >>> 49);
+        a = a * 31 + 2821 ^ (a >>> 50);
+        a = a * 31 + 2822 ^ (a >>> 51);
+        a = a * 31 + 2823 ^ (a >>> 52);
+        a = a * 31 + 2824 ^ (a >>> 53);
+        a = a * 31 + 2825 ^ (a >>> 54);
+        a = a * 31 + 2826 ^ (a >>> 55);
+        a = a * 31 + 2827 ^ (a >>> 56);
+        a = a * 31 + 2828 ^ (a >>> 57);
+        a = a * 31 + 2829 ^ (a >>> 58);
+        a = a * 31 + 2830 ^ (a >>> 59);
+        a = a * 31 + 2831 ^ (a >>> 60);
+        a = a * 31 + 2832 ^ (a >>> 61);
+        a = a * 31 + 2833 ^ (a >>> 62);
+        a = a * 31 + 2834 ^ (a >>> 63);
+        a = a * 31 + 2835 ^ (a >>> 1);
+        a = a * 31 + 2836 ^ (a >>> 2);
+        a = a * 31 + 2837 ^ (a >>> 3);
+        a = a * 31 + 2838 ^ (a >>> 4);
+        a = a * 31 + 2839 ^ (a >>> 5);
+        a = a * 31 + 2840 ^ (a >>> 6);
+        a = a * 31 + 2841 ^ (a >>> 7);
+        a = a * 31 + 2842 ^ (a >>> 8);
+        a = a * 31 + 2843 ^ (a >>> 9);
+        a = a * 31 + 2844 ^ (a >>> 10);
+        a = a * 31 + 2845 ^ (a >>> 11);
+        a = a * 31 + 2846 ^ (a >>> 12);
+        a = a * 31 + 2847 ^ (a >>> 13);
+        a = a * 31 + 2848 ^ (a >>> 14);
+        a = a * 31 + 2849 ^ (a >>> 15);
+        a = a * 31 + 2850 ^ (a >>> 16);
+        a = a * 31 + 2851 ^ (a >>> 17);
+        a = a * 31 + 2852 ^ (a >>> 18);
+        a = a * 31 + 2853 ^ (a >>> 19);
+        a = a * 31 + 2854 ^ (a >>> 20);
+        a = a * 31 + 2855 ^ (a >>> 21);
+        a = a * 31 + 2856 ^ (a >>> 22);
+        a = a * 31 + 2857 ^ (a >>> 23);
+        a = a * 31 + 2858 ^ (a >>> 24);
+        a = a * 31 + 2859 ^ (a >>> 25);
+        a = a * 31 + 2860 ^ (a >>> 26);
+        a = a * 31 + 2861 ^ (a >>> 27);
+        a = a * 31 + 2862 ^ (a >>> 28);
+        a = a * 31 + 2863 ^ (a >>> 29);
+        a = a * 31 + 2864 ^ (a >>> 30);
+        a = a * 31 + 2865 ^ (a >>> 31);
+        a = a * 31 + 2866 ^ (a >>> 32);
+        a = a * 31 + 2867 ^ (a >>> 33);
+        a = a * 31 + 2868 ^ (a >>> 34);
+        a = a * 31 + 2869 ^ (a >>> 35);
+        a = a * 31 + 2870 ^ (a >>> 36);
+        a = a * 31 + 2871 ^ (a >>> 37);
+        a = a * 31 + 2872 ^ (a >>> 38);
+        a = a * 31 + 2873 ^ (a >>> 39);
+        a = a * 31 + 2874 ^ (a >>> 40);
+        a = a * 31 + 2875 ^ (a >>> 41);
+        a = a * 31 + 2876 ^ (a >>> 42);
+        a = a * 31 + 2877 ^ (a >>> 43);
+        a = a * 31 + 2878 ^ (a >>> 44);
+        a = a * 31 + 2879 ^ (a >>> 45);
+        a = a * 31 + 2880 ^ (a >>> 46);
+        a = a * 31 + 2881 ^ (a >>> 47);
+        a = a * 31 + 2882 ^ (a >>> 48);
+        a = a * 31 + 2883 ^ (a >>> 49);
+        a = a * 31 + 2884 ^ (a >>> 50);
+        a = a * 31 + 2885 ^ (a >>> 51);
+        a = a * 31 + 2886 ^ (a >>> 52);
+        a = a * 31 + 2887 ^ (a >>> 53);
+        a = a * 31 + 2888 ^ (a >>> 54);
+        a = a * 31 + 2889 ^ (a >>> 55);
+        a = a * 31 + 2890 ^ (a >>> 56);
+        a = a * 31 + 2891 ^ (a >>> 57);
+        a = a * 31 + 2892 ^ (a >>> 58);
+        a = a * 31 + 2893 ^ (a >>> 59);
+        a = a * 31 + 2894 ^ (a >>> 60);
+        a = a * 31 + 2895 ^ (a >>> 61);
+        a = a * 31 + 2896 ^ (a >>> 62);
+        a = a * 31 + 2897 ^ (a >>> 63);
+        a = a * 31 + 2898 ^ (a >>> 1);
+        a = a * 31 + 2899 ^ (a >>> 2);
+        a = a * 31 + 2900 ^ (a >>> 3);
+        a = a * 31 + 2901 ^ (a >>> 4);
+        a = a * 31 + 2902 ^ (a >>> 5);
+        a = a * 31 + 2903 ^ (a >>> 6);
+        a = a * 31 + 2904 ^ (a >>> 7);
+        a = a * 31 + 2905 ^ (a >>> 8);
+        a = a * 31 + 2906 ^ (a >>> 9);
+        a = a * 31 + 2907 ^ (a >>> 10);
+        a = a * 31 + 2908 ^ (a >>> 11);
+        a = a * 31 + 2909 ^ (a >>> 12);
+        a = a * 31 + 2910 ^ (a >>> 13);
+        a = a * 31 + 2911 ^ (a >>> 14);
+        a = a * 31 + 2912 ^ (a >>> 15);
+        a = a * 31 + 2913 ^ (a >>> 16);
+        a = a * 31 + 2914 ^ (a >>> 17);
+        a = a * 31 + 2915 ^ (a >>> 18);
+        a = a * 31 + 2916 ^ (a >>> 19);
+        a = a * 31 + 2917 ^ (a >>> 20);
+        a = a * 31 + 2918 ^ (a >>> 21);
+        a = a * 31 + 2919 ^ (a >>> 22);
+        a = a * 31 + 2920 ^ (a >>> 23);
+        a = a * 31 + 2921 ^ (a >>> 24);
+        a = a * 31 + 2922 ^ (a >>> 25);
+        a = a * 31 + 2923 ^ (a >>> 26);
+        a = a * 31 + 2924 ^ (a >>> 27);
+        a = a * 31 + 2925 ^ (a >>> 28);
+        a = a * 31 + 2926 ^ (a >>> 29);
+        a = a * 31 + 2927 ^ (a >>> 30);
+        a = a * 31 + 2928 ^ (a >>> 31);
+        a = a * 31 + 2929 ^ (a >>> 32);
+        a = a * 31 + 2930 ^ (a >>> 33);
+        a = a * 31 + 2931 ^ (a >>> 34);
+        a = a * 31 + 2932 ^ (a >>> 35);
+        a = a * 31 + 2933 ^ (a >>> 36);
+        a = a * 31 + 2934 ^ (a >>> 37);
+        a = a * 31 + 2935 ^ (a >>> 38);
+        a = a * 31 + 2936 ^ (a >>> 39);
+        a = a * 31 + 2937 ^ (a >>> 40);
+        a = a * 31 + 2938 ^ (a >>> 41);
+        a = a * 31 + 2939 ^ (a >>> 42);
+        a = a * 31 + 2940 ^ (a >>> 43);
+        a = a * 31 + 2941 ^ (a >>> 44);
+        a = a * 31 + 2942 ^ (a >>> 45);
+        a = a * 31 + 2943 ^ (a >>> 46);
+        a = a * 31 + 2944 ^ (a >>> 47);
+        a = a * 31 + 2945 ^ (a >>> 48);
+        a = a * 31 + 2946 ^ (a >>> 49);
+        a = a * 31 + 2947 ^ (a >>> 50);
+        a = a * 31 + 2948 ^ (a >>> 51);
+        a = a * 31 + 2949 ^ (a >>> 52);
+        a = a * 31 + 2950 ^ (a >>> 53);
+        a = a * 31 + 2951 ^ (a >>> 54);
+        a = a * 31 + 2952 ^ (a >>> 55);
+        a = a * 31 + 2953 ^ (a >>> 56);
+        a = a * 31 + 2954 ^ (a >>> 57);
+        a = a * 31 + 2955 ^ (a >>> 58);
+        a = a * 31 + 2956 ^ (a >>> 59);
+        a = a * 31 + 2957 ^ (a >>> 60);
+        a = a * 31 + 2958 ^ (a >>> 61);
+        a = a * 31 + 2959 ^ (a >>> 62);
+        a = a * 31 + 2960 ^ (a >>> 63);
+        a = a * 31 + 2961 ^ (a >>> 1);
+        a = a * 31 + 2962 ^ (a >>> 2);
+        a = a * 31 + 2963 ^ (a >>> 3);
+        a = a * 31 + 2964 ^ (a >>> 4);
+        a = a * 31 + 2965 ^ (a >>> 5);
+        a = a * 31 + 2966 ^ (a >>> 6);
+        a = a * 31 + 2967 ^ (a >>> 7);
+        a = a * 31 + 2968 ^ (a >>> 8);
+        a = a * 31 + 2969 ^ (a >>> 9);
+        a = a * 31 + 2970 ^ (a >>> 10);
+        a = a * 31 + 2971 ^ (a >>> 11);
+        a = a * 31 + 2972 ^ (a >>> 12);
+        a = a * 31 + 2973 ^ (a >>> 13);
+        a = a * 31 + 2974 ^ (a >>> 14);
+        a = a * 31 + 2975 ^ (a >>> 15);
+        a = a * 31 + 2976 ^ (a >>> 16);
+        a = a * 31 + 2977 ^ (a >>> 17);
+        a = a * 31 + 2978 ^ (a >>> 18);
+        a = a * 31 + 2979 ^ (a >>> 19);
+        a = a * 31 + 2980 ^ (a >>> 20);
+        a = a * 31 + 2981 ^ (a >>> 21);
+        a = a * 31 + 2982 ^ (a >>> 22);
+        a = a * 31 + 2983 ^ (a >>> 23);
+        a = a * 31 + 2984 ^ (a >>> 24);
+        a = a * 31 + 2985 ^ (a >>> 25);
+        a = a * 31 + 2986 ^ (a >>> 26);
+        a = a * 31 + 2987 ^ (a >>> 27);
+        a = a * 31 + 2988 ^ (a >>> 28);
+        a = a * 31 + 2989 ^ (a >>> 29);
+        a = a * 31 + 2990 ^ (a >>> 30);
+        a = a * 31 + 2991 ^ (a >>> 31);
+        a = a * 31 + 2992 ^ (a >>> 32);
+        a = a * 31 + 2993 ^ (a >>> 33);
+        a = a * 31 + 2994 ^ (a >>> 34);
+        a = a * 31 + 2995 ^ (a >>> 35);
+        a = a * 31 + 2996 ^ (a >>> 36);
+        a = a * 31 + 2997 ^ (a >>> 37);
+        a = a * 31 + 2998 ^ (a >>> 38);
+        a = a * 31 + 2999 ^ (a >>> 39);
+        return a;
+    }
+
+    public String longChain(StringBuilder sb) {
+        return sb.append("0").append("1").append("2").append("3").append("4").append("5").append("6").append("7").append("8").append("9").append("10").append("11").append("12").append("13").append("14").append("15").append("16").append("17").append("18").append("19").append("20").append("21").append("22").append("23").append("24").append("25").append("26").append("27").append("28").append("29").append("30").append("31").append("32").append("33").append("34").append("35").append("36").append("37").append("38").append("39").append("40").append("41").append("42").append("43").append("44").append("45").append("46").append("47").append("48").append("49").append("50").append("51").append("52").append("53").append("54").append("55").append("56").append("57").append("58").append("59").append("60").append("61").append("62").append("63").append("64").append("65").append("66").append("67").append("68").append("69").append("70").append("71").append("72").append("73").append("74").append("75").append("76").append("77").append("78").append("79").append("80").append("81").append("82").append("83").append("84").append("85").append("86").append("87").append("88").append("89").append("90").append("91").append("92").append("93").append("94").append("95").append("96").append("97").append("98").append("99").append("100").append("101").append("102").append("103").append("104").append("105").append("106").append("107").append("108").append("109").append("110").append("111").append("112").append("113").append("114").append("115").append("116").append("117").append("118").append("119").append("120").append("121").append("122").append("123").append("124").append("125").append("126").append("127").append("128").append("129").append("130").append("131").append("132").append("133").append("134").append("135").append("136").append("137").append("138").append("139").append("140").append("141").append("142").append("143").append("144").append("145").append("146").append("147").append("148").append("149").append("150").append("151").append("152").append("153").append("154").append("155").append("156").append("157").append("158").append("159").append("160").append("161").append("162").append("163").append("164").append("165").append("166").append("167").append("168").append("169").append("170").append("171").append("172").append("173").append("174").append("175").append("176").append("177").append("178").append("179").append("180").append("181").append("182").append("183").append("184").append("185").append("186").append("187").append("188").append("189").append("190").append("191").append("192").append("193").append("194").append("195").append("196").append("197").append("198").append("199").append("200").append("201").append("202").append("203").append("204").append("205").append("206").append("207").append("208").append("209").append("210").append("211").append("212").append("213").append("214").append("215").append("216").append("217").append("218").append("219").append("220").append("221").append("222").append("223").append("224").append("225").append("226").append("227").append("228").append("229").append("230").append("231").append("232").append("233").append("234").append("235").append("236").append("237").append("238").append("239").append("240").append("241").append("242").append("243").append("244").append("245").append("246").append("247").append("248").append("249").append("250").append("251").append("252").append("253").append("254").append("255").append("256").append("257").append("258").append("259").append("260").append("261").append("262").append("263").append("264").append("265").append("266").append("267").append("268").append("269").append("270").append("271").append("272").append("273").append("274").append("275").append("276").append("277").append("278").append("279").append("280").append("281").append("282").append("283").append("284").append("285").append("286").append("287").append("288").append("289").append("290").append("291").append("292").append("293").append("294").append("295").append("296").append("297").append("298").append("299").append("300").append("301").append("302").append("303").append("304").append("305").append("306").append("307").append("308").append("309").append("310").append("311").append("312").append("313").append("314").append("315").append("316").append("317").append("318").append("319").append("320").append("321").append("322").append("323").append("324").append("325").append("326").append("327").append("328").append("329").append("330").append("331").append("332").append("333").append("334").append("335").append("336").append("337").append("338").append("339").append("340").append("341").append("342").append("343").append("344").append("345").append("346").append("347").append("348").append("349").append("350").append("351").append("352").append("353").append("354").append("355").append("356").append("357").append("358").append("359").append("360").append("361").append("362").append("363").append("364").append("365").append("366").append("367").append("368").append("369").append("370").append("371").append("372").append("373").append("374").append("375").append("376").append("377").append("378").append("379").append("380").append("381").append("382").append("383").append("384").append("385").append("386").append("387").append("388").append("389").append("390").append("391").append("392").append("393").append("394").append("395").append("396").append("397").append("398").append("399").append("400").append("401").append("402").append("403").append("404").append("405").append("406").append("407").append("408").append("409").append("410").append("411").append("412").append("413").append("414").append("415").append("416").append("417").append("418").append("419").append("420").append("421").append("422").append("423").append("424").append("425").append("426").append("427").append("428").append("429").append("430").append("431").append("432").append("433").append("434").append("435").append("436").append("437").append("438").append("439").append("440").append("441").append("442").append("443").append("444").append("445").append("446").append("447").append("448").append("449").append("450").append("451").append("452").append("453").append("454").append("455").append("456").append("457").append("458").append("459").append("460").append("461").append("462").append("463").append("464").append("465").append("466").append("467").append("468").append("469").append("470").append("471").append("472").append("473").append("474").append("475").append("476").append("477").append("478").append("479").append("480").append("481").append("482").append("483").append("484").append("485").append("486").append("487").append("488").append("489").append("490").append("491").append("492").append("493").append("494").append("495").append("496").append("497").append("498").append("499").append("500").append("501").append("502").append("503").append("504").append("505").append("506").append("507").append("508").append("509").append("510").append("511").append("512").append("513").append("514").append("515").append("516").append("517").append("518").append("519").append("520").append("521").append("522").append("523").append("524").append("525").append("526").append("527").append("528").append("529").append("530").append("531").append("532").append("533").append("534").append("535").append("536").append("537").append("538").append("539").append("540").append("541").append("542").append("543").append("544").append("545").append("546").append("547").append("548").append("549").append("550").append("551").append("552").append("553").append("554").append("555").append("556").append("557").append("558").append("559").append("560").append("561").append("562").append("563").append("564").append("565").append("566").append("567").append("568").append("569").append("570").append("571").append("572").append("573").append("574").append("575").append("576").append("577").append("578").append("579").append("580").append("581").append("582").append("583").append("584").append("585").append("586").append("587").append("588").append("589").append("590").append("591").append("592").append("593").append("594").append("595").append("596").append("597").append("598").append("599").toString();
+    }
+
+    public int manyCatches(String s) {
+        int r = 0;
+        try {
+            r += Integer.parseInt(s) / 1;
+        } catch (NumberFormatException e) {
+            r -= 0;
+        } catch (ArithmeticException e) {
+            r += 0;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 2;
+        } catch (NumberFormatException e) {
+            r -= 1;
+        } catch (ArithmeticException e) {
+            r += 1;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 3;
+        } catch (NumberFormatException e) {
+            r -= 2;
+        } catch (ArithmeticException e) {
+            r += 2;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 4;
+        } catch (NumberFormatException e) {
+            r -= 3;
+        } catch (ArithmeticException e) {
+            r += 3;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 5;
+        } catch (NumberFormatException e) {
+            r -= 4;
+        } catch (ArithmeticException e) {
+            r += 4;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 6;
+        } catch (NumberFormatException e) {
+            r -= 5;
+        } catch (ArithmeticException e) {
+            r += 5;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 7;
+        } catch (NumberFormatException e) {
+            r -= 6;
+        } catch (ArithmeticException e) {
+            r += 6;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 8;
+        } catch (NumberFormatException e) {
+            r -= 7;
+        } catch (ArithmeticException e) {
+            r += 7;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 9;
+        } catch (NumberFormatException e) {
+            r -= 8;
+        } catch (ArithmeticException e) {
+            r += 8;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 10;
+        } catch (NumberFormatException e) {
+            r -= 9;
+        } catch (ArithmeticException e) {
+            r += 9;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 11;
+        } catch (NumberFormatException e) {
+            r -= 10;
+        } catch (ArithmeticException e) {
+            r += 10;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 12;
+        } catch (NumberFormatException e) {
+            r -= 11;
+        } catch (ArithmeticException e) {
+            r += 11;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 13;
+        } catch (NumberFormatException e) {
+            r -= 12;
+        } catch (ArithmeticException e) {
+            r += 12;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 14;
+        } catch (NumberFormatException e) {
+            r -= 13;
+        } catch (ArithmeticException e) {
+            r += 13;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 15;
+        } catch (NumberFormatException e) {
+            r -= 14;
+        } catch (ArithmeticException e) {
+            r += 14;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 16;
+        } catch (NumberFormatException e) {
+            r -= 15;
+        } catch (ArithmeticException e) {
+            r += 15;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 17;
+        } catch (NumberFormatException e) {
+            r -= 16;
+        } catch (ArithmeticException e) {
+            r += 16;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 18;
+        } catch (NumberFormatException e) {
+            r -= 17;
+        } catch (ArithmeticException e) {
+            r += 17;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 19;
+        } catch (NumberFormatException e) {
+            r -= 18;
+        } catch (ArithmeticException e) {
+            r += 18;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 20;
+        } catch (NumberFormatException e) {
+            r -= 19;
+        } catch (ArithmeticException e) {
+            r += 19;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 21;
+        } catch (NumberFormatException e) {
+            r -= 20;
+        } catch (ArithmeticException e) {
+            r += 20;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 22;
+        } catch (NumberFormatException e) {
+            r -= 21;
+        } catch (ArithmeticException e) {
+            r += 21;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 23;
+        } catch (NumberFormatException e) {
+            r -= 22;
+        } catch (ArithmeticException e) {
+            r += 22;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 24;
+        } catch (NumberFormatException e) {
+            r -= 23;
+        } catch (ArithmeticException e) {
+            r += 23;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 25;
+        } catch (NumberFormatException e) {
+            r -= 24;
+        } catch (ArithmeticException e) {
+            r += 24;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 26;
+        } catch (NumberFormatException e) {
+            r -= 25;
+        } catch (ArithmeticException e) {
+            r += 25;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 27;
+        } catch (NumberFormatException e) {
+            r -= 26;
+        } catch (ArithmeticException e) {
+            r += 26;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 28;
+        } catch (NumberFormatException e) {
+            r -= 27;
+        } catch (ArithmeticException e) {
+            r += 27;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 29;
+        } catch (NumberFormatException e) {
+            r -= 28;
+        } catch (ArithmeticException e) {
+            r += 28;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 30;
+        } catch (NumberFormatException e) {
+            r -= 29;
+        } catch (ArithmeticException e) {
+            r += 29;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 31;
+        } catch (NumberFormatException e) {
+            r -= 30;
+        } catch (ArithmeticException e) {
+            r += 30;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 32;
+        } catch (NumberFormatException e) {
+            r -= 31;
+        } catch (ArithmeticException e) {
+            r += 31;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 33;
+        } catch (NumberFormatException e) {
+            r -= 32;
+        } catch (ArithmeticException e) {
+            r += 32;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 34;
+        } catch (NumberFormatException e) {
+            r -= 33;
+        } catch (ArithmeticException e) {
+            r += 33;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 35;
+        } catch (NumberFormatException e) {
+            r -= 34;
+        } catch (ArithmeticException e) {
+            r += 34;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 36;
+        } catch (NumberFormatException e) {
+            r -= 35;
+        } catch (ArithmeticException e) {
+            r += 35;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 37;
+        } catch (NumberFormatException e) {
+            r -= 36;
+        } catch (ArithmeticException e) {
+            r += 36;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 38;
+        } catch (NumberFormatException e) {
+            r -= 37;
+        } catch (ArithmeticException e) {
+            r += 37;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 39;
+        } catch (NumberFormatException e) {
+            r -= 38;
+        } catch (ArithmeticException e) {
+            r += 38;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 40;
+        } catch (NumberFormatException e) {
+            r -= 39;
+        } catch (ArithmeticException e) {
+            r += 39;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 41;
+        } catch (NumberFormatException e) {
+            r -= 40;
+        } catch (ArithmeticException e) {
+            r += 40;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 42;
+        } catch (NumberFormatException e) {
+            r -= 41;
+        } catch (ArithmeticException e) {
+            r += 41;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 43;
+        } catch (NumberFormatException e) {
+            r -= 42;
+        } catch (ArithmeticException e) {
+            r += 42;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 44;
+        } catch (NumberFormatException e) {
+            r -= 43;
+        } catch (ArithmeticException e) {
+            r += 43;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 45;
+        } catch (NumberFormatException e) {
+            r -= 44;
+        } catch (ArithmeticException e) {
+            r += 44;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 46;
+        } catch (NumberFormatException e) {
+            r -= 45;
+        } catch (ArithmeticException e) {
+            r += 45;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 47;
+        } catch (NumberFormatException e) {
+            r -= 46;
+        } catch (ArithmeticException e) {
+            r += 46;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 48;
+        } catch (NumberFormatException e) {
+            r -= 47;
+        } catch (ArithmeticException e) {
+            r += 47;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 49;
+        } catch (NumberFormatException e) {
+            r -= 48;
+        } catch (ArithmeticException e) {
+            r += 48;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 50;
+        } catch (NumberFormatException e) {
+            r -= 49;
+        } catch (ArithmeticException e) {
+            r += 49;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 51;
+        } catch (NumberFormatException e) {
+            r -= 50;
+        } catch (ArithmeticException e) {
+            r += 50;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 52;
+        } catch (NumberFormatException e) {
+            r -= 51;
+        } catch (ArithmeticException e) {
+            r += 51;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 53;
+        } catch (NumberFormatException e) {
+            r -= 52;
+        } catch (ArithmeticException e) {
+            r += 52;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 54;
+        } catch (NumberFormatException e) {
+            r -= 53;
+        } catch (ArithmeticException e) {
+            r += 53;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 55;
+        } catch (NumberFormatException e) {
+            r -= 54;
+        } catch (ArithmeticException e) {
+            r += 54;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 56;
+        } catch (NumberFormatException e) {
+            r -= 55;
+        } catch (ArithmeticException e) {
+            r += 55;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 57;
+        } catch (NumberFormatException e) {
+            r -= 56;
+        } catch (ArithmeticException e) {
+            r += 56;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 58;
+        } catch (NumberFormatException e) {
+            r -= 57;
+        } catch (ArithmeticException e) {
+            r += 57;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 59;
+        } catch (NumberFormatException e) {
+            r -= 58;
+        } catch (ArithmeticException e) {
+            r += 58;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        try {
+            r += Integer.parseInt(s) / 60;
+        } catch (NumberFormatException e) {
+            r -= 59;
+        } catch (ArithmeticException e) {
+            r += 59;
+        } catch (RuntimeException e) {
+            r = 0;
+        }
+        return r;
+    }
+
+    public int overload(int a) { return a + 0; }
+    public int overload(int a, int p0) { return a + 1; }
+    public int overload(int a, int p0, int p1) { return a + 2; }
+    public int overload(int a, int p0, int p1, int p2) { return a + 3; }
+    public int overload(int a, int p0, int p1, int p2, int p3) { return a + 4; }
+    public int overload(int a, int p0, int p1, int p2, int p3, int p4) { return a + 5; }
+    public int overload(int a, int p0, int p1, int p2, int p3, int p4, int p5) { return a + 6; }
+    public int overload(int a, int p0, int p1, int p2, int p3, int p4, int p5, int p6) { return a + 7; }
+    public int tiny8() { return 8; }
+    public int tiny9() { return 9; }
+    public int tiny10() { return 10; }
+    public int tiny11() { return 11; }
+    public int tiny12() { return 12; }
+    public int tiny13() { return 13; }
+    public int tiny14() { return 14; }
+    public int tiny15() { return 15; }
+    public int tiny16() { return 16; }
+    public int tiny17() { return 17; }
+    public int tiny18() { return 18; }
+    public int tiny19() { return 19; }
+    public int tiny20() { return 20; }
+    public int tiny21() { return 21; }
+    public int tiny22() { return 22; }
+    public int tiny23() { return 23; }
+    public int tiny24() { return 24; }
+    public int tiny25() { return 25; }
+    public int tiny26() { return 26; }
+    public int tiny27() { return 27; }
+    public int tiny28() { return 28; }
+    public int tiny29() { return 29; }
+    public int tiny30() { return 30; }
+    public int tiny31() { return 31; }
+    public int tiny32() { return 32; }
+    public int tiny33() { return 33; }
+    public int tiny34() { return 34; }
+    public int tiny35() { return 35; }
+    public int tiny36() { return 36; }
+    public int tiny37() { return 37; }
+    public int tiny38() { return 38; }
+    public int tiny39() { return 39; }
+    public int tiny40() { return 40; }
+    public int tiny41() { return 41; }
+    public int tiny42() { return 42; }
+    public int tiny43() { return 43; }
+    public int tiny44() { return 44; }
+    public int tiny45() { return 45; }
+    public int tiny46() { return 46; }
+    public int tiny47() { return 47; }
+    public int tiny48() { return 48; }
+    public int tiny49() { return 49; }
+    public int tiny50() { return 50; }
+    public int tiny51() { return 51; }
+    public int tiny52() { return 52; }
+    public int tiny53() { return 53; }
+    public int tiny54() { return 54; }
+    public int tiny55() { return 55; }
+    public int tiny56() { return 56; }
+    public int tiny57() { return 57; }
+    public int tiny58() { return 58; }
+    public int tiny59() { return 59; }
+    public int tiny60() { return 60; }
+    public int tiny61() { return 61; }
+    public int tiny62() { return 62; }
+    public int tiny63() { return 63; }
+    public int tiny64() { return 64; }
+    public int tiny65() { return 65; }
+    public int tiny66() { return 66; }
+    public int tiny67() { return 67; }
+    public int tiny68() { return 68; }
+    public int tiny69() { return 69; }
+    public int tiny70() { return 70; }
+    public int tiny71() { return 71; }
+    public int tiny72() { return 72; }
+    public int tiny73() { return 73; }
+    public int tiny74() { return 74; }
+    public int tiny75() { return 75; }
+    public int tiny76() { return 76; }
+    public int tiny77() { return 77; }
+    public int tiny78() { return 78; }
+    public int tiny79() { return 79; }
+    public int tiny80() { return 80; }
+    public int tiny81() { return 81; }
+    public int tiny82() { return 82; }
+    public int tiny83() { return 83; }
+    public int tiny84() { return 84; }
+    public int tiny85() { return 85; }
+    public int tiny86() { return 86; }
+    public int tiny87() { return 87; }
+    public int tiny88() { return 88; }
+    public int tiny89() { return 89; }
+    public int tiny90() { return 90; }
+    public int tiny91() { return 91; }
+    public int tiny92() { return 92; }
+    public int tiny93() { return 93; }
+    public int tiny94() { return 94; }
+    public int tiny95() { return 95; }
+    public int tiny96() { return 96; }
+    public int tiny97() { return 97; }
+    public int tiny98() { return 98; }
+    public int tiny99() { return 99; }
+    public int tiny100() { return 100; }
+    public int tiny101() { return 101; }
+    public int tiny102() { return 102; }
+    public int tiny103() { return 103; }
+    public int tiny104() { return 104; }
+    public int tiny105() { return 105; }
+    public int tiny106() { return 106; }
+    public int tiny107() { return 107; }
+    public int tiny108() { return 108; }
+    public int tiny109() { return 109; }
+    public int tiny110() { return 110; }
+    public int tiny111() { return 111; }
+    public int tiny112() { return 112; }
+    public int tiny113() { return 113; }
+    public int tiny114() { return 114; }
+    public int tiny115() { return 115; }
+    public int tiny116() { return 116; }
+    public int tiny117() { return 117; }
+    public int tiny118() { return 118; }
+    public int tiny119() { return 119; }
+    public int tiny120() { return 120; }
+    public int tiny121() { return 121; }
+    public int tiny122() { return 122; }
+    public int tiny123() { return 123; }
+    public int tiny124() { return 124; }
+    public int tiny125() { return 125; }
+    public int tiny126() { return 126; }
+    public int tiny127() { return 127; }
+    public int tiny128() { return 128; }
+    public int tiny129() { return 129; }
+    public int tiny130() { return 130; }
+    public int tiny131() { return 131; }
+    public int tiny132() { return 132; }
+    public int tiny133() { return 133; }
+    public int tiny134() { return 134; }
+    public int tiny135() { return 135; }
+    public int tiny136() { return 136; }
+    public int tiny137() { return 137; }
+    public int tiny138() { return 138; }
+    public int tiny139() { return 139; }
+    public int tiny140() { return 140; }
+    public int tiny141() { return 141; }
+    public int tiny142() { return 142; }
+    public int tiny143() { return 143; }
+    public int tiny144() { return 144; }
+    public int tiny145() { return 145; }
+    public int tiny146() { return 146; }
+    public int tiny147() { return 147; }
+    public int tiny148() { return 148; }
+    public int tiny149() { return 149; }
+    public int tiny150() { return 150; }
+    public int tiny151() { return 151; }
+    public int tiny152() { return 152; }
+    public int tiny153() { return 153; }
+    public int tiny154() { return 154; }
+    public int tiny155() { return 155; }
+    public int tiny156() { return 156; }
+    public int tiny157() { return 157; }
+    public int tiny158() { return 158; }
+    public int tiny159() { return 159; }
+    public int tiny160() { return 160; }
+    public int tiny161() { return 161; }
+    public int tiny162() { return 162; }
+    public int tiny163() { return 163; }
+    public int tiny164() { return 164; }
+    public int tiny165() { return 165; }
+    public int tiny166() { return 166; }
+    public int tiny167() { return 167; }
+    public int tiny168() { return 168; }
+    public int tiny169() { return 169; }
+    public int tiny170() { return 170; }
+    public int tiny171() { return 171; }
+    public int tiny172() { return 172; }
+    public int tiny173() { return 173; }
+    public int tiny174() { return 174; }
+    public int tiny175() { return 175; }
+    public int tiny176() { return 176; }
+    public int tiny177() { return 177; }
+    public int tiny178() { return 178; }
+    public int tiny179() { return 179; }
+    public int tiny180() { return 180; }
+    public int tiny181() { return 181; }
+    public int tiny182() { return 182; }
+    public int tiny183() { return 183; }
+    public int tiny184() { return 184; }
+    public int tiny185() { return 185; }
+    public int tiny186() { return 186; }
+    public int tiny187() { return 187; }
+    public int tiny188() { return 188; }
+    public int tiny189() { return 189; }
+    public int tiny190() { return 190; }
+    public int tiny191() { return 191; }
+    public int tiny192() { return 192; }
+    public int tiny193() { return 193; }
+    public int tiny194() { return 194; }
+    public int tiny195() { return 195; }
+    public int tiny196() { return 196; }
+    public int tiny197() { return 197; }
+    public int tiny198() { return 198; }
+    public int tiny199() { return 199; }
+}
@@ -0,0 +1,43 @@
+package fixtures;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Fixture piccola: una classe tipica con pochi metodi brevi. */
+public class Small {
+
+    private final List<String> items = new ArrayList<>();
+
+    public void add(String item) {
+        if (item == null || item.isEmpty()) {
+            throw new IllegalArgumentException("item vuoto");
+        }
+        items.add(item);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public String longest() {
+        String best = null;
+        for (String s : items) {
+            if (best == null || s.length() > best.length()) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    public int parseAll() {
+        int sum = 0;
+        for (String s : items) {
+            try {
+                sum += Integer.parseInt(s);
+            } catch (NumberFormatException e) {
+                // ignorato
+            }
+        }
+        return sum;
+    }
+}
@@ -8,8 +8,10 @@ import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.annotation.JsonbProperty;
 import okhttp3.*;
+import telemetry.HttpFetchEvent;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDate;
@@ -19,31 +21,62 @@ import java.util.stream.Collectors;
 public class BookkeeperFetcher {
 
     private static final String JIRA_SEARCH_API    = "https://issues.apache.org/jira/rest/api/2/search";
-    private static final String JIRA_PROJECT_API   = "https://issues.apache.org/jira/rest/api/2/project/BOOKKEEPER";
-    private static final String JIRA_JQL_ALL       = "project = BOOKKEEPER ORDER BY created ASC";
+    private static final String JIRA_PROJECT_API   = "https://issues.apache.org/jira/rest/api/2/project/";
+    private static final String JIRA_JQL_ALL       = "project = %s ORDER BY created ASC";
+    private static final String JIRA_JQL_UPDATED   = "project = %s AND updated >= \"%s\" ORDER BY created ASC";
 
-    private final OkHttpClient client = new OkHttpClient();
+    private final String       jiraProject;
+    private final OkHttpClient client;
     private final Jsonb        jsonb;
 
     public BookkeeperFetcher() {
+        this("BOOKKEEPER", new OkHttpClient());
+    }
+
+    /**
+     * @param jiraProject chiave del progetto JIRA (es. "BOOKKEEPER", "ZOOKEEPER")
+     * @param client      client HTTP, condivisibile tra più fetcher (pool di connessioni e cache)
+     */
+    public BookkeeperFetcher(String jiraProject, OkHttpClient client) {
+        this.jiraProject = jiraProject;
+        this.client      = client;
         this.jsonb = JsonbBuilder.create(
                 new JsonbConfig().withFormatting(true)
         );
     }
 
     public List<JiraTicket> readTicketsFromFile(String filePath) throws IOException {
-        String json = Files.readString(Paths.get(filePath));
-        JiraTicket[] arr = jsonb.fromJson(json, JiraTicket[].class);
-        return Arrays.asList(arr);
+        return ticketsFromJson(Files.readString(Paths.get(filePath)));
+    }
+
+    public List<JiraTicket> ticketsFromJson(String json) {
+        return Arrays.asList(jsonb.fromJson(json, JiraTicket[].class));
+    }
+
+    public List<JiraVersion> versionsFromJson(String json) {
+        return Arrays.asList(jsonb.fromJson(json, JiraVersion[].class));
+    }
+
+    public String toJson(Object value) {
+        return jsonb.toJson(value);
     }
 
     public List<JiraTicket> fetchAllJiraTickets(String user, String pwd) throws IOException {
+        return fetchJiraTickets(user, pwd, String.format(JIRA_JQL_ALL, jiraProject));
+    }
+
+    /** Ticket creati o modificati dal giorno indicato (incluso), per l'aggiornamento incrementale. */
+    public List<JiraTicket> fetchJiraTicketsUpdatedSince(String user, String pwd, LocalDate since) throws IOException {
+        return fetchJiraTickets(user, pwd, String.format(JIRA_JQL_UPDATED, jiraProject, since));
+    }
+
+    private List<JiraTicket> fetchJiraTickets(String user, String pwd, String jql) throws IOException {
         List<JiraTicket> tickets = new ArrayList<>();
         int startAt = 0, pageSize = 500, total;
 
         do {
             HttpUrl url = HttpUrl.parse(JIRA_SEARCH_API).newBuilder()
-                    .addQueryParameter("jql",    JIRA_JQL_ALL)
+                    .addQueryParameter("jql",    jql)
                     .addQueryParameter("fields", "*all")
                     .addQueryParameter("startAt", String.valueOf(startAt))
                     .addQueryParameter("maxResults", String.valueOf(pageSize))
@@ -56,15 +89,24 @@ public class BookkeeperFetcher {
                 rb.header("Authorization", Credentials.basic(user, pwd));
             }
 
+            HttpFetchEvent event = new HttpFetchEvent();
+            event.begin();
+            event.urlClass = "jira-search";
             try (Response resp = client.newCall(rb.build()).execute()) {
+                event.status = resp.code();
                 if (!resp.isSuccessful()) {
                     throw new IOException("JIRA search API error: HTTP " + resp.code());
                 }
-                JiraSearchResponse sr = jsonb.fromJson(resp.body().string(), JiraSearchResponse.class);
+                byte[] raw = resp.body().bytes();
+                event.bytes = raw.length;
+                String body = new String(raw, StandardCharsets.UTF_8);
+                JiraSearchResponse sr = jsonb.fromJson(body, JiraSearchResponse.class);
                 total = sr.total;
                 for (JiraSearchIssue si : sr.issues) {
                     tickets.add(mapIssue(si));
                 }
+            } finally {
+                event.record();
             }
             startAt += pageSize;
         } while (startAt < total);
@@ -76,25 +118,42 @@ public class BookkeeperFetcher {
         Files.writeString(Paths.get(filePath), jsonb.toJson(tickets));
     }
 
+    public List<JiraVersion> readVersionsFromFile(String filePath) throws IOException {
+        return versionsFromJson(Files.readString(Paths.get(filePath)));
+    }
+
+    public void writeVersionsToJsonFile(List<JiraVersion> versions, String filePath) throws IOException {
+        Files.writeString(Paths.get(filePath), jsonb.toJson(versions));
+    }
+
     /**
      * Recupera tutte le versioni di progetto (le "Releases" in JIRA),
      * le ordina per data crescente e restituisce la lista di JiraVersion.
      */
     public List<JiraVersion> fetchProjectVersions() throws IOException {
         Request req = new Request.Builder()
-                .url(JIRA_PROJECT_API)
+                .url(JIRA_PROJECT_API + jiraProject)
                 .header("Accept", "application/json")
                 .build();
 
+        HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        event.urlClass = "jira-project";
         try (Response resp = client.newCall(req).execute()) {
+            event.status = resp.code();
             if (!resp.isSuccessful()) {
                 throw new IOException("JIRA project API error: HTTP " + resp.code());
             }
-            ProjectResponse pr = jsonb.fromJson(resp.body().string(), ProjectResponse.class);
+            byte[] raw = resp.body().bytes();
+            event.bytes = raw.length;
+            String body = new String(raw, StandardCharsets.UTF_8);
+            ProjectResponse pr = jsonb.fromJson(body, ProjectResponse.class);
             return pr.versions.stream()
                     .filter(v -> v.getReleaseDate() != null)
                     .sorted(Comparator.comparing(JiraVersion::getReleaseDate))
                     .collect(Collectors.toList());
+        } finally {
+            event.record();
         }
     }
 
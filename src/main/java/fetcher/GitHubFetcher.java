@@ -0,0 +1,48 @@
+package fetcher;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import telemetry.HttpFetchEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Tag di un repository GitHub tramite l'API REST. */
+public class GitHubFetcher {
+
+    private final OkHttpClient client;
+    private final Gson gson = new Gson();
+
+    public GitHubFetcher(OkHttpClient client) {
+        this.client = client;
+    }
+
+    public List<String> fetchTags(String owner, String repo) throws IOException {
+        HttpUrl url = HttpUrl.parse("https://api.github.com/repos/" + owner + "/" + repo + "/tags")
+                .newBuilder().addQueryParameter("per_page","100").build();
+        Request req = new Request.Builder().url(url).build();
+        HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        event.urlClass = "github-tags";
+        try (Response resp = client.newCall(req).execute()) {
+            event.status = resp.code();
+            if (!resp.isSuccessful()) throw new IOException("Richiesta GitHub tag fallita: " + resp);
+            byte[] raw = resp.body().bytes();
+            event.bytes = raw.length;
+            String body = new String(raw, StandardCharsets.UTF_8);
+            JsonArray arr = gson.fromJson(body, JsonArray.class);
+            List<String> tags = new ArrayList<>();
+            for (JsonElement el : arr) tags.add(el.getAsJsonObject().get("name").getAsString());
+            return tags;
+        } finally {
+            event.record();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package history;
+
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tabella compatta dei commit raggiungibili da HEAD, su file e letta in memory-map, così gli
+ * stage sulla storia intera non rifanno il walk (con i messaggi in memoria) a ogni run.
+ *
+ * Per ogni commit, in ordine topologico dal più vecchio (l'ordinale): id, ordinali dei genitori,
+ * commit time, autore (email minuscola, per id), ticket citati nel messaggio (chiavi tipo
+ * PROJ-123, per id) e se il diff col primo genitore tocca sorgenti .java. Se HEAD è avanzato si
+ * aggiungono in coda solo i commit nuovi; se la storia è stata riscritta la tabella si ricostruisce.
+ *
+ * Formato (big endian): magic, versione, conteggi e HEAD; poi id (5 int), time, autore,
+ * inizio genitori (n+1) e genitori, inizio ticket (n+1) e ticket, flag (1 byte); in coda
+ * email e chiavi dei ticket (UTF).
+ */
+public final class CommitTable {
+
+    private static final int MAGIC = 0x43544231;   // "CTB1"
+    private static final int VERSION = 1;
+    private static final int JAVA = 1;
+
+    private static final Pattern TICKET = Pattern.compile("\\b[A-Z][A-Z0-9]+-\\d+\\b", Pattern.CASE_INSENSITIVE);
+
+    private final int n;
+    private final ObjectId head;
+    private final IntBuffer ids, times, authorOf, parentStart, parents, ticketStart, tickets;
+    private final ByteBuffer flags;
+    private final String[] authors, ticketKeys;
+
+    private CommitTable(ByteBuffer buf) throws IOException {
+        if (buf.getInt() != MAGIC || buf.getInt() != VERSION) throw new IOException("Tabella dei commit non valida");
+        n = buf.getInt();
+        int parentCount = buf.getInt(), ticketCount = buf.getInt();
+        int authorCount = buf.getInt(), keyCount = buf.getInt();
+        head = buf.getInt() != 0 ? new ObjectId(buf.getInt(), buf.getInt(), buf.getInt(), buf.getInt(), buf.getInt())
+                : skipId(buf);
+        ids         = ints(buf, n * 5);
+        times       = ints(buf, n);
+        authorOf    = ints(buf, n);
+        parentStart = ints(buf, n + 1);
+        parents     = ints(buf, parentCount);
+        ticketStart = ints(buf, n + 1);
+        tickets     = ints(buf, ticketCount);
+        flags       = buf.slice(buf.position(), n);
+        buf.position(buf.position() + n);
+        byte[] tail = new byte[buf.remaining()];
+        buf.get(tail);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(tail));
+        authors = new String[authorCount];
+        for (int i = 0; i < authorCount; i++) authors[i] = in.readUTF();
+        ticketKeys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) ticketKeys[i] = in.readUTF();
+    }
+
+    /**
+     * Tabella del repository in file: riletta se HEAD non è cambiato, estesa coi commit nuovi
+     * se HEAD è un discendente di quello salvato, altrimenti ricostruita.
+     */
+    public static CommitTable open(Repository repo, Path file) throws IOException {
+        ObjectId head = repo.resolve(Constants.HEAD);
+        CommitTable old = null;
+        if (Files.exists(file)) {
+            try {
+                old = map(file);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Tabella dei commit illeggibile, la ricostruisco: " + e.getMessage());
+            }
+        }
+        if (old != null && Objects.equals(old.head, head)) return old;
+        Builder b = new Builder();
+        try (RevWalk rw = new RevWalk(repo); ObjectReader reader = repo.newObjectReader()) {
+            if (old != null && old.head != null && head != null && extendsHistory(rw, old.head, head)) {
+                b.copy(old);
+            }
+            if (head != null) {
+                rw.sort(RevSort.TOPO, true);
+                rw.sort(RevSort.REVERSE, true);
+                rw.markStart(rw.parseCommit(head));
+                if (b.size() > 0) rw.markUninteresting(rw.parseCommit(old.head));
+                for (RevCommit c : rw) {
+                    b.add(c, touchesJava(rw, reader, c));
+                    c.disposeBody();
+                }
+            }
+        }
+        int before = old == null ? 0 : old.n;
+        System.out.println(" → Tabella dei commit: " + b.size() + " commit"
+                + (before > 0 && b.size() >= before ? " (" + (b.size() - before) + " nuovi)" : ""));
+        b.write(file, head);
+        return map(file);
+    }
+
+    private static CommitTable map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new CommitTable(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    public int size()        { return n; }
+    public ObjectId head()   { return head; }
+
+    public ObjectId id(int ordinal) {
+        int b = ordinal * 5;
+        return new ObjectId(ids.get(b), ids.get(b + 1), ids.get(b + 2), ids.get(b + 3), ids.get(b + 4));
+    }
+
+    public int commitTime(int ordinal)   { return times.get(ordinal); }
+    public int author(int ordinal)       { return authorOf.get(ordinal); }
+    public String authorEmail(int id)    { return authors[id]; }
+    public int authorCount()             { return authors.length; }
+    public int parentCount(int ordinal)  { return parentStart.get(ordinal + 1) - parentStart.get(ordinal); }
+    public boolean touchesJava(int ordinal) { return (flags.get(ordinal) & JAVA) != 0; }
+
+    /** Ordinali dei genitori (nell'ordine del commit). */
+    public int[] parents(int ordinal) {
+        int[] p = new int[parentCount(ordinal)];
+        for (int k = 0; k < p.length; k++) p[k] = parents.get(parentStart.get(ordinal) + k);
+        return p;
+    }
+
+    /** Id dei ticket citati dal messaggio. */
+    public int[] tickets(int ordinal) {
+        int from = ticketStart.get(ordinal);
+        int[] t = new int[ticketStart.get(ordinal + 1) - from];
+        for (int k = 0; k < t.length; k++) t[k] = tickets.get(from + k);
+        return t;
+    }
+
+    public String ticketKey(int id) { return ticketKeys[id]; }
+
+    /** Id dei ticket con quelle chiavi (maiuscole/minuscole indifferenti), per {@link #cites}. */
+    public BitSet ticketIds(Collection<String> keys) {
+        Set<String> wanted = new HashSet<>();
+        for (String k : keys) wanted.add(k.toUpperCase(Locale.ROOT));
+        BitSet out = new BitSet(ticketKeys.length);
+        for (int i = 0; i < ticketKeys.length; i++) if (wanted.contains(ticketKeys[i])) out.set(i);
+        return out;
+    }
+
+    /** true se il messaggio del commit cita almeno uno dei ticket. */
+    public boolean cites(int ordinal, BitSet ticketIds) {
+        for (int k = ticketStart.get(ordinal); k < ticketStart.get(ordinal + 1); k++) {
+            if (ticketIds.get(tickets.get(k))) return true;
+        }
+        return false;
+    }
+
+    /** true se il diff col primo genitore (o l'albero, per un commit radice) contiene sorgenti .java. */
+    private static boolean touchesJava(RevWalk rw, ObjectReader reader, RevCommit c) throws IOException {
+        try (TreeWalk tw = new TreeWalk(reader)) {
+            tw.setRecursive(true);
+            if (c.getParentCount() == 0) {
+                tw.addTree(c.getTree());
+                tw.setFilter(PathSuffixFilter.create(".java"));
+            } else {
+                rw.parseHeaders(c.getParent(0));
+                tw.addTree(c.getParent(0).getTree());
+                tw.addTree(c.getTree());
+                tw.setFilter(AndTreeFilter.create(TreeFilter.ANY_DIFF, PathSuffixFilter.create(".java")));
+            }
+            return tw.next();
+        }
+    }
+
+    private static boolean extendsHistory(RevWalk rw, ObjectId old, ObjectId head) throws IOException {
+        try {
+            return rw.isMergedInto(rw.parseCommit(old), rw.parseCommit(head));
+        } catch (MissingObjectException e) {
+            return false;
+        } finally {
+            rw.reset();
+        }
+    }
+
+    private static IntBuffer ints(ByteBuffer buf, int count) {
+        IntBuffer ib = buf.slice(buf.position(), count * 4).asIntBuffer();
+        buf.position(buf.position() + count * 4);
+        return ib;
+    }
+
+    private static ObjectId skipId(ByteBuffer buf) {
+        buf.position(buf.position() + Constants.OBJECT_ID_LENGTH);
+        return null;
+    }
+
+    /** Tabella in costruzione: contenuto della precedente + commit nuovi. */
+    private static final class Builder {
+        private final Map<ObjectId, Integer> ordinals = new HashMap<>();
+        private final List<ObjectId> ids = new ArrayList<>();
+        private int[] times = new int[1024], authorOf = new int[1024];
+        private byte[] flags = new byte[1024];
+        private int[] parentStart = { 0 }, ticketStart = { 0 };
+        private final IntList parents = new IntList(), tickets = new IntList();
+        private final List<String> authors = new ArrayList<>(), ticketKeys = new ArrayList<>();
+        private final Map<String, Integer> authorIds = new HashMap<>(), ticketIds = new HashMap<>();
+
+        int size() { return ids.size(); }
+
+        void copy(CommitTable t) {
+            for (int i = 0; i < t.authors.length; i++) authorIds.put(intern(authors, t.authors[i]), i);
+            for (int i = 0; i < t.ticketKeys.length; i++) ticketIds.put(intern(ticketKeys, t.ticketKeys[i]), i);
+            for (int o = 0; o < t.n; o++) {
+                append(t.id(o), t.commitTime(o), t.author(o), t.parents(o), t.tickets(o), t.flags.get(o));
+            }
+        }
+
+        void add(RevCommit c, boolean java) {
+            int[] ps = new int[c.getParentCount()];
+            for (int k = 0; k < ps.length; k++) ps[k] = ordinals.getOrDefault(c.getParent(k), -1);
+            String email = c.getAuthorIdent().getEmailAddress().toLowerCase(Locale.ROOT);
+            int author = authorIds.computeIfAbsent(email, e -> {
+                authors.add(e);
+                return authors.size() - 1;
+            });
+            IntList ts = new IntList();
+            Matcher m = TICKET.matcher(c.getFullMessage());
+            while (m.find()) {
+                int id = ticketIds.computeIfAbsent(m.group().toUpperCase(Locale.ROOT), k -> {
+                    ticketKeys.add(k);
+                    return ticketKeys.size() - 1;
+                });
+                if (!ts.contains(id)) ts.add(id);
+            }
+            append(c.copy(), c.getCommitTime(), author, ps, ts.toArray(), (byte) (java ? JAVA : 0));
+        }
+
+        private void append(ObjectId id, int time, int author, int[] ps, int[] ts, byte flag) {
+            int o = ids.size();
+            if (o == times.length) {
+                times    = Arrays.copyOf(times, o * 2);
+                authorOf = Arrays.copyOf(authorOf, o * 2);
+                flags    = Arrays.copyOf(flags, o * 2);
+            }
+            if (o + 2 > parentStart.length) {
+                parentStart = Arrays.copyOf(parentStart, Math.max(o + 2, parentStart.length * 2));
+                ticketStart = Arrays.copyOf(ticketStart, parentStart.length);
+            }
+            ordinals.put(id, o);
+            ids.add(id);
+            times[o] = time;
+            authorOf[o] = author;
+            flags[o] = flag;
+            for (int p : ps) parents.add(p);
+            for (int t : ts) tickets.add(t);
+            parentStart[o + 1] = parents.size;
+            ticketStart[o + 1] = tickets.size;
+        }
+
+        void write(Path file, AnyObjectId head) throws IOException {
+            int n = ids.size();
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(n);
+                out.writeInt(parents.size);
+                out.writeInt(tickets.size);
+                out.writeInt(authors.size());
+                out.writeInt(ticketKeys.size());
+                out.writeInt(head != null ? 1 : 0);
+                byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+                if (head != null) head.copyRawTo(raw, 0);
+                out.write(raw);
+                for (ObjectId id : ids) {
+                    id.copyRawTo(raw, 0);
+                    out.write(raw);
+                }
+                for (int o = 0; o < n; o++) out.writeInt(times[o]);
+                for (int o = 0; o < n; o++) out.writeInt(authorOf[o]);
+                for (int o = 0; o <= n; o++) out.writeInt(parentStart[o]);
+                for (int k = 0; k < parents.size; k++) out.writeInt(parents.a[k]);
+                for (int o = 0; o <= n; o++) out.writeInt(ticketStart[o]);
+                for (int k = 0; k < tickets.size; k++) out.writeInt(tickets.a[k]);
+                out.write(flags, 0, n);
+                for (String s : authors) out.writeUTF(s);
+                for (String s : ticketKeys) out.writeUTF(s);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private static String intern(List<String> table, String s) {
+            table.add(s);
+            return s;
+        }
+    }
+
+    private static final class IntList {
+        int[] a = new int[16];
+        int size;
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        boolean contains(int v) {
+            for (int i = 0; i < size; i++) if (a[i] == v) return true;
+            return false;
+        }
+
+        int[] toArray() { return Arrays.copyOf(a, size); }
+    }
+}
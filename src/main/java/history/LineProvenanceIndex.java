@@ -0,0 +1,338 @@
+package history;
+
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawText;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import telemetry.CommitAnalysisEvent;
+import telemetry.MetricsRegistry;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Indice di provenienza delle righe per SZZ: per ogni blob .java visto nella storia
+ * tiene, in run-length, il commit che ha introdotto ciascuna riga.
+ *
+ * La storia si percorre una volta in ordine topologico (genitori prima dei figli);
+ * per ogni commit il blob nuovo di ogni file modificato si ottiene da quello vecchio
+ * applicando l'EditList del diff col primo genitore. L'indice è per contenuto (blob id):
+ * un blob già visto mantiene la provenienza della sua prima comparsa.
+ *
+ * "Quali commit hanno introdotto le righe rimosse da questo fix" diventa quindi
+ * un solo diff del fix più una lettura dei segmenti del blob precedente.
+ * L'indice si salva su file e le esecuzioni successive aggiungono solo i commit nuovi.
+ */
+public class LineProvenanceIndex {
+
+    private static final int MAGIC  = 0x4c50524f;   // "LPRO"
+    private static final int FORMAT = 1;
+
+    /** Origine sconosciuta (blob vecchio mai indicizzato). */
+    public static final int UNKNOWN = -1;
+
+    private static final MetricsRegistry.Counter COMMITS = MetricsRegistry.global()
+            .counter("dataset_commits_total", "Commit analizzati", "analysis", "provenance");
+
+    private final List<ObjectId> commits = new ArrayList<>();
+    private final Map<ObjectId, Integer> ordinals = new HashMap<>();
+    private int[] commitTimes = new int[1024];
+    private final Map<ObjectId, Segments> blobs = new HashMap<>();
+    private final List<ObjectId> tips = new ArrayList<>();
+
+    public static LineProvenanceIndex loadOrCreate(Path file) throws IOException {
+        LineProvenanceIndex idx = new LineProvenanceIndex();
+        if (!Files.exists(file) || Files.size(file) == 0) return idx;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) {
+                System.err.println("Indice di provenienza non riconosciuto, lo ricostruisco: " + file);
+                return new LineProvenanceIndex();
+            }
+            byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                in.readFully(raw);
+                idx.addCommit(ObjectId.fromRaw(raw), in.readInt());
+            }
+            int t = in.readInt();
+            for (int i = 0; i < t; i++) {
+                in.readFully(raw);
+                idx.tips.add(ObjectId.fromRaw(raw));
+            }
+            int b = in.readInt();
+            for (int i = 0; i < b; i++) {
+                in.readFully(raw);
+                Segments s = new Segments();
+                s.lines = in.readInt();
+                s.count = in.readInt();
+                s.starts  = new int[s.count];
+                s.origins = new int[s.count];
+                for (int k = 0; k < s.count; k++) {
+                    s.starts[k]  = in.readInt();
+                    s.origins[k] = in.readInt();
+                }
+                idx.blobs.put(ObjectId.fromRaw(raw), s);
+            }
+        }
+        return idx;
+    }
+
+    public void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+            out.writeInt(commits.size());
+            for (int i = 0; i < commits.size(); i++) {
+                commits.get(i).copyRawTo(raw, 0);
+                out.write(raw);
+                out.writeInt(commitTimes[i]);
+            }
+            out.writeInt(tips.size());
+            for (ObjectId t : tips) {
+                t.copyRawTo(raw, 0);
+                out.write(raw);
+            }
+            out.writeInt(blobs.size());
+            for (var e : blobs.entrySet()) {
+                e.getKey().copyRawTo(raw, 0);
+                out.write(raw);
+                Segments s = e.getValue();
+                out.writeInt(s.lines);
+                out.writeInt(s.count);
+                for (int k = 0; k < s.count; k++) {
+                    out.writeInt(s.starts[k]);
+                    out.writeInt(s.origins[k]);
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Aggiunge all'indice i commit raggiungibili da HEAD non ancora visti.
+     * @return numero di commit aggiunti
+     */
+    public int update(Repository repo) throws IOException {
+        ObjectId head = repo.resolve(Constants.HEAD);
+        if (head == null) return 0;
+        int before = commits.size();
+        try (RevWalk rw = new RevWalk(repo);
+             ObjectReader reader = repo.newObjectReader();
+             DiffFormatter df = newFormatter(repo)) {
+            rw.sort(RevSort.TOPO, true);
+            rw.sort(RevSort.REVERSE, true);
+            rw.markStart(rw.parseCommit(head));
+            for (ObjectId t : tips) {
+                try {
+                    rw.markUninteresting(rw.parseCommit(t));
+                } catch (MissingObjectException e) {
+                    // tip non più presente (storia riscritta): si riparte dai commit raggiungibili
+                }
+            }
+            for (RevCommit c : rw) {
+                if (ordinals.containsKey(c)) continue;
+                CommitAnalysisEvent event = new CommitAnalysisEvent();
+                event.begin();
+                int editCount = 0;
+                int ord = addCommit(c.copy(), c.getCommitTime());
+                List<DiffEntry> entries;
+                if (c.getParentCount() == 0) {
+                    entries = df.scan(new EmptyTreeIterator(), new CanonicalTreeParser(null, reader, c.getTree()));
+                } else {
+                    RevCommit parent = rw.parseCommit(c.getParent(0));
+                    entries = df.scan(parent.getTree(), c.getTree());
+                }
+                for (DiffEntry d : entries) {
+                    if (d.getChangeType() == DiffEntry.ChangeType.DELETE) continue;
+                    ObjectId newId = d.getNewId().toObjectId();
+                    if (blobs.containsKey(newId)) continue;
+                    Segments old = d.getChangeType() == DiffEntry.ChangeType.ADD
+                            ? Segments.EMPTY
+                            : blobs.get(d.getOldId().toObjectId());
+                    if (old == null) old = Segments.unknown(lineCount(reader, d.getOldId().toObjectId()));
+                    List<Edit> edits = df.toFileHeader(d).toEditList();
+                    editCount += edits.size();
+                    blobs.put(newId, old.apply(edits, ord));
+                }
+                COMMITS.inc();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.analysis = "provenance";
+                    event.commitId = c.name();
+                    event.files    = entries.size();
+                    event.edits    = editCount;
+                    event.commit();
+                }
+            }
+        }
+        tips.clear();
+        tips.add(head.copy());
+        return commits.size() - before;
+    }
+
+    /**
+     * Ordinali (crescenti, distinti) dei commit che hanno introdotto le righe
+     * modificate o rimosse dal fix rispetto al suo primo genitore.
+     */
+    public int[] introducingCommits(Repository repo, AnyObjectId fixId) throws IOException {
+        BitSet found = new BitSet();
+        try (RevWalk rw = new RevWalk(repo); DiffFormatter df = newFormatter(repo)) {
+            RevCommit fix = rw.parseCommit(fixId);
+            if (fix.getParentCount() == 0) return new int[0];
+            RevCommit parent = rw.parseCommit(fix.getParent(0));
+            for (DiffEntry d : df.scan(parent.getTree(), fix.getTree())) {
+                if (d.getChangeType() == DiffEntry.ChangeType.ADD) continue;
+                Segments s = blobs.get(d.getOldId().toObjectId());
+                if (s == null) continue;
+                if (d.getChangeType() == DiffEntry.ChangeType.DELETE) {
+                    s.collect(0, s.lines, found);
+                    continue;
+                }
+                for (Edit e : df.toFileHeader(d).toEditList()) {
+                    s.collect(e.getBeginA(), e.getEndA(), found);
+                }
+            }
+        }
+        return found.stream().toArray();
+    }
+
+    /** Commit time (secondi) del più vecchio commit che ha introdotto righe toccate dal fix, o -1. */
+    public long earliestIntroduction(Repository repo, AnyObjectId fixId) throws IOException {
+        long min = Long.MAX_VALUE;
+        for (int ord : introducingCommits(repo, fixId)) min = Math.min(min, commitTimes[ord]);
+        return min == Long.MAX_VALUE ? -1 : min;
+    }
+
+    /** Ordinale del commit che ha introdotto la riga (0-based) del blob, {@link #UNKNOWN} se non noto. */
+    public int origin(AnyObjectId blob, int line) {
+        Segments s = blobs.get(blob.toObjectId());
+        return s == null ? UNKNOWN : s.originOf(line);
+    }
+
+    public int commitCount()             { return commits.size(); }
+    public ObjectId commit(int ordinal)  { return commits.get(ordinal); }
+    public int commitTime(int ordinal)   { return commitTimes[ordinal]; }
+    public int blobCount()               { return blobs.size(); }
+
+    public int ordinal(AnyObjectId id) {
+        Integer o = ordinals.get(id.toObjectId());
+        return o == null ? -1 : o;
+    }
+
+    // ——— helpers ———
+
+    private int addCommit(ObjectId id, int time) {
+        int ord = commits.size();
+        commits.add(id);
+        ordinals.put(id, ord);
+        if (ord == commitTimes.length) commitTimes = Arrays.copyOf(commitTimes, ord * 2);
+        commitTimes[ord] = time;
+        return ord;
+    }
+
+    private static DiffFormatter newFormatter(Repository repo) {
+        DiffFormatter df = new DiffFormatter(DisabledOutputStream.INSTANCE);
+        df.setRepository(repo);
+        df.setDiffComparator(RawTextComparator.DEFAULT);
+        df.setPathFilter(PathSuffixFilter.create(".java"));
+        return df;
+    }
+
+    private static int lineCount(ObjectReader reader, ObjectId blob) throws IOException {
+        return new RawText(reader.open(blob, Constants.OBJ_BLOB).getCachedBytes()).size();
+    }
+
+    /**
+     * Segmenti run-length: le righe [starts[k], starts[k+1]) hanno origine origins[k].
+     */
+    static final class Segments {
+        static final Segments EMPTY = new Segments();
+
+        int lines;
+        int count;
+        int[] starts  = new int[0];
+        int[] origins = new int[0];
+
+        static Segments unknown(int lines) {
+            Segments s = new Segments();
+            if (lines > 0) s.append(0, UNKNOWN);
+            s.lines = lines;
+            return s;
+        }
+
+        int originOf(int line) {
+            int k = Arrays.binarySearch(starts, 0, count, line);
+            if (k < 0) k = -k - 2;
+            return k < 0 ? UNKNOWN : origins[k];
+        }
+
+        /** Nuovi segmenti dopo l'EditList: le righe inserite o sostituite hanno origine {@code commit}. */
+        Segments apply(List<Edit> edits, int commit) {
+            Segments out = new Segments();
+            out.starts  = new int[count + 2 * edits.size() + 1];
+            out.origins = new int[out.starts.length];
+            int a = 0, b = 0;
+            for (Edit e : edits) {
+                b = copy(out, a, e.getBeginA(), b);
+                if (e.getEndB() > e.getBeginB()) out.append(e.getBeginB(), commit);
+                a = e.getEndA();
+                b = e.getEndB();
+            }
+            b = copy(out, a, lines, b);
+            out.lines = b;
+            return out;
+        }
+
+        /** Copia in {@code out} le origini delle righe [from, to) a partire dalla riga {@code b}. */
+        private int copy(Segments out, int from, int to, int b) {
+            if (from >= to) return b;
+            int k = Arrays.binarySearch(starts, 0, count, from);
+            if (k < 0) k = Math.max(0, -k - 2);
+            for (; k < count && starts[k] < to; k++) {
+                int s = Math.max(starts[k], from);
+                out.append(b + (s - from), origins[k]);
+            }
+            return b + (to - from);
+        }
+
+        private void append(int start, int origin) {
+            if (count > 0 && starts[count - 1] == start) count--;    // segmento vuoto: lo sostituisco
+            if (count > 0 && origins[count - 1] == origin) return;
+            if (count == starts.length) {
+                starts  = Arrays.copyOf(starts, Math.max(4, count * 2));
+                origins = Arrays.copyOf(origins, starts.length);
+            }
+            starts[count] = start;
+            origins[count] = origin;
+            count++;
+        }
+
+        void collect(int from, int to, BitSet into) {
+            if (from >= to) return;
+            int k = Arrays.binarySearch(starts, 0, count, from);
+            if (k < 0) k = Math.max(0, -k - 2);
+            for (; k < count && starts[k] < to; k++) {
+                if (origins[k] != UNKNOWN) into.set(origins[k]);
+            }
+        }
+    }
+}
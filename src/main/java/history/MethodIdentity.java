@@ -0,0 +1,263 @@
+package history;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.JavaToken;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import org.eclipse.jgit.api.errors.CanceledException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Identità stabile dei metodi attraverso le release, oltre la chiave path#signature.
+ *
+ * Tra due release consecutive i metodi che spariscono vengono abbinati a quelli che compaiono:
+ * prima con i file rinominati/spostati (rename detection di JGit sul diff tra i due tree, stessa
+ * firma nel nuovo path), poi per somiglianza del corpo (MinHash/LSH sugli shingle di token,
+ * {@link MinHashLsh}) per i metodi rinominati o con la firma cambiata, anche in un altro file.
+ * Si parsano solo i file con metodi non abbinati. Le catene di abbinamenti formano una linea:
+ * {@link #canonical(String)} dà la chiave più vecchia della linea, {@link #id(String)} un id
+ * denso nell'ordine di prima comparsa.
+ */
+public final class MethodIdentity {
+
+    /** Token di uno shingle e token minimi del corpo per cercare somiglianze (sotto: getter e simili). */
+    static final int SHINGLE = 3, MIN_TOKENS = 12;
+
+    private final Map<String, String> canonical;
+    private final Map<String, Integer> ids;
+    private final int renamed, similar;
+
+    private MethodIdentity(Map<String, String> canonical, Map<String, Integer> ids, int renamed, int similar) {
+        this.canonical = canonical;
+        this.ids       = ids;
+        this.renamed   = renamed;
+        this.similar   = similar;
+    }
+
+    /** Nessun abbinamento: ogni chiave è la propria identità. */
+    public static MethodIdentity none() {
+        return new MethodIdentity(Map.of(), Map.of(), 0, 0);
+    }
+
+    /**
+     * @param tags           release in ordine cronologico ("HEAD" per il working tree)
+     * @param keysPerRelease chiavi path#sig di ogni release, stesso ordine di tags
+     * @param threshold      somiglianza di Jaccard stimata minima dei corpi (es. 0.7)
+     */
+    public static MethodIdentity build(Repository repo, List<String> tags, List<Set<String>> keysPerRelease,
+                                       double threshold) throws IOException {
+        // indici nell'ordine di prima comparsa (chiavi ordinate dentro la release: deterministico)
+        Map<String, Integer> index = new LinkedHashMap<>();
+        for (Set<String> keys : keysPerRelease) {
+            for (String k : new TreeSet<>(keys)) index.putIfAbsent(k, index.size());
+        }
+        int[] parent = new int[index.size()];
+        for (int i = 0; i < parent.length; i++) parent[i] = i;
+        int renamed = 0, similar = 0;
+
+        JavaParser parser = new JavaParser(new ParserConfiguration());
+        try (ObjectReader reader = repo.newObjectReader()) {
+            for (int r = 0; r + 1 < keysPerRelease.size(); r++) {
+                Set<String> before = keysPerRelease.get(r), after = keysPerRelease.get(r + 1);
+                List<String> gone  = new ArrayList<>(new TreeSet<>(before));
+                gone.removeAll(after);
+                if (gone.isEmpty()) continue;
+                Set<String> added = new TreeSet<>(after);
+                added.removeAll(before);
+                if (added.isEmpty()) continue;
+                ObjectId oldTree = tree(repo, tags.get(r)), newTree = tree(repo, tags.get(r + 1));
+                if (oldTree == null || newTree == null) continue;
+
+                // 1) file rinominati o spostati: stessa firma nel nuovo path
+                Map<String, String> moves = renames(repo, reader, oldTree, newTree);
+                for (Iterator<String> it = gone.iterator(); it.hasNext(); ) {
+                    String k = it.next();
+                    int hash = k.indexOf('#');
+                    String to = moves.get(k.substring(0, hash));
+                    if (to == null) continue;
+                    String moved = to + k.substring(hash);
+                    if (added.remove(moved)) {
+                        union(parent, index.get(k), index.get(moved));
+                        it.remove();
+                        renamed++;
+                    }
+                }
+                if (gone.isEmpty() || added.isEmpty()) continue;
+
+                // 2) corpi simili: firme MinHash, candidati dall'LSH, abbinamento greedy per somiglianza
+                List<String> addedList = new ArrayList<>(added);
+                List<long[]> goneSig  = signatures(parser, reader, oldTree, gone);
+                List<long[]> addedSig = signatures(parser, reader, newTree, addedList);
+                MinHashLsh lsh = new MinHashLsh();
+                for (int i = 0; i < gone.size(); i++) if (goneSig.get(i) != null) lsh.add(i, goneSig.get(i));
+                List<double[]> pairs = new ArrayList<>();   // (somiglianza, gone, added)
+                for (int j = 0; j < addedList.size(); j++) {
+                    long[] sig = addedSig.get(j);
+                    if (sig == null) continue;
+                    for (int i : new TreeSet<>(lsh.candidates(sig))) {
+                        double s = MinHashLsh.similarity(goneSig.get(i), sig);
+                        if (s >= threshold) pairs.add(new double[] { s, i, j });
+                    }
+                }
+                pairs.sort((a, b) -> a[0] != b[0] ? Double.compare(b[0], a[0])
+                        : a[1] != b[1] ? Double.compare(a[1], b[1]) : Double.compare(a[2], b[2]));
+                boolean[] usedGone = new boolean[gone.size()], usedAdded = new boolean[addedList.size()];
+                for (double[] p : pairs) {
+                    int i = (int) p[1], j = (int) p[2];
+                    if (usedGone[i] || usedAdded[j]) continue;
+                    usedGone[i] = usedAdded[j] = true;
+                    union(parent, index.get(gone.get(i)), index.get(addedList.get(j)));
+                    similar++;
+                }
+            }
+        }
+
+        String[] keys = index.keySet().toArray(new String[0]);
+        Map<String, String> canonical = new HashMap<>();
+        Map<String, Integer> ids = new HashMap<>();
+        int[] idOfRoot = new int[keys.length];
+        Arrays.fill(idOfRoot, -1);
+        int next = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int root = find(parent, i);
+            if (idOfRoot[root] < 0) idOfRoot[root] = next++;
+            ids.put(keys[i], idOfRoot[root]);
+            if (root != i) canonical.put(keys[i], keys[root]);
+        }
+        return new MethodIdentity(canonical, ids, renamed, similar);
+    }
+
+    /** Chiave più vecchia della linea del metodo (la chiave stessa se non è stata abbinata). */
+    public String canonical(String key) {
+        return canonical.getOrDefault(key, key);
+    }
+
+    /** Id stabile del metodo, -1 se la chiave non compare in nessuna release. */
+    public int id(String key) {
+        Integer id = ids.get(key);
+        return id == null ? -1 : id;
+    }
+
+    /** Abbinamenti per file rinominato/spostato. */
+    public int renamed() { return renamed; }
+
+    /** Abbinamenti per somiglianza del corpo. */
+    public int similar() { return similar; }
+
+    /** Chiavi con un'identità diversa da sé stesse. */
+    public int linked() { return canonical.size(); }
+
+    /** TSV id, chiave canonica, chiave (solo le chiavi abbinate), ordinato per id. */
+    public void write(Path file) throws IOException {
+        List<String> keys = new ArrayList<>(canonical.keySet());
+        keys.sort(Comparator.comparingInt((String k) -> ids.get(k)).thenComparing(k -> k));
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("id\tcanonical\tkey\n");
+            for (String k : keys) w.write(ids.get(k) + "\t" + canonical.get(k) + "\t" + k + "\n");
+        }
+    }
+
+    private static ObjectId tree(Repository repo, String tag) throws IOException {
+        return repo.resolve(("HEAD".equals(tag) ? Constants.HEAD : tag) + "^{tree}");
+    }
+
+    /** path vecchio → path nuovo dei sorgenti rinominati tra i due tree. */
+    private static Map<String, String> renames(Repository repo, ObjectReader reader, ObjectId oldTree,
+                                               ObjectId newTree) throws IOException {
+        Map<String, String> moves = new HashMap<>();
+        try (TreeWalk tw = new TreeWalk(reader)) {
+            tw.addTree(oldTree);
+            tw.addTree(newTree);
+            tw.setRecursive(true);
+            tw.setFilter(AndTreeFilter.create(TreeFilter.ANY_DIFF, PathSuffixFilter.create(".java")));
+            RenameDetector rd = new RenameDetector(repo);
+            rd.addAll(DiffEntry.scan(tw));
+            for (DiffEntry d : rd.compute(reader, NullProgressMonitor.INSTANCE)) {
+                if (d.getChangeType() == DiffEntry.ChangeType.RENAME) moves.put(d.getOldPath(), d.getNewPath());
+            }
+        } catch (CanceledException e) {
+            throw new IOException("Rename detection interrotta", e);
+        }
+        return moves;
+    }
+
+    /** Firme MinHash dei corpi dei metodi (null: metodo non trovato o corpo troppo corto). */
+    private static List<long[]> signatures(JavaParser parser, ObjectReader reader, ObjectId tree,
+                                           List<String> keys) throws IOException {
+        Map<String, List<Integer>> byPath = new TreeMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            String k = keys.get(i);
+            byPath.computeIfAbsent(k.substring(0, k.indexOf('#')), p -> new ArrayList<>()).add(i);
+        }
+        List<long[]> sigs = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        for (var e : byPath.entrySet()) {
+            String path = e.getKey();
+            try (TreeWalk tw = TreeWalk.forPath(reader, path, tree)) {
+                if (tw == null) continue;
+                String src = new String(reader.open(tw.getObjectId(0)).getCachedBytes(), StandardCharsets.UTF_8);
+                ParseResult<CompilationUnit> pr = parser.parse(src);
+                if (pr.getResult().isEmpty()) continue;
+                Map<String, Integer> wanted = new HashMap<>();
+                for (int i : e.getValue()) wanted.put(keys.get(i), i);
+                for (MethodDeclaration md : pr.getResult().get().findAll(MethodDeclaration.class)) {
+                    Integer i = wanted.get(path + "#" + md.getDeclarationAsString(false, false, false));
+                    if (i == null || md.getBody().isEmpty()) continue;
+                    long[] shingles = shingles(md);
+                    if (shingles != null) sigs.set(i, MinHashLsh.signature(shingles));
+                }
+            }
+        }
+        return sigs;
+    }
+
+    /** Shingle di {@value #SHINGLE} token del corpo (senza spazi e commenti), null se troppo corto. */
+    private static long[] shingles(MethodDeclaration md) {
+        List<Long> tokens = new ArrayList<>();
+        md.getBody().flatMap(b -> b.getTokenRange()).ifPresent(range -> {
+            for (JavaToken t : range) {
+                JavaToken.Category c = t.getCategory();
+                if (c.isWhitespaceOrComment()) continue;
+                tokens.add(MinHashLsh.mix(t.getText().hashCode()));
+            }
+        });
+        if (tokens.size() < MIN_TOKENS) return null;
+        long[] out = new long[tokens.size() - SHINGLE + 1];
+        for (int i = 0; i < out.length; i++) {
+            long h = 0;
+            for (int k = 0; k < SHINGLE; k++) h = MinHashLsh.mix(h * 31 + tokens.get(i + k));
+            out[i] = h;
+        }
+        return out;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) i = parent[i] = parent[parent[i]];
+        return i;
+    }
+
+    /** Unisce le due linee; la radice è l'indice più piccolo (la chiave più vecchia). */
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a), rb = find(parent, b);
+        if (ra < rb) parent[rb] = ra;
+        else if (rb < ra) parent[ra] = rb;
+    }
+}
@@ -0,0 +1,79 @@
+package history;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MinHash su insiemi di shingle (long) e indice LSH a bande per trovare le coppie simili
+ * senza confrontare tutte con tutte.
+ *
+ * Firma di {@value #HASHES} minimi; l'indice divide la firma in {@value #BANDS} bande da
+ * {@value #ROWS} valori e mette ogni elemento nel bucket di ogni banda: due elementi sono
+ * candidati se coincidono in almeno una banda (probabilità alta sopra Jaccard ≈ 0.5, bassa
+ * sotto 0.3). I bucket più grandi di {@link #MAX_BUCKET} (corpi banali, es. getter) non
+ * producono candidati: il costo resta lineare nel numero di elementi.
+ */
+final class MinHashLsh {
+
+    static final int HASHES = 64, BANDS = 16, ROWS = HASHES / BANDS;
+    static final int MAX_BUCKET = 64;
+
+    private static final long[] SEEDS = new long[HASHES];
+    static {
+        long s = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < HASHES; i++) SEEDS[i] = s = mix(s + 0x9E3779B97F4A7C15L);
+    }
+
+    private final Map<Long, List<Integer>> buckets = new HashMap<>();
+
+    /** Firma MinHash di un insieme di shingle (non vuoto). */
+    static long[] signature(long[] shingles) {
+        long[] sig = new long[HASHES];
+        java.util.Arrays.fill(sig, Long.MAX_VALUE);
+        for (long x : shingles) {
+            for (int i = 0; i < HASHES; i++) {
+                long h = mix(x ^ SEEDS[i]);
+                if (h < sig[i]) sig[i] = h;
+            }
+        }
+        return sig;
+    }
+
+    /** Stima di Jaccard: frazione di minimi uguali. */
+    static double similarity(long[] a, long[] b) {
+        int eq = 0;
+        for (int i = 0; i < HASHES; i++) if (a[i] == b[i]) eq++;
+        return eq / (double) HASHES;
+    }
+
+    void add(int item, long[] sig) {
+        for (int b = 0; b < BANDS; b++) {
+            buckets.computeIfAbsent(band(sig, b), k -> new ArrayList<>(2)).add(item);
+        }
+    }
+
+    /** Elementi che condividono almeno una banda con sig (con ripetizioni). */
+    List<Integer> candidates(long[] sig) {
+        List<Integer> out = new ArrayList<>();
+        for (int b = 0; b < BANDS; b++) {
+            List<Integer> bucket = buckets.get(band(sig, b));
+            if (bucket != null && bucket.size() <= MAX_BUCKET) out.addAll(bucket);
+        }
+        return out;
+    }
+
+    private static long band(long[] sig, int b) {
+        long h = b;
+        for (int r = b * ROWS; r < (b + 1) * ROWS; r++) h = mix(h * 31 + sig[r]);
+        return h;
+    }
+
+    /** Finalizzatore di SplitMix64. */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,304 @@
+package history;
+
+import fetcher.model.JiraVersion;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectIdOwnerMap;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Catalogo delle release del progetto: tag Git ∩ versioni JIRA, ordinati per chiave
+ * di versione numerica e qualificatore, con il mapping commit → prima release che lo contiene.
+ *
+ * Le chiavi di versione si calcolano una sola volta ({@link #versionKey(CharSequence)},
+ * {@link #qualifier(CharSequence)});
+ * il mapping si calcola con un'unica visita topologica (figli prima dei genitori)
+ * propagando ai genitori il bitset delle release da cui il commit è raggiungibile.
+ * Dopo la costruzione ogni lookup è una lettura di array.
+ */
+public class ReleaseCatalog {
+
+    /** Release "assente": il commit non è contenuto in nessuna release del catalogo. */
+    public static final int NONE = -1;
+
+    private final List<String> tags = new ArrayList<>();
+    private final List<JiraVersion> versions = new ArrayList<>();
+    private long[] keys = new long[0];
+    private String[] qualifiers = new String[0];
+    private long[] times = new long[0];                 // commit time del tag, secondi
+    private ObjectId[] tagCommits = new ObjectId[0];
+
+    private final ObjectIdOwnerMap<Entry> commits = new ObjectIdOwnerMap<>();
+    private int[] firstRelease = new int[0];            // per ordinale di commit
+
+    private static final class Entry extends ObjectIdOwnerMap.Entry {
+        final int ordinal;
+        Entry(AnyObjectId id, int ordinal) { super(id); this.ordinal = ordinal; }
+    }
+
+    /** Versione di un tag o di una versione JIRA: chiave numerica e qualificatore. */
+    private static final class Version implements Comparable<Version> {
+        final long key;
+        final String qualifier;
+
+        Version(String v) {
+            this.key = versionKey(v);
+            this.qualifier = qualifier(v);
+        }
+
+        @Override public int compareTo(Version o) {
+            int c = Long.compare(key, o.key);
+            return c != 0 ? c : compareQualifiers(qualifier, o.qualifier);
+        }
+        @Override public boolean equals(Object o) {
+            return o instanceof Version v && key == v.key && qualifier.equals(v.qualifier);
+        }
+        @Override public int hashCode() { return Long.hashCode(key) * 31 + qualifier.hashCode(); }
+    }
+
+    /**
+     * Chiave ordinabile di una versione "release-4.2.1", "v4.10.0", "4.2": fino a quattro
+     * componenti numeriche da 16 bit in un long (le mancanti valgono 0). Il prefisso fino
+     * alla prima cifra è ignorato, la parte numerica finisce al primo carattere che non è
+     * una cifra o un punto: "4.2.0-rc1" ha la chiave di "4.2.0", e il resto è il
+     * {@link #qualifier(CharSequence)}. "HEAD" è sempre la più vecchia.
+     */
+    public static long versionKey(CharSequence v) {
+        int len = v.length();
+        if (len == 4 && v.charAt(0) == 'H' && v.charAt(1) == 'E' && v.charAt(2) == 'A' && v.charAt(3) == 'D') {
+            return Long.MIN_VALUE;
+        }
+        int k = numericStart(v);
+
+        long key = 0;
+        int comp = 0, part = 0;
+        for (; k < len && comp < 4; k++) {
+            char c = v.charAt(k);
+            if (c == '.') {
+                key = (key << 16) | Math.min(part, comp == 0 ? 0x7fff : 0xffff);
+                comp++;
+                part = 0;
+            } else if (c >= '0' && c <= '9') {
+                part = Math.min(part * 10 + (c - '0'), 0xffff);
+            } else {
+                break;
+            }
+        }
+        if (comp < 4) {
+            key = (key << 16) | Math.min(part, comp == 0 ? 0x7fff : 0xffff);
+            comp++;
+        }
+        return key << (16 * (4 - comp));
+    }
+
+    /**
+     * Qualificatore della versione: quel che segue la parte numerica, senza i separatori
+     * iniziali e in minuscolo ("release-4.2.0-rc1" → "rc1"); "" se non c'è.
+     */
+    public static String qualifier(CharSequence v) {
+        int len = v.length(), k = numericStart(v);
+        while (k < len && (Character.isDigit(v.charAt(k)) || v.charAt(k) == '.')) k++;
+        while (k < len && (v.charAt(k) == '-' || v.charAt(k) == '_' || v.charAt(k) == '.')) k++;
+        return v.subSequence(k, len).toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Ordine fra versioni: chiave numerica, poi qualificatore. Una versione qualificata
+     * precede quella senza qualificatore con la stessa chiave (4.2.0-rc1 &lt; 4.2.0), i
+     * qualificatori fra loro in ordine lessicografico.
+     */
+    public static int compareVersions(CharSequence a, CharSequence b) {
+        int c = Long.compare(versionKey(a), versionKey(b));
+        return c != 0 ? c : compareQualifiers(qualifier(a), qualifier(b));
+    }
+
+    private static int compareQualifiers(String a, String b) {
+        if (a.equals(b)) return 0;
+        if (a.isEmpty()) return 1;
+        if (b.isEmpty()) return -1;
+        return a.compareTo(b);
+    }
+
+    /** Indice della prima cifra (il prefisso "release-", "v", ... è ignorato). */
+    private static int numericStart(CharSequence v) {
+        int k = 0;
+        while (k < v.length() && !Character.isDigit(v.charAt(k))) k++;
+        return k;
+    }
+
+    /** true se la stringa ha almeno una cifra, cioè ha senso come versione. */
+    private static boolean isNumericVersion(String v) {
+        for (int i = 0; i < v.length(); i++) if (Character.isDigit(v.charAt(i))) return true;
+        return false;
+    }
+
+    /**
+     * Costruisce il catalogo.
+     * Se nessun tag corrisponde a una versione JIRA il catalogo contiene la sola release "HEAD".
+     */
+    public static ReleaseCatalog build(Repository repo, List<String> gitTags, List<JiraVersion> jiraVersions)
+            throws IOException {
+        ReleaseCatalog c = new ReleaseCatalog();
+
+        // --- join Git ∩ JIRA su chiave di versione e qualificatore; a parità di versione
+        // (es. "v4.2.0" e "release-4.2.0", "4.2" e "4.2.0") tengo il nome minore e lo segnalo
+        Map<Version, JiraVersion> jiraByKey = new HashMap<>();
+        for (JiraVersion v : jiraVersions) {
+            if (v.getName() == null || !isNumericVersion(v.getName())) continue;
+            JiraVersion prev = jiraByKey.putIfAbsent(new Version(v.getName()), v);
+            if (prev != null) {
+                System.err.println("Versioni JIRA con la stessa chiave: " + prev.getName() + ", " + v.getName());
+                if (v.getName().compareTo(prev.getName()) < 0) jiraByKey.put(new Version(v.getName()), v);
+            }
+        }
+        TreeMap<Version, String> byKey = new TreeMap<>();
+        for (String t : gitTags) {
+            if (!isNumericVersion(t)) continue;
+            Version k = new Version(t);
+            if (!jiraByKey.containsKey(k)) continue;
+            String prev = byKey.putIfAbsent(k, t);
+            if (prev != null) {
+                System.err.println("Tag con la stessa versione: " + prev + ", " + t);
+                if (t.compareTo(prev) < 0) byKey.put(k, t);
+            }
+        }
+        if (byKey.isEmpty()) byKey.put(new Version("HEAD"), "HEAD");
+
+        int n = byKey.size();
+        c.keys = new long[n];
+        c.qualifiers = new String[n];
+        c.times = new long[n];
+        c.tagCommits = new ObjectId[n];
+        try (RevWalk rw = new RevWalk(repo)) {
+            int r = 0;
+            for (var e : byKey.entrySet()) {
+                String tag = e.getValue();
+                c.tags.add(tag);
+                c.versions.add(jiraByKey.get(e.getKey()));
+                c.keys[r] = e.getKey().key;
+                c.qualifiers[r] = e.getKey().qualifier;
+                ObjectId id = repo.resolve(("HEAD".equals(tag) ? Constants.HEAD : tag) + "^{commit}");
+                if (id != null) {
+                    RevCommit commit = rw.parseCommit(id);
+                    c.tagCommits[r] = commit.copy();
+                    c.times[r] = commit.getCommitTime();
+                } else {
+                    c.times[r] = Long.MAX_VALUE;      // tag non presente nel clone locale
+                }
+                r++;
+            }
+        }
+        c.mapCommits(repo);
+        return c;
+    }
+
+    /**
+     * Visita topologica da HEAD e dai tag: ogni commit eredita dai figli il bitset
+     * delle release che lo raggiungono; la prima release è il bit più basso.
+     */
+    private void mapCommits(Repository repo) throws IOException {
+        int stride = Math.max(1, (tags.size() + 63) >>> 6);
+        Map<ObjectId, Integer> releaseOfTag = new HashMap<>();
+        for (int r = 0; r < tagCommits.length; r++) {
+            if (tagCommits[r] != null) releaseOfTag.putIfAbsent(tagCommits[r], r);
+        }
+
+        try (RevWalk rw = new RevWalk(repo)) {
+            rw.setRetainBody(false);
+            rw.sort(RevSort.TOPO);
+            ObjectId head = repo.resolve(Constants.HEAD);
+            if (head != null) rw.markStart(rw.parseCommit(head));
+            for (ObjectId t : tagCommits) if (t != null) rw.markStart(rw.parseCommit(t));
+
+            // ordinali in ordine topologico: i figli precedono sempre i genitori
+            List<RevCommit> order = new ArrayList<>();
+            for (RevCommit rc : rw) {
+                commits.add(new Entry(rc, order.size()));
+                order.add(rc);
+            }
+
+            long[] bits = new long[order.size() * stride];
+            firstRelease = new int[order.size()];
+            for (int i = 0; i < order.size(); i++) {
+                RevCommit rc = order.get(i);
+                // più tag sullo stesso commit: basta il più vecchio, che è anche il bit più basso
+                Integer r = releaseOfTag.get(rc);
+                if (r != null) bits[i * stride + (r >>> 6)] |= 1L << r;
+                firstRelease[i] = lowestBit(bits, i * stride, stride);
+                for (RevCommit p : rc.getParents()) {
+                    Entry pe = commits.get(p);
+                    if (pe == null) continue;
+                    int pb = pe.ordinal * stride;
+                    for (int w = 0; w < stride; w++) bits[pb + w] |= bits[i * stride + w];
+                }
+            }
+        }
+    }
+
+    private static int lowestBit(long[] bits, int from, int stride) {
+        for (int w = 0; w < stride; w++) {
+            long x = bits[from + w];
+            if (x != 0) return (w << 6) + Long.numberOfTrailingZeros(x);
+        }
+        return NONE;
+    }
+
+    // ——— release ———
+
+    public int size()                  { return tags.size(); }
+    public List<String> tags()         { return Collections.unmodifiableList(tags); }
+    public String tag(int r)           { return tags.get(r); }
+    public long key(int r)             { return keys[r]; }
+    public String qualifier(int r)     { return qualifiers[r]; }
+    public long commitTime(int r)      { return times[r]; }
+    public ObjectId tagCommit(int r)   { return tagCommits[r]; }
+
+    /** Versione JIRA associata alla release (null per la release "HEAD"). */
+    public JiraVersion jiraVersion(int r) { return versions.get(r); }
+
+    /** Indice della release con quel tag o nome di versione JIRA, {@link #NONE} se assente. */
+    public int indexOf(String tagOrVersion) {
+        if (tagOrVersion == null || !isNumericVersion(tagOrVersion)) {
+            return tags.indexOf(tagOrVersion);
+        }
+        long key = versionKey(tagOrVersion);
+        String q = qualifier(tagOrVersion);
+        int r = Arrays.binarySearch(keys, key);
+        if (r < 0) return NONE;
+        while (r > 0 && keys[r - 1] == key) r--;
+        for (; r < keys.length && keys[r] == key; r++) if (qualifiers[r].equals(q)) return r;
+        return NONE;
+    }
+
+    /** Prima release il cui tag ha commit time >= t (secondi); {@link #size()} se nessuna. */
+    public int releaseAtTime(long t) {
+        for (int r = 0; r < times.length; r++) if (times[r] >= t) return r;
+        return times.length;
+    }
+
+    // ——— commit ———
+
+    public int commitCount() { return firstRelease.length; }
+
+    /** Ordinale del commit nella visita del catalogo, -1 se non raggiungibile da HEAD o dai tag. */
+    public int ordinal(AnyObjectId commit) {
+        Entry e = commits.get(commit);
+        return e == null ? -1 : e.ordinal;
+    }
+
+    /** Prima release che contiene il commit (per ordinale), {@link #NONE} se nessuna. */
+    public int releaseOf(int ordinal) { return firstRelease[ordinal]; }
+
+    /** Prima release che contiene il commit, {@link #NONE} se nessuna o commit sconosciuto. */
+    public int releaseOf(AnyObjectId commit) {
+        Entry e = commits.get(commit);
+        return e == null ? NONE : firstRelease[e.ordinal];
+    }
+}
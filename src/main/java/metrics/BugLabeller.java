@@ -0,0 +1,151 @@
+package metrics;
+
+import fetcher.model.JiraTicket;
+import fetcher.model.JiraVersion;
+import history.ReleaseCatalog;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Etichette di bugginess per (metodo, release).
+ *
+ * Per ogni metodo toccato da almeno un bug-fix tiene un bitset delle release in cui
+ * è buggy, memorizzato in un unico long[] con passo fisso: la query è un lookup
+ * con due int, senza allocazioni.
+ *
+ * Con un'identità dei metodi (chiave → chiave canonica, {@code history.MethodIdentity}) le
+ * chiavi si marcano e si cercano nella forma canonica: un metodo rinominato o spostato tra
+ * la release IV e il fix resta buggy anche nelle righe con la chiave vecchia.
+ */
+public class BugLabeller {
+
+    private static final Pattern ISSUE_KEY = Pattern.compile("\\b[A-Z][A-Z0-9]+-\\d+\\b");
+
+    private final int releaseCount;
+    private final int stride;
+    private final UnaryOperator<String> canonical;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private long[] bits = new long[0];
+
+    public BugLabeller(int releaseCount) {
+        this(releaseCount, UnaryOperator.identity());
+    }
+
+    /** @param canonical chiave canonica del metodo, usata per marcare e per cercare */
+    public BugLabeller(int releaseCount, UnaryOperator<String> canonical) {
+        this.releaseCount = releaseCount;
+        this.stride       = Math.max(1, (releaseCount + 63) >>> 6);
+        this.canonical    = canonical;
+    }
+
+    /**
+     * Costruisce le etichette dai commit di bug-fix.
+     * Un metodo modificato dal fix di un ticket è buggy nelle release [IV, FV):
+     * FV è la prima release che contiene il commit di fix, IV la più vecchia
+     * affected version del ticket; se il ticket non ne ha, la release del più vecchio
+     * commit bug-introducing (SZZ) o, in mancanza, quella in cui il ticket è stato aperto.
+     *
+     * @param catalog      release del progetto, con il mapping commit → release
+     * @param tickets      ticket JIRA
+     * @param changed      per ogni commit di bug-fix le chiavi path#signature modificate
+     * @param introducedIn per ogni commit di bug-fix la prima release che contiene
+     *                     il più vecchio commit bug-introducing (assente se sconosciuta)
+     */
+    public static BugLabeller fromFixes(ReleaseCatalog catalog,
+                                        List<JiraTicket> tickets,
+                                        Map<RevCommit, List<String>> changed,
+                                        Map<RevCommit, Integer> introducedIn) {
+        return fromFixes(catalog, tickets, changed, introducedIn, UnaryOperator.identity());
+    }
+
+    /** Come {@link #fromFixes(ReleaseCatalog, List, Map, Map)}, con le chiavi nella forma canonica. */
+    public static BugLabeller fromFixes(ReleaseCatalog catalog,
+                                        List<JiraTicket> tickets,
+                                        Map<RevCommit, List<String>> changed,
+                                        Map<RevCommit, Integer> introducedIn,
+                                        UnaryOperator<String> canonical) {
+        BugLabeller l = new BugLabeller(catalog.size(), canonical);
+        forEachFix(catalog, tickets, changed, introducedIn, (fix, ticket, methods, iv, fv) -> {
+            for (String method : methods) l.markBuggy(method, iv, fv);
+        });
+        return l;
+    }
+
+    /** Un ticket chiuso da un commit di fix: i metodi modificati sono buggy in [iv, fv). */
+    @FunctionalInterface
+    interface FixVisitor {
+        void fix(RevCommit fix, JiraTicket ticket, List<String> methods, int iv, int fv);
+    }
+
+    /** Visita le coppie (fix, ticket) che producono etichette, con le regole di {@link #fromFixes}. */
+    static void forEachFix(ReleaseCatalog catalog, List<JiraTicket> tickets, Map<RevCommit, List<String>> changed,
+                           Map<RevCommit, Integer> introducedIn, FixVisitor visitor) {
+        Map<String, JiraTicket> byKey = new HashMap<>();
+        for (JiraTicket t : tickets) byKey.put(t.getKey(), t);
+
+        for (var e : changed.entrySet()) {
+            if (e.getValue().isEmpty()) continue;
+            int fv = catalog.releaseOf(e.getKey());
+            if (fv == ReleaseCatalog.NONE) fv = catalog.size();   // fix successivo all'ultima release
+            Matcher m = ISSUE_KEY.matcher(e.getKey().getFullMessage());
+            while (m.find()) {
+                JiraTicket t = byKey.get(m.group());
+                if (t == null) continue;
+                int iv = injectedVersion(t, catalog, introducedIn.get(e.getKey()));
+                if (iv < 0 || iv >= fv) continue;
+                visitor.fix(e.getKey(), t, e.getValue(), iv, fv);
+            }
+        }
+    }
+
+    /** Segna il metodo come buggy nelle release [from, to). */
+    public void markBuggy(String methodKey, int from, int to) {
+        int id = ids.computeIfAbsent(canonical.apply(methodKey), k -> ids.size());
+        if ((id + 1) * stride > bits.length) {
+            bits = Arrays.copyOf(bits, Math.max((id + 1) * stride, bits.length * 2));
+        }
+        int base = id * stride;
+        for (int r = Math.max(0, from); r < Math.min(to, releaseCount); r++) {
+            bits[base + (r >>> 6)] |= 1L << r;
+        }
+    }
+
+    /** Id del metodo, -1 se non è mai buggy. */
+    public int methodId(String methodKey) {
+        Integer id = ids.get(canonical.apply(methodKey));
+        return id == null ? -1 : id;
+    }
+
+    public boolean isBuggy(int methodId, int release) {
+        if (methodId < 0) return false;
+        return (bits[methodId * stride + (release >>> 6)] & (1L << release)) != 0;
+    }
+
+    /** Numero di metodi buggy in almeno una release. */
+    public int methodCount() { return ids.size(); }
+
+    public int releaseCount() { return releaseCount; }
+
+    // ——— helpers ———
+
+    private static int injectedVersion(JiraTicket t, ReleaseCatalog catalog, Integer introduced) {
+        int iv = Integer.MAX_VALUE;
+        List<JiraVersion> avs = t.getAffectedVersions() != null ? t.getAffectedVersions() : List.of();
+        for (JiraVersion av : avs) {
+            int r = catalog.indexOf(av.getName());
+            if (r != ReleaseCatalog.NONE) iv = Math.min(iv, r);
+        }
+        if (iv != Integer.MAX_VALUE) return iv;
+        if (introduced != null && introduced != ReleaseCatalog.NONE) return introduced;
+        if (t.getCreationDate() == null) return -1;
+        long opened = t.getCreationDate().atStartOfDay(java.time.ZoneOffset.UTC).toEpochSecond();
+        return catalog.releaseAtTime(opened);
+    }
+}
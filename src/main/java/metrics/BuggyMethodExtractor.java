@@ -13,11 +13,16 @@ import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.MethodDeclaration;
+import telemetry.CommitAnalysisEvent;
+import telemetry.MetricsRegistry;
 
 import java.io.ByteArrayOutputStream;
 import java.util.*;
 
 public class BuggyMethodExtractor {
+    private static final MetricsRegistry.Counter COMMITS = MetricsRegistry.global()
+            .counter("dataset_commits_total", "Commit analizzati", "analysis", "bugfix");
+
     private final Repository repo;
     private final Git git;
 
@@ -27,7 +32,7 @@ public class BuggyMethodExtractor {
     }
 
     /**
-     * Restituisce per ogni commit di bug-fix la lista delle signature modificate.
+     * Restituisce per ogni commit di bug-fix la lista dei metodi modificati (path#signature).
      */
     public Map<RevCommit, List<String>> extractChangedMethods(List<RevCommit> commits) throws Exception {
         Map<RevCommit, List<String>> result = new HashMap<>();
@@ -38,6 +43,8 @@ public class BuggyMethodExtractor {
 
             for (RevCommit fix : commits) {
                 if (fix.getParentCount() == 0) continue;
+                CommitAnalysisEvent event = new CommitAnalysisEvent();
+                event.begin();
                 RevCommit parent = fix.getParent(0);
 
                 CanonicalTreeParser pIter = new CanonicalTreeParser();
@@ -46,15 +53,27 @@ public class BuggyMethodExtractor {
                 fIter.reset(reader, fix.getTree());
 
                 List<String> methods = new ArrayList<>();
-                for (DiffEntry d : df.scan(pIter, fIter)) {
+                List<DiffEntry> entries = df.scan(pIter, fIter);
+                for (DiffEntry d : entries) {
                     if (d.getChangeType() == DiffEntry.ChangeType.MODIFY
                             && d.getOldPath().endsWith(".java")) {
                         String before = new String(reader.open(d.getOldId().toObjectId()).getBytes());
                         String after  = new String(reader.open(d.getNewId().toObjectId()).getBytes());
-                        methods.addAll(changedInSource(before, after));
+                        for (String sig : changedInSource(before, after)) {
+                            methods.add(d.getNewPath() + "#" + sig);
+                        }
                     }
                 }
                 result.put(fix, methods);
+                COMMITS.inc();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.analysis = "bugfix";
+                    event.commitId = fix.name();
+                    event.files    = entries.size();
+                    event.methods  = methods.size();
+                    event.commit();
+                }
             }
         }
         return result;
@@ -73,61 +92,10 @@ public class BuggyMethodExtractor {
         return histories;
     }
 
-    /**
-     * Calcola churn = linee aggiunte + rimosse per metodo, su tutti i bug-fix.
-     */
-    public Map<String,Integer> calculateMethodChurn(List<RevCommit> commits) throws Exception {
-        Map<String,Integer> churnMap = new HashMap<>();
-        try (DiffFormatter df = new DiffFormatter(new ByteArrayOutputStream())) {
-            df.setRepository(repo);
-            df.setDiffComparator(RawTextComparator.DEFAULT);
-            ObjectReader reader = repo.newObjectReader();
-
-            for (RevCommit fix : commits) {
-                if (fix.getParentCount() == 0) continue;
-                RevCommit parent = fix.getParent(0);
-
-                CanonicalTreeParser pIter = new CanonicalTreeParser();
-                pIter.reset(reader, parent.getTree());
-                CanonicalTreeParser fIter = new CanonicalTreeParser();
-                fIter.reset(reader, fix.getTree());
-
-                for (DiffEntry d : df.scan(pIter, fIter)) {
-                    if (d.getChangeType() == DiffEntry.ChangeType.MODIFY
-                            && d.getOldPath().endsWith(".java")) {
-                        // per ogni edit
-                        df.toFileHeader(d).toEditList().forEach(e -> {
-                            int added   = e.getEndB() - e.getBeginB();
-                            int deleted = e.getEndA() - e.getBeginA();
-                            int delta   = added + deleted;
-                            // parsed after-version
-                            String afterSrc = null;
-                            try {
-                                afterSrc = new String(reader.open(d.getNewId().toObjectId()).getBytes());
-                            } catch (Exception ex) { /* ignore */ }
-                            if (afterSrc != null) {
-                                // per ogni metodo che copre questa area, aggiungo churn
-                                for (MethodDeclaration md : StaticJavaParser.parse(afterSrc)
-                                        .findAll(MethodDeclaration.class)) {
-                                    md.getRange().ifPresent(r -> {
-                                        if (e.getBeginB()+1 <= r.end.line && e.getEndB() >= r.begin.line) {
-                                            String sig = md.getDeclarationAsString(false,false,false);
-                                            churnMap.merge(sig, delta, Integer::sum);
-                                        }
-                                    });
-                                }
-                            }
-                        });
-                    }
-                }
-            }
-        }
-        return churnMap;
-    }
-
     // ——— Helpers privati ———
 
-    private List<String> changedInSource(String b, String a) {
+    /** Firme dei metodi presenti in entrambe le versioni con corpo diverso (package-private per i benchmark). */
+    List<String> changedInSource(String b, String a) {
         var cuB = StaticJavaParser.parse(b);
         var cuA = StaticJavaParser.parse(a);
         Map<String,MethodDeclaration> mB = parseMethods(cuB);
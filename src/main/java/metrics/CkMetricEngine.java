@@ -0,0 +1,226 @@
+package metrics;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.mauricioaniche.ck.CK;
+import com.github.mauricioaniche.ck.CKClassResult;
+import com.github.mauricioaniche.ck.CKMethodResult;
+import com.github.mauricioaniche.ck.CKNotifier;
+import telemetry.AllocationScope;
+import utils.MemoryGovernor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Motore "ck": metriche per metodo di un'intera release con l'elaborazione batch di CK
+ * (JDT, una sola passata sui sorgenti, senza PMD).
+ *
+ * Colonne: LOC, cyclomatic (WMC del metodo), parametri, annidamento massimo, return, try,
+ * assegnamenti e invocazioni (distinte); cognitive è cyclomatic - 1 come nell'estrattore
+ * JavaParser. CK non conta smell né catch: CodeSmells, SmellsDensity, CatchCount e
+ * ManyCatches restano a 0.
+ *
+ * Le chiavi path#signature devono coincidere con quelle di {@link FeatureExtractor}, che CK
+ * non sa produrre (tipi risolti, niente tipo di ritorno): le firme vengono da un parse
+ * JavaParser delle sole dichiarazioni, e i metodi CK si associano per file, nome e numero di
+ * parametri nell'ordine delle righe (gli overload con la stessa arità restano in ordine).
+ * I costruttori non sono metodi del dataset e vengono saltati.
+ *
+ * Il passaggio batch gira su un thread sorvegliato con un budget per la release: CK (JDT)
+ * non risponde all'interrupt, quindi oltre il budget il thread viene abbandonato (daemon) e
+ * la release si rifà file per file, ognuno con il budget di un file; i file che lo superano
+ * restano fuori e vengono segnalati al {@link TimeoutListener} (la quarantena della pipeline).
+ */
+public class CkMetricEngine implements MetricEngine {
+
+    /** File escluso dal ripiego file per file perché oltre il budget. */
+    public interface TimeoutListener {
+        void timedOut(Path file, String relPath, long budgetMillis) throws IOException;
+    }
+
+    private final long releaseTimeoutMillis;
+    private final long fileTimeoutMillis;
+    private final TimeoutListener onTimeout;
+
+    /** Senza budget di tempo. */
+    public CkMetricEngine() {
+        this(0, 0, (f, rel, b) -> {});
+    }
+
+    /**
+     * @param releaseTimeoutMillis tempo massimo del passaggio batch sulla release (≤ 0: nessun limite)
+     * @param fileTimeoutMillis    tempo massimo di un file nel ripiego file per file (≤ 0: nessun limite)
+     */
+    public CkMetricEngine(long releaseTimeoutMillis, long fileTimeoutMillis, TimeoutListener onTimeout) {
+        this.releaseTimeoutMillis = releaseTimeoutMillis;
+        this.fileTimeoutMillis    = fileTimeoutMillis;
+        this.onTimeout            = onTimeout;
+    }
+
+    @Override
+    public String name() { return "ck"; }
+
+    @Override
+    public Map<String, FeatureExtractor.MethodFeatures> analyze(Path root, List<Path> files) throws IOException {
+        Map<Path, List<CKMethodResult>> byFile = new HashMap<>();
+        List<Path> done = files;
+        if (!files.isEmpty()) {
+            long bytes = 0;
+            for (Path p : files) bytes += Files.size(p);
+            // la release intera sta in memoria insieme: il permesso si riduce al budget. In timeout
+            // si restituisce subito, altrimenti il ripiego aspetterebbe il thread abbandonato: JDT
+            // tiene un AST alla volta, quello che resta in uso non è più contato
+            Map<Path, List<CKMethodResult>> all = calculate(root, files, bytes, releaseTimeoutMillis, false);
+            if (all != null) {
+                byFile = all;
+            } else {
+                System.err.println("CK: release " + root + " oltre " + releaseTimeoutMillis
+                        + " ms, ripiego file per file");
+                done = new ArrayList<>(files.size());
+                for (Path p : files) {
+                    Map<Path, List<CKMethodResult>> one = calculate(root, List.of(p), Files.size(p),
+                            fileTimeoutMillis, true);
+                    if (one == null) {
+                        onTimeout.timedOut(p, root.relativize(p).toString().replace('\\', '/'), fileTimeoutMillis);
+                        continue;
+                    }
+                    byFile.putAll(one);
+                    done.add(p);
+                }
+            }
+        }
+
+        Map<String, FeatureExtractor.MethodFeatures> result = new HashMap<>();
+        for (Path p : done) {
+            List<CKMethodResult> ms = byFile.getOrDefault(p.toAbsolutePath().normalize(), Collections.emptyList());
+            String rel = root.relativize(p).toString().replace('\\', '/');
+            try {
+                result.putAll(match(rel, Files.readString(p), ms));
+            } catch (RuntimeException e) {
+                // stesso comportamento dell'estrattore JavaParser su un file che non si analizza
+                System.err.println("Parse " + p + ": " + e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Metodi CK dei file, per path assoluto, calcolati su un thread sorvegliato; null oltre
+     * timeoutMillis. Con keepPermit il permesso di memoria resta al thread abbandonato finché
+     * l'analisi non finisce davvero, altrimenti si restituisce al timeout.
+     */
+    private static Map<Path, List<CKMethodResult>> calculate(Path root, List<Path> files, long bytes,
+                                                             long timeoutMillis, boolean keepPermit)
+            throws IOException {
+        MemoryGovernor.Permit permit;
+        try {
+            permit = MemoryGovernor.global().acquire(bytes * MemoryGovernor.AST_FACTOR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Analisi CK interrotta", e);
+        }
+        Map<Path, List<CKMethodResult>> byFile = new HashMap<>();
+        FutureTask<Void> task = new FutureTask<>(AllocationScope.wrap(() -> {
+            try (permit) {
+                new CK(false, 0, false).calculate(root, new CKNotifier() {
+                    @Override
+                    public void notify(CKClassResult r) {
+                        List<CKMethodResult> ms = byFile.computeIfAbsent(
+                                Paths.get(r.getFile()).toAbsolutePath().normalize(), k -> new ArrayList<>());
+                        for (CKMethodResult m : r.getMethods()) {
+                            if (!m.isConstructor()) ms.add(m);
+                        }
+                    }
+
+                    @Override
+                    public void notifyError(String file, Exception e) {
+                        System.err.println("CK " + file + ": " + e.getMessage());
+                    }
+                }, files.toArray(new Path[0]));
+            }
+            return null;
+        }));
+        if (timeoutMillis <= 0) {
+            task.run();
+        } else {
+            Thread t = new Thread(task, "ck-engine");
+            t.setDaemon(true);
+            t.start();
+        }
+        try {
+            if (timeoutMillis <= 0) task.get();
+            else task.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return byFile;
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            if (!keepPermit) permit.close();
+            return null;
+        } catch (ExecutionException e) {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException) c;
+            if (c instanceof RuntimeException) throw (RuntimeException) c;
+            if (c instanceof Error) throw (Error) c;
+            throw new IOException("Analisi CK fallita", c);
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Analisi CK interrotta", e);
+        }
+    }
+
+    /** Associa i metodi CK di un file alle firme JavaParser. */
+    static Map<String, FeatureExtractor.MethodFeatures> match(String relPath, String src, List<CKMethodResult> ms) {
+        Map<String, Deque<CKMethodResult>> ck = new HashMap<>();
+        List<CKMethodResult> sorted = new ArrayList<>(ms);
+        sorted.sort(Comparator.comparingInt(CKMethodResult::getStartLine));
+        for (CKMethodResult m : sorted) {
+            ck.computeIfAbsent(nameAndArity(m.getMethodName()), k -> new ArrayDeque<>()).add(m);
+        }
+
+        CompilationUnit cu = StaticJavaParser.parse(src);
+        List<MethodDeclaration> mds = new ArrayList<>(cu.findAll(MethodDeclaration.class));
+        List<MethodDeclaration> byLine = new ArrayList<>(mds);
+        byLine.sort(Comparator.comparingInt(md -> md.getBegin().map(b -> b.line).orElse(0)));
+        Map<MethodDeclaration, CKMethodResult> paired = new IdentityHashMap<>();
+        for (MethodDeclaration md : byLine) {
+            Deque<CKMethodResult> q = ck.get(md.getNameAsString() + "/" + md.getParameters().size());
+            if (q != null && !q.isEmpty()) paired.put(md, q.poll());
+        }
+
+        // stesso ordine di inserimento dell'estrattore JavaParser (chiavi ripetute: vince l'ultima)
+        Map<String, FeatureExtractor.MethodFeatures> result = new HashMap<>();
+        for (MethodDeclaration md : mds) {
+            CKMethodResult m = paired.get(md);
+            if (m == null) continue;
+            result.put(relPath + "#" + md.getDeclarationAsString(false, false, false), features(m));
+        }
+        return result;
+    }
+
+    private static FeatureExtractor.MethodFeatures features(CKMethodResult m) {
+        FeatureExtractor.MethodFeatures f = new FeatureExtractor.MethodFeatures();
+        f.loc             = m.getLoc();
+        f.cyclomatic      = m.getWmc();
+        f.cognitive       = Math.max(0, m.getWmc() - 1);
+        f.parameterCount  = m.getParametersQty();
+        f.nestingDepth    = m.getMaxNestedBlocks();
+        f.returnCount     = m.getReturnQty();
+        f.tryCount        = m.getTryCatchQty();
+        f.assignmentCount = m.getAssignmentsQty();
+        f.invocationCount = m.getMethodInvocations().size();
+        f.method_gt_100_loc = f.loc > 100 ? 1 : 0;
+        return f;
+    }
+
+    /** "m/2[int,java.lang.String]" → "m/2". */
+    private static String nameAndArity(String ckName) {
+        int b = ckName.indexOf('[');
+        return b < 0 ? ckName : ckName.substring(0, b);
+    }
+}
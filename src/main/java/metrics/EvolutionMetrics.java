@@ -0,0 +1,648 @@
+package metrics;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import history.CommitTable;
+import history.ReleaseCatalog;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.diff.Edit;
+import org.eclipse.jgit.diff.RawTextComparator;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.util.io.DisabledOutputStream;
+import telemetry.AllocationScope;
+import telemetry.CommitAnalysisEvent;
+import telemetry.MetricsRegistry;
+import utils.MemoryGovernor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.DoubleSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Metriche evolutive per metodo (methodHistories, Churn, Authors), totali o fino a una release.
+ *
+ * I commit raggiungibili da HEAD vengono elencati una volta (dal più vecchio) e divisi
+ * in intervalli contigui, analizzati in parallelo: ogni worker ha il proprio reader,
+ * DiffFormatter e parser e registra un evento (commit, righe cambiate, autore) per ogni
+ * metodo toccato. I merge non vengono diffati, per non contare due volte le modifiche dei rami.
+ *
+ * Gli eventi formano una timeline per metodo ordinata per release del commit, con somme
+ * prefisse di modifiche, churn e autori distinti: le metriche "fino alla release R"
+ * sono una ricerca binaria più una lettura di array.
+ */
+public class EvolutionMetrics {
+
+    private static final MetricsRegistry.Counter COMMITS = MetricsRegistry.global()
+            .counter("dataset_commits_total", "Commit analizzati", "analysis", "evolution");
+    private static final MetricsRegistry.Histogram TASK_SECONDS = MetricsRegistry.global()
+            .timer("dataset_worker_task_seconds", "Durata dei task dei worker", "pool", "evolution");
+
+    private final Repository repo;
+    private final int threads;
+    private final ReleaseCatalog catalog;
+    private Executor executor;
+    private CommitTable table;
+
+    /**
+     * @param catalog release del progetto; se null tutte le modifiche valgono per ogni release
+     */
+    public EvolutionMetrics(Repository repo, int threads, ReleaseCatalog catalog) {
+        this.repo    = repo;
+        this.threads = Math.max(1, threads);
+        this.catalog = catalog;
+    }
+
+    public EvolutionMetrics(Repository repo, int threads) {
+        this(repo, threads, null);
+    }
+
+    /**
+     * Esegue i parziali su un executor condiviso invece che su un pool proprio di
+     * {@code threads} thread (che resta il numero di intervalli × 4).
+     */
+    public EvolutionMetrics executor(Executor shared) {
+        this.executor = shared;
+        return this;
+    }
+
+    /**
+     * Commit, autori e file toccati dalla {@link CommitTable} invece che da un walk della storia:
+     * i commit che non toccano sorgenti .java non vengono nemmeno diffati. Usata solo se il suo
+     * HEAD è quello del repository.
+     */
+    public EvolutionMetrics commitTable(CommitTable table) {
+        this.table = table;
+        return this;
+    }
+
+    /** Visita di una modifica nella timeline di un metodo. */
+    public interface ChangeVisitor {
+        void change(int commitOrdinal, int lines, int author);
+    }
+
+    /** Risultato: timeline per metodo (chiave path#signature) con somme prefisse. */
+    public static final class Result {
+        private final Map<String, Integer> ids;
+        private final ObjectId head;               // HEAD analizzato (null se repository vuoto)
+        private final List<ObjectId> commits;
+        private final int[] authorOf;              // autore di ogni commit
+        private final List<String> authors;        // email degli autori, per id
+        // CSR: eventi del metodo m in [start[m], start[m+1]), ordinati per release
+        private final int[] start;
+        private final int[] release;          // release del commit dell'evento
+        private final int[] cumChurn;         // churn fino all'evento incluso
+        private final int[] cumAuthors;       // autori distinti fino all'evento incluso
+        // timeline compatta: (Δordinale zigzag, righe, autore) in varint
+        private final byte[] timeline;
+        private final int[] timelineStart;
+
+        Result(Map<String, Integer> ids, ObjectId head, List<ObjectId> commits, int[] authorOf, List<String> authors,
+               int[] start, int[] release, int[] cumChurn, int[] cumAuthors, byte[] timeline, int[] timelineStart) {
+            this.ids = ids;
+            this.head = head;
+            this.commits = commits;
+            this.authorOf = authorOf;
+            this.authors = authors;
+            this.start = start;
+            this.release = release;
+            this.cumChurn = cumChurn;
+            this.cumAuthors = cumAuthors;
+            this.timeline = timeline;
+            this.timelineStart = timelineStart;
+        }
+
+        /** Id del metodo, -1 se non è mai stato modificato. */
+        public int methodId(String key) {
+            Integer id = ids.get(key);
+            return id == null ? -1 : id;
+        }
+
+        public int histories(int id) { return histories(id, Integer.MAX_VALUE); }
+        public int churn(int id)     { return churn(id, Integer.MAX_VALUE); }
+        public int authors(int id)   { return authors(id, Integer.MAX_VALUE); }
+
+        /** Numero di commit che hanno modificato il metodo fino alla release r inclusa. */
+        public int histories(int id, int r) {
+            return id < 0 ? 0 : upTo(id, r) - start[id];
+        }
+
+        /** Righe cambiate nel metodo fino alla release r inclusa. */
+        public int churn(int id, int r) {
+            if (id < 0) return 0;
+            int k = upTo(id, r);
+            return k == start[id] ? 0 : cumChurn[k - 1];
+        }
+
+        /** Autori distinti del metodo fino alla release r inclusa. */
+        public int authors(int id, int r) {
+            if (id < 0) return 0;
+            int k = upTo(id, r);
+            return k == start[id] ? 0 : cumAuthors[k - 1];
+        }
+
+        /** Fine (esclusa) degli eventi del metodo con release <= r. */
+        private int upTo(int id, int r) {
+            int lo = start[id], hi = start[id + 1];
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (release[mid] <= r) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        /** Visita le modifiche del metodo nell'ordine della timeline. */
+        public void forEachChange(int id, ChangeVisitor v) {
+            if (id < 0) return;
+            int[] pos = { timelineStart[id] };
+            int ordinal = 0;
+            for (int e = start[id]; e < start[id + 1]; e++) {
+                int z = readVarint(timeline, pos);
+                ordinal += (z >>> 1) ^ -(z & 1);
+                int lines = readVarint(timeline, pos);
+                v.change(ordinal, lines, readVarint(timeline, pos));
+            }
+        }
+
+        /** Commit con quell'ordinale (ordine della visita, dal più vecchio). */
+        public ObjectId commit(int ordinal) { return commits.get(ordinal); }
+
+        public int methodCount()     { return ids.size(); }
+        public int authorCount()     { return authors.size(); }
+        public int commitCount()     { return commits.size(); }
+        public ObjectId head()       { return head; }
+        public int changeCount()     { return release.length; }
+
+        /**
+         * Stesse modifiche con i metodi raggruppati per chiave canonica (es. le linee di
+         * {@code history.MethodIdentity}): le timeline delle chiavi con la stessa canonica si
+         * fondono, con somme prefisse e autori distinti ricalcolati. Se nessuna chiave cambia
+         * restituisce questo risultato.
+         */
+        public Result merged(UnaryOperator<String> canonicalKey) {
+            String[] keys = new String[ids.size()];
+            for (var e : ids.entrySet()) keys[e.getValue()] = e.getKey();
+            Map<String, Integer> merged = new HashMap<>();
+            int[] map = new int[keys.length];
+            boolean changed = false;
+            for (int m = 0; m < keys.length; m++) {
+                String c = canonicalKey.apply(keys[m]);
+                changed |= !c.equals(keys[m]);
+                map[m] = merged.computeIfAbsent(c, k -> merged.size());
+            }
+            if (!changed) return this;
+
+            int n = changeCount();
+            int[] evMethod = new int[n], evCommit = new int[n], evLines = new int[n];
+            int[] releaseOf = new int[commits.size()];
+            int[] e = { 0 };
+            for (int m = 0; m < keys.length; m++) {
+                int method = m;
+                forEachChange(m, (ordinal, lines, author) -> {
+                    releaseOf[ordinal] = release[e[0]];
+                    evMethod[e[0]] = map[method];
+                    evCommit[e[0]] = ordinal;
+                    evLines[e[0]]  = lines;
+                    e[0]++;
+                });
+            }
+            List<Integer> authorList = new ArrayList<>(authorOf.length);
+            for (int a : authorOf) authorList.add(a);
+            return buildIndex(merged, head, commits, authorList, authors, releaseOf, n, evMethod, evCommit, evLines);
+        }
+
+        /** Serializza il risultato (checkpoint della pipeline). */
+        public void write(DataOutput out) throws IOException {
+            String[] keys = new String[ids.size()];
+            for (var e : ids.entrySet()) keys[e.getValue()] = e.getKey();
+            out.writeInt(keys.length);
+            for (String k : keys) out.writeUTF(k);
+            byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+            out.writeBoolean(head != null);
+            if (head != null) {
+                head.copyRawTo(raw, 0);
+                out.write(raw);
+            }
+            out.writeInt(commits.size());
+            for (ObjectId c : commits) {
+                c.copyRawTo(raw, 0);
+                out.write(raw);
+            }
+            writeInts(out, authorOf);
+            out.writeInt(authors.size());
+            for (String a : authors) out.writeUTF(a);
+            writeInts(out, start);
+            writeInts(out, release);
+            writeInts(out, cumChurn);
+            writeInts(out, cumAuthors);
+            out.writeInt(timeline.length);
+            out.write(timeline);
+            writeInts(out, timelineStart);
+        }
+
+        public static Result read(DataInput in) throws IOException {
+            int n = in.readInt();
+            Map<String, Integer> ids = new HashMap<>(n * 2);
+            for (int i = 0; i < n; i++) ids.put(in.readUTF(), i);
+            byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+            ObjectId head = null;
+            if (in.readBoolean()) {
+                in.readFully(raw);
+                head = ObjectId.fromRaw(raw);
+            }
+            int c = in.readInt();
+            List<ObjectId> commits = new ArrayList<>(c);
+            for (int i = 0; i < c; i++) {
+                in.readFully(raw);
+                commits.add(ObjectId.fromRaw(raw));
+            }
+            int[] authorOf = readInts(in);
+            int a = in.readInt();
+            List<String> authors = new ArrayList<>(a);
+            for (int i = 0; i < a; i++) authors.add(in.readUTF());
+            int[] start = readInts(in), release = readInts(in), cumChurn = readInts(in), cumAuthors = readInts(in);
+            byte[] timeline = new byte[in.readInt()];
+            in.readFully(timeline);
+            return new Result(ids, head, commits, authorOf, authors, start, release, cumChurn, cumAuthors,
+                    timeline, readInts(in));
+        }
+
+        private static void writeInts(DataOutput out, int[] a) throws IOException {
+            out.writeInt(a.length);
+            for (int v : a) out.writeInt(v);
+        }
+
+        private static int[] readInts(DataInput in) throws IOException {
+            int[] a = new int[in.readInt()];
+            for (int i = 0; i < a.length; i++) a[i] = in.readInt();
+            return a;
+        }
+    }
+
+    public Result compute() throws IOException, InterruptedException {
+        return update(null);
+    }
+
+    /**
+     * Come {@link #compute()}, ma riusa gli eventi di un risultato precedente: se il suo HEAD è
+     * un antenato di quello attuale si analizzano solo i commit nuovi, poi l'indice viene
+     * ricostruito (in memoria) con le release del catalogo attuale. Se la storia è stata
+     * riscritta si riparte da zero.
+     */
+    public Result update(Result previous) throws IOException, InterruptedException {
+        // --- elenco dei commit (dal più vecchio) + dizionario autori
+        List<ObjectId> commits = new ArrayList<>();
+        List<Integer> authorOf = new ArrayList<>();
+        List<String> authors = new ArrayList<>();
+        Map<String, Integer> authorIds = new HashMap<>();
+        ObjectId head = repo.resolve(Constants.HEAD);
+        if (previous != null && !extendsHistory(previous, head)) previous = null;
+        if (previous != null) {
+            commits.addAll(previous.commits);
+            for (int a : previous.authorOf) authorOf.add(a);
+            for (String email : previous.authors) {
+                authorIds.put(email, authors.size());
+                authors.add(email);
+            }
+        }
+        int firstNew = commits.size();
+        BitSet skip = new BitSet();       // commit nuovi senza sorgenti .java nel diff
+        if (head != null && table != null && head.equals(table.head())) {
+            Set<ObjectId> known = previous == null ? Set.of() : new HashSet<>(previous.commits);
+            for (int o = 0; o < table.size(); o++) {
+                if (table.parentCount(o) > 1) continue;
+                ObjectId id = table.id(o);
+                if (known.contains(id)) continue;
+                if (!table.touchesJava(o)) skip.set(commits.size());
+                commits.add(id);
+                authorOf.add(authorIds.computeIfAbsent(table.authorEmail(table.author(o)), e -> {
+                    authors.add(e);
+                    return authors.size() - 1;
+                }));
+            }
+        } else if (head != null) {
+            try (RevWalk rw = new RevWalk(repo)) {
+                rw.sort(RevSort.TOPO, true);
+                rw.sort(RevSort.REVERSE, true);
+                rw.markStart(rw.parseCommit(head));
+                if (previous != null) rw.markUninteresting(rw.parseCommit(previous.head));
+                for (RevCommit c : rw) {
+                    if (c.getParentCount() > 1) continue;
+                    String email = c.getAuthorIdent().getEmailAddress().toLowerCase(Locale.ROOT);
+                    commits.add(c.copy());
+                    authorOf.add(authorIds.computeIfAbsent(email, e -> {
+                        authors.add(e);
+                        return authors.size() - 1;
+                    }));
+                }
+            }
+        }
+        if (previous != null) {
+            System.out.println(" → Metriche evolutive: " + (commits.size() - firstNew) + " commit nuovi dopo "
+                    + previous.head.abbreviate(10).name());
+        }
+        // release di ogni commit: dopo l'ultima release (o sconosciuta) = size()
+        int[] releaseOf = new int[commits.size()];
+        if (catalog != null) {
+            for (int i = 0; i < releaseOf.length; i++) {
+                int r = catalog.releaseOf(commits.get(i));
+                releaseOf[i] = r == ReleaseCatalog.NONE ? catalog.size() : r;
+            }
+        }
+
+        // --- intervalli dei commit nuovi in parallelo
+        int fresh = commits.size() - firstNew;
+        int parts = Math.min(fresh, threads * 4);
+        ThreadPoolExecutor pool = executor == null ? (ThreadPoolExecutor) Executors.newFixedThreadPool(threads) : null;
+        DoubleSupplier queueGauge = pool == null ? null : () -> pool.getQueue().size();
+        DoubleSupplier activeGauge = pool == null ? null : pool::getActiveCount;
+        if (pool != null) {
+            MetricsRegistry.global().gauge("dataset_queue_depth", "Task in coda", queueGauge, "pool", "evolution");
+            MetricsRegistry.global().gauge("dataset_workers_active", "Worker occupati", activeGauge, "pool", "evolution");
+        }
+        List<FutureTask<Partial>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < parts; p++) {
+                int from = firstNew + (int) ((long) fresh * p / parts);
+                int to   = firstNew + (int) ((long) fresh * (p + 1) / parts);
+                FutureTask<Partial> task = new FutureTask<>(() -> analyze(commits, skip, from, to));
+                futures.add(task);
+                (pool != null ? pool : executor).execute(AllocationScope.wrap(task));
+            }
+            // --- merge dei parziali: id globali, eventi in ordine di commit
+            Map<String, Integer> ids = new HashMap<>();
+            int n = 0;
+            int[] evMethod = new int[1024], evCommit = new int[1024], evLines = new int[1024];
+            if (previous != null) {
+                // eventi già noti, dalla timeline del risultato precedente
+                ids.putAll(previous.ids);
+                int old = previous.changeCount();
+                evMethod = new int[Math.max(1024, old * 2)];
+                evCommit = new int[evMethod.length];
+                evLines  = new int[evMethod.length];
+                int[] e = { 0 };
+                for (int m = 0; m < previous.methodCount(); m++) {
+                    int method = m;
+                    int[] em = evMethod, ec = evCommit, el = evLines;
+                    previous.forEachChange(m, (ordinal, lines, author) -> {
+                        em[e[0]] = method;
+                        ec[e[0]] = ordinal;
+                        el[e[0]] = lines;
+                        e[0]++;
+                    });
+                }
+                n = e[0];
+            }
+            for (FutureTask<Partial> f : futures) {
+                // con l'executor condiviso i parziali non ancora partiti li esegue il chiamante:
+                // nessuna attesa su worker occupati da altri progetti (né deadlock se il chiamante è uno di loro)
+                if (pool == null) f.run();
+                Partial part = get(f);
+                int[] global = new int[part.ids.size()];
+                for (var e : part.ids.entrySet()) {
+                    global[e.getValue()] = ids.computeIfAbsent(e.getKey(), k -> ids.size());
+                }
+                if (n + part.size > evMethod.length) {
+                    int cap = Math.max(n + part.size, evMethod.length * 2);
+                    evMethod = Arrays.copyOf(evMethod, cap);
+                    evCommit = Arrays.copyOf(evCommit, cap);
+                    evLines  = Arrays.copyOf(evLines, cap);
+                }
+                for (int e = 0; e < part.size; e++) {
+                    evMethod[n] = global[part.method[e]];
+                    evCommit[n] = part.commit[e];
+                    evLines[n]  = part.lines[e];
+                    n++;
+                }
+            }
+            return buildIndex(ids, head, commits, authorOf, authors, releaseOf, n, evMethod, evCommit, evLines);
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+                // le gauge tengono vivo il pool: via con lui
+                MetricsRegistry.global().removeGauge("dataset_queue_depth", queueGauge, "pool", "evolution");
+                MetricsRegistry.global().removeGauge("dataset_workers_active", activeGauge, "pool", "evolution");
+            }
+            else for (FutureTask<Partial> f : futures) f.cancel(true);
+        }
+    }
+
+    /** Raggruppa gli eventi per metodo, li ordina per (release, commit) e calcola le somme prefisse. */
+    private static Result buildIndex(Map<String, Integer> ids, ObjectId head, List<ObjectId> commits,
+                                     List<Integer> authorOf, List<String> authors, int[] releaseOf,
+                                     int n, int[] evMethod, int[] evCommit, int[] evLines) {
+        int authorCount = authors.size();
+        int methods = ids.size();
+        int[] start = new int[methods + 1];
+        for (int e = 0; e < n; e++) start[evMethod[e] + 1]++;
+        for (int m = 0; m < methods; m++) start[m + 1] += start[m];
+
+        // counting sort stabile per metodo: (release << 32 | evento)
+        long[] order = new long[n];
+        int[] fill = Arrays.copyOf(start, methods);
+        for (int e = 0; e < n; e++) {
+            order[fill[evMethod[e]]++] = ((long) releaseOf[evCommit[e]] << 32) | e;
+        }
+
+        int[] release = new int[n], cumChurn = new int[n], cumAuthors = new int[n];
+        int[] timelineStart = new int[methods];
+        byte[] timeline = new byte[Math.max(16, n * 4)];
+        int[] pos = { 0 };
+        int[] seen = new int[Math.max(1, authorCount)];
+        Arrays.fill(seen, -1);
+        for (int m = 0; m < methods; m++) {
+            Arrays.sort(order, start[m], start[m + 1]);
+            timelineStart[m] = pos[0];
+            int churn = 0, distinct = 0, prevCommit = 0;
+            for (int k = start[m]; k < start[m + 1]; k++) {
+                int e = (int) order[k];
+                int c = evCommit[e], author = authorOf.get(c);
+                churn += evLines[e];
+                if (seen[author] != m) { seen[author] = m; distinct++; }
+                release[k] = (int) (order[k] >>> 32);
+                cumChurn[k] = churn;
+                cumAuthors[k] = distinct;
+
+                if (pos[0] + 15 > timeline.length) timeline = Arrays.copyOf(timeline, timeline.length * 2);
+                int delta = c - prevCommit;
+                writeVarint(timeline, pos, (delta << 1) ^ (delta >> 31));
+                writeVarint(timeline, pos, evLines[e]);
+                writeVarint(timeline, pos, author);
+                prevCommit = c;
+            }
+        }
+        int[] authorOfArray = new int[authorOf.size()];
+        for (int i = 0; i < authorOfArray.length; i++) authorOfArray[i] = authorOf.get(i);
+        return new Result(ids, head, commits, authorOfArray, authors, start, release, cumChurn, cumAuthors,
+                Arrays.copyOf(timeline, pos[0]), timelineStart);
+    }
+
+    /** true se previous ha un HEAD e questo è un antenato di head (storia solo estesa). */
+    private boolean extendsHistory(Result previous, ObjectId head) throws IOException {
+        if (previous.head == null || head == null) return false;
+        try (RevWalk rw = new RevWalk(repo)) {
+            return rw.isMergedInto(rw.parseCommit(previous.head), rw.parseCommit(head));
+        } catch (MissingObjectException e) {
+            return false;
+        }
+    }
+
+    private static void writeVarint(byte[] buf, int[] pos, int v) {
+        while ((v & ~0x7f) != 0) {
+            buf[pos[0]++] = (byte) ((v & 0x7f) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos[0]++] = (byte) v;
+    }
+
+    private static int readVarint(byte[] buf, int[] pos) {
+        int v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf[pos[0]++];
+            v |= (b & 0x7f) << shift;
+            if (b >= 0) return v;
+        }
+    }
+
+    private static Partial get(Future<Partial> f) throws IOException, InterruptedException {
+        try {
+            return f.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IllegalStateException("Analisi commit fallita", e.getCause());
+        }
+    }
+
+    /** Analizza i commit [from, to) non in skip registrando gli eventi in un parziale locale al worker. */
+    private Partial analyze(List<ObjectId> commits, BitSet skip, int from, int to)
+            throws IOException {
+        long started = System.nanoTime();
+        Partial part = new Partial();
+        JavaParser parser = new JavaParser(new ParserConfiguration());
+        try (RevWalk rw = new RevWalk(repo);
+             ObjectReader reader = repo.newObjectReader();
+             DiffFormatter df = new DiffFormatter(DisabledOutputStream.INSTANCE)) {
+            rw.setRetainBody(false);
+            df.setRepository(repo);
+            df.setDiffComparator(RawTextComparator.DEFAULT);
+            df.setPathFilter(PathSuffixFilter.create(".java"));
+            // file spostati/rinominati: edit rispetto al vecchio path invece di "tutto aggiunto"
+            df.setDetectRenames(true);
+
+            for (int i = from; i < to; i++) {
+                if (skip.get(i)) continue;
+                CommitAnalysisEvent event = new CommitAnalysisEvent();
+                event.begin();
+                int editCount = 0, touched = part.size;
+                RevCommit c = rw.parseCommit(commits.get(i));
+                List<DiffEntry> entries;
+                if (c.getParentCount() == 0) {
+                    entries = df.scan(new EmptyTreeIterator(), new CanonicalTreeParser(null, reader, c.getTree()));
+                } else {
+                    entries = df.scan(rw.parseCommit(c.getParent(0)).getTree(), c.getTree());
+                }
+                for (DiffEntry d : entries) {
+                    if (d.getChangeType() == DiffEntry.ChangeType.DELETE) continue;
+                    List<Edit> edits = df.toFileHeader(d).toEditList();
+                    editCount += edits.size();
+                    if (edits.isEmpty()) continue;
+                    ObjectId blob = d.getNewId().toObjectId();
+                    MemoryGovernor.Permit permit = acquire(reader.getObjectSize(blob, Constants.OBJ_BLOB));
+                    try (permit) {
+                        String src = new String(reader.open(blob).getCachedBytes(), StandardCharsets.UTF_8);
+                        ParseResult<CompilationUnit> pr = parser.parse(src);
+                        if (pr.getResult().isEmpty()) continue;
+                        for (MethodDeclaration md : pr.getResult().get().findAll(MethodDeclaration.class)) {
+                            if (md.getRange().isEmpty()) continue;
+                            int lines = changedLines(edits, md.getRange().get().begin.line, md.getRange().get().end.line);
+                            if (lines < 0) continue;
+                            String key = d.getNewPath() + "#" + md.getDeclarationAsString(false, false, false);
+                            part.add(key, i, lines);
+                        }
+                    }
+                }
+                COMMITS.inc();
+                event.end();
+                if (event.shouldCommit()) {
+                    event.analysis = "evolution";
+                    event.commitId = c.name();
+                    event.files    = entries.size();
+                    event.edits    = editCount;
+                    event.methods  = part.size - touched;
+                    event.commit();
+                }
+            }
+        }
+        TASK_SECONDS.observeNanos(System.nanoTime() - started);
+        return part;
+    }
+
+    /** Permesso di memoria per il parsing di un sorgente di size byte. */
+    private static MemoryGovernor.Permit acquire(long size) throws IOException {
+        try {
+            return MemoryGovernor.global().acquire(size * MemoryGovernor.AST_FACTOR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Analisi dei commit interrotta");
+        }
+    }
+
+    /**
+     * Righe cambiate dentro il metodo [begin, end] (1-based, lato nuovo): righe aggiunte
+     * che cadono nel metodo più righe rimosse il cui punto di inserzione cade nel metodo.
+     * -1 se nessuna edit tocca il metodo.
+     */
+    static int changedLines(List<Edit> edits, int begin, int end) {
+        int lines = 0;
+        boolean touched = false;
+        for (Edit e : edits) {
+            int b0 = e.getBeginB() + 1, b1 = e.getEndB();        // righe nuove [b0, b1], 1-based
+            int added = Math.max(0, Math.min(b1, end) - Math.max(b0, begin) + 1);
+            int anchor = e.getBeginB() + 1;
+            boolean deletedHere = e.getEndA() > e.getBeginA() && anchor >= begin && anchor <= end;
+            if (added > 0 || deletedHere) {
+                touched = true;
+                lines += added + (deletedHere ? e.getEndA() - e.getBeginA() : 0);
+            }
+        }
+        return touched ? lines : -1;
+    }
+
+    /** Eventi (metodo locale, commit, righe) di un worker, in array primitivi. */
+    private static final class Partial {
+        final Map<String, Integer> ids = new HashMap<>();
+        int size;
+        int[] method = new int[256], commit = new int[256], lines = new int[256];
+
+        void add(String key, int commitOrdinal, int changed) {
+            if (size == method.length) {
+                method = Arrays.copyOf(method, size * 2);
+                commit = Arrays.copyOf(commit, size * 2);
+                lines  = Arrays.copyOf(lines, size * 2);
+            }
+            method[size] = ids.computeIfAbsent(key, k -> ids.size());
+            commit[size] = commitOrdinal;
+            lines[size]  = changed;
+            size++;
+        }
+    }
+}
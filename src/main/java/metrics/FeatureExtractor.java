@@ -25,24 +25,59 @@ import net.sourceforge.pmd.RuleSets;
 import net.sourceforge.pmd.SourceCodeProcessor;
 import net.sourceforge.pmd.lang.LanguageRegistry;
 import net.sourceforge.pmd.lang.java.JavaLanguageModule;
+import telemetry.FileExtractionEvent;
+import telemetry.MetricsRegistry;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class FeatureExtractor {
 
+    private static final MetricsRegistry.Counter FILES =
+            MetricsRegistry.global().counter("dataset_files_total", "File sorgente analizzati");
+    private static final MetricsRegistry.Counter FILE_BYTES =
+            MetricsRegistry.global().counter("dataset_file_bytes_total", "Byte di sorgente analizzati");
+    private static final MetricsRegistry.Counter METHODS =
+            MetricsRegistry.global().counter("dataset_methods_total", "Metodi estratti");
+    private static final MetricsRegistry.Histogram FILE_SECONDS =
+            MetricsRegistry.global().timer("dataset_file_seconds", "Estrazione delle feature di un file");
+
+    private static final String RULES = "category/java/bestpractices.xml";
+    // caricare il rule set costa più che analizzare un file e RuleSets non è thread-safe:
+    // pool di istanze riusate tra file, release e (nel daemon) job
+    private static final ConcurrentLinkedQueue<RuleSets> RULE_SETS = new ConcurrentLinkedQueue<>();
+
     private final Path repoRoot;
 
     public FeatureExtractor(Path repoRoot) {
         this.repoRoot = repoRoot;
     }
 
+    /**
+     * Analizza una classe minima per caricare rule set PMD, parser e classi collegate
+     * prima del primo file vero (processi a lunga vita come il daemon).
+     */
+    public static void warmUp() throws Exception {
+        Path tmp = Files.createTempFile("warmup", ".java");
+        try {
+            Files.writeString(tmp, "class Warmup {\n  int f(int x) {\n    if (x > 0) { return x; }\n"
+                    + "    try { return -x; } catch (RuntimeException e) { return 0; }\n  }\n}\n");
+            new FeatureExtractor(tmp.getParent()).extractFromFile(tmp.toFile());
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
     public static class MethodFeatures {
         public int loc;
         public int cyclomatic;
@@ -58,11 +93,87 @@ public class FeatureExtractor {
         public int invocationCount;
         public int methodHistories;
         public int churn;
+        public int authors;
         public int method_gt_100_loc;
         public int codeSmells;
+
+        /** Nomi delle colonne intere, nello stesso ordine del CSV. */
+        public static final String[] COLUMNS = {
+                "LOC", "CyclomaticComplexity", "CognitiveComplexity", "ParameterCount",
+                "NestingDepth", "ReturnCount", "TryCount", "CatchCount", "SmellsDensity",
+                "ManyCatches", "AssignmentCount", "InvocationCount", "methodHistories",
+                "Churn", "Authors", "method_gt_100_loc", "CodeSmellsCount"
+        };
+
+        /** Copia di tutte le colonne. */
+        public MethodFeatures copy() {
+            MethodFeatures f = new MethodFeatures();
+            for (int col = 0; col < COLUMNS.length; col++) f.set(col, get(col));
+            return f;
+        }
+
+        /** Valore della colonna {@code COLUMNS[col]}. */
+        public int get(int col) {
+            switch (col) {
+                case 0:  return loc;
+                case 1:  return cyclomatic;
+                case 2:  return cognitive;
+                case 3:  return parameterCount;
+                case 4:  return nestingDepth;
+                case 5:  return returnCount;
+                case 6:  return tryCount;
+                case 7:  return catchCount;
+                case 8:  return smellsDensity;
+                case 9:  return manyCatches;
+                case 10: return assignmentCount;
+                case 11: return invocationCount;
+                case 12: return methodHistories;
+                case 13: return churn;
+                case 14: return authors;
+                case 15: return method_gt_100_loc;
+                case 16: return codeSmells;
+                default: throw new IndexOutOfBoundsException("colonna " + col);
+            }
+        }
+
+        /** Imposta la colonna {@code COLUMNS[col]}. */
+        public void set(int col, int v) {
+            switch (col) {
+                case 0:  loc = v; break;
+                case 1:  cyclomatic = v; break;
+                case 2:  cognitive = v; break;
+                case 3:  parameterCount = v; break;
+                case 4:  nestingDepth = v; break;
+                case 5:  returnCount = v; break;
+                case 6:  tryCount = v; break;
+                case 7:  catchCount = v; break;
+                case 8:  smellsDensity = v; break;
+                case 9:  manyCatches = v; break;
+                case 10: assignmentCount = v; break;
+                case 11: invocationCount = v; break;
+                case 12: methodHistories = v; break;
+                case 13: churn = v; break;
+                case 14: authors = v; break;
+                case 15: method_gt_100_loc = v; break;
+                case 16: codeSmells = v; break;
+                default: throw new IndexOutOfBoundsException("colonna " + col);
+            }
+        }
     }
 
     public Map<String, MethodFeatures> extractFromFile(File javaFile) throws Exception {
+        return extractFromSource(repoRoot.relativize(javaFile.toPath()).toString(), Files.readAllBytes(javaFile.toPath()));
+    }
+
+    /**
+     * Feature dei metodi di un sorgente già in memoria (es. un'entry di un archivio), senza
+     * passare dal disco; relPath è il path relativo alla radice, la prima parte delle chiavi.
+     */
+    public Map<String, MethodFeatures> extractFromSource(String relPath, byte[] content) throws Exception {
+        FileExtractionEvent event = new FileExtractionEvent();
+        event.begin();
+        long t0 = System.nanoTime();
+
         // sopprime i log di PMD
         Logger.getLogger("net.sourceforge.pmd").setLevel(Level.SEVERE);
 
@@ -71,20 +182,26 @@ public class FeatureExtractor {
         cfg.setDefaultLanguageVersion(
                 LanguageRegistry.getLanguage(JavaLanguageModule.NAME).getDefaultVersion()
         );
-        RuleSetFactory rsf = new RuleSetFactory();
-        RuleSets ruleSets = rsf.createRuleSets("category/java/bestpractices.xml");
+        RuleSets ruleSets = RULE_SETS.poll();
+        if (ruleSets == null) ruleSets = new RuleSetFactory().createRuleSets(RULES);
         RuleContext ctx = new RuleContext();
-        ctx.setSourceCodeFile(javaFile);
+        ctx.setSourceCodeFile(repoRoot.resolve(relPath).toFile());
         Report report = new Report();
         ctx.setReport(report);
-        new SourceCodeProcessor(cfg)
-                .processSourceCode(new FileInputStream(javaFile), ruleSets, ctx);
+        try (InputStream in = new ByteArrayInputStream(content)) {
+            new SourceCodeProcessor(cfg).processSourceCode(in, ruleSets, ctx);
+        } finally {
+            RULE_SETS.offer(ruleSets);
+        }
         int codeSmellsCount = report.getViolations().size();
+        long t1 = System.nanoTime();
 
         // 1) AST analysis con JavaParser
-        String src = Files.readString(javaFile.toPath());
+        // decodifica stretta come Files.readString: un file non UTF-8 è un errore, non caratteri sostituiti
+        String src = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
         CompilationUnit cu = StaticJavaParser.parse(src);
         cu.getAllComments().forEach(Comment::remove);
+        long t2 = System.nanoTime();
 
         Map<String, MethodFeatures> result = new HashMap<>();
         for (MethodDeclaration md : cu.findAll(MethodDeclaration.class)) {
@@ -127,15 +244,30 @@ public class FeatureExtractor {
             // Evolution placeholders
             f.methodHistories = 0;
             f.churn           = 0;
+            f.authors         = 0;
 
             // Existing actionable: troppo lungo
             f.method_gt_100_loc = f.loc > 100 ? 1 : 0;
 
             // Chiave = relPath#signature
-            Path rel = repoRoot.relativize(javaFile.toPath());
-            String filePath = rel.toString();
             String sig      = md.getDeclarationAsString(false, false, false);
-            result.put(filePath + "#" + sig, f);
+            result.put(relPath + "#" + sig, f);
+        }
+
+        FILES.inc();
+        FILE_BYTES.add(content.length);
+        METHODS.add(result.size());
+        FILE_SECONDS.observeNanos(System.nanoTime() - t0);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.path        = relPath;
+            event.bytes       = content.length;
+            event.methods     = result.size();
+            event.pmdTime     = t1 - t0;
+            event.parseTime   = t2 - t1;
+            event.metricsTime = System.nanoTime() - t2;
+            event.commit();
         }
         return result;
     }
@@ -0,0 +1,28 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motore delle metriche di una release: dai sorgenti sotto la radice alle colonne per metodo
+ * ({@link FeatureExtractor.MethodFeatures}), con chiavi path#signature relative alla radice
+ * (le stesse dei diff e delle metriche evolutive).
+ *
+ * Implementazioni: "javaparser" (JavaParser + PMD file per file, quello del dataset) e "ck"
+ * ({@link CkMetricEngine}, l'intera release in un solo passaggio batch).
+ */
+public interface MetricEngine {
+
+    /** Nome con cui si seleziona il motore (-Dextract.engine). */
+    String name();
+
+    /**
+     * Feature dei metodi dei file dati.
+     *
+     * @param root  radice della release
+     * @param files file .java sotto root, nell'ordine di visita
+     */
+    Map<String, FeatureExtractor.MethodFeatures> analyze(Path root, List<Path> files) throws IOException;
+}
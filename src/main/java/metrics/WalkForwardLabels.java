@@ -0,0 +1,96 @@
+package metrics;
+
+import fetcher.model.JiraTicket;
+import history.ReleaseCatalog;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Etichette di bugginess "come note" a ogni release, per le valutazioni walk-forward.
+ *
+ * Stessi fix e stesse finestre [IV, FV) di {@link BugLabeller}, ma per ogni (metodo, release)
+ * si tiene lo split più vecchio in cui l'etichetta è nota: la prima release successiva sia
+ * alla risoluzione del ticket sia al commit di fix. Nello split k (training sulle release
+ * precedenti a k, testing sulla release k) il training vede solo le etichette note a k,
+ * il testing tutte: un lookup per riga, senza ricalcolare le etichette per ogni split.
+ */
+public class WalkForwardLabels {
+
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    private final int releaseCount;
+    private final UnaryOperator<String> canonical;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private int[] knownAt = new int[0];
+
+    public WalkForwardLabels(int releaseCount) {
+        this(releaseCount, UnaryOperator.identity());
+    }
+
+    /** @param canonical chiave canonica del metodo, come in {@link BugLabeller} */
+    public WalkForwardLabels(int releaseCount, UnaryOperator<String> canonical) {
+        this.releaseCount = Math.max(1, releaseCount);
+        this.canonical    = canonical;
+    }
+
+    /** Parametri come {@link BugLabeller#fromFixes(ReleaseCatalog, List, Map, Map, UnaryOperator)}. */
+    public static WalkForwardLabels fromFixes(ReleaseCatalog catalog,
+                                              List<JiraTicket> tickets,
+                                              Map<RevCommit, List<String>> changed,
+                                              Map<RevCommit, Integer> introducedIn,
+                                              UnaryOperator<String> canonical) {
+        WalkForwardLabels l = new WalkForwardLabels(catalog.size(), canonical);
+        BugLabeller.forEachFix(catalog, tickets, changed, introducedIn, (fix, ticket, methods, iv, fv) -> {
+            int known = catalog.releaseAtTime(fix.getCommitTime());
+            if (ticket.getResolutionDate() != null) {
+                known = Math.max(known, catalog.releaseAtTime(
+                        ticket.getResolutionDate().atStartOfDay(ZoneOffset.UTC).toEpochSecond()));
+            }
+            for (String method : methods) l.markBuggy(method, iv, fv, known);
+        });
+        return l;
+    }
+
+    /** Il metodo è buggy nelle release [from, to), e lo si sa dallo split known in poi. */
+    public void markBuggy(String methodKey, int from, int to, int known) {
+        int id = ids.computeIfAbsent(canonical.apply(methodKey), k -> ids.size());
+        if ((id + 1) * releaseCount > knownAt.length) {
+            int old = knownAt.length;
+            knownAt = Arrays.copyOf(knownAt, Math.max((id + 1) * releaseCount, old * 2));
+            Arrays.fill(knownAt, old, knownAt.length, NEVER);
+        }
+        int base = id * releaseCount;
+        for (int r = Math.max(0, from); r < Math.min(to, releaseCount); r++) {
+            knownAt[base + r] = Math.min(knownAt[base + r], known);
+        }
+    }
+
+    /** Id del metodo, -1 se non è mai buggy. */
+    public int methodId(String methodKey) {
+        Integer id = ids.get(canonical.apply(methodKey));
+        return id == null ? -1 : id;
+    }
+
+    /** Split più vecchio in cui il metodo risulta buggy nella release, {@link Integer#MAX_VALUE} se mai. */
+    public int knownAt(int methodId, int release) {
+        return methodId < 0 ? NEVER : knownAt[methodId * releaseCount + release];
+    }
+
+    /** Buggy nella release con le informazioni note allo split (training dello split). */
+    public boolean isBuggy(int methodId, int release, int split) {
+        return knownAt(methodId, release) <= split;
+    }
+
+    /** Buggy nella release con tutte le informazioni, come {@link BugLabeller} (testing). */
+    public boolean isBuggy(int methodId, int release) {
+        return knownAt(methodId, release) != NEVER;
+    }
+
+    public int releaseCount() { return releaseCount; }
+}
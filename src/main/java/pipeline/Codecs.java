@@ -0,0 +1,185 @@
+package pipeline;
+
+import fetcher.BookkeeperFetcher;
+import fetcher.model.JiraTicket;
+import fetcher.model.JiraVersion;
+import metrics.EvolutionMetrics;
+import metrics.FeatureExtractor;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Codec binari degli output degli stage (checkpoint di {@link StageGraph}).
+ * Le mappe si scrivono nel loro ordine di iterazione e si rileggono in una mappa dello stesso
+ * tipo, così l'ordine (e quindi il CSV) di un run ripreso è identico a quello di un run completo.
+ */
+final class Codecs {
+
+    private Codecs() {}
+
+    static final StageGraph.Codec<List<String>> STRINGS = new StageGraph.Codec<>() {
+        @Override public void write(DataOutputStream out, List<String> v) throws IOException {
+            out.writeInt(v.size());
+            for (String s : v) out.writeUTF(s);
+        }
+        @Override public List<String> read(DataInputStream in) throws IOException {
+            int n = in.readInt();
+            List<String> v = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) v.add(in.readUTF());
+            return v;
+        }
+    };
+
+    /** Feature dei metodi di una release: chiave path#signature e le colonne intere. */
+    static final StageGraph.Codec<Map<String, FeatureExtractor.MethodFeatures>> FEATURES = new StageGraph.Codec<>() {
+        @Override public void write(DataOutputStream out, Map<String, FeatureExtractor.MethodFeatures> v)
+                throws IOException {
+            int cols = FeatureExtractor.MethodFeatures.COLUMNS.length;
+            out.writeInt(cols);
+            out.writeInt(v.size());
+            for (var e : v.entrySet()) {
+                out.writeUTF(e.getKey());
+                for (int c = 0; c < cols; c++) out.writeInt(e.getValue().get(c));
+            }
+        }
+        @Override public Map<String, FeatureExtractor.MethodFeatures> read(DataInputStream in) throws IOException {
+            int cols = in.readInt();
+            if (cols != FeatureExtractor.MethodFeatures.COLUMNS.length) throw new IOException("colonne diverse: " + cols);
+            int n = in.readInt();
+            Map<String, FeatureExtractor.MethodFeatures> v = new HashMap<>();
+            for (int i = 0; i < n; i++) {
+                String key = in.readUTF();
+                FeatureExtractor.MethodFeatures f = new FeatureExtractor.MethodFeatures();
+                for (int c = 0; c < cols; c++) f.set(c, in.readInt());
+                v.put(key, f);
+            }
+            return v;
+        }
+    };
+
+    static final StageGraph.Codec<EvolutionMetrics.Result> EVOLUTION = new StageGraph.Codec<>() {
+        @Override public void write(DataOutputStream out, EvolutionMetrics.Result v) throws IOException {
+            v.write(out);
+        }
+        @Override public EvolutionMetrics.Result read(DataInputStream in) throws IOException {
+            return EvolutionMetrics.Result.read(in);
+        }
+    };
+
+    static StageGraph.Codec<List<JiraTicket>> tickets(BookkeeperFetcher json) {
+        return new StageGraph.Codec<>() {
+            @Override public void write(DataOutputStream out, List<JiraTicket> v) throws IOException {
+                writeString(out, json.toJson(v));
+            }
+            @Override public List<JiraTicket> read(DataInputStream in) throws IOException {
+                return json.ticketsFromJson(readString(in));
+            }
+        };
+    }
+
+    static StageGraph.Codec<List<JiraVersion>> versions(BookkeeperFetcher json) {
+        return new StageGraph.Codec<>() {
+            @Override public void write(DataOutputStream out, List<JiraVersion> v) throws IOException {
+                writeString(out, json.toJson(v));
+            }
+            @Override public List<JiraVersion> read(DataInputStream in) throws IOException {
+                return json.versionsFromJson(readString(in));
+            }
+        };
+    }
+
+    /** Lista di commit; in lettura i commit vengono riletti dal repository. */
+    static StageGraph.Codec<List<RevCommit>> commits(Repository repo) {
+        return new StageGraph.Codec<>() {
+            @Override public void write(DataOutputStream out, List<RevCommit> v) throws IOException {
+                out.writeInt(v.size());
+                for (RevCommit c : v) writeId(out, c);
+            }
+            @Override public List<RevCommit> read(DataInputStream in) throws IOException {
+                int n = in.readInt();
+                List<RevCommit> v = new ArrayList<>(n);
+                try (RevWalk rw = new RevWalk(repo)) {
+                    for (int i = 0; i < n; i++) v.add(rw.parseCommit(readId(in)));
+                }
+                return v;
+            }
+        };
+    }
+
+    /** Metodi cambiati per commit (ordine dei commit conservato). */
+    static StageGraph.Codec<Map<RevCommit, List<String>>> changedMethods(Repository repo) {
+        return new StageGraph.Codec<>() {
+            @Override public void write(DataOutputStream out, Map<RevCommit, List<String>> v) throws IOException {
+                out.writeInt(v.size());
+                for (var e : v.entrySet()) {
+                    writeId(out, e.getKey());
+                    STRINGS.write(out, e.getValue());
+                }
+            }
+            @Override public Map<RevCommit, List<String>> read(DataInputStream in) throws IOException {
+                int n = in.readInt();
+                Map<RevCommit, List<String>> v = new LinkedHashMap<>();
+                try (RevWalk rw = new RevWalk(repo)) {
+                    for (int i = 0; i < n; i++) v.put(rw.parseCommit(readId(in)), STRINGS.read(in));
+                }
+                return v;
+            }
+        };
+    }
+
+    /** Release di introduzione per commit di fix. */
+    static StageGraph.Codec<Map<RevCommit, Integer>> releaseByCommit(Repository repo) {
+        return new StageGraph.Codec<>() {
+            @Override public void write(DataOutputStream out, Map<RevCommit, Integer> v) throws IOException {
+                List<RevCommit> keys = new ArrayList<>(v.keySet());
+                keys.sort(Comparator.comparing(ObjectId::name));
+                out.writeInt(keys.size());
+                for (RevCommit c : keys) {
+                    writeId(out, c);
+                    out.writeInt(v.get(c));
+                }
+            }
+            @Override public Map<RevCommit, Integer> read(DataInputStream in) throws IOException {
+                int n = in.readInt();
+                Map<RevCommit, Integer> v = new HashMap<>();
+                try (RevWalk rw = new RevWalk(repo)) {
+                    for (int i = 0; i < n; i++) v.put(rw.parseCommit(readId(in)), in.readInt());
+                }
+                return v;
+            }
+        };
+    }
+
+    private static void writeId(DataOutputStream out, ObjectId id) throws IOException {
+        byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+        id.copyRawTo(raw, 0);
+        out.write(raw);
+    }
+
+    private static ObjectId readId(DataInputStream in) throws IOException {
+        byte[] raw = new byte[Constants.OBJECT_ID_LENGTH];
+        in.readFully(raw);
+        return ObjectId.fromRaw(raw);
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] b = new byte[in.readInt()];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
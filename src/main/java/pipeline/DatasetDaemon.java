@@ -0,0 +1,444 @@
+package pipeline;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import fetcher.BookkeeperFetcher;
+import history.ReleaseCatalog;
+import metrics.FeatureExtractor;
+import telemetry.MetricsRegistry;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Ref;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Processo a lunga vita che esegue job del dataset ricevuti su http://127.0.0.1:port.
+ *
+ * Tra un job e l'altro restano caldi JIT, parser e rule set PMD (vedi
+ * {@link FeatureExtractor#warmUp()}), i repository aperti e i checkpoint degli stage, così
+ * un job "what-if" (altro intervallo di tag, altra frazione di release) paga solo gli stage
+ * che cambiano. Endpoint:
+ * <ul>
+ *   <li>POST /jobs: corpo JSON {@link JobRequest}; la risposta è NDJSON in streaming, una riga
+ *       {"log": ...} per ogni riga di output del job e in fondo {"result": ...} o {"error": ...};</li>
+ *   <li>GET /status: job eseguiti, in coda e repository aperti;</li>
+ *   <li>GET /metrics: il {@link MetricsRegistry} in formato Prometheus;</li>
+ *   <li>POST /shutdown: chiude il daemon dopo il job in corso.</li>
+ * </ul>
+ * /jobs, /status e /shutdown richiedono l'header {@code Authorization: Bearer <token>}: il
+ * token è generato all'avvio e scritto, leggibile solo dall'utente (0600), in
+ * {@code ~/.dataset-daemon/<porta>.token} (-Ddaemon.tokenFile). Le POST devono avere
+ * Content-Type application/json e nessun header Origin, così una pagina web aperta nel
+ * browser non può mandare job al daemon su loopback.
+ * I job girano uno alla volta (ognuno usa già tutti i thread); le richieste successive
+ * aspettano in coda. L'output del job è System.out/System.err del processo, duplicato
+ * sulla risposta finché il job è in corso.
+ */
+public final class DatasetDaemon implements AutoCloseable {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    /** Job: progetto, repository locale, intervallo di tag e opzioni della pipeline. */
+    public static final class JobRequest {
+        public String project;
+        public String repo;
+        /** Directory degli output (default: &lt;repo&gt;/../&lt;project&gt;-dataset). */
+        public String output;
+        /** File JSON dei ticket e delle versioni; senza, si scaricano da JIRA. */
+        public String tickets;
+        public String versions;
+        /** Tag estremi (inclusi) nell'ordine di versione; null = nessun limite. */
+        public String fromTag;
+        public String toTag;
+        public Double releaseFraction;
+        public Boolean refresh;
+        public Long fileTimeoutMs;
+        public Long maxFileBytes;
+        /** Motori delle metriche, es. "ck" o "javaparser,ck" (default -Dextract.engine). */
+        public String engine;
+    }
+
+    private final HttpServer server;
+    private final int threads;
+    private final byte[] token;
+    private final Path tokenFile;
+    private final ExecutorService jobs = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "dataset-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<Path, Git> repos = new ConcurrentHashMap<>();
+    private final BookkeeperFetcher fetcher = new BookkeeperFetcher();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final Tee out, err;
+    private int queued, completed, failed;
+
+    private DatasetDaemon(HttpServer server, int threads, byte[] token, Path tokenFile) {
+        this.server    = server;
+        this.threads   = threads;
+        this.token     = token;
+        this.tokenFile = tokenFile;
+        this.out = new Tee(System.out);
+        this.err = new Tee(System.err);
+    }
+
+    /** Scalda estrattore e parser e apre l'endpoint su loopback. */
+    public static DatasetDaemon start(int port, int threads) throws Exception {
+        long t0 = System.nanoTime();
+        FeatureExtractor.warmUp();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        int bound = server.getAddress().getPort();
+        Path tokenFile = Paths.get(System.getProperty("daemon.tokenFile",
+                Paths.get(System.getProperty("user.home"), ".dataset-daemon", bound + ".token").toString()));
+        DatasetDaemon d = new DatasetDaemon(server, Math.max(1, threads), writeToken(tokenFile), tokenFile);
+        System.setOut(new PrintStream(d.out, true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(d.err, true, StandardCharsets.UTF_8));
+        server.createContext("/jobs", ex -> { if (d.authorized(ex)) d.job(ex); });
+        server.createContext("/status", ex -> { if (d.authorized(ex)) d.status(ex); });
+        server.createContext("/metrics", d::metrics);
+        server.createContext("/shutdown", ex -> { if (d.authorized(ex)) d.shutdown(ex); });
+        // un thread per richiesta: /status e /metrics rispondono anche durante un job
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "dataset-daemon-http");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+        System.out.println("✓ Daemon pronto su http://127.0.0.1:" + d.port() + " (warm-up "
+                + (System.nanoTime() - t0) / 1_000_000 + " ms), token in " + tokenFile);
+        return d;
+    }
+
+    /** Token casuale in un file 0600 (creato da zero: un file lasciato da altri non viene riusato). */
+    private static byte[] writeToken(Path file) throws IOException {
+        byte[] raw = new byte[32];
+        new SecureRandom().nextBytes(raw);
+        String hex = HexFormat.of().formatHex(raw);
+        Path dir = file.toAbsolutePath().getParent();
+        boolean posix = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+        if (posix) {
+            Files.createDirectories(dir, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            Files.deleteIfExists(file);
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createDirectories(dir);
+            Files.deleteIfExists(file);
+            Files.createFile(file);
+        }
+        Files.writeString(file, hex + "\n");
+        return hex.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Token corretto, niente Origin e, per le POST, corpo JSON; altrimenti risponde
+     * 401/403/415 e restituisce false.
+     */
+    private boolean authorized(HttpExchange ex) throws IOException {
+        String auth = ex.getRequestHeaders().getFirst("Authorization");
+        byte[] given = auth != null && auth.startsWith("Bearer ")
+                ? auth.substring(7).trim().getBytes(StandardCharsets.US_ASCII) : new byte[0];
+        if (!MessageDigest.isEqual(given, token)) {
+            ex.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            reply(ex, 401, error("token mancante o errato (vedi " + tokenFile + ")"));
+            return false;
+        }
+        if (ex.getRequestHeaders().containsKey("Origin")) {
+            reply(ex, 403, error("richieste da browser non ammesse"));
+            return false;
+        }
+        if ("POST".equals(ex.getRequestMethod())) {
+            String type = ex.getRequestHeaders().getFirst("Content-Type");
+            if (type == null || !type.toLowerCase(Locale.ROOT).startsWith("application/json")) {
+                reply(ex, 415, error("Content-Type deve essere application/json"));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int port() { return server.getAddress().getPort(); }
+
+    /** Blocca finché non arriva POST /shutdown. */
+    public void awaitShutdown() throws InterruptedException {
+        stopped.await();
+    }
+
+    private void job(HttpExchange ex) throws IOException {
+        if (!"POST".equals(ex.getRequestMethod())) {
+            reply(ex, 405, "{\"error\":\"usa POST\"}");
+            return;
+        }
+        JobRequest req;
+        try (Reader r = new InputStreamReader(ex.getRequestBody(), StandardCharsets.UTF_8)) {
+            req = GSON.fromJson(r, JobRequest.class);
+        } catch (JsonParseException e) {
+            reply(ex, 400, error(e.getMessage()));
+            return;
+        }
+        if (req == null || req.repo == null) {
+            reply(ex, 400, error("campo 'repo' mancante"));
+            return;
+        }
+
+        ex.getResponseHeaders().set("Content-Type", "application/x-ndjson; charset=utf-8");
+        ex.sendResponseHeaders(200, 0);
+        try (NdjsonSink sink = new NdjsonSink(ex.getResponseBody())) {
+            synchronized (this) {
+                queued++;
+            }
+            Future<JsonObject> f = jobs.submit(() -> {
+                synchronized (this) {
+                    queued--;
+                }
+                out.attach(sink);
+                err.attach(sink);
+                try {
+                    return runJob(req);
+                } finally {
+                    System.out.flush();
+                    System.err.flush();
+                    out.attach(null);
+                    err.attach(null);
+                }
+            });
+            JsonObject line = new JsonObject();
+            try {
+                line.add("result", f.get());
+                synchronized (this) {
+                    completed++;
+                }
+            } catch (ExecutionException e) {
+                Throwable c = e.getCause();
+                line.addProperty("error", c.getClass().getSimpleName() + ": " + c.getMessage());
+                synchronized (this) {
+                    failed++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                line.addProperty("error", "interrotto");
+            }
+            sink.line(line);
+        }
+    }
+
+    private JsonObject runJob(JobRequest req) throws Exception {
+        long t0 = System.nanoTime();
+        Path repoDir = Paths.get(req.repo).toAbsolutePath().normalize();
+        String project = req.project != null ? req.project : repoDir.getFileName().toString();
+        Path outDir = req.output != null ? Paths.get(req.output)
+                : repoDir.resolveSibling(project.toLowerCase(Locale.ROOT) + "-dataset");
+        boolean cached = repos.containsKey(repoDir);
+        Git git = repos.computeIfAbsent(repoDir, p -> {
+            try {
+                return Git.open(p.toFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.println("Job " + project + " su " + repoDir + (cached ? " (repository già aperto)" : ""));
+
+        List<String> tags = tagRange(git, req.fromTag, req.toTag);
+        DatasetPipeline pipeline = new DatasetPipeline(project, outDir, threads)
+                .refresh(req.refresh != null && req.refresh);
+        if (req.releaseFraction != null) pipeline.releaseFraction(req.releaseFraction);
+        if (req.engine != null) pipeline.engine(req.engine);
+        if (req.fileTimeoutMs != null || req.maxFileBytes != null) {
+            pipeline.fileBudget(req.fileTimeoutMs != null ? req.fileTimeoutMs : Long.getLong("extract.fileTimeoutMs", 60_000),
+                    req.maxFileBytes != null ? req.maxFileBytes : Long.getLong("extract.maxFileBytes", 2L << 20));
+        }
+        String jiraUser = System.getenv("JIRA_USER"), jiraPass = System.getenv("JIRA_PASS");
+        pipeline.run(git, repoDir.toFile(),
+                since -> {
+                    if (req.tickets != null) return fetcher.readTicketsFromFile(req.tickets);
+                    return since == null ? fetcher.fetchAllJiraTickets(jiraUser, jiraPass)
+                            : fetcher.fetchJiraTicketsUpdatedSince(jiraUser, jiraPass, since);
+                },
+                () -> req.versions != null ? fetcher.readVersionsFromFile(req.versions)
+                        : fetcher.fetchProjectVersions(),
+                () -> tags,
+                new GitTreeSource(git.getRepository()));
+
+        JsonObject result = new JsonObject();
+        result.addProperty("project", project);
+        result.addProperty("tags", tags.size());
+        result.addProperty("rawCsv", pipeline.rawCsv().toString());
+        result.addProperty("rawBin", pipeline.rawBin().toString());
+        result.addProperty("finalCsv", pipeline.finalCsv().toString());
+        result.addProperty("runReport", pipeline.runReport().toString());
+        JsonObject stages = new JsonObject();
+        pipeline.stageNanos().forEach((s, ns) -> stages.addProperty(s, ns / 1_000_000));
+        result.add("stageMillis", stages);
+        result.addProperty("wallMillis", (System.nanoTime() - t0) / 1_000_000);
+        return result;
+    }
+
+    /** Tag del repository locale tra from e to (inclusi, per {@link ReleaseCatalog#compareVersions}). */
+    static List<String> tagRange(Git git, String from, String to) throws IOException {
+        List<String> tags = new ArrayList<>();
+        for (Ref r : git.getRepository().getRefDatabase().getRefsByPrefix(Constants.R_TAGS)) {
+            String tag = r.getName().substring(Constants.R_TAGS.length());
+            if (from != null && ReleaseCatalog.compareVersions(tag, from) < 0) continue;
+            if (to != null && ReleaseCatalog.compareVersions(tag, to) > 0) continue;
+            tags.add(tag);
+        }
+        return tags;
+    }
+
+    private void status(HttpExchange ex) throws IOException {
+        JsonObject s = new JsonObject();
+        synchronized (this) {
+            s.addProperty("queued", queued);
+            s.addProperty("completed", completed);
+            s.addProperty("failed", failed);
+        }
+        s.addProperty("threads", threads);
+        s.add("repositories", GSON.toJsonTree(repos.keySet().stream().map(Path::toString).sorted().toList()));
+        reply(ex, 200, GSON.toJson(s));
+    }
+
+    private void metrics(HttpExchange ex) throws IOException {
+        StringBuilder sb = new StringBuilder(4096);
+        MetricsRegistry.global().writePrometheus(sb);
+        ex.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+        ex.sendResponseHeaders(200, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private void shutdown(HttpExchange ex) throws IOException {
+        if (!"POST".equals(ex.getRequestMethod())) {
+            reply(ex, 405, "{\"error\":\"usa POST\"}");
+            return;
+        }
+        reply(ex, 202, "{\"stopping\":true}");
+        jobs.submit(stopped::countDown);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        jobs.shutdownNow();
+        for (Git g : repos.values()) g.close();
+        repos.clear();
+        System.setOut(out.target);
+        System.setErr(err.target);
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            System.err.println("Token del daemon non rimosso: " + tokenFile + " (" + e.getMessage() + ")");
+        }
+        stopped.countDown();
+    }
+
+    private static String error(String msg) {
+        JsonObject o = new JsonObject();
+        o.addProperty("error", msg);
+        return GSON.toJson(o);
+    }
+
+    private static void reply(HttpExchange ex, int code, String json) throws IOException {
+        byte[] body = (json + "\n").getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        ex.sendResponseHeaders(code, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    /** Duplica uno stream del processo sul job collegato. */
+    private static final class Tee extends OutputStream {
+        final PrintStream target;
+        private volatile NdjsonSink sink;
+
+        Tee(PrintStream target) {
+            this.target = target;
+        }
+
+        void attach(NdjsonSink s) {
+            this.sink = s;
+        }
+
+        @Override public void write(int b) {
+            target.write(b);
+            NdjsonSink s = sink;
+            if (s != null) s.write(b);
+        }
+
+        @Override public void write(byte[] b, int off, int len) {
+            target.write(b, off, len);
+            NdjsonSink s = sink;
+            if (s != null) s.write(b, off, len);
+        }
+
+        @Override public void flush() {
+            target.flush();
+        }
+    }
+
+    /**
+     * Risposta NDJSON: i byte del job vengono spezzati in righe, ognuna mandata subito come
+     * {"log": ...}. Se il client chiude la connessione il job continua senza output remoto.
+     */
+    private static final class NdjsonSink implements Closeable {
+        private final OutputStream os;
+        private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        private boolean broken;
+
+        NdjsonSink(OutputStream os) {
+            this.os = os;
+        }
+
+        synchronized void write(int b) {
+            if (b == '\n') flushLine();
+            else pending.write(b);
+        }
+
+        synchronized void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) write(b[i]);
+        }
+
+        private void flushLine() {
+            JsonObject o = new JsonObject();
+            o.addProperty("log", pending.toString(StandardCharsets.UTF_8));
+            pending.reset();
+            line(o);
+        }
+
+        synchronized void line(JsonObject o) {
+            if (broken) return;
+            try {
+                os.write((GSON.toJson(o) + "\n").getBytes(StandardCharsets.UTF_8));
+                os.flush();
+            } catch (IOException e) {
+                broken = true;
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (pending.size() > 0) flushLine();
+            try {
+                os.close();
+            } catch (IOException ignored) {
+                // client già disconnesso
+            }
+        }
+    }
+}
@@ -0,0 +1,842 @@
+package pipeline;
+
+import fetcher.BookkeeperFetcher;
+import fetcher.model.JiraTicket;
+import fetcher.model.JiraVersion;
+import history.CommitTable;
+import history.LineProvenanceIndex;
+import history.MethodIdentity;
+import history.ReleaseCatalog;
+import metrics.BugLabeller;
+import metrics.BuggyMethodExtractor;
+import metrics.EvolutionMetrics;
+import metrics.CkMetricEngine;
+import metrics.FeatureExtractor;
+import metrics.MetricEngine;
+import metrics.WalkForwardLabels;
+import utils.BinaryDatasetWriter;
+import utils.CsvGenerator;
+import utils.CsvPreprocessor;
+import utils.FilePatcher;
+import utils.WalkForwardWriter;
+import telemetry.AllocationScope;
+import telemetry.CacheEvent;
+import telemetry.MetricsRegistry;
+import telemetry.ReleaseExtractionEvent;
+import telemetry.RunReport;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Pipeline del dataset a partire da repository, ticket, versioni JIRA e tag:
+ * catalogo delle release, feature per release, etichette di bugginess, metriche evolutive,
+ * CSV grezzo + binario e CSV finale senza duplicati.
+ *
+ * Gli stage formano un {@link StageGraph}: gli output costosi (ticket, feature di ogni release,
+ * metodi cambiati dai fix, provenienza, metriche evolutive) vengono salvati in checkpoints/ sotto
+ * l'hash dei loro input, così un rerun riparte dal primo stage invalidato; gli stage indipendenti
+ * (le release tra loro, le feature rispetto a fix e storia) girano in parallelo.
+ *
+ * In modalità refresh ({@link #refresh(boolean)}) il run parte dallo stato del precedente
+ * ({@link RefreshState}): scarica solo i ticket aggiornati, analizza solo i fix e i commit nuovi
+ * (metodi cambiati e metriche evolutive estendono l'ultimo checkpoint), estrae le feature solo
+ * delle release nuove e aggiorna i dataset sul posto da dove cambiano.
+ *
+ * Le feature di ogni release le calcola un {@link MetricEngine} ({@link #engine(String)}):
+ * JavaParser + PMD di default, CK in batch, o entrambi per confrontarli.
+ *
+ * Non fa accessi di rete: da dove arrivano i sorgenti delle release lo decide la
+ * {@link ReleaseSource}, ticket, versioni e tag li fornisce il chiamante. Registra la durata
+ * di ogni stage (ns, sommata sulle release per features).
+ */
+public class DatasetPipeline {
+
+    private final String project;
+    private final Path outputDir;
+    private final int threads;
+    private double releaseFraction = 0.33;
+    private long fileTimeoutMillis = Long.getLong("extract.fileTimeoutMs", 60_000);
+    private long maxFileBytes      = Long.getLong("extract.maxFileBytes", 2L << 20);
+    private boolean refresh;
+    private Executor shared;
+    private int extractWorkers  = Integer.getInteger("extract.workers", 0);
+    private String workerHeap   = System.getProperty("extract.workerHeap", "1g");
+    private int shardRetries    = Integer.getInteger("extract.shardRetries", 2);
+    private List<String> engines = engines(System.getProperty("extract.engine", "javaparser"));
+    private WalkForwardWriter.Format walkForward = walkForwardFormat(System.getProperty("dataset.walkForward"));
+    private double identitySimilarity = Double.parseDouble(System.getProperty("dataset.methodIdentity", "0.7"));
+    private boolean prepareRepository = Boolean.getBoolean("repo.prepare");
+    private RepositoryPreparation.CacheProfile cacheProfile =
+            RepositoryPreparation.CacheProfile.parse(System.getProperty("repo.cacheProfile"));
+    private Sampling sampling = sampling(Double.parseDouble(System.getProperty("dataset.sampleRate", "1")),
+            Long.getLong("dataset.sampleSeed", 42));
+
+    private final Map<String, Long> stageNanos = new LinkedHashMap<>();
+    private RunReport report;
+
+    /**
+     * @param project   nome del progetto, prefisso dei file prodotti ("bookkeeper" → bookkeeper_dataset_raw.csv)
+     * @param outputDir directory dei file prodotti (CSV, dataset binario, indice di provenienza, checkpoint)
+     * @param threads   stage in parallelo e thread per le metriche evolutive
+     */
+    public DatasetPipeline(String project, Path outputDir, int threads) {
+        this.project   = project.toLowerCase(Locale.ROOT);
+        this.outputDir = outputDir;
+        this.threads   = Math.max(1, threads);
+    }
+
+    /** Frazione delle release più vecchie tenute nel dataset (default 0.33). */
+    public DatasetPipeline releaseFraction(double f) {
+        this.releaseFraction = f;
+        return this;
+    }
+
+    /** Aggiornamento incrementale rispetto al run precedente (default false: run completo). */
+    public DatasetPipeline refresh(boolean on) {
+        this.refresh = on;
+        return this;
+    }
+
+    /**
+     * Esegue stage e metriche evolutive su un executor condiviso con altri progetti (una corsia
+     * di {@link FairExecutor}) invece che su un pool proprio; threads resta la granularità.
+     */
+    public DatasetPipeline executor(Executor shared) {
+        this.shared = shared;
+        return this;
+    }
+
+    /** Ticket JIRA: tutti se updatedSince è null, altrimenti quelli aggiornati da quel giorno. */
+    @FunctionalInterface
+    public interface TicketSource {
+        List<JiraTicket> fetch(LocalDate updatedSince) throws Exception;
+    }
+
+    /**
+     * Budget per file dell'estrazione delle feature (≤ 0: nessun limite). Default 60 s e 2 MiB,
+     * o le proprietà -Dextract.fileTimeoutMs e -Dextract.maxFileBytes.
+     */
+    public DatasetPipeline fileBudget(long timeoutMillis, long maxBytes) {
+        this.fileTimeoutMillis = timeoutMillis;
+        this.maxFileBytes      = maxBytes;
+        return this;
+    }
+
+    /**
+     * Estrazione delle feature su {@code workers} JVM separate con heap {@code heap} ciascuna
+     * (0: nel processo, il default). Default dalle proprietà -Dextract.workers, -Dextract.workerHeap
+     * e -Dextract.shardRetries (tentativi in più per uno shard fallito, default 2).
+     */
+    public DatasetPipeline extractWorkers(int workers, String heap) {
+        this.extractWorkers = workers;
+        this.workerHeap     = heap;
+        return this;
+    }
+
+    /**
+     * Motori delle metriche per release (default -Dextract.engine, "javaparser"): il primo produce
+     * il dataset, gli altri analizzano la stessa release per confronto ({@link EngineCrossCheck}).
+     * Es. "ck", "javaparser,ck".
+     */
+    public DatasetPipeline engine(String spec) {
+        this.engines = engines(spec);
+        return this;
+    }
+
+    private static List<String> engines(String spec) {
+        List<String> names = new ArrayList<>();
+        for (String s : spec.split(",")) {
+            String n = s.trim().toLowerCase(Locale.ROOT);
+            if (n.isEmpty()) continue;
+            if (!n.equals("javaparser") && !n.equals("ck")) {
+                throw new IllegalArgumentException("Motore di metriche sconosciuto: " + n);
+            }
+            if (!names.contains(n)) names.add(n);
+        }
+        if (names.isEmpty()) throw new IllegalArgumentException("Nessun motore di metriche in \"" + spec + "\"");
+        return names;
+    }
+
+    /**
+     * Scrive anche i file di training e testing di tutti gli split walk-forward sulle release
+     * mantenute, in {@link #walkForwardDir()} (null: no, il default; -Ddataset.walkForward=csv|bin).
+     */
+    public DatasetPipeline walkForward(WalkForwardWriter.Format format) {
+        this.walkForward = format;
+        return this;
+    }
+
+    /**
+     * Somiglianza minima (Jaccard stimata dei corpi) per ricollegare un metodo rinominato o
+     * spostato alla sua versione nella release precedente, così storia, churn e autori non
+     * ripartono da zero ({@link MethodIdentity}). Default 0.7 o -Ddataset.methodIdentity;
+     * ≤ 0 disattiva l'abbinamento (resta la rename detection dei diff).
+     */
+    public DatasetPipeline methodIdentity(double similarity) {
+        this.identitySimilarity = similarity;
+        return this;
+    }
+
+    /**
+     * Prima degli stage ricompatta il clone (un pack con bitmap, se serve) e configura la cache
+     * dei pack JGit col profilo dato ({@link RepositoryPreparation}). Il GC riscrive il clone
+     * dell'utente, quindi va chiesto (-Drepo.prepare=true); la cache si configura sempre, col
+     * profilo dall'heap (-Drepo.cacheProfile=small|medium|large).
+     */
+    public DatasetPipeline prepareRepository(boolean on, RepositoryPreparation.CacheProfile profile) {
+        this.prepareRepository = on;
+        this.cacheProfile      = profile;
+        return this;
+    }
+
+    /**
+     * Dataset esplorativo su un campione: la frazione rate dei file di ogni release (stratificata
+     * per package e dimensione) e dei commit di fix, scelta in modo deterministico dal seed
+     * ({@link Sampling}). I file prodotti hanno il prefisso {@code <project>_sample_dataset} e
+     * {@link #sampleReport()} riporta le stime sulla popolazione intera con intervalli di
+     * confidenza. rate ≥ 1 (il default) disattiva; -Ddataset.sampleRate e -Ddataset.sampleSeed.
+     * Col campione l'estrazione è sempre nel processo, dai sorgenti su disco.
+     */
+    public DatasetPipeline sample(double rate, long seed) {
+        this.sampling = sampling(rate, seed);
+        return this;
+    }
+
+    private static Sampling sampling(double rate, long seed) {
+        return rate >= 1 ? null : new Sampling(rate, seed);
+    }
+
+    private static WalkForwardWriter.Format walkForwardFormat(String p) {
+        return p == null || p.isBlank() ? null : WalkForwardWriter.Format.valueOf(p.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public Path rawCsv()   { return outputDir.resolve(datasetPrefix() + "_raw.csv"); }
+    public Path rawBin()   { return outputDir.resolve(datasetPrefix() + "_raw.bin"); }
+    public Path finalCsv() { return outputDir.resolve(datasetPrefix() + "_final.csv"); }
+    public Path sampleReport() { return outputDir.resolve(project + "_sample_report.json"); }
+    public Path runReport() { return outputDir.resolve("run-report.json"); }
+    public Path quarantineFile() { return outputDir.resolve("quarantine.tsv"); }
+    public Path checkpointDir() { return outputDir.resolve("checkpoints"); }
+    public Path refreshStateFile() { return outputDir.resolve("refresh-state.json"); }
+    public Path walkForwardDir() { return outputDir.resolve("walkforward"); }
+    public Path methodIdentityFile() { return outputDir.resolve("method-identity.tsv"); }
+    public Path commitTableFile() { return outputDir.resolve("commit-table.bin"); }
+
+    /** Durata di ogni stage dell'ultima esecuzione, in nanosecondi. */
+    public Map<String, Long> stageNanos() {
+        synchronized (stageNanos) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(stageNanos));
+        }
+    }
+
+    /**
+     * Esegue la pipeline su ticket, versioni e tag già disponibili (ricalcolati a ogni run).
+     *
+     * @param git      repository (già clonato/aperto)
+     * @param workTree directory di lavoro del repository, usata per la release "HEAD"
+     * @param sources  sorgenti delle release con tag
+     */
+    public void run(Git git, File workTree, List<JiraTicket> tickets, List<JiraVersion> jiraVers,
+                    List<String> gitTags, ReleaseSource sources) throws Exception {
+        run(git, workTree, since -> tickets, false, () -> jiraVers, () -> gitTags, sources);
+    }
+
+    /**
+     * Esegue la pipeline scaricando ticket, versioni e tag con i fetch dati. Fuori dalla modalità
+     * refresh i ticket restano in checkpoint finché non si cancella checkpoints/; in refresh si
+     * scaricano quelli aggiornati dopo il watermark. Versioni e tag si scaricano sempre.
+     */
+    public void run(Git git, File workTree, TicketSource tickets, Callable<List<JiraVersion>> jiraVers,
+                    Callable<List<String>> gitTags, ReleaseSource sources) throws Exception {
+        run(git, workTree, tickets, true, jiraVers, gitTags, sources);
+    }
+
+    private void run(Git git, File workTree, TicketSource fetchTickets, boolean cacheTickets,
+                     Callable<List<JiraVersion>> fetchVersions, Callable<List<String>> fetchTags,
+                     ReleaseSource sources) throws Exception {
+        String scope = MetricsRegistry.project();
+        MetricsRegistry.project(project);
+        try {
+            runStages(git, workTree, fetchTickets, cacheTickets, fetchVersions, fetchTags, sources);
+        } finally {
+            MetricsRegistry.project(scope);
+        }
+    }
+
+    private void runStages(Git git, File workTree, TicketSource fetchTickets, boolean cacheTickets,
+                           Callable<List<JiraVersion>> fetchVersions, Callable<List<String>> fetchTags,
+                           ReleaseSource sources) throws Exception {
+        synchronized (stageNanos) {
+            stageNanos.clear();
+        }
+        report = new RunReport(MetricsRegistry.global(), project, threads);
+        Files.createDirectories(outputDir);
+        Repository repo = git.getRepository();
+        RepositoryPreparation.configureCache(cacheProfile);
+        if (prepareRepository) {
+            long t0 = System.nanoTime();
+            AllocationScope alloc = AllocationScope.open();
+            try {
+                RepositoryPreparation.prepare(repo);
+            } finally {
+                stageFinished("prepare", System.nanoTime() - t0, alloc.close(), false);
+            }
+        }
+        String head = headId(repo);
+        BookkeeperFetcher json = new BookkeeperFetcher();
+        RefreshState last = refresh ? RefreshState.load(refreshStateFile()) : null;
+
+        ExecutorService pool = shared == null ? Executors.newFixedThreadPool(threads) : null;
+        ShardedExtractor sharded = extractWorkers > 0
+                ? new ShardedExtractor(outputDir.resolve("shards"), extractWorkers, workerHeap, shardRetries) : null;
+        try {
+            StageGraph g = new StageGraph(project, checkpointDir(), pool != null ? pool : shared, this::stageFinished);
+
+            // --- 1..3) Ticket JIRA, versioni e tag
+            StageGraph.Codec<List<JiraTicket>> ticketCodec = Codecs.tickets(json);
+            StageGraph.Stage<List<JiraTicket>> tickets = g.stage("tickets", ticketCodec, () -> {
+                List<JiraTicket> known = last != null && last.ticketWatermark != null
+                        ? g.previous("tickets", ticketCodec) : null;
+                if (known == null) {
+                    List<JiraTicket> ts = fetchTickets.fetch(null);
+                    System.out.println(" → Ticket JIRA: " + ts.size());
+                    return ts;
+                }
+                // refresh: i ticket aggiornati sostituiscono quelli con la stessa chiave
+                LocalDate since = LocalDate.parse(last.ticketWatermark);
+                List<JiraTicket> updated = fetchTickets.fetch(since);
+                Map<String, JiraTicket> byKey = new LinkedHashMap<>();
+                for (JiraTicket t : known) byKey.put(t.getKey(), t);
+                for (JiraTicket t : updated) byKey.put(t.getKey(), t);
+                System.out.println(" → Ticket JIRA: " + byKey.size() + " (" + updated.size()
+                        + " aggiornati dal " + since + ")");
+                return new ArrayList<>(byKey.values());
+            }).fingerprint(() -> "tickets:" + project);
+            if (!cacheTickets || refresh) tickets.always();
+            StageGraph.Stage<List<JiraVersion>> versions = g.stage("versions", Codecs.versions(json), () -> {
+                List<JiraVersion> vs = fetchVersions.call();
+                System.out.println(" → Versioni JIRA disponibili: "
+                        + String.join(" ", vs.stream().map(JiraVersion::getName).toList()));
+                return vs;
+            }).always();
+            StageGraph.Stage<List<String>> tags = g.stage("tags", Codecs.STRINGS, () -> {
+                List<String> ts = fetchTags.call();
+                System.out.println(" → Tag remoti trovati: " + ts.size());
+                return ts;
+            }).always();
+
+            // --- 4) Intersezione Git ∩ JIRA e semantic sort (+ mapping commit → release)
+            StageGraph.Stage<ReleaseCatalog> catalog = g.stage("catalog", null, () -> {
+                ReleaseCatalog c = ReleaseCatalog.build(repo, tags.value(), versions.value());
+                if (c.jiraVersion(0) == null) {
+                    System.out.println("⚠️ Nessun tag Git∩JIRA trovato: userò HEAD");
+                }
+                System.out.println(" → Tag validi (tutte): " + c.tags());
+                return c;
+            }, tags, versions).fingerprint(() -> refsState(repo)).code(ReleaseCatalog.class);
+
+            int[] fixSample = { 0, 0 };    // fix nel campione, fix totali
+
+            // tabella dei commit da HEAD (su file, estesa coi soli commit nuovi)
+            StageGraph.Stage<CommitTable> commitTable = g.stage("commitTable", null,
+                    () -> CommitTable.open(repo, commitTableFile())).always();
+
+            // --- 5) Filtra i commit bug-fix: citano un ticket Bug chiuso come Fixed (dal più recente)
+            StageGraph.Stage<List<RevCommit>> bugFixes = g.stage("bugFixes", Codecs.commits(repo), () -> {
+                CommitTable t = commitTable.value();
+                BitSet bugIds = t.ticketIds(bugTicketKeys(tickets.value()));
+                List<RevCommit> fixes = new ArrayList<>();
+                try (RevWalk rw = new RevWalk(repo)) {
+                    for (int o = t.size() - 1; o >= 0; o--) {
+                        if (!t.cites(o, bugIds)) continue;
+                        RevCommit c = rw.parseCommit(t.id(o));
+                        for (RevCommit p : c.getParents()) rw.parseHeaders(p);   // alberi per i diff dei fix
+                        fixes.add(c);
+                    }
+                }
+                System.out.println(" → Commit bug-fix trovati: " + fixes.size());
+                if (sampling != null) {
+                    List<RevCommit> kept = sampling.fixes(fixes);
+                    fixSample[0] = kept.size();
+                    fixSample[1] = fixes.size();
+                    System.out.println(" → Fix nel campione: " + kept.size() + " di " + fixes.size());
+                    return kept;
+                }
+                return fixes;
+            }, tickets, commitTable).always();
+
+            // --- 7) Identifica metodi buggy + statistiche
+            StageGraph.Stage<Map<RevCommit, List<String>>> changed = g.stage("changedMethods",
+                    Codecs.changedMethods(repo), () -> {
+                Map<RevCommit, List<String>> buggyMap = changedMethods(repo, bugFixes.value(),
+                        refresh ? g.previous("changedMethods", Codecs.changedMethods(repo)) : null);
+                System.out.println(" → Commits con diff estraibili: " + buggyMap.size());
+                int totalChanged = buggyMap.values().stream().mapToInt(List::size).sum();
+                System.out.println(" → Totale modifiche di metodo (con duplicati): " + totalChanged);
+                return buggyMap;
+            }, bugFixes).code(BuggyMethodExtractor.class);
+
+            // SZZ: commit che hanno introdotto le righe toccate dai fix (indice incrementale)
+            StageGraph.Stage<Map<RevCommit, Integer>> introduced = g.stage("provenance",
+                    Codecs.releaseByCommit(repo), () -> introducedIn(repo, catalog.value(), changed.value()),
+                    catalog, changed).fingerprint(() -> head).code(LineProvenanceIndex.class);
+
+            // --- 8) methodHistories, churn e autori per release (walk parallelo + timeline)
+            StageGraph.Stage<EvolutionMetrics.Result> evolution = g.stage("evolution", Codecs.EVOLUTION, () -> {
+                System.out.println("inizio calcolo metriche evolutive");
+                EvolutionMetrics.Result evo = new EvolutionMetrics(repo, threads, catalog.value())
+                        .executor(shared)
+                        .commitTable(commitTable.value())
+                        .update(refresh ? g.previous("evolution", Codecs.EVOLUTION) : null);
+                System.out.println(" → Metodi con storia: " + evo.methodCount() + ", modifiche: "
+                        + evo.changeCount() + ", autori: " + evo.authorCount());
+                return evo;
+            }, catalog, commitTable).fingerprint(() -> head).code(EvolutionMetrics.class);
+
+            // gli stage successivi dipendono dalle release: avvia intanto fix e storia
+            g.start(introduced);
+            g.start(evolution);
+            List<String> validTags = g.get(catalog).tags();
+            if (last != null) {
+                List<String> newTags = new ArrayList<>(tags.value());
+                newTags.removeAll(last.tags);
+                System.out.println(" → Refresh rispetto al run del " + last.refreshedAt + ": tag nuovi " + newTags
+                        + ", HEAD " + (head.equals(last.head) ? "invariato" : abbrev(last.head) + " → " + abbrev(head)));
+            }
+
+            // --- 6) Per ogni tag estrai feature (sorgenti della release → JavaParser+PMD)
+            //        le chiavi path#sig sono relative alla radice del progetto, come i path dei diff
+            Quarantine quarantine = Quarantine.loadOrCreate(quarantineFile());
+            int[] abandoned = { 0 };
+            List<StageGraph.Stage<Map<String, FeatureExtractor.MethodFeatures>>> features = new ArrayList<>();
+            String engine = engines.get(0);
+            Class<?> engineCode = "ck".equals(engine) ? CkMetricEngine.class : JavaParserEngine.class;
+            Map<String, StageGraph.Stage<?>> featureStages = new ConcurrentHashMap<>();
+            for (String tag : validTags) {
+                var f = g.stage("features@" + tag, Codecs.FEATURES,
+                        () -> extractRelease(tag, prefetchable(g, featureStages, next(validTags, tag)), workTree,
+                                sources, quarantine, abandoned,
+                                sampling == null ? sharded : null,
+                                sampling == null ? null : sampling.frame(repo, tag, workTree)))
+                        .fingerprint(() -> treeOf(repo, tag) + "|" + fileTimeoutMillis + "|" + maxFileBytes
+                                + ("javaparser".equals(engine) ? "" : "|" + engine)
+                                + (sampling == null ? "" : "|" + sampling.fingerprint()))
+                        .code(FeatureExtractor.class, FeatureExtractor.MethodFeatures.class, GuardedExtractor.class,
+                                engineCode);
+                if ("HEAD".equals(tag)) f.always();
+                features.add(f);
+                featureStages.put(tag, f);
+                g.start(f);
+            }
+
+            // identità dei metodi tra release consecutive (file rinominati, metodi rinominati/spostati)
+            StageGraph.Stage<MethodIdentity> identity = g.stage("identity", null, () -> {
+                if (identitySimilarity <= 0) return MethodIdentity.none();
+                List<Set<String>> keys = new ArrayList<>();
+                for (var f : features) keys.add(f.value().keySet());
+                MethodIdentity id = MethodIdentity.build(repo, validTags, keys, identitySimilarity);
+                System.out.println(" → Metodi ricollegati tra release: " + id.linked() + " (file rinominati: "
+                        + id.renamed() + ", corpi simili: " + id.similar() + ")");
+                if (id.linked() > 0) id.write(methodIdentityFile());
+                else Files.deleteIfExists(methodIdentityFile());
+                return id;
+            }, features.toArray(new StageGraph.Stage<?>[0])).code(MethodIdentity.class);
+
+            StageGraph.Stage<BugLabeller> labels = g.stage("labels", null, () -> {
+                // metodi rinominati o spostati: etichette sulla chiave canonica, come le metriche evolutive
+                BugLabeller labeller = BugLabeller.fromFixes(catalog.value(), tickets.value(), changed.value(),
+                        introduced.value(), identity.value()::canonical);
+                System.out.println(" → Metodi unici identificati come buggy: " + labeller.methodCount());
+                return labeller;
+            }, catalog, tickets, changed, introduced, identity).code(BugLabeller.class);
+
+            // --- 9) Regola del 33% sulle release, metriche evolutive su copie delle feature
+            // (gli output degli stage non si modificano: sotto pressione possono essere riletti dal checkpoint)
+            List<StageGraph.Stage<?>> enrichDeps = new ArrayList<>(features);
+            enrichDeps.addAll(List.of(catalog, evolution, identity));
+            StageGraph.Stage<Map<String, Map<String, FeatureExtractor.MethodFeatures>>> enriched = g.stage("enrich", null, () -> {
+                ReleaseCatalog c = catalog.value();
+                MethodIdentity ids = identity.value();
+                EvolutionMetrics.Result evo = evolution.value().merged(ids::canonical);
+                int keepCount = Math.max(1, (int)Math.floor(validTags.size() * releaseFraction));
+                List<String> keptTags = validTags.subList(0, keepCount);
+                System.out.println(" → Release mantenute (" + Math.round(releaseFraction * 100) + "% più vecchie): " + keptTags);
+                Map<String, Map<String,FeatureExtractor.MethodFeatures>> filteredFeat = new LinkedHashMap<>();
+                for (int i = 0; i < keepCount; i++) {
+                    // inietta i valori nelle copie: solo le modifiche contenute nella release
+                    int r = c.indexOf(keptTags.get(i));
+                    Map<String, FeatureExtractor.MethodFeatures> release = new LinkedHashMap<>();
+                    for (var me : features.get(i).value().entrySet()) {
+                        FeatureExtractor.MethodFeatures f = me.getValue().copy();
+                        int id = evo.methodId(ids.canonical(me.getKey()));
+                        f.methodHistories = evo.histories(id, r);
+                        f.churn           = evo.churn(id, r);
+                        f.authors         = evo.authors(id, r);
+                        release.put(me.getKey(), f);
+                    }
+                    filteredFeat.put(keptTags.get(i), release);
+                }
+                return filteredFeat;
+            }, enrichDeps.toArray(new StageGraph.Stage<?>[0]));
+
+            // --- 10) CSV grezzo, dataset binario, split walk-forward
+            List<StageGraph.Stage<?>> writeDeps = new ArrayList<>(List.of(enriched, labels));
+            if (walkForward != null) writeDeps.addAll(List.of(catalog, identity, tickets, changed, introduced));
+            StageGraph.Stage<Void> write = g.stage("write", null, () -> {
+                Map<String, Map<String,FeatureExtractor.MethodFeatures>> filteredFeat = enriched.value();
+                int keepCount = filteredFeat.size();
+                new CsvGenerator().generateCsv(filteredFeat, validTags, labels.value(), staging(rawCsv()).toString());
+                System.out.println("✓ CSV grezzo creato: " + rawCsv() + publish(rawCsv()));
+                new BinaryDatasetWriter().write(filteredFeat, validTags, labels.value(), staging(rawBin()));
+                System.out.println("✓ Dataset binario creato: " + rawBin() + publish(rawBin()));
+                if (walkForward != null) {
+                    // etichette come note a ogni split, poi una sola passata sulle release mantenute
+                    WalkForwardLabels known = WalkForwardLabels.fromFixes(catalog.value(), tickets.value(), changed.value(),
+                            introduced.value(), identity.value()::canonical);
+                    List<Path> files = new WalkForwardWriter().write(filteredFeat, validTags, known, walkForwardDir(),
+                            datasetPrefix(), walkForward);
+                    System.out.println("✓ Split walk-forward: " + (keepCount - 1) + " (" + files.size() + " file) → "
+                            + walkForwardDir());
+                }
+                return null;
+            }, writeDeps.toArray(new StageGraph.Stage<?>[0]));
+
+            // --- 11) Preprocessing: rimuovo duplicate (tenendo la riga con Version più vecchia)
+            StageGraph.Stage<Void> dedup = g.stage("dedup", null, () -> {
+                CsvPreprocessor.removeDuplicateRows(rawCsv(), staging(finalCsv()));
+                System.out.println("→ Righe duplicate (su tutte le colonne tranne Version) raggruppate → " + finalCsv()
+                        + publish(finalCsv()));
+                return null;
+            }, write);
+
+            try {
+                g.get(dedup);
+                if (sampling != null) {
+                    // stime sulla popolazione dal campione delle release mantenute
+                    Map<String, Map<String, FeatureExtractor.MethodFeatures>> kept = enriched.value();
+                    Map<String, Sampling.Frame> frames = new LinkedHashMap<>();
+                    for (String tag : kept.keySet()) frames.put(tag, sampling.frame(repo, tag, workTree));
+                    long t0 = System.nanoTime();
+                    AllocationScope alloc = AllocationScope.open();
+                    Map<String, Object> est;
+                    try {
+                        est = SampleEstimator.estimate(sampling, frames, kept, validTags, labels.value(),
+                                fixSample[0], fixSample[1], sampleReport());
+                    } finally {
+                        stageFinished("sampleReport", System.nanoTime() - t0, alloc.close(), false);
+                    }
+                    printSampleEstimates(est);
+                }
+            } finally {
+                quarantine.save(quarantineFile());
+                printQuarantine(quarantine, abandoned[0]);
+            }
+
+            RefreshState state = new RefreshState();
+            state.head = head;
+            state.tags = new ArrayList<>(tags.value());
+            state.ticketWatermark = tickets.value().stream().map(JiraTicket::getUpdatedDate).filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder()).map(LocalDate::toString).orElse(null);
+            state.refreshedAt = Instant.now().toString();
+            state.save(refreshStateFile());
+        } finally {
+            if (pool != null) pool.shutdownNow();
+            if (sharded != null) sharded.close();
+            sources.dropPrefetched();
+        }
+
+        report.write(runReport());
+        System.out.println("✓ Report del run: " + runReport());
+    }
+
+    /**
+     * Il tag successivo se conviene prefetcharlo: il suo stage non è partito e non si
+     * riprenderà dal checkpoint (altrimenti nessuno leggerebbe il download); null se no.
+     */
+    private static String prefetchable(StageGraph g, Map<String, StageGraph.Stage<?>> stages, String next) {
+        if (next == null || "HEAD".equals(next)) return null;
+        StageGraph.Stage<?> s = stages.get(next);
+        return s != null && g.pending(s) ? next : null;
+    }
+
+    /**
+     * Feature di una release. Con il solo motore javaparser nel processo e una sorgente in
+     * memoria ({@link ReleaseSource#stream(String)}) i sorgenti arrivano dall'archivio senza
+     * passare dal disco, e intanto si avvia il download della release next.
+     */
+    private Map<String, FeatureExtractor.MethodFeatures> extractRelease(String tag, String next, File workTree,
+                                                                        ReleaseSource sources, Quarantine quarantine,
+                                                                        int[] abandoned, ShardedExtractor sharded,
+                                                                        Sampling.Frame sample)
+            throws IOException {
+        System.out.println(" → Elaboro release " + tag);
+        ReleaseExtractionEvent releaseEvent = new ReleaseExtractionEvent();
+        releaseEvent.begin();
+        Map<String,FeatureExtractor.MethodFeatures> feats;
+        boolean streaming = !"HEAD".equals(tag) && sharded == null && sample == null
+                && engines.equals(List.of("javaparser"));
+        try (ReleaseStream stream = streaming ? sources.stream(tag) : null) {
+            if (stream != null) {
+                if (next != null && !"HEAD".equals(next)) sources.prefetch(next);
+                feats = new JavaParserEngine(quarantine, fileTimeoutMillis, maxFileBytes, abandoned).analyze(stream);
+                return finishRelease(tag, feats, quarantine, releaseEvent);
+            }
+        }
+        Path projDir = "HEAD".equals(tag) ? null : sources.checkout(tag);
+        File root = projDir == null ? workTree : projDir.toFile();
+        try {
+            MetricEngine primary = engine(engines.get(0), quarantine, abandoned);
+            long t0 = System.nanoTime();
+            if (sharded != null && primary instanceof JavaParserEngine) {
+                feats = sharded.extract(tag, root, quarantine, quarantineFile(), fileTimeoutMillis, maxFileBytes, abandoned);
+            } else {
+                feats = primary.analyze(root.toPath(), admitted(primary, sourceFiles(root, sample), quarantine));
+            }
+            long primaryNanos = System.nanoTime() - t0;
+            engineTimer(primary.name()).observeNanos(primaryNanos);
+            for (String name : engines.subList(1, engines.size())) {
+                MetricEngine other = engine(name, quarantine, abandoned);
+                long t1 = System.nanoTime();
+                Map<String, FeatureExtractor.MethodFeatures> check =
+                        other.analyze(root.toPath(), admitted(other, sourceFiles(root, sample), quarantine));
+                long otherNanos = System.nanoTime() - t1;
+                engineTimer(name).observeNanos(otherNanos);
+                EngineCrossCheck.report(tag, primary.name(), feats, primaryNanos, name, check, otherNanos);
+            }
+        } finally {
+            if (projDir != null) sources.release(projDir);
+        }
+        return finishRelease(tag, feats, quarantine, releaseEvent);
+    }
+
+    private Map<String, FeatureExtractor.MethodFeatures> finishRelease(String tag,
+                                                                       Map<String, FeatureExtractor.MethodFeatures> feats,
+                                                                       Quarantine quarantine,
+                                                                       ReleaseExtractionEvent releaseEvent)
+            throws IOException {
+        quarantine.save(quarantineFile());
+        releaseEvent.end();
+        if (releaseEvent.shouldCommit()) {
+            releaseEvent.tag     = tag;
+            releaseEvent.files   = (int) feats.keySet().stream().map(k -> k.substring(0, k.indexOf('#'))).distinct().count();
+            releaseEvent.methods = feats.size();
+            releaseEvent.commit();
+        }
+        System.out.println("   ✓ " + tag + " → " + feats.size() + " metodi");
+        return feats;
+    }
+
+    /** Tag dopo tag nella lista (null se è l'ultimo). */
+    private static String next(List<String> tags, String tag) {
+        int i = tags.indexOf(tag);
+        return i >= 0 && i + 1 < tags.size() ? tags.get(i + 1) : null;
+    }
+
+    /** Metodi cambiati dai fix; in refresh si analizzano solo i fix assenti dal run precedente. */
+    private static Map<RevCommit, List<String>> changedMethods(Repository repo, List<RevCommit> fixes,
+                                                               Map<RevCommit, List<String>> known) throws Exception {
+        if (known == null) return new BuggyMethodExtractor(repo).extractChangedMethods(fixes);
+        List<RevCommit> fresh = new ArrayList<>();
+        for (RevCommit c : fixes) if (!known.containsKey(c)) fresh.add(c);
+        Map<RevCommit, List<String>> extracted = new BuggyMethodExtractor(repo).extractChangedMethods(fresh);
+        System.out.println(" → Fix nuovi da analizzare: " + fresh.size() + " di " + fixes.size());
+        Map<RevCommit, List<String>> all = new LinkedHashMap<>();
+        for (RevCommit c : fixes) {
+            List<String> m = known.containsKey(c) ? known.get(c) : extracted.get(c);
+            if (m != null) all.put(c, m);
+        }
+        return all;
+    }
+
+    /** File su cui scrivere la versione nuova di target (in refresh), altrimenti target stesso. */
+    private Path staging(Path target) {
+        return refresh ? target.resolveSibling(target.getFileName() + ".new") : target;
+    }
+
+    /** In refresh sostituisce atomicamente target con staging(target), riportando quanto è cambiato. */
+    private String publish(Path target) throws IOException {
+        if (!refresh) return "";
+        return " (" + FilePatcher.publish(staging(target), target) + ")";
+    }
+
+    private static String abbrev(String id) {
+        return id == null || id.length() < 10 ? String.valueOf(id) : id.substring(0, 10);
+    }
+
+    private Map<RevCommit, Integer> introducedIn(Repository repo, ReleaseCatalog catalog,
+                                                 Map<RevCommit, List<String>> buggyMap) throws IOException {
+        Path provenanceFile = outputDir.resolve("line_provenance.idx");
+        CacheEvent.record("line-provenance", provenanceFile.toString(), Files.exists(provenanceFile));
+        LineProvenanceIndex provenance = LineProvenanceIndex.loadOrCreate(provenanceFile);
+        int indexed = provenance.update(repo);
+        provenance.save(provenanceFile);
+        System.out.println(" → Indice di provenienza: " + indexed + " commit nuovi, "
+                + provenance.commitCount() + " totali");
+        Map<RevCommit,Integer> introducedIn = new HashMap<>();
+        for (RevCommit fix : buggyMap.keySet()) {
+            int iv = ReleaseCatalog.NONE;
+            for (int ord : provenance.introducingCommits(repo, fix)) {
+                int r = catalog.releaseOf(provenance.commit(ord));
+                if (r != ReleaseCatalog.NONE && (iv == ReleaseCatalog.NONE || r < iv)) iv = r;
+            }
+            if (iv != ReleaseCatalog.NONE) introducedIn.put(fix, iv);
+        }
+        return introducedIn;
+    }
+
+    private void stageFinished(String stage, long nanos, long allocated, boolean resumed) {
+        synchronized (stageNanos) {
+            stageNanos.merge(StageGraph.group(stage), nanos, Long::sum);
+        }
+        report.stage(stage, nanos, allocated, resumed);
+        if (resumed) System.out.println(" ↺ " + stage + " ripreso dal checkpoint");
+    }
+
+    private static String headId(Repository repo) throws IOException {
+        ObjectId head = repo.resolve(Constants.HEAD);
+        return head == null ? "" : head.name();
+    }
+
+    /** HEAD e tag del repository: il catalogo va ricostruito se cambiano. */
+    private static String refsState(Repository repo) throws IOException {
+        StringBuilder sb = new StringBuilder(headId(repo));
+        for (Ref r : repo.getRefDatabase().getRefsByPrefix(Constants.R_TAGS)) {
+            sb.append('|').append(r.getName()).append('=').append(r.getObjectId().name());
+        }
+        return sb.toString();
+    }
+
+    /** Albero del tag nel repository locale (il nome del tag se non è risolvibile). */
+    private static String treeOf(Repository repo, String tag) throws IOException {
+        if ("HEAD".equals(tag)) return "HEAD";
+        ObjectId tree = repo.resolve(tag + "^{tree}");
+        return tree == null ? "tag:" + tag : tree.name();
+    }
+
+    private MetricEngine engine(String name, Quarantine quarantine, int[] abandoned) {
+        if ("ck".equals(name)) {
+            // passaggio batch sotto -Dck.releaseTimeoutMs, poi file per file: chi sfora va in quarantena
+            return new CkMetricEngine(Long.getLong("ck.releaseTimeoutMs", 600_000), fileTimeoutMillis,
+                    (file, rel, budget) -> {
+                        quarantine.add(GuardedExtractor.blobId(file.toFile()), Quarantine.Reason.TIMEOUT, rel,
+                                "CK oltre " + budget + " ms", budget);
+                        MetricsRegistry.global().counter("dataset_quarantined_files_total", "File messi in quarantena",
+                                "reason", "timeout").inc();
+                        synchronized (abandoned) {
+                            abandoned[0]++;
+                        }
+                        System.err.println("Quarantena (TIMEOUT) " + rel + ": CK oltre " + budget + " ms");
+                    });
+        }
+        return new JavaParserEngine(quarantine, fileTimeoutMillis, maxFileBytes, abandoned);
+    }
+
+    private static MetricsRegistry.Histogram engineTimer(String engine) {
+        return MetricsRegistry.global().timer("dataset_engine_seconds",
+                "Durata dell'analisi di una release per motore di metriche", "engine", engine);
+    }
+
+    /**
+     * File da dare al motore: il motore javaparser applica da sé budget e quarantena, agli altri
+     * si tolgono i file in quarantena e quelli oltre maxFileBytes.
+     */
+    private List<Path> admitted(MetricEngine engine, List<Path> files, Quarantine quarantine) throws IOException {
+        if (engine instanceof JavaParserEngine) return files;
+        List<Path> ok = new ArrayList<>(files.size());
+        for (Path p : files) {
+            if (maxFileBytes > 0 && Files.size(p) > maxFileBytes) continue;
+            if (quarantine.excludes(GuardedExtractor.blobId(p.toFile()), fileTimeoutMillis)) continue;
+            ok.add(p);
+        }
+        return ok;
+    }
+
+    /** Sorgenti sotto root, solo quelli del campione se sample non è null. */
+    private static List<Path> sourceFiles(File root, Sampling.Frame sample) throws IOException {
+        List<Path> files = sourceFiles(root);
+        return sample == null ? files : Sampling.select(sample, root.toPath(), files);
+    }
+
+    private String datasetPrefix() {
+        return project + (sampling != null ? "_sample" : "") + "_dataset";
+    }
+
+    @SuppressWarnings("unchecked")
+    private void printSampleEstimates(Map<String, Object> est) {
+        Map<String, Object> files = (Map<String, Object>) est.get("files");
+        Map<String, Object> rows = (Map<String, Object>) est.get("rows");
+        Map<String, Object> buggy = (Map<String, Object>) est.get("buggyRatio");
+        List<Double> rowsCi = (List<Double>) rows.get("ci95"), buggyCi = (List<Double>) buggy.get("ci95");
+        System.out.printf(Locale.ROOT, " → Campione: %s di %s file, righe %s%n", files.get("sampled"),
+                files.get("population"), rows.get("sampled"));
+        System.out.printf(Locale.ROOT, " → Stime sulla popolazione: righe ≈ %.0f [%.0f, %.0f], buggy ≈ %.1f%% [%.1f%%, %.1f%%]%n",
+                (Double) rows.get("estimate"), rowsCi.get(0), rowsCi.get(1),
+                100 * (Double) buggy.get("estimate"), 100 * buggyCi.get(0), 100 * buggyCi.get(1));
+        System.out.println("✓ Report del campione: " + sampleReport());
+    }
+
+    // ————— Cammina l’albero dei sorgenti (solo filtri leggeri) —————
+    /** File .java da analizzare sotto dir, nell'ordine di visita (lo stesso per ogni estrazione). */
+    static List<Path> sourceFiles(File dir) throws IOException {
+        try (Stream<Path> walk = Files.walk(dir.toPath())) {
+            return walk
+                    .filter(p -> isSourcePath(p.toString()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /** Path (con almeno un '/' iniziale) di un sorgente da analizzare: .java sotto src/main/java, non test né generato. */
+    static boolean isSourcePath(String p) {
+        if (!p.endsWith(".java")) return false;
+        if (!p.contains("/src/main/java/")) return false;
+        String path = p.replace('\\','/');
+        // escludi solo i test e il codice generato
+        if (path.endsWith("Test.java")) return false;
+        if (path.contains("/generated/")) return false;
+        return true;
+    }
+
+    private void printQuarantine(Quarantine quarantine, int abandoned) {
+        List<Quarantine.Entry> added = quarantine.added();
+        System.out.println(" → File in quarantena: " + quarantine.size() + " (" + added.size() + " nuovi in questo run"
+                + (abandoned > 0 ? ", " + abandoned + " worker bloccati abbandonati" : "")
+                + ") → " + quarantineFile());
+        for (Quarantine.Entry e : added) {
+            System.out.println("   ✗ " + e.reason + " " + e.path + " [" + e.blobId.substring(0, 10) + "] " + e.detail);
+        }
+    }
+
+    /** Chiavi dei ticket Bug chiusi (Closed/Resolved) come Fixed. */
+    static Set<String> bugTicketKeys(List<JiraTicket> tks) {
+        Set<String> keys = new HashSet<>();
+        for (JiraTicket t : tks) {
+            if (!"Bug".equalsIgnoreCase(t.getIssueType())) continue;
+            String s = t.getStatus();
+            if (!("Closed".equalsIgnoreCase(s) || "Resolved".equalsIgnoreCase(s))) continue;
+            if (!"Fixed".equalsIgnoreCase(t.getResolution())) continue;
+            keys.add(t.getKey());
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,51 @@
+package pipeline;
+
+import metrics.FeatureExtractor;
+import telemetry.MetricsRegistry;
+
+import java.util.Map;
+
+/**
+ * Confronto tra il motore del dataset e un motore di controllo sulla stessa release: metodi
+ * in comune, metodi trovati da uno solo, percentuale di valori uguali per colonna e tempi.
+ * Le differenze finiscono anche in dataset_engine_mismatches_total{engine,column}.
+ */
+final class EngineCrossCheck {
+
+    private EngineCrossCheck() {}
+
+    static void report(String tag, String primary, Map<String, FeatureExtractor.MethodFeatures> expected,
+                       long primaryNanos, String other, Map<String, FeatureExtractor.MethodFeatures> actual,
+                       long otherNanos) {
+        String[] cols = FeatureExtractor.MethodFeatures.COLUMNS;
+        int[] equal = new int[cols.length];
+        int common = 0, onlyOther = 0;
+        for (var e : actual.entrySet()) {
+            FeatureExtractor.MethodFeatures f = expected.get(e.getKey());
+            if (f == null) {
+                onlyOther++;
+                continue;
+            }
+            common++;
+            for (int c = 0; c < cols.length; c++) {
+                if (f.get(c) == e.getValue().get(c)) equal[c]++;
+            }
+        }
+        int onlyPrimary = expected.size() - common;
+
+        StringBuilder sb = new StringBuilder();
+        for (int c = 0; c < cols.length; c++) {
+            int diff = common - equal[c];
+            if (diff > 0) {
+                MetricsRegistry.global().counter("dataset_engine_mismatches_total",
+                        "Valori diversi tra il motore del dataset e quello di controllo",
+                        "engine", other, "column", cols[c]).add(diff);
+            }
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(cols[c]).append(' ').append(common == 0 ? 100 : equal[c] * 100 / common).append('%');
+        }
+        System.out.printf("   ⇄ %s %s vs %s: %d metodi in comune, %d solo %s, %d solo %s; %.1f s vs %.1f s%n",
+                tag, other, primary, common, onlyPrimary, primary, onlyOther, other, primaryNanos / 1e9, otherNanos / 1e9);
+        System.out.println("     valori uguali: " + sb);
+    }
+}
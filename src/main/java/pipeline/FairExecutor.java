@@ -0,0 +1,119 @@
+package pipeline;
+
+import telemetry.MetricsRegistry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Pool di thread condiviso tra più progetti con una coda per progetto ("corsia").
+ *
+ * I worker servono le corsie a turno, un task per volta: un progetto con migliaia di task
+ * in coda (le feature di tante release) non affama quelli con pochi task, e un progetto
+ * da solo usa tutti i worker. Ogni task gira con il progetto della corsia impostato nel
+ * {@link MetricsRegistry}, così le metriche restano separate per progetto.
+ */
+public final class FairExecutor implements AutoCloseable {
+
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private final Deque<Lane> ready = new ArrayDeque<>();
+    private final String name;
+    private final Thread[] workers;
+    private final AtomicInteger active = new AtomicInteger();
+    private final DoubleSupplier queueGauge = this::queued, activeGauge = active::get;
+    private boolean closed;
+
+    private final class Lane implements Executor {
+        final String project;
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        Lane(String project) {
+            this.project = project;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (FairExecutor.this) {
+                if (closed) throw new RejectedExecutionException("executor chiuso");
+                if (tasks.isEmpty()) ready.addLast(this);
+                tasks.addLast(task);
+                FairExecutor.this.notify();
+            }
+        }
+    }
+
+    public FairExecutor(String name, int threads) {
+        this.name = name;
+        workers = new Thread[Math.max(1, threads)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(this::work, name + "-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        MetricsRegistry.global().gauge("dataset_queue_depth", "Task in coda", queueGauge, "pool", name);
+        MetricsRegistry.global().gauge("dataset_workers_active", "Worker occupati", activeGauge, "pool", name);
+    }
+
+    /** Corsia del progetto (creata alla prima richiesta). */
+    public synchronized Executor lane(String project) {
+        return lanes.computeIfAbsent(project, Lane::new);
+    }
+
+    public int threads() { return workers.length; }
+
+    private synchronized int queued() {
+        int n = 0;
+        for (Lane l : ready) n += l.tasks.size();
+        return n;
+    }
+
+    private void work() {
+        while (true) {
+            Lane lane;
+            Runnable task;
+            synchronized (this) {
+                while (ready.isEmpty() && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (closed) return;
+                // round robin: la corsia torna in fondo se ha ancora task
+                lane = ready.pollFirst();
+                task = lane.tasks.pollFirst();
+                if (!lane.tasks.isEmpty()) ready.addLast(lane);
+            }
+            active.incrementAndGet();
+            MetricsRegistry.project(lane.project);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Task di " + lane.project + " fallito: " + e);
+            } finally {
+                MetricsRegistry.project(null);
+                active.decrementAndGet();
+            }
+        }
+    }
+
+    /** Scarta i task in coda e ferma i worker (i task in esecuzione finiscono); toglie le gauge del pool. */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            MetricsRegistry.global().removeGauge("dataset_queue_depth", queueGauge, "pool", name);
+            MetricsRegistry.global().removeGauge("dataset_workers_active", activeGauge, "pool", name);
+        }
+        closed = true;
+        ready.clear();
+        for (Lane l : lanes.values()) l.tasks.clear();
+        notifyAll();
+    }
+}
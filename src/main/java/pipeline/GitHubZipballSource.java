@@ -0,0 +1,199 @@
+package pipeline;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import telemetry.HttpFetchEvent;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Release scaricate come zipball dall'API GitHub.
+ *
+ * Con {@link #checkout(String)} lo zipball viene scompattato in una directory temporanea.
+ * Con {@link #stream(String)} (modalità in memoria, default; -Drelease.inMemory=false per
+ * disattivarla) lo ZipInputStream viene consumato mentre arriva: restano solo i sorgenti da
+ * analizzare, come byte, passati all'estrazione uno alla volta, senza scrivere né rileggere
+ * né cancellare niente su disco. {@link #prefetch(String)} avvia intanto il download del tag
+ * successivo; al più due download per sorgente insieme (quello in analisi e il prossimo).
+ * Un tag già chiesto con stream() non viene più prefetchato: il suo stage l'ha già letto o
+ * lo sta leggendo, e un secondo download non lo leggerebbe nessuno.
+ */
+public class GitHubZipballSource implements ReleaseSource {
+
+    private final String owner;
+    private final String repo;
+    private final OkHttpClient client;
+    private final boolean inMemory;
+    private final Map<Path, Path> tmpDirs = new ConcurrentHashMap<>();
+    private final Map<String, ReleaseStream> prefetched = new ConcurrentHashMap<>();
+    private final Set<String> streamed = ConcurrentHashMap.newKeySet();
+    private final ExecutorService downloads = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "zipball-download");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public GitHubZipballSource(String owner, String repo, OkHttpClient client) {
+        this(owner, repo, client, !"false".equals(System.getProperty("release.inMemory")));
+    }
+
+    public GitHubZipballSource(String owner, String repo, OkHttpClient client, boolean inMemory) {
+        this.owner    = owner;
+        this.repo     = repo;
+        this.client   = client;
+        this.inMemory = inMemory;
+    }
+
+    private Request request(String tag) {
+        HttpUrl url = HttpUrl.parse("https://api.github.com/repos/" + owner + "/" + repo + "/zipball/" + tag);
+        return new Request.Builder().url(url).build();
+    }
+
+    @Override
+    public synchronized ReleaseStream stream(String tag) {
+        if (!inMemory) return null;
+        streamed.add(tag);
+        ReleaseStream s = prefetched.remove(tag);
+        return s != null ? s : download(tag);
+    }
+
+    @Override
+    public synchronized void prefetch(String tag) {
+        if (inMemory && !streamed.contains(tag)) prefetched.computeIfAbsent(tag, this::download);
+    }
+
+    @Override
+    public void dropPrefetched() {
+        for (String tag : new ArrayList<>(prefetched.keySet())) {
+            ReleaseStream s = prefetched.remove(tag);
+            if (s != null) s.close();
+        }
+    }
+
+    /** Avvia il download del tag in uno stream; lo scarto del primo livello ("owner-repo-sha/") dà i path relativi. */
+    private ReleaseStream download(String tag) {
+        ReleaseStream s = new ReleaseStream(tag);
+        Future<?> f = downloads.submit(() -> {
+            HttpFetchEvent event = new HttpFetchEvent();
+            event.begin();
+            event.urlClass = "github-zipball";
+            long[] received = { 0 };
+            try (Response resp = client.newCall(request(tag)).execute();
+                 InputStream in = counting(resp.body().byteStream(), received);
+                 ZipInputStream zip = new ZipInputStream(in)) {
+                event.status = resp.code();
+                if (!resp.isSuccessful()) throw new IOException("HTTP " + resp.code());
+                ZipEntry entry;
+                while ((entry = zip.getNextEntry()) != null) {
+                    String name = entry.getName();
+                    int slash = name.indexOf('/');
+                    String rel = slash < 0 ? name : name.substring(slash + 1);
+                    if (!entry.isDirectory() && DatasetPipeline.isSourcePath("/" + rel)) {
+                        if (!s.put(new ReleaseStream.Entry(rel, zip.readAllBytes()))) return;
+                    }
+                    zip.closeEntry();
+                }
+                s.finish();
+            } catch (Throwable t) {
+                s.fail(t);
+            } finally {
+                event.bytes = received[0];
+                event.record();
+            }
+        });
+        s.onClose(() -> f.cancel(true));
+        return s;
+    }
+
+    @Override
+    public Path checkout(String tag) throws IOException {
+        Request req = request(tag);
+        Path tmpDir = Files.createTempDirectory(repo + "-" + tag + "-");
+        HttpFetchEvent event = new HttpFetchEvent();
+        event.begin();
+        event.urlClass = "github-zipball";
+        long[] received = { 0 };
+        try (Response resp = client.newCall(req).execute();
+             InputStream in = counting(resp.body().byteStream(), received);
+             ZipInputStream zip = new ZipInputStream(in)) {
+            event.status = resp.code();
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                Path out = tmpDir.resolve(entry.getName());
+                if (entry.isDirectory()) Files.createDirectories(out);
+                else {
+                    Files.createDirectories(out.getParent());
+                    try (OutputStream os = Files.newOutputStream(out)) {
+                        zip.transferTo(os);
+                    }
+                }
+                zip.closeEntry();
+            }
+        } finally {
+            event.bytes = received[0];
+            event.record();
+        }
+        // lo zipball ha una sola directory "owner-repo-sha"
+        Path root = findSingleSubdir(tmpDir);
+        tmpDirs.put(root, tmpDir);
+        return root;
+    }
+
+    @Override
+    public void release(Path root) throws IOException {
+        Path tmp = tmpDirs.remove(root);
+        deleteDirectoryRecursively(tmp != null ? tmp : root);
+    }
+
+    /** Stream che somma in received[0] i byte letti. */
+    private static InputStream counting(InputStream in, long[] received) {
+        return new FilterInputStream(in) {
+            @Override public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) received[0]++;
+                return b;
+            }
+
+            @Override public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) received[0] += n;
+                return n;
+            }
+        };
+    }
+
+    private static Path findSingleSubdir(Path dir) throws IOException {
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+            List<Path> subs = new ArrayList<>();
+            for (Path p : ds) if (Files.isDirectory(p)) subs.add(p);
+            return subs.size()==1 ? subs.get(0) : dir;
+        }
+    }
+
+    static void deleteDirectoryRecursively(Path dir) throws IOException {
+        Files.walk(dir)
+                .sorted(Comparator.reverseOrder())
+                .map(Path::toFile)
+                .forEach(File::delete);
+    }
+}
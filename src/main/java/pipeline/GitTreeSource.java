@@ -0,0 +1,54 @@
+package pipeline;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Release estratte dal repository locale: i file .java dell'albero del tag vengono
+ * scritti in una directory temporanea, senza rete.
+ */
+public class GitTreeSource implements ReleaseSource {
+
+    private final Repository repo;
+
+    public GitTreeSource(Repository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    public Path checkout(String tag) throws IOException {
+        ObjectId commit = repo.resolve(("HEAD".equals(tag) ? Constants.HEAD : tag) + "^{commit}");
+        if (commit == null) throw new IOException("Tag non presente nel repository: " + tag);
+        Path dir = Files.createTempDirectory("release-" + tag.replace('/', '_') + "-");
+        try (RevWalk rw = new RevWalk(repo);
+             ObjectReader reader = repo.newObjectReader();
+             TreeWalk tw = new TreeWalk(reader)) {
+            tw.addTree(rw.parseCommit(commit).getTree());
+            tw.setRecursive(true);
+            tw.setFilter(PathSuffixFilter.create(".java"));
+            while (tw.next()) {
+                Path out = dir.resolve(tw.getPathString());
+                Files.createDirectories(out.getParent());
+                try (OutputStream os = Files.newOutputStream(out)) {
+                    reader.open(tw.getObjectId(0)).copyTo(os);
+                }
+            }
+        }
+        return dir;
+    }
+
+    @Override
+    public void release(Path root) throws IOException {
+        GitHubZipballSource.deleteDirectoryRecursively(root);
+    }
+}
@@ -0,0 +1,154 @@
+package pipeline;
+
+import metrics.FeatureExtractor;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectInserter;
+import telemetry.AllocationScope;
+import telemetry.MetricsRegistry;
+import utils.MemoryGovernor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Estrazione delle feature di un file con un budget di byte e di tempo.
+ *
+ * I file oltre {@code maxBytes} non vengono letti dal parser; l'estrazione gira su un
+ * thread di lavoro sorvegliato e oltre {@code timeoutMillis} viene interrotta. JavaParser
+ * e PMD non rispondono all'interrupt, quindi il thread bloccato viene abbandonato (daemon)
+ * e i file successivi passano a un thread nuovo: il tempo per file resta limitato.
+ * File troppo grandi, in timeout o non analizzabili finiscono nella
+ * {@link Quarantine} e da lì in poi vengono saltati; quelli in timeout solo finché il budget
+ * non cresce, poi si riprovano (e se passano escono dalla quarantena). Il permesso di memoria di un file
+ * è restituito dal thread che lo analizza, anche se abbandonato, quando l'analisi termina.
+ */
+public final class GuardedExtractor implements AutoCloseable {
+
+    private static final MetricsRegistry.Counter SKIPPED = MetricsRegistry.global()
+            .counter("dataset_quarantine_skips_total", "File saltati perché già in quarantena");
+
+    private final Quarantine quarantine;
+    private final long timeoutMillis;
+    private final long maxBytes;
+    private ExecutorService worker = newWorker();
+    private int abandoned;
+
+    /**
+     * @param timeoutMillis tempo massimo di estrazione di un file (≤ 0: nessun limite)
+     * @param maxBytes      dimensione massima di un file (≤ 0: nessun limite)
+     */
+    public GuardedExtractor(Quarantine quarantine, long timeoutMillis, long maxBytes) {
+        this.quarantine    = quarantine;
+        this.timeoutMillis = timeoutMillis;
+        this.maxBytes      = maxBytes;
+    }
+
+    /** Feature dei metodi di file; mappa vuota se il file è (o finisce) in quarantena. */
+    public Map<String, FeatureExtractor.MethodFeatures> extract(FeatureExtractor fx, File file, String relPath)
+            throws IOException {
+        String blobId = blobId(file);
+        if (quarantine.excludes(blobId, timeoutMillis)) {
+            SKIPPED.inc();
+            return Collections.emptyMap();
+        }
+        return guarded(blobId, file.length(), relPath, () -> fx.extractFromFile(file));
+    }
+
+    /** Come {@link #extract(FeatureExtractor, File, String)} per un sorgente già in memoria. */
+    public Map<String, FeatureExtractor.MethodFeatures> extract(FeatureExtractor fx, String relPath, byte[] content)
+            throws IOException {
+        String blobId = new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, content).name();
+        if (quarantine.excludes(blobId, timeoutMillis)) {
+            SKIPPED.inc();
+            return Collections.emptyMap();
+        }
+        return guarded(blobId, content.length, relPath, () -> fx.extractFromSource(relPath, content));
+    }
+
+    private Map<String, FeatureExtractor.MethodFeatures> guarded(String blobId, long size, String relPath,
+                                                                  Callable<Map<String, FeatureExtractor.MethodFeatures>> body)
+            throws IOException {
+        if (maxBytes > 0 && size > maxBytes) {
+            quarantine(blobId, Quarantine.Reason.TOO_LARGE, relPath, size + " byte", 0);
+            return Collections.emptyMap();
+        }
+
+        // memoria stimata dell'analisi: sotto pressione sull'heap si aspetta qui, fuori dal budget di tempo
+        MemoryGovernor.Permit permit;
+        try {
+            permit = MemoryGovernor.global().acquire(size * MemoryGovernor.AST_FACTOR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Estrazione interrotta: " + relPath, e);
+        }
+        // il permesso lo restituisce il task quando l'analisi finisce davvero: un thread abbandonato
+        // in timeout continua a tenere il suo AST, e la sua memoria resta contata finché non si ferma
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<Map<String, FeatureExtractor.MethodFeatures>> task = worker.submit(AllocationScope.wrap(() -> {
+            try (permit) {
+                return claimed.compareAndSet(false, true) ? body.call()
+                        : Collections.<String, FeatureExtractor.MethodFeatures>emptyMap();
+            }
+        }));
+        try {
+            Map<String, FeatureExtractor.MethodFeatures> m =
+                    timeoutMillis > 0 ? task.get(timeoutMillis, TimeUnit.MILLISECONDS) : task.get();
+            if (quarantine.get(blobId) != null) quarantine.remove(blobId);     // timeout riprovato
+            return m;
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            if (claimed.compareAndSet(false, true)) permit.close();     // mai partito
+            worker.shutdownNow();
+            worker = newWorker();
+            abandoned++;
+            quarantine(blobId, Quarantine.Reason.TIMEOUT, relPath, "oltre " + timeoutMillis + " ms", timeoutMillis);
+            return Collections.emptyMap();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            quarantine(blobId, Quarantine.Reason.PARSE_ERROR, relPath, String.valueOf(cause.getMessage()), 0);
+            return Collections.emptyMap();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            if (claimed.compareAndSet(false, true)) permit.close();
+            Thread.currentThread().interrupt();
+            throw new IOException("Estrazione interrotta: " + relPath, e);
+        }
+    }
+
+    /** Thread di lavoro abbandonati perché bloccati oltre il budget. */
+    public int abandonedWorkers() { return abandoned; }
+
+    @Override
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    private void quarantine(String blobId, Quarantine.Reason reason, String path, String detail, long budgetMillis) {
+        quarantine.add(blobId, reason, path, detail, budgetMillis);
+        MetricsRegistry.global().counter("dataset_quarantined_files_total", "File messi in quarantena",
+                "reason", reason.name().toLowerCase()).inc();
+        System.err.println("Quarantena (" + reason + ") " + path + ": " + detail);
+    }
+
+    /** SHA-1 Git del contenuto del file, lo stesso id del blob nel repository. */
+    static String blobId(File file) throws IOException {
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, file.length(), in).name();
+        }
+    }
+
+    private static ExecutorService newWorker() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "feature-extractor");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
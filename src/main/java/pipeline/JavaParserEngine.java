@@ -0,0 +1,78 @@
+package pipeline;
+
+import metrics.FeatureExtractor;
+import metrics.MetricEngine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Motore "javaparser": {@link FeatureExtractor} (JavaParser + PMD) file per file, con i
+ * budget e la quarantena di {@link GuardedExtractor}. È il motore del dataset.
+ */
+final class JavaParserEngine implements MetricEngine {
+
+    private final Quarantine quarantine;
+    private final long timeoutMillis;
+    private final long maxBytes;
+    private final int[] abandoned;
+
+    /** @param abandoned contatore (condiviso tra le release) dei worker bloccati abbandonati */
+    JavaParserEngine(Quarantine quarantine, long timeoutMillis, long maxBytes, int[] abandoned) {
+        this.quarantine    = quarantine;
+        this.timeoutMillis = timeoutMillis;
+        this.maxBytes      = maxBytes;
+        this.abandoned     = abandoned;
+    }
+
+    @Override
+    public String name() { return "javaparser"; }
+
+    @Override
+    public Map<String, FeatureExtractor.MethodFeatures> analyze(Path root, List<Path> files) throws IOException {
+        Map<String, FeatureExtractor.MethodFeatures> m = new HashMap<>();
+        FeatureExtractor fx = new FeatureExtractor(root);
+        try (GuardedExtractor guard = new GuardedExtractor(quarantine, timeoutMillis, maxBytes)) {
+            for (Path p : files) {
+                try {
+                    m.putAll(guard.extract(fx, p.toFile(), root.relativize(p).toString().replace('\\', '/')));
+                } catch (IOException e) {
+                    System.err.println("Parse " + p + ": " + e.getMessage());
+                }
+            }
+            synchronized (abandoned) {
+                abandoned[0] += guard.abandonedWorkers();
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Come {@link #analyze(Path, List)} sui sorgenti in memoria di uno stream, analizzati man
+     * mano che arrivano; il merge segue l'ordine dei path, non quello dell'archivio.
+     */
+    Map<String, FeatureExtractor.MethodFeatures> analyze(ReleaseStream stream) throws IOException {
+        Map<String, Map<String, FeatureExtractor.MethodFeatures>> byFile = new TreeMap<>();
+        FeatureExtractor fx = new FeatureExtractor(Paths.get(""));
+        try (GuardedExtractor guard = new GuardedExtractor(quarantine, timeoutMillis, maxBytes)) {
+            for (ReleaseStream.Entry e; (e = stream.next()) != null; ) {
+                try {
+                    byFile.put(e.path, guard.extract(fx, e.path, e.content));
+                } catch (IOException ex) {
+                    System.err.println("Parse " + stream.tag() + ":" + e.path + ": " + ex.getMessage());
+                }
+            }
+            synchronized (abandoned) {
+                abandoned[0] += guard.abandonedWorkers();
+            }
+        }
+        Map<String, FeatureExtractor.MethodFeatures> m = new HashMap<>();
+        for (Map<String, FeatureExtractor.MethodFeatures> f : byFile.values()) m.putAll(f);
+        return m;
+    }
+}
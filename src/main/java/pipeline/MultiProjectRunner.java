@@ -0,0 +1,140 @@
+package pipeline;
+
+import fetcher.BookkeeperFetcher;
+import fetcher.GitHubFetcher;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Esegue la pipeline di più progetti nello stesso processo, con risorse condivise e limitate:
+ * <ul>
+ *   <li>CPU: un {@link FairExecutor} con un worker per core e una corsia per progetto, usato da
+ *       stage e metriche evolutive di tutti i progetti (niente N pool da N core in competizione);</li>
+ *   <li>I/O: al più ioPermits checkout di release contemporanei ({@link ReleaseSource#bounded});</li>
+ *   <li>HTTP: un solo client OkHttp (pool di connessioni e cache su disco) per JIRA e GitHub;</li>
+ *   <li>rule set PMD e parser: già condivisi a livello di processo da {@code FeatureExtractor}.</li>
+ * </ul>
+ * Output, checkpoint, quarantena e run report restano nella directory di ogni progetto, e le
+ * metriche del report sono quelle del solo progetto.
+ */
+public final class MultiProjectRunner implements AutoCloseable {
+
+    private final FairExecutor cpu;
+    private final Semaphore io;
+    private final OkHttpClient http;
+
+    /**
+     * @param cpuThreads   worker CPU condivisi
+     * @param ioPermits    checkout di release contemporanei
+     * @param httpCacheDir cache HTTP su disco (null: nessuna cache)
+     */
+    public MultiProjectRunner(int cpuThreads, int ioPermits, Path httpCacheDir) {
+        this.cpu = new FairExecutor("shared", cpuThreads);
+        this.io  = new Semaphore(Math.max(1, ioPermits), true);
+        OkHttpClient.Builder b = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(Math.max(5, ioPermits), 5, TimeUnit.MINUTES));
+        if (httpCacheDir != null) b.cache(new Cache(httpCacheDir.toFile(), 256L << 20));
+        this.http = b.build();
+    }
+
+    /**
+     * Elabora i progetti in parallelo e restituisce, per ognuno, null se è andato a buon fine
+     * o l'errore; il fallimento di un progetto non ferma gli altri.
+     */
+    public Map<String, Throwable> run(List<ProjectDescriptor> projects, String jiraUser, String jiraPass)
+            throws InterruptedException {
+        ExecutorService coordinators = Executors.newFixedThreadPool(Math.max(1, projects.size()), r -> {
+            Thread t = new Thread(r, "dataset-project");
+            t.setDaemon(true);
+            return t;
+        });
+        Map<String, Future<?>> runs = new LinkedHashMap<>();
+        Map<String, Long> wall = new ConcurrentHashMap<>();
+        for (ProjectDescriptor p : projects) {
+            runs.put(p.name, coordinators.submit(() -> {
+                long t0 = System.nanoTime();
+                try {
+                    runProject(p, jiraUser, jiraPass);
+                } finally {
+                    wall.put(p.name, System.nanoTime() - t0);
+                }
+                return null;
+            }));
+        }
+        Map<String, Throwable> outcome = new LinkedHashMap<>();
+        for (var e : runs.entrySet()) {
+            try {
+                e.getValue().get();
+                outcome.put(e.getKey(), null);
+            } catch (ExecutionException ex) {
+                outcome.put(e.getKey(), ex.getCause());
+            }
+        }
+        coordinators.shutdown();
+
+        System.out.println("Riepilogo (" + projects.size() + " progetti, " + cpu.threads() + " worker condivisi):");
+        for (var e : outcome.entrySet()) {
+            System.out.printf("   %s %s: %.1f s%s%n", e.getValue() == null ? "✓" : "✗", e.getKey(),
+                    wall.getOrDefault(e.getKey(), 0L) / 1e9,
+                    e.getValue() == null ? "" : " → " + e.getValue());
+        }
+        for (var e : outcome.entrySet()) {
+            if (e.getValue() == null) continue;
+            System.err.println("Progetto " + e.getKey() + " fallito:");
+            e.getValue().printStackTrace();
+        }
+        return outcome;
+    }
+
+    private void runProject(ProjectDescriptor p, String jiraUser, String jiraPass) throws Exception {
+        System.out.println("Avvio dataset " + p.name + " (JIRA " + p.jiraKey() + ", GitHub "
+                + p.owner + "/" + p.repo() + ") → " + p.outputDir());
+        File repoDir = p.repoDir().toFile();
+        try (Git git = repoDir.exists() ? open(repoDir) : cloneRepo(p.remoteUri(), repoDir)) {
+            BookkeeperFetcher jira = new BookkeeperFetcher(p.jiraKey(), http);
+            GitHubFetcher github = new GitHubFetcher(http);
+            DatasetPipeline pipeline = new DatasetPipeline(p.name, p.outputDir(), cpu.threads())
+                    .executor(cpu.lane(p.name.toLowerCase(Locale.ROOT)))
+                    .refresh(Boolean.getBoolean("dataset.refresh"));
+            if (p.releaseFraction != null) pipeline.releaseFraction(p.releaseFraction);
+            pipeline.run(git, repoDir,
+                    since -> since == null ? jira.fetchAllJiraTickets(jiraUser, jiraPass)
+                            : jira.fetchJiraTicketsUpdatedSince(jiraUser, jiraPass, since),
+                    jira::fetchProjectVersions,
+                    () -> github.fetchTags(p.owner, p.repo()),
+                    ReleaseSource.bounded(new GitHubZipballSource(p.owner, p.repo(), http), io));
+        }
+    }
+
+    private static Git cloneRepo(String uri, File dir) throws GitAPIException {
+        return Git.cloneRepository()
+                .setURI(uri)
+                .setDirectory(dir)
+                .setCloneAllBranches(true)
+                .call();
+    }
+
+    private static Git open(File dir) throws IOException {
+        return new Git(new FileRepositoryBuilder()
+                .setGitDir(new File(dir, ".git"))
+                .readEnvironment().findGitDir().build());
+    }
+
+    @Override
+    public void close() {
+        cpu.close();
+        http.dispatcher().executorService().shutdown();
+        http.connectionPool().evictAll();
+    }
+}
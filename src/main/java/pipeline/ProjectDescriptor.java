@@ -0,0 +1,54 @@
+package pipeline;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Progetto da elaborare: repository GitHub, progetto JIRA, clone locale e directory degli output.
+ * Un file di progetti è un array JSON di descrittori, es.
+ * {@code [{"name":"bookkeeper"}, {"name":"zookeeper","repoDir":"/data/zookeeper"}]};
+ * i campi assenti prendono i default derivati dal nome.
+ */
+public final class ProjectDescriptor {
+
+    public String name;
+    public String owner = "apache";
+    /** Repository GitHub (default: name). */
+    public String repo;
+    /** Chiave del progetto JIRA (default: NAME). */
+    public String jiraKey;
+    /** Clone locale (default: ./repos/name, clonato se non esiste). */
+    public String repoDir;
+    /** Directory di CSV, checkpoint e report (default: ./name). */
+    public String outputDir;
+    public Double releaseFraction;
+
+    public ProjectDescriptor() {}
+
+    public ProjectDescriptor(String name, String repoDir, String outputDir) {
+        this.name      = name;
+        this.repoDir   = repoDir;
+        this.outputDir = outputDir;
+    }
+
+    public static List<ProjectDescriptor> load(Path file) throws IOException {
+        ProjectDescriptor[] ps = new Gson().fromJson(Files.readString(file), ProjectDescriptor[].class);
+        for (ProjectDescriptor p : ps) {
+            if (p.name == null) throw new IOException("Progetto senza nome in " + file);
+        }
+        return Arrays.asList(ps);
+    }
+
+    public String repo()      { return repo != null ? repo : name; }
+    public String jiraKey()   { return jiraKey != null ? jiraKey : name.toUpperCase(Locale.ROOT); }
+    public String remoteUri() { return "https://github.com/" + owner + "/" + repo() + ".git"; }
+    public Path repoDir()     { return Paths.get(repoDir != null ? repoDir : "repos/" + name); }
+    public Path outputDir()   { return Paths.get(outputDir != null ? outputDir : name); }
+}
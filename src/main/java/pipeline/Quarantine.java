@@ -0,0 +1,114 @@
+package pipeline;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Lista persistente dei file sorgente esclusi dall'estrazione, indicizzata per blob id
+ * (SHA-1 Git del contenuto): lo stesso contenuto non viene più analizzato in nessuna
+ * release né nei run successivi, una versione modificata del file sì.
+ *
+ * Un timeout dipende dal budget e dalla macchina, non solo dal contenuto: le entry TIMEOUT
+ * ricordano il budget con cui sono scadute ed escludono il file solo finché il budget
+ * corrente non è più grande (vedi {@link #excludes(String, long)}).
+ *
+ * Formato (quarantine.tsv): {@code blobId \t motivo \t path \t dettaglio}, più
+ * {@code \t budgetMs} per le entry TIMEOUT; una riga per file.
+ */
+public final class Quarantine {
+
+    /** Motivo dell'esclusione. */
+    public enum Reason { TOO_LARGE, TIMEOUT, PARSE_ERROR }
+
+    public static final class Entry {
+        public final String blobId;
+        public final Reason reason;
+        public final String path;
+        public final String detail;
+        /** Budget di tempo scaduto (solo TIMEOUT; 0 se sconosciuto). */
+        public final long budgetMillis;
+
+        Entry(String blobId, Reason reason, String path, String detail) {
+            this(blobId, reason, path, detail, 0);
+        }
+
+        Entry(String blobId, Reason reason, String path, String detail, long budgetMillis) {
+            this.blobId       = blobId;
+            this.reason       = reason;
+            this.path         = path;
+            this.detail       = detail;
+            this.budgetMillis = budgetMillis;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final List<Entry> added = new ArrayList<>();
+
+    public static Quarantine loadOrCreate(Path file) throws IOException {
+        Quarantine q = new Quarantine();
+        if (!Files.exists(file)) return q;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] f = line.split("\t", 5);
+            if (f.length < 3) continue;
+            q.entries.put(f[0], new Entry(f[0], Reason.valueOf(f[1]), f[2], f.length > 3 ? f[3] : "",
+                    f.length > 4 ? Long.parseLong(f[4]) : 0));
+        }
+        return q;
+    }
+
+    /**
+     * Il file va saltato con un budget di timeoutMillis (≤ 0: nessun limite): sempre se è in
+     * quarantena per dimensione o parse, per timeout solo se il budget scaduto non è minore.
+     */
+    public synchronized boolean excludes(String blobId, long timeoutMillis) {
+        Entry e = entries.get(blobId);
+        if (e == null) return false;
+        return e.reason != Reason.TIMEOUT || (timeoutMillis > 0 && e.budgetMillis >= timeoutMillis);
+    }
+
+    public synchronized Entry get(String blobId) {
+        return entries.get(blobId);
+    }
+
+    public synchronized void add(String blobId, Reason reason, String path, String detail) {
+        add(blobId, reason, path, detail, 0);
+    }
+
+    /** Come {@link #add(String, Reason, String, String)}; un timeout riprovato sostituisce il precedente. */
+    public synchronized void add(String blobId, Reason reason, String path, String detail, long budgetMillis) {
+        Entry old = entries.get(blobId);
+        if (old != null && old.reason != Reason.TIMEOUT) return;
+        String clean = detail == null ? "" : detail.replaceAll("[\\t\\r\\n]+", " ");
+        Entry e = new Entry(blobId, reason, path, clean.length() > 200 ? clean.substring(0, 200) : clean,
+                reason == Reason.TIMEOUT ? budgetMillis : 0);
+        entries.put(blobId, e);
+        added.add(e);
+    }
+
+    /** Toglie un file riprovato con un budget più grande e analizzato con successo. */
+    public synchronized void remove(String blobId) {
+        entries.remove(blobId);
+    }
+
+    public synchronized int size() { return entries.size(); }
+
+    /** File messi in quarantena da questo run. */
+    public synchronized List<Entry> added() { return new ArrayList<>(added); }
+
+    public synchronized void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter w = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Entry e : entries.values()) {
+                w.write(e.blobId + "\t" + e.reason + "\t" + e.path + "\t" + e.detail
+                        + (e.reason == Reason.TIMEOUT ? "\t" + e.budgetMillis : ""));
+                w.newLine();
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,40 @@
+package pipeline;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stato upstream visto dall'ultimo run (refresh-state.json): HEAD, tag e watermark dei
+ * ticket (massima data di aggiornamento). Il run successivo in modalità refresh
+ * scarica solo i ticket aggiornati da allora e analizza solo commit e release nuovi.
+ */
+public final class RefreshState {
+
+    public String head;
+    public List<String> tags = new ArrayList<>();
+    public String ticketWatermark;
+    public String refreshedAt;
+
+    /** Stato salvato, null se il file non esiste o non è leggibile. */
+    public static RefreshState load(Path file) {
+        if (!Files.exists(file)) return null;
+        try {
+            return new GsonBuilder().create().fromJson(Files.readString(file), RefreshState.class);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Stato del refresh non leggibile, run completo: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, new GsonBuilder().setPrettyPrinting().create().toJson(this));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -0,0 +1,73 @@
+package pipeline;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sorgenti del progetto a una release: una directory con l'albero al tag.
+ * Le chiavi path#signature delle feature sono relative a questa directory.
+ */
+public interface ReleaseSource {
+
+    /** Directory radice del progetto al tag. */
+    Path checkout(String tag) throws IOException;
+
+    /** Libera quanto creato da {@link #checkout(String)}. */
+    void release(Path root) throws IOException;
+
+    /**
+     * Sorgenti del tag in memoria, man mano che arrivano, o null se la sorgente lavora solo
+     * con {@link #checkout(String)}. Lo stream va chiuso.
+     */
+    default ReleaseStream stream(String tag) throws IOException {
+        return null;
+    }
+
+    /** Il tag servirà presto: una sorgente in memoria può iniziare a scaricarlo. */
+    default void prefetch(String tag) {}
+
+    /** Scarta i prefetch non ancora usati (fine run). */
+    default void dropPrefetched() {}
+
+    /** Sorgente che fa al più permits.availablePermits() checkout alla volta (I/O condiviso tra progetti). */
+    static ReleaseSource bounded(ReleaseSource source, Semaphore permits) {
+        return new ReleaseSource() {
+            @Override
+            public Path checkout(String tag) throws IOException {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Checkout interrotto: " + tag, e);
+                }
+                try {
+                    return source.checkout(tag);
+                } finally {
+                    permits.release();
+                }
+            }
+
+            @Override
+            public void release(Path root) throws IOException {
+                source.release(root);
+            }
+
+            // i download in memoria sono già limitati dalla sorgente (pochi thread per progetto)
+            @Override
+            public ReleaseStream stream(String tag) throws IOException {
+                return source.stream(tag);
+            }
+
+            @Override
+            public void prefetch(String tag) {
+                source.prefetch(tag);
+            }
+
+            @Override
+            public void dropPrefetched() {
+                source.dropPrefetched();
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package pipeline;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Sorgenti di una release in memoria, nell'ordine in cui arrivano: chi scarica chiama
+ * {@link #put}, poi {@link #finish()} o {@link #fail(Throwable)}; chi analizza prende le
+ * entry con {@link #next()} mentre il download continua. Solo i file che la pipeline
+ * analizzerebbe ({@link DatasetPipeline#isSourcePath(String)}).
+ *
+ * La coda tiene al più {@value #DEFAULT_MAX_BYTES} byte di sorgenti in attesa
+ * (-Drelease.streamBytes): oltre, chi scarica aspetta che chi analizza li consumi, così un
+ * prefetch non ancora letto non tiene in memoria l'intera release.
+ */
+public final class ReleaseStream implements AutoCloseable {
+
+    /** Sorgente: path relativo alla radice della release e contenuto. */
+    public static final class Entry {
+        public final String path;
+        public final byte[] content;
+
+        public Entry(String path, byte[] content) {
+            this.path    = path;
+            this.content = content;
+        }
+    }
+
+    private static final Entry END = new Entry("", new byte[0]);
+    static final long DEFAULT_MAX_BYTES = 64L << 20;
+    private static final long MAX_BYTES = Long.getLong("release.streamBytes", DEFAULT_MAX_BYTES);
+
+    private final String tag;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private long queuedBytes;                   // sotto il lock di this
+    private volatile Throwable failure;
+    private volatile boolean closed;
+    private volatile Runnable onClose = () -> {};
+
+    public ReleaseStream(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() { return tag; }
+
+    /**
+     * Aggiunge un sorgente, aspettando se la coda è piena; false se il consumatore ha già chiuso
+     * lo stream (il download può fermarsi).
+     */
+    public boolean put(Entry e) throws InterruptedException {
+        synchronized (this) {
+            // un solo sorgente più grande del limite passa comunque, da solo
+            while (!closed && queuedBytes > 0 && queuedBytes + e.content.length > MAX_BYTES) wait();
+            if (closed) return false;
+            queuedBytes += e.content.length;
+        }
+        queue.add(e);
+        return true;
+    }
+
+    public void finish() {
+        queue.add(END);
+    }
+
+    public void fail(Throwable t) {
+        failure = t;
+        queue.add(END);
+    }
+
+    /** Prossimo sorgente, aspettando che arrivi; null a fine release. IOException se il download è fallito. */
+    public Entry next() throws IOException {
+        Entry e;
+        try {
+            e = queue.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Lettura di " + tag + " interrotta", ex);
+        }
+        if (e != END) {
+            synchronized (this) {
+                queuedBytes -= e.content.length;
+                notifyAll();
+            }
+            return e;
+        }
+        queue.add(END);
+        Throwable t = failure;
+        if (t == null) return null;
+        if (t instanceof IOException) throw new IOException("Download di " + tag + " fallito: " + t.getMessage(), t);
+        throw new IOException("Download di " + tag + " fallito", t);
+    }
+
+    /** Azione alla chiusura (es. annullare il download ancora in corso). */
+    void onClose(Runnable r) {
+        this.onClose = r;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) return;
+            closed = true;
+            queuedBytes = 0;
+            notifyAll();
+        }
+        queue.clear();
+        queue.add(END);
+        onClose.run();
+    }
+}
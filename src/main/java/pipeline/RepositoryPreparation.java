@@ -0,0 +1,133 @@
+package pipeline;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import telemetry.MetricsRegistry;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Prepara il clone locale per l'analisi: tutti gli stage (log, diff dei commit, blob delle
+ * release, blame) leggono oggetti con JGit, e un repository con molti oggetti loose o tanti
+ * pack piccoli li rallenta tutti.
+ *
+ * {@link #configureCache(CacheProfile)} installa una volta per processo la {@link WindowCacheConfig}
+ * (limite e finestre dei pack, mmap, cache delle basi delta) secondo un profilo di risorse;
+ * {@link #prepare(Repository)} ricompatta il repository con {@code git gc} di JGit
+ * ({@link Git#gc()}) in un solo pack con le bitmap di raggiungibilità (il default di
+ * {@code pack.buildBitmaps}), ma solo se serve (oggetti loose, più pack o nessuna bitmap):
+ * su un clone già preparato costa solo la lettura delle statistiche. Riscrive i pack del
+ * clone dell'utente, quindi la pipeline lo fa solo su richiesta.
+ */
+public final class RepositoryPreparation {
+
+    /**
+     * Profili della cache dei pack. SMALL e MEDIUM tengono le finestre sull'heap entro una
+     * frazione che lascia spazio al budget di {@code MemoryGovernor}; LARGE mappa i pack in
+     * memoria (fuori heap) con finestre grandi.
+     */
+    public enum CacheProfile {
+        SMALL, MEDIUM, LARGE;
+
+        /** Profilo per l'heap massimo: &lt; 1.5 GiB SMALL, &lt; 6 GiB MEDIUM, altrimenti LARGE. */
+        public static CacheProfile forHeap(long maxHeap) {
+            if (maxHeap < (3L << 29)) return SMALL;
+            if (maxHeap < (6L << 30)) return MEDIUM;
+            return LARGE;
+        }
+
+        /** "auto" (o null) sceglie dall'heap, altrimenti il nome del profilo. */
+        public static CacheProfile parse(String p) {
+            if (p == null || p.isBlank() || "auto".equalsIgnoreCase(p.trim())) {
+                return forHeap(Runtime.getRuntime().maxMemory());
+            }
+            return valueOf(p.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /** Oggetti loose oltre i quali si ricompatta anche con un solo pack con bitmap. */
+    private static final long MAX_LOOSE = Long.getLong("repo.prepare.maxLoose", 1000);
+
+    private static final MetricsRegistry.Counter REPACKS = MetricsRegistry.global()
+            .counter("dataset_repo_repacks_total", "Repository ricompattati prima dell'analisi");
+
+    private static CacheProfile installed;
+
+    private RepositoryPreparation() {}
+
+    /** Installa la configurazione della cache dei pack del profilo (nulla se è già quella in uso). */
+    public static synchronized void configureCache(CacheProfile profile) {
+        if (profile == installed) return;
+        long heap = Runtime.getRuntime().maxMemory();
+        WindowCacheConfig cfg = new WindowCacheConfig();
+        switch (profile) {
+            case SMALL:
+                cfg.setPackedGitLimit(32L << 20);
+                cfg.setPackedGitWindowSize(8 << 10);
+                cfg.setPackedGitMMAP(false);
+                cfg.setDeltaBaseCacheLimit(8 << 20);
+                cfg.setPackedGitOpenFiles(128);
+                cfg.setStreamFileThreshold(8 << 20);
+                break;
+            case MEDIUM:
+                cfg.setPackedGitLimit(Math.min(heap / 8, 256L << 20));
+                cfg.setPackedGitWindowSize(64 << 10);
+                cfg.setPackedGitMMAP(false);
+                cfg.setDeltaBaseCacheLimit(64 << 20);
+                cfg.setPackedGitOpenFiles(256);
+                cfg.setStreamFileThreshold(32 << 20);
+                break;
+            default:   // LARGE
+                cfg.setPackedGitLimit(2L << 30);
+                cfg.setPackedGitWindowSize(1 << 20);
+                cfg.setPackedGitMMAP(true);
+                cfg.setDeltaBaseCacheLimit((int) Math.min(heap / 16, 256L << 20));
+                cfg.setPackedGitOpenFiles(512);
+                cfg.setStreamFileThreshold(64 << 20);
+        }
+        cfg.install();
+        installed = profile;
+        System.out.println(" → Cache dei pack JGit: profilo " + profile.name().toLowerCase(Locale.ROOT)
+                + " (limite " + (cfg.getPackedGitLimit() >> 20) + " MiB, finestre "
+                + (cfg.getPackedGitWindowSize() >> 10) + " KiB" + (cfg.isPackedGitMMAP() ? ", mmap" : "") + ")");
+    }
+
+    /**
+     * Ricompatta il repository se ha oggetti loose oltre la soglia, più di un pack o nessuna
+     * bitmap. Nulla per repository non su file o vuoti.
+     *
+     * @return true se il repository è stato ricompattato
+     */
+    public static boolean prepare(Repository repo) throws IOException {
+        Git git = Git.wrap(repo);
+        try {
+            Properties before = git.gc().getStatistics();
+            if (stat(before, "numberOfPackedObjects") + stat(before, "numberOfLooseObjects") == 0) return false;
+            if (stat(before, "numberOfLooseObjects") <= MAX_LOOSE && stat(before, "numberOfPackFiles") == 1
+                    && stat(before, "numberOfBitmaps") > 0) {
+                return false;
+            }
+            long t0 = System.nanoTime();
+            Properties after = git.gc().setProgressMonitor(NullProgressMonitor.INSTANCE).call();
+            REPACKS.inc();
+            System.out.printf(" → Repository ricompattato in %.1f s: pack %d → %d, loose %d → %d, bitmap %d%n",
+                    (System.nanoTime() - t0) / 1e9, stat(before, "numberOfPackFiles"), stat(after, "numberOfPackFiles"),
+                    stat(before, "numberOfLooseObjects"), stat(after, "numberOfLooseObjects"),
+                    stat(after, "numberOfBitmaps"));
+            return true;
+        } catch (GitAPIException e) {
+            throw new IOException("GC del repository fallito", e);
+        }
+    }
+
+    /** Statistica di {@code git gc} (0 se il repository non la riporta, es. non su file). */
+    private static long stat(Properties p, String key) {
+        Object v = p.get(key);
+        return v instanceof Number n ? n.longValue() : 0;
+    }
+}
@@ -0,0 +1,236 @@
+package pipeline;
+
+import com.google.gson.GsonBuilder;
+import metrics.BugLabeller;
+import metrics.FeatureExtractor;
+import utils.CsvGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Stime sulla popolazione intera dal dataset di un run campionato ({@link Sampling}).
+ *
+ * Le unità sono i file scelti, negli strati (release, package, dimensione) del loro frame; ogni
+ * file porta righe, righe buggy e somme delle metriche (anche a zero, se non ha metodi). Righe
+ * totali: stimatore stratificato Σ N_h·media_h; rapporto buggy e medie delle metriche: stimatore
+ * per rapporto con la varianza linearizzata; intervalli al 95% con la correzione per popolazione
+ * finita. Negli strati con un solo file scelto la varianza è quella combinata degli altri strati
+ * della release. I quantili delle metriche pesano ogni riga con N_h/n_h (solo stima puntuale).
+ *
+ * Con i fix campionati a una frazione q un metodo buggy per un solo fix resta buggy con
+ * probabilità q: il rapporto buggy stimato è diviso per q, e riportato anche così com'è.
+ * L'intervallo del rapporto corretto somma alla varianza del campione dei file quella del
+ * campione dei fix: ogni riga buggy osservata, con peso w, è un Bernoulli(q), quindi
+ * (1 − q)·Σ w² sulle righe buggy, diviso per il quadrato delle righe stimate.
+ */
+final class SampleEstimator {
+
+    private static final double Z95 = 1.96;
+    private static final double[] QUANTILES = { 0.25, 0.5, 0.75, 0.9 };
+
+    /** Colonne numeriche di {@link CsvGenerator#HEADER} (tra Method Name e Buggy). */
+    private static final int FIRST_METRIC = 3, METRICS = CsvGenerator.HEADER.length - 1 - FIRST_METRIC;
+
+    /** Variabili per file: righe, righe buggy, somme delle metriche. */
+    private static final int ROWS = 0, BUGGY = 1, VARS = 2 + METRICS;
+
+    private static final class Stratum {
+        final int population;
+        final List<double[]> units = new ArrayList<>();
+
+        Stratum(int population) { this.population = population; }
+    }
+
+    private SampleEstimator() {}
+
+    /**
+     * @param frames    frame delle release mantenute (tag → frame)
+     * @param features  feature delle release mantenute (tag → path#sig → feature), ordine cronologico
+     * @param releases  tag nell'ordine usato da labels
+     * @return report (anche scritto in file come JSON)
+     */
+    static Map<String, Object> estimate(Sampling sampling, Map<String, Sampling.Frame> frames,
+                                        Map<String, Map<String, FeatureExtractor.MethodFeatures>> features,
+                                        List<String> releases, BugLabeller labels,
+                                        int fixesSampled, int fixesTotal, Path file) throws IOException {
+        Map<String, List<Stratum>> byRelease = new LinkedHashMap<>();
+        List<double[]> metricValues = new ArrayList<>();      // per riga: {peso, metriche...}
+        int files = 0, sampledFiles = 0;
+        long sampledRows = 0;
+        for (var re : features.entrySet()) {
+            String tag = re.getKey();
+            int release = releases.indexOf(tag);
+            Sampling.Frame frame = frames.get(tag);
+            files += frame.population();
+            sampledFiles += frame.sampled();
+            Map<String, double[]> perFile = new HashMap<>();
+            for (String f : frame.selected) perFile.put(f, new double[VARS]);
+            for (var me : re.getValue().entrySet()) {
+                String path = me.getKey().substring(0, me.getKey().indexOf('#'));
+                double[] u = perFile.get(path);
+                if (u == null) continue;
+                boolean buggy = labels.isBuggy(labels.methodId(me.getKey()), release);
+                Object[] rec = CsvGenerator.record(tag, me.getKey(), me.getValue(), buggy ? "Yes" : "No");
+                int[] sizes = frame.strata.get(frame.stratumOf.get(path));
+                double[] row = new double[1 + METRICS];
+                row[0] = sizes[0] / (double) sizes[1];
+                u[ROWS]++;
+                if (buggy) u[BUGGY]++;
+                for (int c = 0; c < METRICS; c++) {
+                    double v = ((Number) rec[FIRST_METRIC + c]).doubleValue();
+                    u[2 + c] += v;
+                    row[1 + c] = v;
+                }
+                metricValues.add(row);
+                sampledRows++;
+            }
+            Map<String, Stratum> strata = new TreeMap<>();
+            for (var e : frame.strata.entrySet()) strata.put(e.getKey(), new Stratum(e.getValue()[0]));
+            for (var e : perFile.entrySet()) strata.get(frame.stratumOf.get(e.getKey())).units.add(e.getValue());
+            byRelease.put(tag, new ArrayList<>(strata.values()));
+        }
+        List<Stratum> all = new ArrayList<>();
+        byRelease.values().forEach(all::addAll);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("rate", sampling.rate());
+        out.put("seed", sampling.seed());
+        out.put("files", Map.of("population", files, "sampled", sampledFiles));
+        out.put("fixes", Map.of("population", fixesTotal, "sampled", fixesSampled));
+
+        Map<String, Object> rows = interval(total(all, ROWS), Math.sqrt(totalVariance(byRelease, u -> u[ROWS])));
+        rows.put("sampled", sampledRows);
+        out.put("rows", rows);
+        Map<String, Object> perRelease = new LinkedHashMap<>();
+        for (var e : byRelease.entrySet()) {
+            perRelease.put(e.getKey(), interval(total(e.getValue(), ROWS),
+                    Math.sqrt(totalVariance(Map.of(e.getKey(), e.getValue()), u -> u[ROWS]))));
+        }
+        out.put("rowsByRelease", perRelease);
+
+        double q = fixesTotal == 0 ? 1 : fixesSampled / (double) fixesTotal;
+        double[] ratio = ratio(byRelease, all, BUGGY);
+        double rowsTotal = total(all, ROWS);
+        double fixVar = rowsTotal == 0 ? 0 : (1 - q) * weightedBuggy(all) / (rowsTotal * rowsTotal);
+        double se = Math.sqrt(ratio[1] * ratio[1] + fixVar);
+        Map<String, Object> buggy = new LinkedHashMap<>();
+        buggy.put("estimate", Math.min(1, ratio[0] / q));
+        buggy.put("ci95", List.of(Math.max(0, (ratio[0] - Z95 * se) / q), Math.min(1, (ratio[0] + Z95 * se) / q)));
+        buggy.put("withSampledFixes", interval(ratio[0], ratio[1]));
+        out.put("buggyRatio", buggy);
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (int c = 0; c < METRICS; c++) {
+            double[] mean = ratio(byRelease, all, 2 + c);
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("mean", mean[0]);
+            m.put("ci95", List.of(mean[0] - Z95 * mean[1], mean[0] + Z95 * mean[1]));
+            double[] qs = quantiles(metricValues, 1 + c);
+            for (int k = 0; k < QUANTILES.length; k++) m.put("p" + Math.round(QUANTILES[k] * 100), qs[k]);
+            metrics.put(CsvGenerator.HEADER[FIRST_METRIC + c], m);
+        }
+        out.put("metrics", metrics);
+
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().serializeSpecialFloatingPointValues()
+                .create().toJson(out));
+        return out;
+    }
+
+    /** Stima stratificata del totale della variabile. */
+    private static double total(List<Stratum> strata, int var) {
+        double t = 0;
+        for (Stratum s : strata) {
+            if (s.units.isEmpty()) continue;
+            double sum = 0;
+            for (double[] u : s.units) sum += u[var];
+            t += s.population * sum / s.units.size();
+        }
+        return t;
+    }
+
+    /** Σ w² sulle righe buggy del campione, con w = N_h/n_h il peso della riga. */
+    private static double weightedBuggy(List<Stratum> strata) {
+        double v = 0;
+        for (Stratum s : strata) {
+            if (s.units.isEmpty()) continue;
+            double w = s.population / (double) s.units.size();
+            for (double[] u : s.units) v += w * w * u[BUGGY];
+        }
+        return v;
+    }
+
+    /**
+     * Varianza della stima stratificata del totale di d: Σ N_h²(1 − n_h/N_h) s²_h / n_h, con la
+     * varianza combinata della release per gli strati con un solo file.
+     */
+    private static double totalVariance(Map<String, List<Stratum>> byRelease,
+                                        java.util.function.ToDoubleFunction<double[]> d) {
+        double v = 0;
+        for (List<Stratum> strata : byRelease.values()) {
+            double pooledSum = 0;
+            int pooledDf = 0;
+            for (Stratum s : strata) {
+                if (s.units.size() < 2) continue;
+                pooledSum += variance(s.units, d) * (s.units.size() - 1);
+                pooledDf += s.units.size() - 1;
+            }
+            double pooled = pooledDf > 0 ? pooledSum / pooledDf : 0;
+            for (Stratum s : strata) {
+                int n = s.units.size();
+                if (n == 0 || n >= s.population) continue;
+                double s2 = n >= 2 ? variance(s.units, d) : pooled;
+                v += (double) s.population * s.population * (1 - n / (double) s.population) * s2 / n;
+            }
+        }
+        return v;
+    }
+
+    /** Stimatore per rapporto Σy/Σrighe della variabile e suo errore standard. */
+    private static double[] ratio(Map<String, List<Stratum>> byRelease, List<Stratum> all, int var) {
+        double x = total(all, ROWS);
+        if (x == 0) return new double[] { 0, 0 };
+        double r = total(all, var) / x;
+        double v = totalVariance(byRelease, u -> u[var] - r * u[ROWS]);
+        return new double[] { r, Math.sqrt(v) / x };
+    }
+
+    private static double variance(List<double[]> units, java.util.function.ToDoubleFunction<double[]> d) {
+        double mean = 0;
+        for (double[] u : units) mean += d.applyAsDouble(u);
+        mean /= units.size();
+        double ss = 0;
+        for (double[] u : units) {
+            double e = d.applyAsDouble(u) - mean;
+            ss += e * e;
+        }
+        return ss / (units.size() - 1);
+    }
+
+    /** Quantili pesati della colonna (righe {peso, valori...}). */
+    private static double[] quantiles(List<double[]> rows, int col) {
+        double[] qs = new double[QUANTILES.length];
+        if (rows.isEmpty()) return qs;
+        List<double[]> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparingDouble(r -> r[col]));
+        double total = 0;
+        for (double[] r : sorted) total += r[0];
+        double acc = 0;
+        int k = 0;
+        for (double[] r : sorted) {
+            acc += r[0];
+            while (k < qs.length && acc >= QUANTILES[k] * total) qs[k++] = r[col];
+        }
+        while (k < qs.length) qs[k++] = sorted.get(sorted.size() - 1)[col];
+        return qs;
+    }
+
+    private static Map<String, Object> interval(double estimate, double se) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("estimate", estimate);
+        m.put("ci95", List.of(Math.max(0, estimate - Z95 * se), estimate + Z95 * se));
+        return m;
+    }
+}
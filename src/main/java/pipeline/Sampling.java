@@ -0,0 +1,143 @@
+package pipeline;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Campionamento deterministico per dataset esplorativi: una frazione dei file di ogni release,
+ * stratificata per package e classe di dimensione, e una frazione dei commit di fix.
+ *
+ * Strato di un file: i primi {@value #PACKAGE_DEPTH} livelli di package sotto src/main/java e la
+ * classe di dimensione (&lt; 4 KiB, &lt; 16 KiB, oltre). In ogni strato di N file se ne tengono
+ * max(1, round(rate·N)), quelli col rango più basso per hash(seed, path): lo stesso file resta nel
+ * campione in tutte le release finché non cambia strato, e con lo stesso seed il campione è lo
+ * stesso a ogni run. I fix sono i ceil(rate·N) col rango più basso per hash(seed, id).
+ */
+public final class Sampling {
+
+    static final int PACKAGE_DEPTH = 4;
+    private static final String SOURCE_ROOT = "src/main/java/";
+
+    /** Popolazione e campione di una release: strato di ogni file, dimensioni degli strati, file scelti. */
+    public static final class Frame {
+        final Map<String, String> stratumOf = new HashMap<>();
+        final Map<String, int[]> strata = new TreeMap<>();       // strato → {N, n}
+        final Set<String> selected = new TreeSet<>();
+
+        public int population() { return stratumOf.size(); }
+        public int sampled()    { return selected.size(); }
+    }
+
+    private final double rate;
+    private final long seed;
+
+    public Sampling(double rate, long seed) {
+        if (!(rate > 0 && rate <= 1)) throw new IllegalArgumentException("Frazione di campionamento non valida: " + rate);
+        this.rate = rate;
+        this.seed = seed;
+    }
+
+    public double rate() { return rate; }
+    public long seed()   { return seed; }
+
+    /** Parte del fingerprint degli stage che dipendono dal campione. */
+    String fingerprint() { return "sample:" + rate + ":" + seed; }
+
+    /** Frame sui sorgenti (path relativo → byte) di una release. */
+    public Frame frame(Map<String, Long> files) {
+        Frame f = new Frame();
+        Map<String, List<String>> byStratum = new TreeMap<>();
+        for (var e : files.entrySet()) {
+            String s = stratum(e.getKey(), e.getValue());
+            f.stratumOf.put(e.getKey(), s);
+            byStratum.computeIfAbsent(s, k -> new ArrayList<>()).add(e.getKey());
+        }
+        for (var e : byStratum.entrySet()) {
+            List<String> members = e.getValue();
+            members.sort(Comparator.comparingLong((String p) -> rank(p)).thenComparing(p -> p));
+            int n = Math.max(1, (int) Math.round(rate * members.size()));
+            f.selected.addAll(members.subList(0, n));
+            f.strata.put(e.getKey(), new int[] { members.size(), n });
+        }
+        return f;
+    }
+
+    /**
+     * Frame di una release dai sorgenti del tag nel repository (blob e dimensioni), o del
+     * working tree per HEAD: lo stesso per l'estrazione e per le stime.
+     */
+    public Frame frame(Repository repo, String tag, File workTree) throws IOException {
+        Map<String, Long> files = new HashMap<>();
+        if ("HEAD".equals(tag)) {
+            Path root = workTree.toPath();
+            for (Path p : DatasetPipeline.sourceFiles(workTree)) {
+                files.put(root.relativize(p).toString().replace('\\', '/'), Files.size(p));
+            }
+            return frame(files);
+        }
+        ObjectId tree = repo.resolve(tag + "^{tree}");
+        if (tree == null) throw new IOException("Tag " + tag + " non presente nel repository");
+        try (ObjectReader reader = repo.newObjectReader(); TreeWalk tw = new TreeWalk(reader)) {
+            tw.addTree(tree);
+            tw.setRecursive(true);
+            while (tw.next()) {
+                if (!DatasetPipeline.isSourcePath("/" + tw.getPathString())) continue;
+                files.put(tw.getPathString(), reader.getObjectSize(tw.getObjectId(0), Constants.OBJ_BLOB));
+            }
+        }
+        return frame(files);
+    }
+
+    /** I file sotto root scelti dal frame, nell'ordine dato. */
+    static List<Path> select(Frame frame, Path root, List<Path> files) {
+        List<Path> out = new ArrayList<>();
+        for (Path p : files) {
+            if (frame.selected.contains(root.relativize(p).toString().replace('\\', '/'))) out.add(p);
+        }
+        return out;
+    }
+
+    /** Fix del campione, nell'ordine dato. */
+    public List<RevCommit> fixes(List<RevCommit> all) {
+        int n = (int) Math.ceil(rate * all.size());
+        List<RevCommit> ranked = new ArrayList<>(all);
+        ranked.sort(Comparator.comparingLong((RevCommit c) -> rank(c.name())).thenComparing(RevCommit::name));
+        Set<RevCommit> keep = new HashSet<>(ranked.subList(0, n));
+        List<RevCommit> out = new ArrayList<>(n);
+        for (RevCommit c : all) if (keep.contains(c)) out.add(c);
+        return out;
+    }
+
+    static String stratum(String relPath, long size) {
+        int i = relPath.lastIndexOf(SOURCE_ROOT);
+        String pkg = i < 0 ? relPath : relPath.substring(i + SOURCE_ROOT.length());
+        int slash = pkg.lastIndexOf('/');
+        pkg = slash < 0 ? "" : pkg.substring(0, slash);
+        String[] parts = pkg.split("/");
+        pkg = String.join(".", Arrays.copyOf(parts, Math.min(parts.length, PACKAGE_DEPTH)));
+        String sizeClass = size < (4 << 10) ? "S" : size < (16 << 10) ? "M" : "L";
+        return pkg + "|" + sizeClass;
+    }
+
+    /** Rango pseudo-casuale di una stringa per il seed (FNV-1a + finalizzatore di SplitMix64). */
+    private long rank(String s) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < s.length(); i++) {
+            h ^= s.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,125 @@
+package pipeline;
+
+import metrics.FeatureExtractor;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * JVM di lavoro di {@link ShardedExtractor}: estrae le feature di una lista di file di una
+ * release, con gli stessi budget e la stessa quarantena (in sola lettura) del coordinatore,
+ * e scrive un risultato parziale binario.
+ *
+ * Uso: {@code ShardWorker <radice> <lista file> <parziale> <timeoutMs> <maxBytes> <quarantine.tsv>}.
+ * Exit 0 solo se il parziale è stato scritto per intero.
+ *
+ * Formato del parziale: MAGIC, numero di colonne, per ogni file (nell'ordine della lista)
+ * path relativo e le sue chiavi path#signature con le colonne nell'ordine di iterazione
+ * dell'estrazione, poi i file messi in quarantena, i thread abbandonati e MAGIC di chiusura.
+ */
+public final class ShardWorker {
+
+    static final int MAGIC = 0x53485244;   // "SHRD"
+
+    private ShardWorker() {}
+
+    /** Contenuto di un parziale. */
+    static final class Partial {
+        final Map<String, List<Map.Entry<String, FeatureExtractor.MethodFeatures>>> byFile = new HashMap<>();
+        final List<Quarantine.Entry> quarantined = new ArrayList<>();
+        int abandoned;
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 6) {
+            System.err.println("Uso: ShardWorker <radice> <lista file> <parziale> <timeoutMs> <maxBytes> <quarantine.tsv>");
+            System.exit(2);
+        }
+        try {
+            run(Paths.get(args[0]), Paths.get(args[1]), Paths.get(args[2]),
+                    Long.parseLong(args[3]), Long.parseLong(args[4]), Paths.get(args[5]));
+            System.exit(0);
+        } catch (Throwable t) {
+            t.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void run(Path root, Path list, Path partial, long timeoutMillis, long maxBytes, Path quarantineFile)
+            throws IOException {
+        List<String> files = Files.readAllLines(list, StandardCharsets.UTF_8);
+        Quarantine quarantine = Quarantine.loadOrCreate(quarantineFile);
+        FeatureExtractor fx = new FeatureExtractor(root);
+        int cols = FeatureExtractor.MethodFeatures.COLUMNS.length;
+        Path tmp = partial.resolveSibling(partial.getFileName() + ".tmp");
+        try (GuardedExtractor guard = new GuardedExtractor(quarantine, timeoutMillis, maxBytes);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(cols);
+            for (String rel : files) {
+                Map<String, FeatureExtractor.MethodFeatures> m;
+                try {
+                    m = guard.extract(fx, root.resolve(rel).toFile(), rel);
+                } catch (IOException e) {
+                    System.err.println("Parse " + rel + ": " + e.getMessage());
+                    m = Collections.emptyMap();
+                }
+                out.writeBoolean(true);
+                out.writeUTF(rel);
+                out.writeInt(m.size());
+                for (var e : m.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    for (int c = 0; c < cols; c++) out.writeInt(e.getValue().get(c));
+                }
+            }
+            out.writeBoolean(false);
+            List<Quarantine.Entry> added = quarantine.added();
+            out.writeInt(added.size());
+            for (Quarantine.Entry e : added) {
+                out.writeUTF(e.blobId);
+                out.writeUTF(e.reason.name());
+                out.writeUTF(e.path);
+                out.writeUTF(e.detail);
+                out.writeLong(e.budgetMillis);
+            }
+            out.writeInt(guard.abandonedWorkers());
+            out.writeInt(MAGIC);
+        }
+        Files.move(tmp, partial, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /** Legge un parziale; IOException se è troncato o di un'altra versione. */
+    static Partial read(Path file) throws IOException {
+        Partial p = new Partial();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Parziale non valido: " + file);
+            int cols = in.readInt();
+            if (cols != FeatureExtractor.MethodFeatures.COLUMNS.length) throw new IOException("colonne diverse: " + cols);
+            while (in.readBoolean()) {
+                String rel = in.readUTF();
+                int n = in.readInt();
+                List<Map.Entry<String, FeatureExtractor.MethodFeatures>> entries = new ArrayList<>(n);
+                for (int i = 0; i < n; i++) {
+                    String key = in.readUTF();
+                    FeatureExtractor.MethodFeatures f = new FeatureExtractor.MethodFeatures();
+                    for (int c = 0; c < cols; c++) f.set(c, in.readInt());
+                    entries.add(Map.entry(key, f));
+                }
+                p.byFile.put(rel, entries);
+            }
+            int q = in.readInt();
+            for (int i = 0; i < q; i++) {
+                p.quarantined.add(new Quarantine.Entry(in.readUTF(), Quarantine.Reason.valueOf(in.readUTF()),
+                        in.readUTF(), in.readUTF(), in.readLong()));
+            }
+            p.abandoned = in.readInt();
+            if (in.readInt() != MAGIC) throw new IOException("Parziale troncato: " + file);
+        }
+        return p;
+    }
+}
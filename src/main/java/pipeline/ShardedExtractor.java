@@ -0,0 +1,187 @@
+package pipeline;
+
+import metrics.FeatureExtractor;
+import telemetry.MetricsRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Estrazione delle feature di una release su JVM di lavoro separate ({@link ShardWorker}).
+ *
+ * I file della release vengono divisi a turno in shard, uno per worker; ogni worker ha il suo
+ * heap (-Xmx), così AST di JavaParser e PMD di release diverse non si accumulano in un solo
+ * heap enorme con pause di GC lunghe. Al più {@code workers} JVM girano insieme, anche con
+ * più release in parallelo. Uno shard fallito (exit ≠ 0, OOM, parziale troncato) viene
+ * rilanciato fino a {@code retries} volte.
+ *
+ * Il merge inserisce le feature nell'ordine di visita dei file e, per file, nell'ordine
+ * dell'estrazione: la mappa è identica a quella dell'estrazione nel processo, qualunque sia
+ * il numero di shard o l'ordine in cui finiscono.
+ */
+final class ShardedExtractor {
+
+    private static final MetricsRegistry.Counter RETRIES = MetricsRegistry.global()
+            .counter("dataset_shard_retries_total", "Shard di estrazione rilanciati");
+    private static final MetricsRegistry.Histogram SHARD_SECONDS = MetricsRegistry.global()
+            .timer("dataset_shard_seconds", "Durata delle JVM di estrazione");
+
+    private final Path workDir;
+    private final int workers;
+    private final String heap;
+    private final int retries;
+    private final Semaphore slots;
+    private final ExecutorService waiters = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "shard-waiter");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * @param workDir directory di liste, parziali e log degli shard
+     * @param workers JVM di lavoro contemporanee (e shard per release)
+     * @param heap    -Xmx dei worker (es. "1g")
+     */
+    ShardedExtractor(Path workDir, int workers, String heap, int retries) {
+        this.workDir = workDir;
+        this.workers = Math.max(1, workers);
+        this.heap    = heap;
+        this.retries = Math.max(0, retries);
+        this.slots   = new Semaphore(this.workers, true);
+    }
+
+    /** Feature dei file sotto root; i file messi in quarantena dai worker finiscono in quarantine. */
+    Map<String, FeatureExtractor.MethodFeatures> extract(String tag, File root, Quarantine quarantine,
+                                                         Path quarantineFile, long timeoutMillis, long maxBytes,
+                                                         int[] abandoned) throws IOException {
+        List<Path> files = DatasetPipeline.sourceFiles(root);
+        List<String> rel = new ArrayList<>(files.size());
+        for (Path p : files) rel.add(root.toPath().relativize(p).toString().replace('\\', '/'));
+        int shards = Math.max(1, Math.min(workers, rel.size()));
+
+        // i worker leggono la quarantena aggiornata (in sola lettura)
+        quarantine.save(quarantineFile);
+        Files.createDirectories(workDir);
+        String base = tag.replaceAll("[^A-Za-z0-9._-]", "_");
+        List<Future<ShardWorker.Partial>> parts = new ArrayList<>(shards);
+        for (int s = 0; s < shards; s++) {
+            List<String> mine = new ArrayList<>();
+            for (int i = s; i < rel.size(); i += shards) mine.add(rel.get(i));
+            Path list = workDir.resolve(base + "-" + s + ".files");
+            Files.write(list, mine, StandardCharsets.UTF_8);
+            String name = tag + "#" + s;
+            Path partial = workDir.resolve(base + "-" + s + ".part");
+            Path log = workDir.resolve(base + "-" + s + ".log");
+            List<String> cmd = List.of(javaBinary(), "-Xmx" + heap, "-XX:+ExitOnOutOfMemoryError",
+                    "-cp", System.getProperty("java.class.path"), ShardWorker.class.getName(),
+                    root.getAbsolutePath(), list.toString(), partial.toString(),
+                    Long.toString(timeoutMillis), Long.toString(maxBytes), quarantineFile.toAbsolutePath().toString());
+            parts.add(waiters.submit(() -> runShard(name, cmd, partial, log)));
+        }
+
+        Map<String, List<Map.Entry<String, FeatureExtractor.MethodFeatures>>> byFile = new HashMap<>();
+        try {
+            for (Future<ShardWorker.Partial> f : parts) {
+                ShardWorker.Partial p = f.get();
+                byFile.putAll(p.byFile);
+                for (Quarantine.Entry e : p.quarantined) {
+                    quarantine.add(e.blobId, e.reason, e.path, e.detail, e.budgetMillis);
+                    MetricsRegistry.global().counter("dataset_quarantined_files_total", "File messi in quarantena",
+                            "reason", e.reason.name().toLowerCase()).inc();
+                }
+                synchronized (abandoned) {
+                    abandoned[0] += p.abandoned;
+                }
+            }
+        } catch (ExecutionException e) {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException) c;
+            throw new IOException(c);
+        } catch (InterruptedException e) {
+            for (Future<ShardWorker.Partial> f : parts) f.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Estrazione di " + tag + " interrotta", e);
+        }
+
+        // merge deterministico: stesso ordine di inserimento dell'estrazione nel processo
+        Map<String, FeatureExtractor.MethodFeatures> m = new HashMap<>();
+        int methods = 0;
+        for (String r : rel) {
+            List<Map.Entry<String, FeatureExtractor.MethodFeatures>> entries = byFile.get(r);
+            if (entries == null) throw new IOException("File assente dai parziali di " + tag + ": " + r);
+            for (var e : entries) m.put(e.getKey(), e.getValue());
+            methods += entries.size();
+        }
+        MetricsRegistry.global().counter("dataset_files_total", "File sorgente analizzati").add(rel.size());
+        MetricsRegistry.global().counter("dataset_methods_total", "Metodi estratti").add(methods);
+        for (int s = 0; s < shards; s++) {
+            Files.deleteIfExists(workDir.resolve(base + "-" + s + ".files"));
+            Files.deleteIfExists(workDir.resolve(base + "-" + s + ".part"));
+            Files.deleteIfExists(workDir.resolve(base + "-" + s + ".log"));
+        }
+        return m;
+    }
+
+    private ShardWorker.Partial runShard(String name, List<String> cmd, Path partial, Path log)
+            throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            Files.deleteIfExists(partial);
+            int exit;
+            slots.acquire();
+            long t0 = System.nanoTime();
+            try {
+                Process p = new ProcessBuilder(cmd).redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.to(log.toFile())).start();
+                try {
+                    exit = p.waitFor();
+                } catch (InterruptedException e) {
+                    p.destroyForcibly();
+                    throw e;
+                }
+            } finally {
+                slots.release();
+                SHARD_SECONDS.observeNanos(System.nanoTime() - t0);
+            }
+            String failure;
+            if (exit == 0) {
+                try {
+                    return ShardWorker.read(partial);
+                } catch (IOException e) {
+                    failure = e.getMessage();
+                }
+            } else {
+                failure = "exit " + exit;
+            }
+            if (attempt >= retries) {
+                throw new IOException("Shard " + name + " fallito dopo " + (attempt + 1) + " tentativi ("
+                        + failure + "), log: " + log);
+            }
+            RETRIES.inc();
+            System.err.println("Shard " + name + " fallito (" + failure + "), nuovo tentativo "
+                    + (attempt + 2) + "/" + (retries + 1) + tail(log));
+        }
+    }
+
+    private static String tail(Path log) {
+        try {
+            List<String> lines = Files.readAllLines(log, StandardCharsets.UTF_8);
+            return lines.isEmpty() ? "" : ": " + lines.get(lines.size() - 1);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static String javaBinary() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    void close() {
+        waiters.shutdownNow();
+    }
+}
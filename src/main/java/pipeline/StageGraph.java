@@ -0,0 +1,408 @@
+package pipeline;
+
+import telemetry.CacheEvent;
+import telemetry.MetricsRegistry;
+import telemetry.PipelineStageEvent;
+import telemetry.AllocationScope;
+import utils.MemoryGovernor;
+
+import java.io.*;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Grafo degli stage della pipeline con checkpoint su disco.
+ *
+ * Ogni stage dichiara le dipendenze, il codice da cui dipende (classi il cui bytecode entra
+ * nella chiave) e un'eventuale impronta degli input esterni (es. l'albero di un tag). La chiave
+ * è lo SHA-256 di nome, bytecode, impronta e hash del contenuto degli output delle dipendenze:
+ * se in dir c'è un checkpoint con quella chiave lo stage non viene rieseguito. Un rerun riparte
+ * quindi dal primo stage invalidato, e uno stage ricalcolato con lo stesso output non invalida
+ * i successivi.
+ *
+ * Gli stage senza codec (o {@link Stage#always()}) vengono sempre eseguiti; quelli indipendenti
+ * girano in parallelo sull'executor. L'ultimo checkpoint di uno stage, qualunque sia la chiave,
+ * resta leggibile con {@link #previous(String, Codec)} come base per un aggiornamento incrementale.
+ *
+ * Sotto pressione sull'heap ({@link MemoryGovernor}) gli output già in checkpoint restano
+ * raggiungibili solo con riferimenti soft e vengono riletti dal disco se il GC li libera.
+ */
+public final class StageGraph {
+
+    private static final int MAGIC = 0x53544745;   // "STGE"
+    private static final MetricsRegistry.Counter SPILLS = MetricsRegistry.global()
+            .counter("dataset_stage_spills_total", "Output di stage resi liberabili sotto pressione sull'heap");
+    private static final MetricsRegistry.Counter RELOADS = MetricsRegistry.global()
+            .counter("dataset_stage_reloads_total", "Output di stage riletti dal checkpoint dopo uno spill");
+
+    /** Serializzazione dell'output di uno stage. */
+    public interface Codec<T> {
+        void write(DataOutputStream out, T value) throws IOException;
+        T read(DataInputStream in) throws IOException;
+    }
+
+    /** Calcolo dello stage; gli output delle dipendenze si leggono con {@link Stage#value()}. */
+    @FunctionalInterface
+    public interface Body<T> {
+        T compute() throws Exception;
+    }
+
+    /** Notifica della fine di uno stage (eseguito o ripreso dal checkpoint). */
+    @FunctionalInterface
+    public interface Listener {
+        void finished(String stage, long nanos, long allocatedBytes, boolean resumed);
+    }
+
+    public final class Stage<T> {
+        private final String name;
+        private final Codec<T> codec;
+        private final Body<T> body;
+        private final List<Stage<?>> deps;
+        private final List<Class<?>> code = new ArrayList<>();
+        private Body<String> fingerprint = () -> "";
+        private boolean always;
+        private CompletableFuture<Void> future;
+        private volatile String contentHash;
+        private volatile T value;
+        private volatile SoftReference<T> spilled;
+        private volatile Path checkpoint;
+        private volatile boolean started;
+
+        private Stage(String name, Codec<T> codec, Body<T> body, List<Stage<?>> deps) {
+            this.name  = name;
+            this.codec = codec;
+            this.body  = body;
+            this.deps  = deps;
+        }
+
+        /** Classi il cui bytecode fa parte della chiave. */
+        public Stage<T> code(Class<?>... classes) {
+            code.addAll(Arrays.asList(classes));
+            return this;
+        }
+
+        /** Impronta degli input esterni, calcolata dopo le dipendenze e prima della chiave. */
+        public Stage<T> fingerprint(Body<String> f) {
+            this.fingerprint = f;
+            return this;
+        }
+
+        /** Esegue sempre lo stage, senza riprenderlo dal checkpoint (che viene comunque salvato). */
+        public Stage<T> always() {
+            this.always = true;
+            return this;
+        }
+
+        public String name() { return name; }
+
+        /** Output dello stage; da chiamare dopo {@link #get(Stage)} o dentro uno stage che dipende da questo. */
+        public T value() {
+            future.join();
+            T v = value;
+            if (v != null) return v;
+            SoftReference<T> ref = spilled;
+            if (ref == null) return null;
+            v = ref.get();
+            return v != null ? v : reload();
+        }
+
+        /** Tiene l'output solo con un riferimento soft: il GC può liberarlo, value() lo rilegge dal checkpoint. */
+        private synchronized void spill() {
+            T v = value;
+            if (v == null || checkpoint == null) return;
+            spilled = new SoftReference<>(v);
+            value = null;
+            SPILLS.inc();
+        }
+
+        private synchronized T reload() {
+            T v = spilled.get();
+            if (v != null) return v;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpoint)))) {
+                if (in.readInt() != MAGIC) throw new IOException("intestazione errata");
+                in.readUTF();
+                v = codec.read(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Checkpoint di " + name + " non rileggibile", e);
+            }
+            spilled = new SoftReference<>(v);
+            RELOADS.inc();
+            return v;
+        }
+    }
+
+    private final String project;
+    private final Path dir;
+    private final Executor pool;
+    private final Listener listener;
+    private final List<Stage<?>> stages = new ArrayList<>();
+    // il governor tiene un riferimento debole: il grafo tiene vivo il suo listener
+    private final Runnable spiller = this::spillAll;
+
+    /**
+     * @param dir  directory dei checkpoint
+     * @param pool executor degli stage
+     */
+    public StageGraph(String project, Path dir, Executor pool, Listener listener) {
+        this.project  = project;
+        this.dir      = dir;
+        this.pool     = pool;
+        this.listener = listener;
+        MemoryGovernor.global().onPressure(spiller);
+    }
+
+    public <T> Stage<T> stage(String name, Codec<T> codec, Body<T> body, Stage<?>... deps) {
+        Stage<T> s = new Stage<>(name, codec, body, List.of(deps));
+        synchronized (stages) {
+            stages.add(s);
+        }
+        return s;
+    }
+
+    /** Avvia lo stage (e le dipendenze) senza aspettarne la fine. */
+    public void start(Stage<?> stage) {
+        schedule(stage);
+    }
+
+    /** Esegue lo stage e quelli da cui dipende (ognuno una volta sola) e ne restituisce l'output. */
+    public <T> T get(Stage<T> stage) throws Exception {
+        try {
+            schedule(stage).join();
+            return stage.value();
+        } catch (CompletionException e) {
+            Throwable c = e.getCause();
+            if (c instanceof Exception) throw (Exception) c;
+            if (c instanceof Error) throw (Error) c;
+            throw e;
+        }
+    }
+
+    private synchronized <T> CompletableFuture<Void> schedule(Stage<T> s) {
+        if (s.future == null) {
+            CompletableFuture<?>[] deps = new CompletableFuture<?>[s.deps.size()];
+            for (int i = 0; i < deps.length; i++) deps[i] = schedule(s.deps.get(i));
+            s.future = CompletableFuture.allOf(deps).thenAcceptAsync(v -> {
+                try {
+                    s.value = execute(s);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+                if (MemoryGovernor.global().pressure() == MemoryGovernor.Pressure.HIGH) s.spill();
+            }, pool);
+        }
+        return s.future;
+    }
+
+    /** Sotto pressione sull'heap gli output già salvati in checkpoint diventano liberabili. */
+    private void spillAll() {
+        List<Stage<?>> done = new ArrayList<>();
+        synchronized (stages) {
+            for (Stage<?> s : stages) if (s.future != null && s.future.isDone()) done.add(s);
+        }
+        for (Stage<?> s : done) s.spill();
+    }
+
+    private <T> T execute(Stage<T> s) throws Exception {
+        // allocazioni dello stage: il suo thread e i task che manda ai thread di lavoro
+        AllocationScope alloc = AllocationScope.open();
+        try {
+            return execute(s, alloc);
+        } finally {
+            alloc.close();
+        }
+    }
+
+    private <T> T execute(Stage<T> s, AllocationScope alloc) throws Exception {
+        long t0 = System.nanoTime();
+        PipelineStageEvent event = new PipelineStageEvent();
+        event.begin();
+
+        s.started = true;
+        String key = key(s);
+        Path file = checkpointFile(s, key);
+        boolean resumable = s.codec != null && !s.always;
+        T value = null;
+        boolean resumed = false;
+        if (resumable && Files.exists(file)) {
+            try {
+                byte[] bytes = Files.readAllBytes(file);
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                    if (in.readInt() != MAGIC || !in.readUTF().equals(key)) throw new IOException("intestazione errata");
+                    MessageDigest payload = sha256();
+                    payload.update(bytes, bytes.length - in.available(), in.available());
+                    s.contentHash = hex(payload.digest());
+                    value = s.codec.read(in);
+                }
+                resumed = true;
+                s.checkpoint = file;
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Checkpoint non leggibile, ricalcolo " + s.name + ": " + e.getMessage());
+            }
+        }
+        if (resumable) CacheEvent.record("stage", s.name, resumed);
+
+        if (!resumed) {
+            value = s.body.compute();
+            if (s.codec == null) {
+                s.contentHash = key;
+            } else {
+                // l'hash del contenuto esclude l'intestazione, che contiene la chiave
+                ByteArrayOutputStream buf = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(buf)) {
+                    s.codec.write(out, value);
+                }
+                byte[] payload = buf.toByteArray();
+                s.contentHash = hex(sha256().digest(payload));
+                ByteArrayOutputStream header = new ByteArrayOutputStream();
+                try (DataOutputStream out = new DataOutputStream(header)) {
+                    out.writeInt(MAGIC);
+                    out.writeUTF(key);
+                }
+                save(s.name, file, header.toByteArray(), payload);
+                s.checkpoint = file;
+            }
+        }
+
+        long nanos = System.nanoTime() - t0;
+        long allocated = alloc.close();
+        String group = group(s.name);
+        MetricsRegistry m = MetricsRegistry.global();
+        m.timer("dataset_stage_seconds", "Durata degli stage della pipeline", "stage", group).observeNanos(nanos);
+        if (allocated >= 0) {
+            m.counter("dataset_stage_allocated_bytes_total", "Byte allocati per stage", "stage", group).add(allocated);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.project = project;
+            event.stage   = s.name;
+            event.commit();
+        }
+        listener.finished(s.name, nanos, allocated, resumed);
+        return value;
+    }
+
+    /**
+     * true se lo stage non è ancora partito e non si riprenderà da un checkpoint, cioè il suo
+     * corpo dovrà girare; false anche se le dipendenze non sono finite (la chiave non è nota).
+     */
+    public boolean pending(Stage<?> s) {
+        if (s.started) return false;
+        if (s.codec == null || s.always) return true;
+        for (Stage<?> d : s.deps) if (d.contentHash == null) return false;
+        try {
+            return !Files.exists(checkpointFile(s, key(s)));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** Chiave dello stage: nome, bytecode, impronta degli input, hash degli output delle dipendenze. */
+    private String key(Stage<?> s) throws Exception {
+        MessageDigest md = sha256();
+        update(md, s.name);
+        for (Class<?> c : s.code) md.update(bytecode(c));
+        update(md, s.fingerprint.compute());
+        for (Stage<?> d : s.deps) update(md, d.contentHash);
+        return hex(md.digest());
+    }
+
+    private Path checkpointFile(Stage<?> s, String key) {
+        return dir.resolve(fileName(s.name) + "-" + key.substring(0, 16) + ".ckpt");
+    }
+
+    /**
+     * Output dell'ultimo checkpoint salvato dello stage, con qualunque chiave; null se non c'è
+     * o non è leggibile. Dentro il corpo dello stage è l'output del run precedente.
+     */
+    public <T> T previous(String name, Codec<T> codec) {
+        Path latest = null;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, fileName(name) + "-*.ckpt")) {
+            for (Path p : files) {
+                if (p.getFileName().toString().length() != fileName(name).length() + 1 + 16 + ".ckpt".length()) continue;
+                if (latest == null || Files.getLastModifiedTime(p).compareTo(Files.getLastModifiedTime(latest)) > 0) {
+                    latest = p;
+                }
+            }
+            if (latest == null) return null;
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(latest)))) {
+                if (in.readInt() != MAGIC) return null;
+                in.readUTF();
+                return codec.read(in);
+            }
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Checkpoint precedente di " + name + " non leggibile: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Nome dello stage senza la parte dopo '@' (features@v1.0 → features). */
+    public static String group(String stage) {
+        int at = stage.indexOf('@');
+        return at < 0 ? stage : stage.substring(0, at);
+    }
+
+    /** Scrive il checkpoint e cancella quelli vecchi dello stesso stage. */
+    private void save(String name, Path file, byte[] header, byte[] payload) throws IOException {
+        Files.createDirectories(dir);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(tmp)) {
+            os.write(header);
+            os.write(payload);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        try (DirectoryStream<Path> old = Files.newDirectoryStream(dir, fileName(name) + "-*.ckpt")) {
+            for (Path p : old) {
+                String rest = p.getFileName().toString().substring(fileName(name).length() + 1);
+                if (!p.equals(file) && rest.length() == 16 + ".ckpt".length()) Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static String fileName(String stage) {
+        return stage.replaceAll("[^A-Za-z0-9._@-]", "_");
+    }
+
+    private static byte[] bytecode(Class<?> c) throws IOException {
+        String name = c.getName();
+        try (InputStream in = c.getResourceAsStream(name.substring(name.lastIndexOf('.') + 1) + ".class")) {
+            if (in == null) throw new IOException("Bytecode non trovato: " + c.getName());
+            return in.readAllBytes();
+        }
+    }
+
+    private static void update(MessageDigest md, String s) {
+        byte[] b = (s == null ? "" : s).getBytes(StandardCharsets.UTF_8);
+        md.update((byte) (b.length >>> 24));
+        md.update((byte) (b.length >>> 16));
+        md.update((byte) (b.length >>> 8));
+        md.update((byte) b.length);
+        md.update(b);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String hex(byte[] b) {
+        StringBuilder sb = new StringBuilder(b.length * 2);
+        for (byte x : b) sb.append(Character.forDigit((x >> 4) & 0xf, 16)).append(Character.forDigit(x & 0xf, 16));
+        return sb.toString();
+    }
+}
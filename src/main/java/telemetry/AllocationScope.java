@@ -0,0 +1,88 @@
+package telemetry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Byte allocati da un'unità di lavoro (uno stage) sul suo thread e sui task che manda ad
+ * altri thread: i task passati da {@link #wrap(Runnable)} / {@link #wrap(Callable)} misurano
+ * l'allocazione del thread che li esegue e la sommano allo scope in cui sono stati creati.
+ * Serve perché il lavoro pesante degli stage gira su thread di lavoro (estrattore sorvegliato,
+ * pool dei commit), spesso condivisi tra stage concorrenti: la misura per thread non basta.
+ *
+ * Un task che finisce dopo {@link #close()} (es. un thread abbandonato in timeout) non conta.
+ */
+public final class AllocationScope {
+
+    private static final ThreadLocal<AllocationScope> CURRENT = new ThreadLocal<>();
+
+    private final AllocationScope outer;
+    private final long start;
+    private final LongAdder tasks = new LongAdder();
+    private long allocated = -2;                      // dopo close()
+
+    private AllocationScope(AllocationScope outer) {
+        this.outer = outer;
+        this.start = RunReport.threadAllocatedBytes();
+    }
+
+    /** Apre uno scope sul thread corrente; va chiuso sullo stesso thread. */
+    public static AllocationScope open() {
+        AllocationScope s = new AllocationScope(CURRENT.get());
+        CURRENT.set(s);
+        return s;
+    }
+
+    /**
+     * Chiude lo scope (le chiamate successive restituiscono lo stesso valore): byte allocati
+     * dal thread e dai task, -1 se la JVM non li misura.
+     */
+    public long close() {
+        if (allocated != -2) return allocated;
+        if (outer == null) CURRENT.remove();
+        else CURRENT.set(outer);
+        long now = RunReport.threadAllocatedBytes();
+        allocated = start < 0 || now < 0 ? -1 : now - start + tasks.sum();
+        return allocated;
+    }
+
+    /** Il task conta nello scope del thread corrente (nessuno scope: il task così com'è). */
+    public static Runnable wrap(Runnable task) {
+        AllocationScope s = CURRENT.get();
+        if (s == null) return task;
+        return () -> {
+            try {
+                s.run(() -> {
+                    task.run();
+                    return null;
+                });
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);     // task.run() non lancia eccezioni controllate
+            }
+        };
+    }
+
+    /** Come {@link #wrap(Runnable)}. */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        AllocationScope s = CURRENT.get();
+        if (s == null) return task;
+        return () -> s.run(task);
+    }
+
+    private <T> T run(Callable<T> task) throws Exception {
+        AllocationScope prev = CURRENT.get();
+        if (prev == this) return task.call();           // eseguito sul thread dello scope: già contato
+        CURRENT.set(this);
+        long a0 = RunReport.threadAllocatedBytes();
+        try {
+            return task.call();
+        } finally {
+            long a1 = RunReport.threadAllocatedBytes();
+            if (a0 >= 0 && a1 >= 0) tasks.add(a1 - a0);
+            if (prev == null) CURRENT.remove();
+            else CURRENT.set(prev);
+        }
+    }
+}
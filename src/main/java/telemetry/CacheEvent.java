@@ -0,0 +1,34 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Accesso a una cache su file: hit se il dato è stato riusato, miss se ricalcolato. */
+@Name("dataset.Cache")
+@Label("Accesso cache")
+@Category({ "Dataset", "Cache" })
+public class CacheEvent extends Event {
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Chiave")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /** Registra un accesso (istantaneo) su JFR e nelle metriche. */
+    public static void record(String cache, String key, boolean hit) {
+        MetricsRegistry.global().counter(hit ? "dataset_cache_hits_total" : "dataset_cache_misses_total",
+                hit ? "Accessi in cache riusati" : "Accessi in cache ricalcolati", "cache", cache).inc();
+        CacheEvent e = new CacheEvent();
+        if (!e.isEnabled()) return;
+        e.cache = cache;
+        e.key   = key;
+        e.hit   = hit;
+        e.commit();
+    }
+}
@@ -0,0 +1,30 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Analisi del diff di un commit rispetto al primo genitore. */
+@Name("dataset.CommitAnalysis")
+@Label("Analisi commit")
+@Category({ "Dataset", "Git" })
+public class CommitAnalysisEvent extends Event {
+
+    @Label("Analisi")
+    @Description("evolution, provenance o bugfix")
+    public String analysis;
+
+    @Label("Commit")
+    public String commitId;
+
+    @Label("File")
+    public int files;
+
+    @Label("Edit")
+    public int edits;
+
+    @Label("Metodi toccati")
+    public int methods;
+}
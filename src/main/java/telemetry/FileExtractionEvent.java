@@ -0,0 +1,37 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/** Estrazione delle feature da un file sorgente, con il tempo di ogni fase. */
+@Name("dataset.FileExtraction")
+@Label("Estrazione file")
+@Category({ "Dataset", "Feature" })
+public class FileExtractionEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Dimensione")
+    @DataAmount
+    public long bytes;
+
+    @Label("Metodi")
+    public int methods;
+
+    @Label("PMD")
+    @Timespan(Timespan.NANOSECONDS)
+    public long pmdTime;
+
+    @Label("Parsing")
+    @Timespan(Timespan.NANOSECONDS)
+    public long parseTime;
+
+    @Label("Metriche")
+    @Timespan(Timespan.NANOSECONDS)
+    public long metricsTime;
+}
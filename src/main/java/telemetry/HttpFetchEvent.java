@@ -0,0 +1,34 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Richiesta HTTP verso JIRA o GitHub. */
+@Name("dataset.HttpFetch")
+@Label("Richiesta HTTP")
+@Category({ "Dataset", "Rete" })
+public class HttpFetchEvent extends Event {
+
+    @Label("Tipo di URL")
+    @Description("jira-search, jira-project, github-tags, github-zipball")
+    public String urlClass;
+
+    @Label("Stato HTTP")
+    public int status;
+
+    @Label("Byte ricevuti")
+    @DataAmount
+    public long bytes;
+
+    /** Chiude l'evento: aggiorna le metriche della richiesta e, se registrato, lo scrive su JFR. */
+    public void record() {
+        MetricsRegistry m = MetricsRegistry.global();
+        m.counter("dataset_http_requests_total", "Richieste HTTP", "url_class", urlClass).inc();
+        m.counter("dataset_http_bytes_total", "Byte ricevuti via HTTP", "url_class", urlClass).add(bytes);
+        commit();
+    }
+}
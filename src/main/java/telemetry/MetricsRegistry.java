@@ -0,0 +1,243 @@
+package telemetry;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registro delle metriche del processo: contatori, istogrammi (i timer sono istogrammi
+ * in secondi) e gauge, identificati da nome + etichette come in Prometheus
+ * ({@code dataset_commits_total{analysis="evolution"}}).
+ *
+ * Gli aggiornamenti sono lock-free (LongAdder), così si possono chiamare dai worker.
+ * {@link #writePrometheus(Appendable)} produce il formato testuale di Prometheus,
+ * {@link #snapshot()} i valori correnti per il run report.
+ *
+ * Con più progetti nello stesso processo ogni thread porta il progetto per cui lavora
+ * ({@link #project(String)}, ereditato dai thread che crea): contatori e istogrammi
+ * contano anche per progetto e {@link #snapshot(String)} restituisce la sola sua parte (il
+ * totale per le metriche aggiornate solo da thread senza progetto, come quelle del GC).
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+    private static final InheritableThreadLocal<String> PROJECT = new InheritableThreadLocal<>();
+
+    /** Bucket di default dei timer, in secondi. */
+    public static final double[] SECONDS = { 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 60 };
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry global() { return GLOBAL; }
+
+    /** Progetto del thread corrente, null se non impostato. */
+    public static String project() { return PROJECT.get(); }
+
+    /** Imposta il progetto del thread corrente (null lo toglie). */
+    public static void project(String p) {
+        if (p == null) PROJECT.remove();
+        else PROJECT.set(p);
+    }
+
+    private enum Type { COUNTER, GAUGE, HISTOGRAM }
+
+    private static final class Family {
+        final String name, help;
+        final Type type;
+        final double[] buckets;
+        final Map<String, Object> series = new ConcurrentHashMap<>();
+
+        Family(String name, String help, Type type, double[] buckets) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.buckets = buckets;
+        }
+    }
+
+    /** Contatore monotono. */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+        private final Map<String, LongAdder> byProject = new ConcurrentHashMap<>();
+        public void inc()        { add(1); }
+        public void add(long n)  {
+            value.add(n);
+            String p = PROJECT.get();
+            if (p != null) byProject.computeIfAbsent(p, k -> new LongAdder()).add(n);
+        }
+        public long get()        { return value.sum(); }
+        /** Parte del progetto; il totale se il contatore è aggiornato solo fuori dai progetti (es. dal GC). */
+        long get(String project) {
+            if (byProject.isEmpty()) return get();
+            LongAdder a = byProject.get(project);
+            return a == null ? 0 : a.sum();
+        }
+    }
+
+    /** Istogramma cumulativo a bucket fissi. */
+    public static final class Histogram {
+        private final double[] bounds;
+        private final LongAdder[] counts;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+        private final Map<String, Histogram> byProject = new ConcurrentHashMap<>();
+
+        Histogram(double[] bounds) {
+            this.bounds = bounds;
+            this.counts = new LongAdder[bounds.length];
+            for (int i = 0; i < bounds.length; i++) counts[i] = new LongAdder();
+        }
+
+        public void observe(double v) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (v <= bounds[i]) { counts[i].increment(); break; }
+            }
+            count.increment();
+            sum.add(v);
+            String p = PROJECT.get();
+            if (p != null) {
+                Histogram h = byProject.computeIfAbsent(p, k -> new Histogram(new double[0]));
+                h.count.increment();
+                h.sum.add(v);
+            }
+        }
+
+        /** Osserva una durata in nanosecondi, in secondi. */
+        public void observeNanos(long nanos) { observe(nanos / 1e9); }
+
+        public long count() { return count.sum(); }
+        public double sum() { return sum.sum(); }
+    }
+
+    // ——— registrazione ———
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) family(name, help, Type.COUNTER, null).series
+                .computeIfAbsent(labels(labels), k -> new Counter());
+    }
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labels) {
+        return (Histogram) family(name, help, Type.HISTOGRAM, buckets).series
+                .computeIfAbsent(labels(labels), k -> new Histogram(buckets));
+    }
+
+    public Histogram timer(String name, String help, String... labels) {
+        return histogram(name, help, SECONDS, labels);
+    }
+
+    /** Gauge letta al momento dell'esposizione; una nuova registrazione sostituisce la precedente. */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.GAUGE, null).series.put(labels(labels), value);
+    }
+
+    /**
+     * Toglie la gauge se è ancora quella registrata con value: chi possiede la sorgente (un
+     * pool) la toglie quando si ferma, senza toccare una registrazione più recente.
+     */
+    public void removeGauge(String name, DoubleSupplier value, String... labels) {
+        Family f = families.get(name);
+        if (f != null && f.type == Type.GAUGE) f.series.remove(labels(labels), value);
+    }
+
+    private Family family(String name, String help, Type type, double[] buckets) {
+        Family f = families.computeIfAbsent(name, n -> new Family(n, help, type, buckets));
+        if (f.type != type) throw new IllegalArgumentException("Metrica " + name + " già registrata come " + f.type);
+        return f;
+    }
+
+    /** Coppie nome, valore → {a="x",b="y"} (stringa vuota senza etichette). */
+    private static String labels(String... kv) {
+        if (kv.length == 0) return "";
+        if (kv.length % 2 != 0) throw new IllegalArgumentException("Etichette non in coppie: " + Arrays.toString(kv));
+        StringJoiner j = new StringJoiner(",", "{", "}");
+        for (int i = 0; i < kv.length; i += 2) {
+            j.add(kv[i] + "=\"" + kv[i + 1].replace("\\", "\\\\").replace("\"", "\\\"") + "\"");
+        }
+        return j.toString();
+    }
+
+    // ——— lettura ———
+
+    /**
+     * Valori correnti per serie: contatori e gauge col proprio nome, istogrammi come
+     * name_count e name_sum.
+     */
+    public Map<String, Double> snapshot() {
+        return snapshot(null);
+    }
+
+    /**
+     * Come {@link #snapshot()}, ma contatori e istogrammi contano solo gli aggiornamenti fatti
+     * dai thread del progetto (le gauge restano del processo); null = tutto il processo.
+     */
+    public Map<String, Double> snapshot(String project) {
+        Map<String, Double> out = new TreeMap<>();
+        for (Family f : families.values()) {
+            for (var e : f.series.entrySet()) {
+                switch (f.type) {
+                    case COUNTER:
+                        Counter c = (Counter) e.getValue();
+                        out.put(f.name + e.getKey(), (double) (project == null ? c.get() : c.get(project)));
+                        break;
+                    case GAUGE:
+                        out.put(f.name + e.getKey(), ((DoubleSupplier) e.getValue()).getAsDouble());
+                        break;
+                    default:
+                        Histogram h = (Histogram) e.getValue();
+                        if (project != null && !h.byProject.isEmpty()) {
+                            h = h.byProject.getOrDefault(project, new Histogram(new double[0]));
+                        }
+                        out.put(f.name + "_count" + e.getKey(), (double) h.count());
+                        out.put(f.name + "_sum" + e.getKey(), h.sum());
+                }
+            }
+        }
+        return out;
+    }
+
+    /** Formato testuale di Prometheus (version 0.0.4). */
+    public void writePrometheus(Appendable out) throws IOException {
+        List<Family> sorted = new ArrayList<>(families.values());
+        sorted.sort(Comparator.comparing(f -> f.name));
+        for (Family f : sorted) {
+            out.append("# HELP ").append(f.name).append(' ').append(f.help).append('\n');
+            out.append("# TYPE ").append(f.name).append(' ').append(f.type.name().toLowerCase(Locale.ROOT)).append('\n');
+            for (var e : new TreeMap<>(f.series).entrySet()) {
+                String labels = e.getKey();
+                switch (f.type) {
+                    case COUNTER:
+                        line(out, f.name, labels, ((Counter) e.getValue()).get());
+                        break;
+                    case GAUGE:
+                        line(out, f.name, labels, ((DoubleSupplier) e.getValue()).getAsDouble());
+                        break;
+                    default:
+                        Histogram h = (Histogram) e.getValue();
+                        long cumulative = 0;
+                        for (int i = 0; i < h.bounds.length; i++) {
+                            cumulative += h.counts[i].sum();
+                            line(out, f.name + "_bucket", withLe(labels, Double.toString(h.bounds[i])), cumulative);
+                        }
+                        line(out, f.name + "_bucket", withLe(labels, "+Inf"), h.count());
+                        line(out, f.name + "_sum", labels, h.sum());
+                        line(out, f.name + "_count", labels, h.count());
+                }
+            }
+        }
+    }
+
+    private static String withLe(String labels, String le) {
+        return labels.isEmpty() ? "{le=\"" + le + "\"}"
+                : labels.substring(0, labels.length() - 1) + ",le=\"" + le + "\"}";
+    }
+
+    private static void line(Appendable out, String name, String labels, double v) throws IOException {
+        out.append(name).append(labels).append(' ');
+        if (v == Math.rint(v) && !Double.isInfinite(v)) out.append(Long.toString((long) v));
+        else out.append(Double.toString(v));
+        out.append('\n');
+    }
+}
@@ -0,0 +1,45 @@
+package telemetry;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Espone il {@link MetricsRegistry} su http://127.0.0.1:port/metrics in formato Prometheus,
+ * con l'HttpServer del JDK (un solo thread, solo loopback).
+ */
+public final class MetricsServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private MetricsServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static MetricsServer start(int port, MetricsRegistry registry) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", exchange -> {
+            StringBuilder sb = new StringBuilder(4096);
+            registry.writePrometheus(sb);
+            byte[] body = sb.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        return new MetricsServer(server);
+    }
+
+    public int port() { return server.getAddress().getPort(); }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,21 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Durata di uno stage della pipeline del dataset. */
+@Name("dataset.PipelineStage")
+@Label("Stage della pipeline")
+@Category({ "Dataset", "Pipeline" })
+public class PipelineStageEvent extends Event {
+
+    @Label("Progetto")
+    public String project;
+
+    @Label("Stage")
+    @Description("tickets, versions, tags, catalog, bugFixes, changedMethods, provenance, evolution, features@tag, labels, write, dedup")
+    public String stage;
+}
@@ -0,0 +1,22 @@
+package telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Estrazione delle feature di una release (checkout dei sorgenti incluso). */
+@Name("dataset.ReleaseExtraction")
+@Label("Estrazione release")
+@Category({ "Dataset", "Feature" })
+public class ReleaseExtractionEvent extends Event {
+
+    @Label("Tag")
+    public String tag;
+
+    @Label("File con metodi")
+    public int files;
+
+    @Label("Metodi")
+    public int methods;
+}
@@ -0,0 +1,137 @@
+package telemetry;
+
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Report di un'esecuzione della pipeline (run-report.json): durata e byte allocati per stage,
+ * throughput (file/s, metodi/s, commit/s), byte scaricati, hit ratio delle cache,
+ * utilizzo dei worker e le variazioni di tutte le metriche del registro durante il run
+ * (solo quelle del progetto del thread, se impostato: vedi {@link MetricsRegistry#project(String)}).
+ * Confrontando i report delle nightly si vedono le regressioni.
+ */
+public final class RunReport {
+
+    private final MetricsRegistry registry;
+    private final String project;
+    private final int threads;
+    private final String scope = MetricsRegistry.project();
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Double> before;
+    private final List<Map<String, Object>> stages = new ArrayList<>();
+
+    public RunReport(MetricsRegistry registry, String project, int threads) {
+        this.registry = registry;
+        this.project  = project;
+        this.threads  = threads;
+        this.before   = registry.snapshot(scope);
+    }
+
+    /** Byte allocati finora da tutti i thread della JVM (-1 se la JVM non lo supporta). */
+    public static long allocatedBytes() {
+        var mx = ManagementFactory.getThreadMXBean();
+        if (mx instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()
+                && sun.isThreadAllocatedMemoryEnabled()) {
+            return sun.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /** Byte allocati finora dal thread corrente (-1 se la JVM non lo supporta). */
+    public static long threadAllocatedBytes() {
+        var mx = ManagementFactory.getThreadMXBean();
+        if (mx instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()
+                && sun.isThreadAllocatedMemoryEnabled()) {
+            return sun.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /** Stage terminato; resumed se l'output è stato letto da un checkpoint. */
+    public synchronized void stage(String name, long nanos, long allocated, boolean resumed) {
+        Map<String, Object> s = new LinkedHashMap<>();
+        s.put("stage", name);
+        s.put("seconds", nanos / 1e9);
+        s.put("allocatedBytes", allocated);
+        s.put("resumed", resumed);
+        stages.add(s);
+    }
+
+    public synchronized void write(Path file) throws IOException {
+        Map<String, Double> after = registry.snapshot(scope);
+        Map<String, Double> delta = new TreeMap<>();
+        for (var e : after.entrySet()) {
+            double d = e.getValue() - before.getOrDefault(e.getKey(), 0.0);
+            if (d != 0) delta.put(e.getKey(), d);
+        }
+
+        Map<String, Object> throughput = new LinkedHashMap<>();
+        double featureSecs = stageSeconds("features"), evoSecs = stageSeconds("evolution");
+        throughput.put("filesPerSecond", rate(sum(delta, "dataset_files_total"), featureSecs));
+        throughput.put("methodsPerSecond", rate(sum(delta, "dataset_methods_total"), featureSecs));
+        throughput.put("commitsPerSecond",
+                rate(sum(delta, "dataset_commits_total{analysis=\"evolution\"}"), evoSecs));
+        double hits = sum(delta, "dataset_cache_hits_total"), misses = sum(delta, "dataset_cache_misses_total");
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("project", project);
+        report.put("startedAt", startedAt.toString());
+        report.put("wallSeconds", (System.nanoTime() - startNanos) / 1e9);
+        report.put("threads", threads);
+        report.put("stages", stages);
+        report.put("throughput", throughput);
+        report.put("bytesFetched", sum(delta, "dataset_http_bytes_total"));
+        report.put("cacheHitRatio", hits + misses == 0 ? null : hits / (hits + misses));
+        report.put("workerUtilization",
+                rate(sum(delta, "dataset_worker_task_seconds_sum{pool=\"evolution\"}"), evoSecs * threads));
+        report.put("peakHeapBytes", peakHeapBytes());
+        report.put("metrics", delta);
+
+        Files.writeString(file, new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().serializeSpecialFloatingPointValues()
+                .create().toJson(report));
+    }
+
+    /** Secondi dello stage, sommati su tutte le sue istanze (features@tag → features). */
+    private double stageSeconds(String name) {
+        double sum = 0;
+        for (Map<String, Object> s : stages) {
+            String stage = (String) s.get("stage");
+            if (stage.equals(name) || stage.startsWith(name + "@")) sum += (double) s.get("seconds");
+        }
+        return sum;
+    }
+
+    /** Somma delle serie il cui nome (etichette comprese) inizia con prefix. */
+    private static double sum(Map<String, Double> m, String prefix) {
+        double s = 0;
+        for (var e : m.entrySet()) {
+            String k = e.getKey();
+            if (k.startsWith(prefix) && (k.length() == prefix.length() || k.charAt(prefix.length()) == '{'
+                    || prefix.endsWith("}"))) {
+                s += e.getValue();
+            }
+        }
+        return s;
+    }
+
+    private static Double rate(double n, double secs) {
+        return secs > 0 ? n / secs : null;
+    }
+
+    private static long peakHeapBytes() {
+        long sum = 0;
+        for (var pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == java.lang.management.MemoryType.HEAP && pool.getPeakUsage() != null) {
+                sum += pool.getPeakUsage().getUsed();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,226 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lettore del dataset binario colonnare scritto da {@link BinaryDatasetWriter}.
+ *
+ * Il file è mappato in memoria e all'apertura si legge solo l'header (conteggi,
+ * offset delle sezioni, dizionario delle versioni): colonne, dizionari di file e
+ * metodi ed etichette vengono letti direttamente dalla mappatura quando servono.
+ *
+ * Layout (little endian, sezioni allineate a 8 byte):
+ * <pre>
+ *   header      magic, formato, rowCount, intColumnCount, versionCount, fileCount, methodCount
+ *   sezioni     offset (long) di ciascuna sezione, vedi costanti S_*
+ *   NAMES       tabella stringhe: nomi delle colonne intere
+ *   VERSIONS    tabella stringhe: tag in ordine cronologico
+ *   FILES       tabella stringhe: path relativi
+ *   METHODS     tabella stringhe ordinata per byte: chiave path#signature (= method id)
+ *   REL_START   int[versionCount+1]: le righe della release v sono [start[v], start[v+1])
+ *   VERSION/FILE/METHOD   int[rowCount]
+ *   INTS        intColumnCount colonne int[rowCount] contigue
+ *   LABELS      long[(rowCount+63)/64]: bit i = riga i buggy
+ *   M_START, M_ROWS   indice CSR method id → righe (in ordine di release)
+ * </pre>
+ * Dentro una release le righe sono ordinate per method id.
+ * Una tabella stringhe è int count, int[count+1] offset relativi, byte UTF-8.
+ */
+public class BinaryDataset implements AutoCloseable {
+
+    static final int MAGIC  = 0x44575349;     // "ISWD"
+    static final int FORMAT = 1;
+
+    static final int S_NAMES = 0, S_VERSIONS = 1, S_FILES = 2, S_METHODS = 3,
+            S_REL_START = 4, S_VERSION = 5, S_FILE = 6, S_METHOD = 7,
+            S_INTS = 8, S_LABELS = 9, S_M_START = 10, S_M_ROWS = 11, SECTIONS = 12;
+
+    static final int HEADER_BYTES = 32 + SECTIONS * 8;
+
+    private final FileChannel ch;
+    private final ByteBuffer buf;
+    private final long[] sections = new long[SECTIONS];
+
+    private final int rowCount, columnCount, versionCount, fileCount, methodCount;
+    private final String[] versions;
+    private final IntBuffer relStart, versionCol, fileCol, methodCol, mStart, mRows;
+    private final IntBuffer[] ints;
+    private final LongBuffer labels;
+
+    public BinaryDataset(Path file) throws IOException {
+        this.ch = FileChannel.open(file, StandardOpenOption.READ);
+        if (ch.size() > Integer.MAX_VALUE) {
+            throw new IOException("Dataset binario oltre 2 GB non supportato: " + file);
+        }
+        MappedByteBuffer m = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+        m.order(ByteOrder.LITTLE_ENDIAN);
+        this.buf = m;
+
+        if (buf.getInt(0) != MAGIC) throw new IOException("Non è un dataset binario: " + file);
+        if (buf.getInt(4) != FORMAT) throw new IOException("Formato dataset non supportato: " + buf.getInt(4));
+        rowCount     = buf.getInt(8);
+        columnCount  = buf.getInt(12);
+        versionCount = buf.getInt(16);
+        fileCount    = buf.getInt(20);
+        methodCount  = buf.getInt(24);
+        for (int s = 0; s < SECTIONS; s++) sections[s] = buf.getLong(32 + s * 8);
+
+        versions = new String[versionCount];
+        for (int v = 0; v < versionCount; v++) versions[v] = string(S_VERSIONS, v);
+
+        relStart   = ints(S_REL_START, versionCount + 1);
+        versionCol = ints(S_VERSION, rowCount);
+        fileCol    = ints(S_FILE, rowCount);
+        methodCol  = ints(S_METHOD, rowCount);
+        mStart     = ints(S_M_START, methodCount + 1);
+        mRows      = ints(S_M_ROWS, rowCount);
+        ints = new IntBuffer[columnCount];
+        for (int c = 0; c < columnCount; c++) {
+            ints[c] = view(sections[S_INTS] + (long) c * rowCount * 4, rowCount * 4).asIntBuffer();
+        }
+        labels = view(sections[S_LABELS], ((rowCount + 63) / 64) * 8).asLongBuffer();
+    }
+
+    // ——— schema ———
+
+    public int rowCount()    { return rowCount; }
+    public int columnCount() { return columnCount; }
+
+    public String columnName(int col) { return string(S_NAMES, col); }
+
+    /** Indice della colonna intera con quel nome, -1 se assente. */
+    public int columnIndex(String name) {
+        for (int c = 0; c < columnCount; c++) if (columnName(c).equals(name)) return c;
+        return -1;
+    }
+
+    // ——— colonne ———
+
+    public int get(int col, int row) { return ints[col].get(row); }
+
+    /** Vista in sola lettura sull'intera colonna, per le scansioni. */
+    public IntBuffer column(int col) { return ints[col].duplicate(); }
+
+    public boolean buggy(int row) {
+        return (labels.get(row >>> 6) & (1L << row)) != 0;
+    }
+
+    /** Numero di righe buggy in [from, to). */
+    public int countBuggy(int from, int to) {
+        int n = 0;
+        for (int r = from; r < to && (r & 63) != 0; r++) if (buggy(r)) n++;
+        int w = (from + 63) >>> 6;
+        for (; (w + 1) << 6 <= to; w++) n += Long.bitCount(labels.get(w));
+        for (int r = Math.max(from, w << 6); r < to; r++) if (buggy(r)) n++;
+        return n;
+    }
+
+    // ——— release ———
+
+    public int versionCount()      { return versionCount; }
+    public String version(int v)   { return versions[v]; }
+    public int versionOf(int row)  { return versionCol.get(row); }
+
+    public int versionIndex(String tag) {
+        for (int v = 0; v < versionCount; v++) if (versions[v].equals(tag)) return v;
+        return -1;
+    }
+
+    /** Prima riga della release v. */
+    public int releaseStart(int v) { return relStart.get(v); }
+
+    /** Riga successiva all'ultima della release v. */
+    public int releaseEnd(int v)   { return relStart.get(v + 1); }
+
+    // ——— file e metodi ———
+
+    public int fileCount()          { return fileCount; }
+    public String file(int id)      { return string(S_FILES, id); }
+    public int fileOf(int row)      { return fileCol.get(row); }
+
+    public int methodCount()        { return methodCount; }
+    public String method(int id)    { return string(S_METHODS, id); }
+    public int methodOf(int row)    { return methodCol.get(row); }
+
+    /** Method id della chiave path#signature (ricerca binaria sul dizionario), -1 se assente. */
+    public int methodId(String key) {
+        byte[] k = key.getBytes(StandardCharsets.UTF_8);
+        int lo = 0, hi = methodCount - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int c = compare(S_METHODS, mid, k);
+            if (c < 0) lo = mid + 1;
+            else if (c > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /** Riga del metodo nella release v, -1 se il metodo non esiste in quella release. */
+    public int rowOf(int methodId, int v) {
+        int lo = releaseStart(v), hi = releaseEnd(v) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int m = methodCol.get(mid);
+            if (m < methodId) lo = mid + 1;
+            else if (m > methodId) hi = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /** Righe del metodo in ordine di release (vista in sola lettura). */
+    public IntBuffer rowsOf(int methodId) {
+        int s = mStart.get(methodId), e = mStart.get(methodId + 1);
+        return mRows.slice(s, e - s);
+    }
+
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+    // ——— helpers ———
+
+    private IntBuffer ints(int section, int count) {
+        return view(sections[section], count * 4).asIntBuffer();
+    }
+
+    private ByteBuffer view(long off, int len) {
+        return buf.slice((int) off, len).order(ByteOrder.LITTLE_ENDIAN).asReadOnlyBuffer()
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private String string(int section, int i) {
+        int base = (int) sections[section];
+        int count = buf.getInt(base);
+        if (i < 0 || i >= count) throw new IndexOutOfBoundsException("stringa " + i);
+        int data = base + 4 + (count + 1) * 4;
+        int s = buf.getInt(base + 4 + i * 4), e = buf.getInt(base + 8 + i * 4);
+        byte[] raw = new byte[e - s];
+        buf.get(data + s, raw);
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    private int compare(int section, int i, byte[] key) {
+        int base = (int) sections[section];
+        int count = buf.getInt(base);
+        int data = base + 4 + (count + 1) * 4;
+        int s = buf.getInt(base + 4 + i * 4), e = buf.getInt(base + 8 + i * 4);
+        int n = Math.min(e - s, key.length);
+        for (int k = 0; k < n; k++) {
+            int c = Integer.compare(buf.get(data + s + k) & 0xff, key[k] & 0xff);
+            if (c != 0) return c;
+        }
+        return Integer.compare(e - s, key.length);
+    }
+}
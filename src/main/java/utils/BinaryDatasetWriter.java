@@ -0,0 +1,215 @@
+package utils;
+
+import metrics.BugLabeller;
+import metrics.FeatureExtractor;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static utils.BinaryDataset.*;
+
+/**
+ * Scrive lo stesso contenuto del CSV grezzo nel formato colonnare di {@link BinaryDataset}.
+ */
+public class BinaryDatasetWriter {
+
+    /** Etichetta buggy della riga: versione (posizione in featuresPerMethod) e chiave path#sig. */
+    public interface RowLabels {
+        boolean isBuggy(int version, String methodKey);
+    }
+
+    /**
+     * @param featuresPerMethod <version → (path#sig → features)>, versioni in ordine cronologico
+     * @param releases          tag nell'ordine usato da {@code labeller}
+     * @param labeller          etichette buggy per (metodo, release)
+     */
+    public void write(
+            Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
+            List<String> releases,
+            BugLabeller labeller,
+            Path output
+    ) throws IOException {
+        int[] release = featuresPerMethod.keySet().stream().mapToInt(releases::indexOf).toArray();
+        write(featuresPerMethod, (v, key) -> labeller.isBuggy(labeller.methodId(key), release[v]), output);
+    }
+
+    /** Come {@link #write(Map, List, BugLabeller, Path)} con le etichette date riga per riga. */
+    public void write(
+            Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
+            RowLabels labeller,
+            Path output
+    ) throws IOException {
+        // --- dizionari: versioni nell'ordine dato, metodi ordinati per byte UTF-8
+        String[] versions = featuresPerMethod.keySet().toArray(new String[0]);
+
+        Map<String, Integer> methodIds = new HashMap<>();
+        List<byte[]> methodKeys = new ArrayList<>();
+        for (var rel : featuresPerMethod.values()) {
+            for (String key : rel.keySet()) {
+                if (methodIds.putIfAbsent(key, -1) == null) {
+                    methodKeys.add(key.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+        }
+        byte[][] methods = methodKeys.toArray(new byte[0][]);
+        Arrays.sort(methods, Arrays::compareUnsigned);
+        for (int i = 0; i < methods.length; i++) {
+            methodIds.put(new String(methods[i], StandardCharsets.UTF_8), i);
+        }
+
+        Map<String, Integer> fileIds = new LinkedHashMap<>();
+        int[] methodFile = new int[methods.length];
+        for (int i = 0; i < methods.length; i++) {
+            String key = new String(methods[i], StandardCharsets.UTF_8);
+            String relPath = key.split("#", 2)[0];
+            methodFile[i] = fileIds.computeIfAbsent(relPath, p -> fileIds.size());
+        }
+
+        // --- righe: per release, in ordine di method id
+        int rows = 0;
+        for (var rel : featuresPerMethod.values()) rows += rel.size();
+        int cols = FeatureExtractor.MethodFeatures.COLUMNS.length;
+
+        int[] relStart  = new int[versions.length + 1];
+        int[] versionCol = new int[rows];
+        int[] methodCol  = new int[rows];
+        int[][] intCols  = new int[cols][rows];
+        long[] labels    = new long[(rows + 63) / 64];
+
+        FeatureExtractor.MethodFeatures[] byId = new FeatureExtractor.MethodFeatures[methods.length];
+        boolean[] buggy = new boolean[methods.length];
+        int r = 0;
+        for (int v = 0; v < versions.length; v++) {
+            relStart[v] = r;
+            Map<String, FeatureExtractor.MethodFeatures> rel = featuresPerMethod.get(versions[v]);
+            int[] ids = new int[rel.size()];
+            int n = 0;
+            for (var me : rel.entrySet()) {
+                int id = methodIds.get(me.getKey());
+                ids[n++] = id;
+                byId[id] = me.getValue();
+                if (labeller.isBuggy(v, me.getKey())) buggy[id] = true;
+            }
+            Arrays.sort(ids);
+            for (int id : ids) {
+                FeatureExtractor.MethodFeatures f = byId[id];
+                versionCol[r] = v;
+                methodCol[r]  = id;
+                for (int c = 0; c < cols; c++) intCols[c][r] = f.get(c);
+                if (buggy[id]) labels[r >>> 6] |= 1L << r;
+                byId[id] = null;
+                buggy[id] = false;
+                r++;
+            }
+        }
+        relStart[versions.length] = r;
+
+        // --- indice CSR method id → righe
+        int[] mStart = new int[methods.length + 1];
+        for (int i = 0; i < rows; i++) mStart[methodCol[i] + 1]++;
+        for (int i = 0; i < methods.length; i++) mStart[i + 1] += mStart[i];
+        int[] fill = Arrays.copyOf(mStart, methods.length);
+        int[] mRows = new int[rows];
+        for (int i = 0; i < rows; i++) mRows[fill[methodCol[i]]++] = i;
+
+        int[] fileCol = new int[rows];
+        for (int i = 0; i < rows; i++) fileCol[i] = methodFile[methodCol[i]];
+
+        byte[][] names = new byte[cols][];
+        for (int c = 0; c < cols; c++) {
+            names[c] = FeatureExtractor.MethodFeatures.COLUMNS[c].getBytes(StandardCharsets.UTF_8);
+        }
+        byte[][] versionBytes = new byte[versions.length][];
+        for (int v = 0; v < versions.length; v++) versionBytes[v] = versions[v].getBytes(StandardCharsets.UTF_8);
+        byte[][] fileBytes = new byte[fileIds.size()][];
+        for (var fe : fileIds.entrySet()) fileBytes[fe.getValue()] = fe.getKey().getBytes(StandardCharsets.UTF_8);
+
+        // --- layout
+        long[] sec = new long[SECTIONS];
+        long off = HEADER_BYTES;
+        sec[S_NAMES]     = off; off = align(off + tableBytes(names));
+        sec[S_VERSIONS]  = off; off = align(off + tableBytes(versionBytes));
+        sec[S_FILES]     = off; off = align(off + tableBytes(fileBytes));
+        sec[S_METHODS]   = off; off = align(off + tableBytes(methods));
+        sec[S_REL_START] = off; off = align(off + relStart.length * 4L);
+        sec[S_VERSION]   = off; off = align(off + rows * 4L);
+        sec[S_FILE]      = off; off = align(off + rows * 4L);
+        sec[S_METHOD]    = off; off = align(off + rows * 4L);
+        sec[S_INTS]      = off; off = align(off + (long) cols * rows * 4);
+        sec[S_LABELS]    = off; off = align(off + labels.length * 8L);
+        sec[S_M_START]   = off; off = align(off + mStart.length * 4L);
+        sec[S_M_ROWS]    = off; off = align(off + rows * 4L);
+        if (off > Integer.MAX_VALUE) {
+            throw new IOException("Dataset binario troppo grande (" + off + " byte)");
+        }
+
+        Path tmp = Paths.get(output + ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer b = ch.map(FileChannel.MapMode.READ_WRITE, 0, off);
+            b.order(ByteOrder.LITTLE_ENDIAN);
+            b.putInt(0, MAGIC).putInt(4, FORMAT)
+             .putInt(8, rows).putInt(12, cols)
+             .putInt(16, versions.length).putInt(20, fileBytes.length).putInt(24, methods.length);
+            for (int s = 0; s < SECTIONS; s++) b.putLong(32 + s * 8, sec[s]);
+
+            putTable(b, sec[S_NAMES], names);
+            putTable(b, sec[S_VERSIONS], versionBytes);
+            putTable(b, sec[S_FILES], fileBytes);
+            putTable(b, sec[S_METHODS], methods);
+            putInts(b, sec[S_REL_START], relStart);
+            putInts(b, sec[S_VERSION], versionCol);
+            putInts(b, sec[S_FILE], fileCol);
+            putInts(b, sec[S_METHOD], methodCol);
+            for (int c = 0; c < cols; c++) putInts(b, sec[S_INTS] + (long) c * rows * 4, intCols[c]);
+            b.position((int) sec[S_LABELS]);
+            b.asLongBuffer().put(labels);
+            putInts(b, sec[S_M_START], mStart);
+            putInts(b, sec[S_M_ROWS], mRows);
+            b.force();
+        }
+        Files.move(tmp, output, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long align(long off) {
+        return (off + 7) & ~7L;
+    }
+
+    private static long tableBytes(byte[][] strings) {
+        long n = 4 + (strings.length + 1) * 4L;
+        for (byte[] s : strings) n += s.length;
+        return n;
+    }
+
+    private static void putTable(MappedByteBuffer b, long off, byte[][] strings) {
+        int base = (int) off;
+        b.putInt(base, strings.length);
+        int data = base + 4 + (strings.length + 1) * 4;
+        int rel = 0;
+        for (int i = 0; i < strings.length; i++) {
+            b.putInt(base + 4 + i * 4, rel);
+            b.put(data + rel, strings[i]);
+            rel += strings[i].length;
+        }
+        b.putInt(base + 4 + strings.length * 4, rel);
+    }
+
+    private static void putInts(MappedByteBuffer b, long off, int[] values) {
+        b.position((int) off);
+        b.asIntBuffer().put(values);
+    }
+}
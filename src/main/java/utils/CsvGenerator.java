@@ -3,84 +3,95 @@ package utils;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
+import metrics.BugLabeller;
 import metrics.FeatureExtractor;
 
 import java.io.FileWriter;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public class CsvGenerator {
 
+    /** Intestazione del CSV del dataset. */
+    public static final String[] HEADER = {
+            "Version",
+            "File Name",
+            "Method Name",
+            "LOC",
+            "CyclomaticComplexity",
+            "CognitiveComplexity",
+            "ParameterCount",
+            "NestingDepth",
+            "ReturnCount",
+            "TryCount",
+            "CatchCount",
+            "SmellsDensity",
+            "ManyCatches",
+            "AssignmentCount",
+            "InvocationCount",
+            "methodHistories",
+            "Churn",
+            "Authors",
+            "method_gt_100_loc",
+            "CodeSmellsCount",
+            "Buggy"
+    };
+
     /**
      * @param featuresPerMethod <version → (path#sig → features)>
-     * @param buggyMethods      <version#path#sig>
+     * @param releases          tag nell'ordine usato da {@code labeller}
+     * @param labeller          etichette buggy per (metodo, release)
      */
     public void generateCsv(
             Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
-            Set<String> buggyMethods,
+            List<String> releases,
+            BugLabeller labeller,
             String outputCsv
     ) throws Exception {
         try (CSVPrinter printer = new CSVPrinter(
                 new FileWriter(outputCsv),
-                CSVFormat.DEFAULT.withHeader(
-                        "Version",
-                        "File Name",
-                        "Method Name",
-                        "LOC",
-                        "CyclomaticComplexity",
-                        "CognitiveComplexity",
-                        "ParameterCount",
-                        "NestingDepth",
-                        "ReturnCount",
-                        "TryCount",
-                        "CatchCount",
-                        "SmellsDensity",
-                        "ManyCatches",
-                        "AssignmentCount",
-                        "InvocationCount",
-                        "methodHistories",
-                        "Churn",
-                        "method_gt_100_loc",
-                        "CodeSmellsCount",
-                        "Buggy"
-                )
+                CSVFormat.DEFAULT.withHeader(HEADER)
         )) {
             for (var relEntry : featuresPerMethod.entrySet()) {
                 String version = relEntry.getKey();
+                int release    = releases.indexOf(version);
                 for (var me : relEntry.getValue().entrySet()) {
-                    String[] parts   = me.getKey().split("#", 2);
-                    String relPath   = parts[0];
-                    String fileName  = Paths.get(relPath).getFileName().toString();
-                    String methodSig = parts[1];
-
-                    var f = me.getValue();
-                    String buggy = buggyMethods.contains(version + "#" + me.getKey()) ? "Yes" : "No";
-
-                    printer.printRecord(
-                            version,
-                            fileName,
-                            methodSig,
-                            f.loc,
-                            f.cyclomatic,
-                            f.cognitive,
-                            f.parameterCount,
-                            f.nestingDepth,
-                            f.returnCount,
-                            f.tryCount,
-                            f.catchCount,
-                            f.smellsDensity,
-                            f.manyCatches,
-                            f.assignmentCount,
-                            f.invocationCount,
-                            f.methodHistories,
-                            f.churn,
-                            f.method_gt_100_loc,
-                            f.codeSmells,
-                            buggy
-                    );
+                    String buggy = labeller.isBuggy(labeller.methodId(me.getKey()), release) ? "Yes" : "No";
+                    printer.printRecord(record(version, me.getKey(), me.getValue(), buggy));
                 }
             }
         }
     }
+
+    /** Valori di una riga: versione, file e firma dalla chiave path#signature, feature, etichetta. */
+    public static Object[] record(String version, String methodKey, FeatureExtractor.MethodFeatures f, String buggy) {
+        String[] parts   = methodKey.split("#", 2);
+        String relPath   = parts[0];
+        String fileName  = Paths.get(relPath).getFileName().toString();
+        String methodSig = parts[1];
+        return new Object[] {
+                version,
+                fileName,
+                methodSig,
+                f.loc,
+                f.cyclomatic,
+                f.cognitive,
+                f.parameterCount,
+                f.nestingDepth,
+                f.returnCount,
+                f.tryCount,
+                f.catchCount,
+                f.smellsDensity,
+                f.manyCatches,
+                f.assignmentCount,
+                f.invocationCount,
+                f.methodHistories,
+                f.churn,
+                f.authors,
+                f.method_gt_100_loc,
+                f.codeSmells,
+                buggy
+        };
+    }
 }
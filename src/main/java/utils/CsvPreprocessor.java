@@ -1,94 +1,169 @@
 package utils;
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVPrinter;
-import org.apache.commons.csv.CSVRecord;
+import history.ReleaseCatalog;
 
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
-import java.util.*;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 public class CsvPreprocessor {
 
+    private static final byte[] CRLF = {'\r', '\n'};
+
     /**
      * Raggruppa le righe per tutte le colonne tranne "Version",
      * e per ogni gruppo tiene solo la riga con la versione più vecchia.
+     *
+     * Lavora sui byte del file mappato: la chiave di un gruppo è un hash a 64 bit
+     * delle celle (verificato byte per byte in caso di match), le versioni si confrontano
+     * come {@link ReleaseCatalog#compareVersions(CharSequence, CharSequence)} (la chiave
+     * numerica, e il qualificatore solo a parità: 4.2.0-rc1 è più vecchia di 4.2.0) e
+     * l'output è copiato direttamente dalle righe originali.
      */
     public static void removeDuplicateRows(Path inputCsv, Path outputCsv) throws IOException {
         try (
-                Reader in     = Files.newBufferedReader(inputCsv);
-                CSVParser parser = new CSVParser(in, CSVFormat.DEFAULT.withFirstRecordAsHeader())
+                MappedCsvReader reader = new MappedCsvReader(inputCsv);
+                MappedCsvReader probe  = new MappedCsvReader(inputCsv)
         ) {
-            List<String> headers = parser.getHeaderNames();
-            int versionIdx = headers.indexOf("Version");
+            MappedCsvReader.Row row   = new MappedCsvReader.Row();
+            MappedCsvReader.Row other = new MappedCsvReader.Row();
+            if (!reader.next(row)) {
+                throw new IllegalStateException("CSV vuoto: " + inputCsv);
+            }
+            int versionIdx = -1;
+            for (int i = 0; i < row.size(); i++) {
+                if (row.contentEquals(i, "Version")) versionIdx = i;
+            }
             if (versionIdx < 0) {
                 throw new IllegalStateException("Header 'Version' non trovato");
             }
+            long headerOff = row.offset();
+            int  headerLen = row.contentLength();
 
-            // key → record con la versione più vecchia
-            LinkedHashMap<String,CSVRecord> oldest = new LinkedHashMap<>();
-
-            for (CSVRecord record : parser) {
-                // costruisco la chiave escludendo la colonna Version
-                StringBuilder keyB = new StringBuilder();
-                for (int i = 0; i < headers.size(); i++) {
-                    if (i == versionIdx) continue;
-                    keyB.append(record.get(i).trim()).append("|");
+            // gruppi in ordine di prima apparizione: riga scelta + sua versione
+            Groups groups = new Groups();
+            while (reader.next(row)) {
+                long hash = 0xcbf29ce484222325L;
+                for (int i = 0; i < row.size(); i++) {
+                    if (i != versionIdx) hash = row.hashCell(i, hash);
                 }
-                String key = keyB.toString();
-                String ver = record.get(versionIdx).trim();
-
-                if (!oldest.containsKey(key)) {
-                    oldest.put(key, record);
-                } else {
-                    String prevVer = oldest.get(key).get(versionIdx).trim();
-                    // se questa è più vecchia della precedente, la sostituisco
-                    if (compareVersion(ver, prevVer) < 0) {
-                        oldest.put(key, record);
+                long ver = ReleaseCatalog.versionKey(row.chars(versionIdx));
+
+                int slot = groups.slot(hash);
+                while (true) {
+                    int g = groups.table[slot];
+                    if (g < 0) {
+                        groups.add(slot, hash, row.offset(), row.contentLength(), ver);
+                        break;
+                    }
+                    if (groups.hash[g] == hash) {
+                        probe.rowAt(groups.offset[g], other);
+                        if (sameKey(row, other, versionIdx)) {
+                            // se questa è più vecchia della precedente, la sostituisco
+                            int c = Long.compare(ver, groups.version[g]);
+                            if (c == 0) {
+                                c = ReleaseCatalog.compareVersions(row.chars(versionIdx), other.chars(versionIdx));
+                            }
+                            if (c < 0) {
+                                groups.offset[g]  = row.offset();
+                                groups.length[g]  = row.contentLength();
+                                groups.version[g] = ver;
+                            }
+                            break;
+                        }
                     }
+                    slot = (slot + 1) & (groups.table.length - 1);
                 }
             }
 
-            // riscrivo l’output
-            try (
-                    Writer out     = Files.newBufferedWriter(outputCsv);
-                    CSVPrinter printer = new CSVPrinter(out, CSVFormat.DEFAULT.withHeader(headers.toArray(new String[0])))
-            ) {
-                for (CSVRecord r : oldest.values()) {
-                    List<String> row = new ArrayList<>();
-                    for (String h : headers) row.add(r.get(h));
-                    printer.printRecord(row);
+            // riscrivo l’output copiando i byte delle righe scelte
+            try (FileChannel out = FileChannel.open(outputCsv,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buf = ByteBuffer.allocateDirect(1 << 20);
+                copyRow(probe, headerOff, headerLen, buf, out);
+                for (int g = 0; g < groups.size; g++) {
+                    copyRow(probe, groups.offset[g], groups.length[g], buf, out);
                 }
+                flush(buf, out);
             }
         }
     }
 
-    /**
-     * Confronta semanticamente due stringhe di versione del tipo
-     * "release-4.2.1", "v4.10.0" o "HEAD" (che consideriamo sempre minima).
-     * Restituisce >0 se a>b, <0 se a<b, 0 se uguali.
-     */
-    private static int compareVersion(String a, String b) {
-        // HEAD la consideriamo sempre la più vecchia
-        if ("HEAD".equals(a) && !"HEAD".equals(b)) return -1;
-        if (!"HEAD".equals(a) && "HEAD".equals(b)) return  1;
-        if ("HEAD".equals(a) && "HEAD".equals(b)) return 0;
-
-        // rimuovo prefissi
-        a = a.replaceFirst("^(?:v|release-)", "");
-        b = b.replaceFirst("^(?:v|release-)", "");
-        String[] pa = a.split("\\.");
-        String[] pb = b.split("\\.");
-        int n = Math.max(pa.length, pb.length);
-        for (int i = 0; i < n; i++) {
-            int va = i < pa.length ? Integer.parseInt(pa[i]) : 0;
-            int vb = i < pb.length ? Integer.parseInt(pb[i]) : 0;
-            if (va != vb) return Integer.compare(va, vb);
+    private static boolean sameKey(MappedCsvReader.Row a, MappedCsvReader.Row b, int versionIdx) {
+        if (a.size() != b.size()) return false;
+        for (int i = 0; i < a.size(); i++) {
+            if (i != versionIdx && !a.cellEquals(i, b, i)) return false;
+        }
+        return true;
+    }
+
+    private static void copyRow(MappedCsvReader src, long off, int len, ByteBuffer buf, FileChannel out)
+            throws IOException {
+        if (buf.remaining() < len + CRLF.length) {
+            flush(buf, out);
+            if (buf.capacity() < len + CRLF.length) {
+                // riga enorme: la scrivo da sola
+                ByteBuffer big = ByteBuffer.allocate(len + CRLF.length);
+                src.copyTo(off, len, big);
+                big.put(CRLF).flip();
+                while (big.hasRemaining()) out.write(big);
+                return;
+            }
+        }
+        src.copyTo(off, len, buf);
+        buf.put(CRLF);
+    }
+
+    private static void flush(ByteBuffer buf, FileChannel out) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) out.write(buf);
+        buf.clear();
+    }
+
+    /** Tabella hash ad indirizzamento aperto + colonne primitive dei gruppi. */
+    private static final class Groups {
+        int[]  table = filled(1 << 16);
+        long[] hash    = new long[1024];
+        long[] offset  = new long[1024];
+        int[]  length  = new int[1024];
+        long[] version = new long[1024];
+        int size;
+
+        int slot(long h) {
+            return (int) (h ^ (h >>> 32)) & (table.length - 1);
+        }
+
+        void add(int slot, long h, long off, int len, long ver) {
+            if (size == hash.length) {
+                hash    = Arrays.copyOf(hash, size * 2);
+                offset  = Arrays.copyOf(offset, size * 2);
+                length  = Arrays.copyOf(length, size * 2);
+                version = Arrays.copyOf(version, size * 2);
+            }
+            hash[size] = h;
+            offset[size] = off;
+            length[size] = len;
+            version[size] = ver;
+            table[slot] = size++;
+            if (size * 2 > table.length) rehash();
+        }
+
+        private void rehash() {
+            table = filled(table.length * 2);
+            for (int g = 0; g < size; g++) {
+                int s = slot(hash[g]);
+                while (table[s] >= 0) s = (s + 1) & (table.length - 1);
+                table[s] = g;
+            }
+        }
+
+        private static int[] filled(int n) {
+            int[] t = new int[n];
+            Arrays.fill(t, -1);
+            return t;
         }
-        return 0;
     }
 }
@@ -0,0 +1,49 @@
+package utils;
+
+/**
+ * Stage 1 dello scanner CSV: dato un blocco di byte restituisce le posizioni
+ * dei caratteri strutturali (virgola, doppio apice, CR, LF).
+ * L'interpretazione (quote, fine cella, fine riga) è lasciata a {@link MappedCsvReader}.
+ */
+public abstract class CsvStructuralIndexer {
+
+    static final byte COMMA = ',';
+    static final byte QUOTE = '"';
+    static final byte CR    = '\r';
+    static final byte LF    = '\n';
+
+    /**
+     * Scrive in {@code out} le posizioni (relative a {@code base}) dei byte strutturali
+     * di {@code block[0..len)} e ne restituisce il numero.
+     * {@code out} deve avere almeno {@code len} elementi.
+     */
+    public abstract int index(byte[] block, int len, int base, int[] out);
+
+    /**
+     * Usa la Vector API (incubator) se il modulo jdk.incubator.vector è caricato
+     * (--add-modules jdk.incubator.vector), altrimenti il ciclo scalare.
+     */
+    public static CsvStructuralIndexer best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (CsvStructuralIndexer) Class.forName("utils.VectorCsvIndexer")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // modulo presente ma non utilizzabile: ripiego sullo scalare
+            }
+        }
+        return new Scalar();
+    }
+
+    public static final class Scalar extends CsvStructuralIndexer {
+        @Override
+        public int index(byte[] block, int len, int base, int[] out) {
+            int n = 0;
+            for (int i = 0; i < len; i++) {
+                byte b = block[i];
+                if (b == COMMA || b == QUOTE || b == LF || b == CR) out[n++] = base + i;
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Pubblica la versione nuova di un file scritta a parte, con una rename atomica: un crash o
+ * un disco pieno lasciano il file vecchio o quello nuovo, mai uno a metà. Prima calcola
+ * quanto cambia rispetto al file vecchio (prefisso in comune, righe dopo), solo come report:
+ * con le righe dei dataset in ordine di release un refresh cambia solo la coda.
+ */
+public final class FilePatcher {
+
+    private FilePatcher() {}
+
+    /** Byte invariati, byte cambiati e righe cambiate rispetto al file precedente. */
+    public static final class Patch {
+        public final long keptBytes, writtenBytes, writtenLines;
+
+        Patch(long keptBytes, long writtenBytes, long writtenLines) {
+            this.keptBytes    = keptBytes;
+            this.writtenBytes = writtenBytes;
+            this.writtenLines = writtenLines;
+        }
+
+        @Override
+        public String toString() {
+            return writtenLines + " righe cambiate, " + keptBytes + " byte invariati";
+        }
+    }
+
+    /** Sostituisce atomicamente target con fresh, che sparisce (anche se target non c'è ancora). */
+    public static Patch publish(Path fresh, Path target) throws IOException {
+        long common = Files.exists(target) ? commonPrefix(fresh, target) : 0;
+        long size = Files.size(fresh);
+        long lines = countLines(fresh, common);
+        try {
+            Files.move(fresh, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(fresh, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new Patch(common, size - common, lines);
+    }
+
+    private static long commonPrefix(Path a, Path b) throws IOException {
+        try (FileChannel ca = FileChannel.open(a, StandardOpenOption.READ);
+             FileChannel cb = FileChannel.open(b, StandardOpenOption.READ)) {
+            ByteBuffer ba = ByteBuffer.allocate(1 << 16), bb = ByteBuffer.allocate(1 << 16);
+            long pos = 0;
+            while (true) {
+                ba.clear();
+                bb.clear();
+                int na = ca.read(ba, pos), nb = cb.read(bb, pos);
+                if (na <= 0 || nb <= 0) return pos;
+                int n = Math.min(na, nb);
+                int mismatch = ba.flip().limit(n).mismatch(bb.flip().limit(n));
+                if (mismatch >= 0) return pos + mismatch;
+                pos += n;
+            }
+        }
+    }
+
+    private static long countLines(Path file, long from) throws IOException {
+        long lines = 0;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(1 << 16);
+            long pos = from;
+            int n;
+            while ((n = ch.read(buf.clear(), pos)) > 0) {
+                for (int i = 0; i < n; i++) if (buf.get(i) == '\n') lines++;
+                pos += n;
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,350 @@
+package utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lettore CSV a byte su file mappato in memoria (FileChannel.map), pensato per il
+ * dataset generato da {@link CsvGenerator}: niente String per cella né oggetti per riga.
+ *
+ * Le celle sono esposte come offset nel file ({@link Row#offset(int)}, {@link Row#length(int)});
+ * gli interi si leggono direttamente dai byte con {@link Row#intValue(int)}.
+ * Il file è mappato a finestre da {@value #WINDOW} byte, quindi funziona anche oltre i 2 GB;
+ * una {@link Row} resta valida solo fino alla chiamata successiva a {@link #next(Row)}.
+ */
+public class MappedCsvReader implements AutoCloseable {
+
+    static final int WINDOW = 64 << 20;
+    static final int BLOCK  = 64 << 10;
+    static final int OVERLAP = 1 << 20;
+
+    private final FileChannel ch;
+    private final long size;
+    private final CsvStructuralIndexer indexer;
+
+    private MappedByteBuffer win;
+    private long winBase;
+    private int  winLen;
+    private int  pos;           // inizio della prossima riga, relativo alla finestra
+
+    // stage 1: posizioni strutturali del blocco corrente
+    private final byte[] block = new byte[BLOCK];
+    private final int[]  marks = new int[BLOCK];
+    private int markCount, markIdx, indexedTo;
+
+    // mappature per rowAt/copyTo
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+    public MappedCsvReader(Path file) throws IOException {
+        this(file, CsvStructuralIndexer.best());
+    }
+
+    public MappedCsvReader(Path file, CsvStructuralIndexer indexer) throws IOException {
+        this.ch      = FileChannel.open(file, StandardOpenOption.READ);
+        this.size    = ch.size();
+        this.indexer = indexer;
+        map(0);
+    }
+
+    public long size() { return size; }
+
+    /**
+     * Legge la riga successiva in {@code row}.
+     * @return false a fine file
+     */
+    public boolean next(Row row) throws IOException {
+        while (true) {
+            int r = parseRow(row);
+            if (r > 0) return true;
+            if (r == 0) return false;
+            // riga a cavallo della finestra: rimappo a partire dal suo inizio
+            long rowStart = winBase + pos;
+            if (rowStart == winBase) {
+                throw new IOException("Riga CSV più lunga di " + WINDOW + " byte a offset " + rowStart);
+            }
+            map(rowStart);
+        }
+    }
+
+    /**
+     * Legge la riga che inizia all'offset indicato, senza passare dall'indice strutturale:
+     * pensato per accessi puntuali (verifica di chiavi, copia di righe già viste).
+     * Usa mappature proprie, quindi non disturba la lettura sequenziale.
+     */
+    public void rowAt(long offset, Row row) throws IOException {
+        int k = (int) (offset / WINDOW);
+        MappedByteBuffer c = chunk(k);
+        long base = (long) k * WINDOW;
+        if (!scanRow(c, base, c.limit(), (int) (offset - base), row)) {
+            throw new IOException("Riga CSV più lunga di " + OVERLAP + " byte a offset " + offset);
+        }
+    }
+
+    /** Copia {@code len} byte del file a partire da {@code offset} in {@code dst}. */
+    public void copyTo(long offset, int len, ByteBuffer dst) throws IOException {
+        int k = (int) (offset / WINDOW);
+        MappedByteBuffer c = chunk(k);
+        int rel = (int) (offset - (long) k * WINDOW);
+        if (rel + len > c.limit()) {
+            throw new IOException("Intervallo oltre la sovrapposizione dei chunk a offset " + offset);
+        }
+        dst.put(dst.position(), c, rel, len);
+        dst.position(dst.position() + len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        ch.close();
+    }
+
+    // ——— stage 2: interpreta le posizioni strutturali ———
+
+    /** 1 = riga letta, 0 = fine file, -1 = riga incompleta nella finestra corrente. */
+    private int parseRow(Row row) {
+        if (pos >= winLen && winBase + winLen >= size) return 0;
+        row.reset(win, winBase, pos);
+        int cellStart = pos;
+        boolean inQuote = false;
+        while (true) {
+            int m = nextMark();
+            if (m < 0) {
+                if (winBase + winLen < size) return -1;
+                // ultima riga senza terminatore
+                row.add(cellStart, winLen);
+                row.next = winLen;
+                pos = winLen;
+                return 1;
+            }
+            byte b = win.get(m);
+            if (b == CsvStructuralIndexer.QUOTE) {
+                inQuote = !inQuote;       // "" dentro una cella quotata si annulla da solo
+            } else if (inQuote) {
+                continue;
+            } else if (b == CsvStructuralIndexer.COMMA) {
+                row.add(cellStart, m);
+                cellStart = m + 1;
+            } else if (b == CsvStructuralIndexer.LF) {
+                int end = (m > cellStart && win.get(m - 1) == CsvStructuralIndexer.CR) ? m - 1 : m;
+                row.add(cellStart, end);
+                row.next = m + 1;
+                pos = m + 1;
+                return 1;
+            }
+            // CR isolato: gestito insieme al LF
+        }
+    }
+
+    private int nextMark() {
+        while (markIdx >= markCount) {
+            if (indexedTo >= winLen) return -1;
+            int len = Math.min(BLOCK, winLen - indexedTo);
+            win.get(indexedTo, block, 0, len);
+            markCount = indexer.index(block, len, indexedTo, marks);
+            markIdx = 0;
+            indexedTo += len;
+        }
+        return marks[markIdx++];
+    }
+
+    private void map(long base) throws IOException {
+        winBase = base;
+        winLen  = (int) Math.min(WINDOW, size - base);
+        win     = ch.map(FileChannel.MapMode.READ_ONLY, base, winLen);
+        pos = 0;
+        indexedTo = 0;
+        markCount = markIdx = 0;
+    }
+
+    /**
+     * Chunk per gli accessi puntuali: il chunk k copre [k*WINDOW, (k+1)*WINDOW + OVERLAP),
+     * così ogni riga che inizia nel chunk vi è contenuta per intero. Le mappature restano
+     * aperte (costano solo spazio di indirizzamento).
+     */
+    private MappedByteBuffer chunk(int k) throws IOException {
+        if (k >= chunks.length) chunks = java.util.Arrays.copyOf(chunks, k + 1);
+        if (chunks[k] == null) {
+            long base = (long) k * WINDOW;
+            int len = (int) Math.min((long) WINDOW + OVERLAP, size - base);
+            chunks[k] = ch.map(FileChannel.MapMode.READ_ONLY, base, len);
+        }
+        return chunks[k];
+    }
+
+    /** Scansione scalare di una sola riga a partire da {@code p}; false se esce dal buffer. */
+    private boolean scanRow(ByteBuffer b, long base, int len, int p, Row row) {
+        row.reset(b, base, p);
+        int cellStart = p;
+        boolean inQuote = false;
+        for (int m = p; m < len; m++) {
+            byte c = b.get(m);
+            if (c == CsvStructuralIndexer.QUOTE) {
+                inQuote = !inQuote;
+            } else if (inQuote) {
+                continue;
+            } else if (c == CsvStructuralIndexer.COMMA) {
+                row.add(cellStart, m);
+                cellStart = m + 1;
+            } else if (c == CsvStructuralIndexer.LF) {
+                int end = (m > cellStart && b.get(m - 1) == CsvStructuralIndexer.CR) ? m - 1 : m;
+                row.add(cellStart, end);
+                row.next = m + 1;
+                return true;
+            }
+        }
+        if (base + len < size) return false;
+        row.add(cellStart, len);
+        row.next = len;
+        return true;
+    }
+
+    /**
+     * Cursore riutilizzabile su una riga: contiene solo gli estremi delle celle.
+     */
+    public static final class Row {
+        private ByteBuffer buf;
+        private long base;
+        private int start;
+        private int next;
+        private int count;
+        private int[] cs = new int[32];
+        private int[] ce = new int[32];
+        private final Chars chars = new Chars();
+
+        void reset(ByteBuffer buf, long base, int start) {
+            this.buf   = buf;
+            this.base  = base;
+            this.start = start;
+            this.count = 0;
+        }
+
+        void add(int s, int e) {
+            if (count == cs.length) {
+                cs = java.util.Arrays.copyOf(cs, count * 2);
+                ce = java.util.Arrays.copyOf(ce, count * 2);
+            }
+            cs[count] = s;
+            ce[count] = e;
+            count++;
+        }
+
+        public int size() { return count; }
+
+        /** Offset nel file del primo byte della riga. */
+        public long offset() { return base + start; }
+
+        /** Offset nel file della riga successiva (dopo il terminatore). */
+        public long nextOffset() { return base + next; }
+
+        /** Lunghezza della riga senza terminatore. */
+        public int contentLength() { return ce[count - 1] - start; }
+
+        /** Offset nel file del primo byte della cella (apici inclusi). */
+        public long offset(int i) { return base + cs[i]; }
+
+        public int length(int i) { return ce[i] - cs[i]; }
+
+        /** Vista in sola lettura sui byte grezzi della cella. */
+        public ByteBuffer slice(int i) { return buf.slice(cs[i], ce[i] - cs[i]).asReadOnlyBuffer(); }
+
+        public boolean isQuoted(int i) {
+            return ce[i] - cs[i] >= 2 && buf.get(cs[i]) == '"' && buf.get(ce[i] - 1) == '"';
+        }
+
+        /** Intero decimale della cella, senza passare da String. */
+        public int intValue(int i) {
+            int s = trimStart(i), e = trimEnd(i);
+            if (s < e && buf.get(s) == '"') { s++; e--; }
+            if (s >= e) throw new NumberFormatException("cella " + i + " vuota");
+            boolean neg = buf.get(s) == '-';
+            if (neg || buf.get(s) == '+') s++;
+            if (s >= e) throw new NumberFormatException("cella " + i + " non numerica");
+            int v = 0;
+            for (int k = s; k < e; k++) {
+                int d = buf.get(k) - '0';
+                if (d < 0 || d > 9) throw new NumberFormatException("cella " + i + " non numerica");
+                v = v * 10 + d;
+            }
+            return neg ? -v : v;
+        }
+
+        /** Valore della cella come String (alloca: usarlo per header e diagnostica). */
+        public String string(int i) {
+            int s = cs[i], e = ce[i];
+            byte[] raw = new byte[e - s];
+            buf.get(s, raw);
+            String v = new String(raw, StandardCharsets.UTF_8);
+            return isQuoted(i) ? v.substring(1, v.length() - 1).replace("\"\"", "\"") : v;
+        }
+
+        public boolean contentEquals(int i, String ascii) {
+            int s = trimStart(i), e = trimEnd(i);
+            if (e - s != ascii.length()) return false;
+            for (int k = 0; k < ascii.length(); k++) {
+                if (buf.get(s + k) != (byte) ascii.charAt(k)) return false;
+            }
+            return true;
+        }
+
+        /** Confronta i byte (senza spazi ai bordi) della cella i con la cella j di {@code o}. */
+        public boolean cellEquals(int i, Row o, int j) {
+            int s = trimStart(i), e = trimEnd(i);
+            int os = o.trimStart(j), oe = o.trimEnd(j);
+            if (e - s != oe - os) return false;
+            for (int k = 0; k < e - s; k++) {
+                if (buf.get(s + k) != o.buf.get(os + k)) return false;
+            }
+            return true;
+        }
+
+        /** Aggiorna un hash FNV-1a a 64 bit con i byte (senza spazi ai bordi) della cella. */
+        public long hashCell(int i, long h) {
+            for (int k = trimStart(i), e = trimEnd(i); k < e; k++) {
+                h ^= buf.get(k) & 0xff;
+                h *= 0x100000001b3L;
+            }
+            h ^= 0x1f;                // separatore di cella
+            return h * 0x100000001b3L;
+        }
+
+        public byte byteAt(int i, int k) { return buf.get(cs[i] + k); }
+
+        /**
+         * Vista CharSequence (ASCII, senza spazi ai bordi) della cella: è sempre la stessa
+         * istanza, valida fino alla prossima chiamata.
+         */
+        public CharSequence chars(int i) {
+            chars.s = trimStart(i);
+            chars.e = trimEnd(i);
+            return chars;
+        }
+
+        private final class Chars implements CharSequence {
+            int s, e;
+            @Override public int length() { return e - s; }
+            @Override public char charAt(int k) { return (char) (buf.get(s + k) & 0xff); }
+            @Override public CharSequence subSequence(int from, int to) { return toString().substring(from, to); }
+            @Override public String toString() {
+                byte[] raw = new byte[e - s];
+                buf.get(s, raw);
+                return new String(raw, StandardCharsets.ISO_8859_1);
+            }
+        }
+
+        private int trimStart(int i) {
+            int s = cs[i], e = ce[i];
+            while (s < e && (buf.get(s) & 0xff) <= ' ') s++;
+            return s;
+        }
+
+        private int trimEnd(int i) {
+            int s = cs[i], e = ce[i];
+            while (e > s && (buf.get(e - 1) & 0xff) <= ' ') e--;
+            return e;
+        }
+    }
+}
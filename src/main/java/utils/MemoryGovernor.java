@@ -0,0 +1,206 @@
+package utils;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import telemetry.MetricsRegistry;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limita il lavoro parallelo che alloca molto (AST di JavaParser e PMD, diff) in base all'heap.
+ *
+ * Chi sta per analizzare un sorgente prende un permesso pesato con la memoria stimata
+ * ({@link #acquire(long)}, tipicamente byte del sorgente × {@link #AST_FACTOR}); i permessi
+ * concessi insieme non superano il budget, una frazione dell'heap massimo
+ * (-Dmemory.budgetFraction, default 0.5). Dopo ogni GC si guarda l'occupazione dell'heap
+ * rimasta: oltre il 60% il budget si dimezza, oltre l'80% (o alla notifica di soglia dei pool
+ * vecchi) passa un solo lavoro alla volta e si avvisano i listener di {@link #onPressure(Runnable)},
+ * che possono spostare su disco i risultati intermedi. Un lavoro solo passa sempre, anche se
+ * più grande del budget: la concorrenza scende, l'avanzamento non si ferma.
+ *
+ * Con heap piccolo (container da 2 GB) il parallelismo effettivo si riduce da solo; con heap
+ * grande il budget non limita e contano solo i thread.
+ */
+public final class MemoryGovernor {
+
+    /** Memoria stimata per byte di sorgente analizzato (AST, token, nodi PMD). */
+    public static final long AST_FACTOR = Long.getLong("memory.astFactor", 40);
+
+    private static final MemoryGovernor GLOBAL = new MemoryGovernor(Runtime.getRuntime().maxMemory(),
+            Double.parseDouble(System.getProperty("memory.budgetFraction", "0.5")));
+
+    /** Livello di pressione sull'heap. */
+    public enum Pressure { NORMAL, ELEVATED, HIGH }
+
+    private static final double ELEVATED_RATIO = 0.6, HIGH_RATIO = 0.8;
+
+    private final long maxHeap;
+    private final long budget;
+    private long inUse;
+    private int holders;
+    private volatile Pressure pressure = Pressure.NORMAL;
+    private volatile boolean warned;
+    private final List<WeakReference<Runnable>> listeners = new ArrayList<>();
+    private final MetricsRegistry.Counter throttled = MetricsRegistry.global()
+            .counter("dataset_memory_throttled_total", "Permessi di memoria concessi dopo un'attesa");
+    private final MetricsRegistry.Counter highEvents = MetricsRegistry.global()
+            .counter("dataset_memory_pressure_events_total", "Passaggi alla pressione alta sull'heap");
+
+    /** Permesso concesso; close() lo restituisce. */
+    public final class Permit implements AutoCloseable {
+        private final long bytes;
+        private boolean closed;
+
+        private Permit(long bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void close() {
+            synchronized (MemoryGovernor.this) {
+                if (closed) return;
+                closed = true;
+                inUse -= bytes;
+                holders--;
+                MemoryGovernor.this.notifyAll();
+            }
+        }
+    }
+
+    MemoryGovernor(long maxHeap, double fraction) {
+        this.maxHeap = maxHeap;
+        this.budget  = Math.max(1, (long) (maxHeap * fraction));
+        MetricsRegistry m = MetricsRegistry.global();
+        m.gauge("dataset_memory_budget_bytes", "Budget di memoria per il lavoro parallelo", this::budget);
+        m.gauge("dataset_memory_in_use_bytes", "Memoria stimata dei permessi concessi", this::inUse);
+        m.gauge("dataset_memory_pressure", "Pressione sull'heap (0 normale, 1 elevata, 2 alta)",
+                () -> pressure.ordinal());
+        watch();
+    }
+
+    public static MemoryGovernor global() { return GLOBAL; }
+
+    /**
+     * Aspetta che ci sia budget per bytes (stimati) e li prenota. Con la pressione alta passa
+     * un permesso alla volta; un permesso passa sempre se non ce ne sono altri in corso.
+     */
+    public Permit acquire(long bytes) throws InterruptedException {
+        long w = Math.max(0, Math.min(bytes, budget));
+        synchronized (this) {
+            boolean waited = false;
+            while (holders > 0 && !fits(w)) {
+                waited = true;
+                wait();
+            }
+            if (waited) throttled.inc();
+            inUse += w;
+            holders++;
+        }
+        return new Permit(w);
+    }
+
+    private boolean fits(long w) {
+        switch (pressure) {
+            case HIGH:     return false;
+            case ELEVATED: return inUse + w <= budget / 2;
+            default:       return inUse + w <= budget;
+        }
+    }
+
+    public Pressure pressure() { return pressure; }
+
+    /**
+     * Listener chiamato (da un thread di JMX) a ogni passaggio alla pressione alta. Il governor
+     * tiene solo un riferimento debole: il chiamante deve tenere vivo il Runnable.
+     */
+    public synchronized void onPressure(Runnable listener) {
+        listeners.removeIf(r -> r.get() == null);
+        listeners.add(new WeakReference<>(listener));
+    }
+
+    private synchronized long budget() {
+        switch (pressure) {
+            case HIGH:     return 0;
+            case ELEVATED: return budget / 2;
+            default:       return budget;
+        }
+    }
+
+    private synchronized long inUse() { return inUse; }
+
+    /** Aggiorna la pressione dall'occupazione dell'heap dopo un GC. */
+    void update(long usedAfterGc) {
+        double ratio = maxHeap > 0 ? (double) usedAfterGc / maxHeap : 0;
+        // isteresi: dalla pressione alta si scende solo 10 punti sotto la soglia, per non oscillare a ogni GC
+        double high = pressure == Pressure.HIGH ? HIGH_RATIO - 0.1 : HIGH_RATIO;
+        set(ratio >= high ? Pressure.HIGH : ratio >= ELEVATED_RATIO ? Pressure.ELEVATED : Pressure.NORMAL);
+    }
+
+    private void set(Pressure p) {
+        List<Runnable> notify = new ArrayList<>();
+        synchronized (this) {
+            Pressure old = pressure;
+            pressure = p;
+            if (p == old) return;
+            // con meno pressione chi aspetta può ripartire
+            notifyAll();
+            if (p != Pressure.HIGH) return;
+            for (WeakReference<Runnable> r : listeners) {
+                Runnable l = r.get();
+                if (l != null) notify.add(l);
+            }
+        }
+        highEvents.inc();
+        if (!warned) {
+            warned = true;
+            System.err.println("⚠️ Heap sotto pressione: parallelismo ridotto e risultati intermedi su disco");
+        }
+        for (Runnable l : notify) l.run();
+    }
+
+    /** Soglie sui pool vecchi e notifiche di fine GC. */
+    private void watch() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() == MemoryType.HEAP && pool.isCollectionUsageThresholdSupported() && max > 0) {
+                pool.setCollectionUsageThreshold((long) (max * HIGH_RATIO));
+            }
+        }
+        NotificationEmitter memory = (NotificationEmitter) ManagementFactory.getMemoryMXBean();
+        memory.addNotificationListener((Notification n, Object hb) -> {
+            if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(n.getType())) set(Pressure.HIGH);
+        }, null, null);
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter emitter)) continue;
+            emitter.addNotificationListener((Notification n, Object hb) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType())) return;
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) n.getUserData());
+                long used = 0;
+                for (MemoryUsage u : info.getGcInfo().getMemoryUsageAfterGc().values()) used += u.getUsed();
+                update(used - nonHeapUsed(info));
+            }, null, null);
+        }
+    }
+
+    /** Parte non-heap (metaspace, code cache) delle occupazioni riportate dal GC. */
+    private static long nonHeapUsed(GarbageCollectionNotificationInfo info) {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.NON_HEAP) continue;
+            MemoryUsage u = info.getGcInfo().getMemoryUsageAfterGc().get(pool.getName());
+            if (u != null) used += u.getUsed();
+        }
+        return used;
+    }
+}
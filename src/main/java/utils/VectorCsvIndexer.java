@@ -0,0 +1,44 @@
+package utils;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Indicizzatore strutturale con la Vector API: confronta un'intera lane di byte
+ * con i quattro delimitatori e converte la maschera in posizioni.
+ * Caricato solo via {@link CsvStructuralIndexer#best()}.
+ */
+final class VectorCsvIndexer extends CsvStructuralIndexer {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    VectorCsvIndexer() {
+        // toLong() è definito solo fino a 64 lane
+        if (SPECIES.length() > 64) throw new IllegalStateException("species troppo larga");
+    }
+
+    @Override
+    public int index(byte[] block, int len, int base, int[] out) {
+        int n = 0;
+        int i = 0;
+        int bound = SPECIES.loopBound(len);
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector v = ByteVector.fromArray(SPECIES, block, i);
+            VectorMask<Byte> m = v.eq(COMMA)
+                    .or(v.eq(QUOTE))
+                    .or(v.eq(LF))
+                    .or(v.eq(CR));
+            long bits = m.toLong();
+            while (bits != 0) {
+                out[n++] = base + i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < len; i++) {
+            byte b = block[i];
+            if (b == COMMA || b == QUOTE || b == LF || b == CR) out[n++] = base + i;
+        }
+        return n;
+    }
+}
@@ -0,0 +1,152 @@
+package utils;
+
+import metrics.FeatureExtractor;
+import metrics.WalkForwardLabels;
+import org.apache.commons.csv.CSVFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File di training e testing di tutti gli split walk-forward sulle release del dataset.
+ *
+ * Lo split k (1 ≤ k &lt; numero di release) allena sulle release [0, k) con le etichette note
+ * alla release k ({@link WalkForwardLabels#isBuggy(int, int, int)}) e testa sulla release k con
+ * tutte le etichette. In CSV le release si scorrono una volta sola, in ordine: ogni riga è
+ * formattata una volta per etichetta e scritta nel testing del suo split e nel training di
+ * tutti gli split successivi, con tutti i file aperti insieme. In binario ogni file passa da
+ * {@link BinaryDatasetWriter} (che deve costruire i dizionari del file), ma lo split in cui
+ * ogni etichetta diventa nota si calcola una volta sola, scorrendo le release come in CSV, e
+ * ogni file confronta per riga {@code knownAt <= k}.
+ *
+ * Nomi: {@code <prefix>_wf<k>_training.csv} e {@code <prefix>_wf<k>_testing.csv} (o .bin).
+ */
+public class WalkForwardWriter {
+
+    public enum Format { CSV, BIN }
+
+    private static final String CRLF = "\r\n";
+
+    /**
+     * @param featuresPerMethod <version → (path#sig → features)>, versioni in ordine cronologico
+     * @param releases          tag nell'ordine usato da {@code labels}
+     * @return file scritti
+     */
+    public List<Path> write(Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
+                            List<String> releases, WalkForwardLabels labels, Path dir, String prefix,
+                            Format format) throws IOException {
+        Files.createDirectories(dir);
+        List<String> versions = new ArrayList<>(featuresPerMethod.keySet());
+        return format == Format.CSV
+                ? writeCsv(featuresPerMethod, versions, releases, labels, dir, prefix)
+                : writeBinary(featuresPerMethod, versions, releases, labels, dir, prefix);
+    }
+
+    public static Path training(Path dir, String prefix, int split, Format format) {
+        return dir.resolve(prefix + "_wf" + split + "_training." + format.name().toLowerCase());
+    }
+
+    public static Path testing(Path dir, String prefix, int split, Format format) {
+        return dir.resolve(prefix + "_wf" + split + "_testing." + format.name().toLowerCase());
+    }
+
+    private List<Path> writeCsv(Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
+                                List<String> versions, List<String> releases, WalkForwardLabels labels,
+                                Path dir, String prefix) throws IOException {
+        int splits = versions.size();
+        Writer[] train = new Writer[splits];
+        Writer[] test  = new Writer[splits];
+        List<Path> files = new ArrayList<>();
+        String header = CSVFormat.DEFAULT.format((Object[]) CsvGenerator.HEADER) + CRLF;
+        try {
+            for (int k = 1; k < splits; k++) {
+                train[k] = open(training(dir, prefix, k, Format.CSV), files, header);
+                test[k]  = open(testing(dir, prefix, k, Format.CSV), files, header);
+            }
+            for (int v = 0; v < splits; v++) {
+                String version = versions.get(v);
+                int release = releases.indexOf(version);
+                for (var me : featuresPerMethod.get(version).entrySet()) {
+                    int known = labels.knownAt(labels.methodId(me.getKey()), release);
+                    String no = null, yes = null;
+                    // testing dello split v: tutte le etichette
+                    if (v > 0) {
+                        if (known != Integer.MAX_VALUE) test[v].write(yes = line(version, me, "Yes"));
+                        else test[v].write(no = line(version, me, "No"));
+                    }
+                    // training degli split successivi: le etichette note a ciascuno
+                    for (int k = v + 1; k < splits; k++) {
+                        if (known <= k) train[k].write(yes != null ? yes : (yes = line(version, me, "Yes")));
+                        else train[k].write(no != null ? no : (no = line(version, me, "No")));
+                    }
+                }
+            }
+        } finally {
+            IOException failure = null;
+            for (Writer[] ws : List.of(train, test)) {
+                for (Writer w : ws) {
+                    if (w == null) continue;
+                    try {
+                        w.close();
+                    } catch (IOException e) {
+                        if (failure == null) failure = e;
+                    }
+                }
+            }
+            if (failure != null) throw failure;
+        }
+        return files;
+    }
+
+    private List<Path> writeBinary(Map<String, Map<String, FeatureExtractor.MethodFeatures>> featuresPerMethod,
+                                   List<String> versions, List<String> releases, WalkForwardLabels labels,
+                                   Path dir, String prefix) throws IOException {
+        // split in cui è nota l'etichetta di ogni riga buggy, per versione (le altre: mai)
+        List<Map<String, Integer>> known = new ArrayList<>(versions.size());
+        for (String version : versions) {
+            int release = releases.indexOf(version);
+            Map<String, Integer> m = new HashMap<>();
+            for (String key : featuresPerMethod.get(version).keySet()) {
+                int k = labels.knownAt(labels.methodId(key), release);
+                if (k != Integer.MAX_VALUE) m.put(key, k);
+            }
+            known.add(m);
+        }
+
+        List<Path> files = new ArrayList<>();
+        BinaryDatasetWriter writer = new BinaryDatasetWriter();
+        Map<String, Map<String, FeatureExtractor.MethodFeatures>> seen = new LinkedHashMap<>();
+        for (int k = 1; k < versions.size(); k++) {
+            int split = k;
+            seen.put(versions.get(k - 1), featuresPerMethod.get(versions.get(k - 1)));
+            Path train = training(dir, prefix, k, Format.BIN);
+            // le versioni di seen sono 0..k-1, nello stesso ordine di known
+            writer.write(seen, (v, key) -> known.get(v).getOrDefault(key, Integer.MAX_VALUE) <= split, train);
+            files.add(train);
+            Path test = testing(dir, prefix, k, Format.BIN);
+            writer.write(Map.of(versions.get(k), featuresPerMethod.get(versions.get(k))),
+                    (v, key) -> known.get(split).containsKey(key), test);
+            files.add(test);
+        }
+        return files;
+    }
+
+    private static Writer open(Path file, List<Path> files, String header) throws IOException {
+        Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        files.add(file);
+        w.write(header);
+        return w;
+    }
+
+    private static String line(String version, Map.Entry<String, FeatureExtractor.MethodFeatures> me, String buggy) {
+        return CSVFormat.DEFAULT.format(CsvGenerator.record(version, me.getKey(), me.getValue(), buggy)) + CRLF;
+    }
+}